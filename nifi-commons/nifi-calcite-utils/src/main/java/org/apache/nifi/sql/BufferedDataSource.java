@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.sql;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link ResettableDataSource} that wraps another data source and retains the rows that it produces so that
+ * the underlying data only needs to be read once, regardless of how many times the data source is reset. This allows
+ * several queries to be evaluated against the same data without parsing the data once per query.
+ * <p>
+ * Rows are retained only up to the configured maximum. If the underlying data source produces more rows than that,
+ * the retained rows are discarded and every subsequent call to {@link #reset()} reads directly from the underlying
+ * data source, as if the data source had not been wrapped. The maximum is a number of rows rather than an amount of memory,
+ * so callers that may encounter wide or large rows are responsible for deciding whether the data is small enough to be
+ * buffered at all.
+ * </p>
+ * <p>
+ * This class is not thread-safe. Only a single {@link RowStream} obtained from it should be consumed at any one time.
+ * </p>
+ */
+public class BufferedDataSource implements ResettableDataSource {
+    private final ResettableDataSource delegate;
+    private final int maxBufferedRows;
+
+    private List<Object[]> bufferedRows;
+    private boolean overflowed = false;
+
+    /**
+     * Creates a BufferedDataSource
+     *
+     * @param delegate        the data source whose rows should be buffered
+     * @param maxBufferedRows the maximum number of rows to retain before falling back to reading from the delegate each time
+     */
+    public BufferedDataSource(final ResettableDataSource delegate, final int maxBufferedRows) {
+        this.delegate = delegate;
+        this.maxBufferedRows = maxBufferedRows;
+    }
+
+    @Override
+    public NiFiTableSchema getSchema() {
+        return delegate.getSchema();
+    }
+
+    @Override
+    public RowStream reset() throws IOException {
+        if (bufferedRows != null) {
+            return new IterableRowStream<>(bufferedRows, row -> row);
+        }
+
+        final RowStream rowStream = delegate.reset();
+        if (overflowed) {
+            return rowStream;
+        }
+
+        return new BufferingRowStream(rowStream);
+    }
+
+    @Override
+    public RowStream reset(final ScanPushdown pushdown) throws IOException {
+        // Buffered rows must contain every column so that they can serve any query. Once the data source
+        // has overflowed, nothing is being buffered so the pushdown can be honored by the delegate.
+        if (overflowed) {
+            return delegate.reset(pushdown);
+        }
+
+        return reset();
+    }
+
+    /**
+     * @return <code>true</code> if all rows of the underlying data source have been read and retained, <code>false</code> otherwise
+     */
+    public boolean isFullyBuffered() {
+        return bufferedRows != null;
+    }
+
+    /**
+     * @return <code>true</code> if the underlying data source produced more rows than could be retained, <code>false</code> otherwise
+     */
+    public boolean isOverflowed() {
+        return overflowed;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferedDataSource[delegate=" + delegate + "]";
+    }
+
+    private class BufferingRowStream implements RowStream {
+        private final RowStream rowStream;
+        private List<Object[]> rows = new ArrayList<>();
+
+        private BufferingRowStream(final RowStream rowStream) {
+            this.rowStream = rowStream;
+        }
+
+        @Override
+        public Object[] nextRow() throws IOException {
+            final Object[] row = rowStream.nextRow();
+            if (rows == null) {
+                return row;
+            }
+
+            if (row == null) {
+                // All rows have been read, so any subsequent reset can be served from memory.
+                bufferedRows = rows;
+                rows = null;
+                return null;
+            }
+
+            if (rows.size() >= maxBufferedRows) {
+                overflowed = true;
+                rows = null;
+            } else {
+                rows.add(row);
+            }
+
+            return row;
+        }
+
+        @Override
+        public void close() throws Exception {
+            // If the stream is closed before all rows were read, the partial buffer cannot be used.
+            rows = null;
+            rowStream.close();
+        }
+    }
+}
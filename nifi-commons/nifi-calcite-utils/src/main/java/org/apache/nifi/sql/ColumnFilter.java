@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.sql;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A simple condition on a single column of a {@link NiFiTable}, taken from the WHERE clause of a query, that a
+ * {@link ResettableDataSource} may use in order to discard rows before they are handed to the query engine.
+ * </p>
+ *
+ * <p>
+ * A filter only ever reports that a row does not match when it is certain that the query would discard the row.
+ * Whenever that cannot be determined, for instance because the value is not of a type that the filter knows how
+ * to compare, the row is considered a match and the query engine makes the final decision.
+ * </p>
+ */
+public class ColumnFilter {
+    private final int columnIndex;
+    private final Operator operator;
+    private final Object value;
+
+    /**
+     * Creates a filter that compares the value of a column to a literal value
+     *
+     * @param columnIndex the index of the column in the table's schema
+     * @param operator    the comparison to perform
+     * @param value       the literal value to compare against, or <code>null</code> for {@link Operator#IS_NULL} and {@link Operator#IS_NOT_NULL}
+     */
+    public ColumnFilter(final int columnIndex, final Operator operator, final Object value) {
+        this.columnIndex = columnIndex;
+        this.operator = Objects.requireNonNull(operator);
+        this.value = value;
+    }
+
+    /**
+     * @return the index of the column in the table's schema
+     */
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Determines whether or not the given row may match the filter
+     *
+     * @param row the row of data, adhering to the table's schema
+     * @return <code>false</code> if the row is certain not to match, <code>true</code> otherwise
+     */
+    public boolean test(final Object[] row) {
+        return testValue(row[columnIndex]);
+    }
+
+    /**
+     * Determines whether or not the given column value may match the filter
+     *
+     * @param columnValue the value of the column
+     * @return <code>false</code> if the value is certain not to match, <code>true</code> otherwise
+     */
+    public boolean testValue(final Object columnValue) {
+        if (operator == Operator.IS_NULL) {
+            return columnValue == null;
+        }
+        if (operator == Operator.IS_NOT_NULL) {
+            return columnValue != null;
+        }
+
+        // A comparison against null is never true
+        if (columnValue == null) {
+            return false;
+        }
+
+        final Integer comparison = compare(columnValue);
+        if (comparison == null) {
+            return true;
+        }
+
+        return switch (operator) {
+            case EQUALS -> comparison == 0;
+            case NOT_EQUALS -> comparison != 0;
+            case LESS_THAN -> comparison < 0;
+            case LESS_THAN_OR_EQUAL -> comparison <= 0;
+            case GREATER_THAN -> comparison > 0;
+            case GREATER_THAN_OR_EQUAL -> comparison >= 0;
+            default -> true;
+        };
+    }
+
+    private Integer compare(final Object columnValue) {
+        if (value instanceof Boolean && columnValue instanceof Boolean) {
+            return Boolean.compare((Boolean) columnValue, (Boolean) value);
+        }
+
+        // Only exact numeric types are compared. Floating point values may be compared differently by the query engine.
+        if (value instanceof BigDecimal literal) {
+            final BigDecimal decimal = toBigDecimal(columnValue);
+            return decimal == null ? null : decimal.compareTo(literal);
+        }
+
+        return null;
+    }
+
+    private static BigDecimal toBigDecimal(final Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (value instanceof BigInteger bigInteger) {
+            return new BigDecimal(bigInteger);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final ColumnFilter other = (ColumnFilter) o;
+        return columnIndex == other.columnIndex && operator == other.operator && Objects.equals(value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(columnIndex, operator, value);
+    }
+
+    @Override
+    public String toString() {
+        return value == null ? "$" + columnIndex + " " + operator : "$" + columnIndex + " " + operator + " " + value;
+    }
+
+    public enum Operator {
+        EQUALS,
+        NOT_EQUALS,
+        LESS_THAN,
+        LESS_THAN_OR_EQUAL,
+        GREATER_THAN,
+        GREATER_THAN_OR_EQUAL,
+        IS_NULL,
+        IS_NOT_NULL;
+    }
+}
@@ -152,13 +152,15 @@ public class NiFiTable implements Closeable {
 
     private class NiFiTableEnumerable extends AbstractEnumerable<Object> {
         private final int[] fields;
+        private final ScanPushdown pushdown;
 
-        public NiFiTableEnumerable(final int[] fields) {
+        public NiFiTableEnumerable(final int[] fields, final List<ColumnFilter> filters) {
             this.fields = fields;
+            this.pushdown = new ScanPushdown(fields, filters);
         }
 
         public Enumerator<Object> enumerator() {
-            final NiFiTableEnumerator flowFileEnumerator = new NiFiTableEnumerator(dataSource, logger, fields, this::onFinish, enumerators::remove);
+            final NiFiTableEnumerator flowFileEnumerator = new NiFiTableEnumerator(dataSource, logger, fields, pushdown, this::onFinish, enumerators::remove);
             enumerators.add(flowFileEnumerator);
             return flowFileEnumerator;
         }
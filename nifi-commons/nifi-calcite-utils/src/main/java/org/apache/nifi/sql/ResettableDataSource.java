@@ -36,4 +36,19 @@ public interface ResettableDataSource {
      * @throws IOException if unable to obtain a RowStream due to IO failures
      */
     RowStream reset() throws IOException;
+
+    /**
+     * Resets the data source and establishes a {@link RowStream} for a query that only needs the given portion of the data. Each row returned
+     * must still adhere to the schema of the data source, but the values of columns that are not referenced by the pushdown may be <code>null</code>,
+     * and rows that do not satisfy the pushdown's filters may be omitted. The query engine continues to apply the full query to every row that is
+     * returned, so implementations are free to honor as much or as little of the pushdown as is convenient.
+     * The default implementation ignores the pushdown and delegates to {@link #reset()}.
+     *
+     * @param pushdown the columns and filters that the query requires
+     * @return the newly established RowStream
+     * @throws IOException if unable to obtain a RowStream due to IO failures
+     */
+    default RowStream reset(final ScanPushdown pushdown) throws IOException {
+        return reset();
+    }
 }
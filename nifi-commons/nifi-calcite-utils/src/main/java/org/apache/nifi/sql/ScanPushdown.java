@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.sql;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Describes which parts of a {@link NiFiTable} a query actually needs, so that a {@link ResettableDataSource} can avoid
+ * producing data that would be thrown away.
+ *
+ * @param columns the indices of the columns, within the table's schema, that are referenced by the query
+ * @param filters conditions that every row returned must satisfy. Rows that do not satisfy all filters may be omitted.
+ */
+public record ScanPushdown(int[] columns, List<ColumnFilter> filters) {
+
+    /**
+     * Determines whether or not the given row may satisfy all of the filters
+     *
+     * @param row the row of data
+     * @return <code>false</code> if the row is certain not to be selected by the query, <code>true</code> otherwise
+     */
+    public boolean test(final Object[] row) {
+        for (final ColumnFilter filter : filters) {
+            if (!filter.test(row)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ScanPushdown other)) {
+            return false;
+        }
+
+        return Arrays.equals(columns, other.columns) && filters.equals(other.filters);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(columns) + filters.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ScanPushdown[columns=" + Arrays.toString(columns) + ", filters=" + filters + "]";
+    }
+}
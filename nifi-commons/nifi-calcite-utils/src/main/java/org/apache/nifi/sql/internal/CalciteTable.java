@@ -31,8 +31,15 @@ import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.schema.Schemas;
 import org.apache.calcite.schema.TranslatableTable;
 import org.apache.calcite.schema.impl.AbstractTable;
+import org.apache.nifi.sql.ColumnFilter;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -43,9 +50,23 @@ import java.util.function.Function;
  */
 public class CalciteTable extends AbstractTable implements QueryableTable, TranslatableTable {
     private final Function<RelDataTypeFactory, RelDataType> tableDefinitionFactory;
-    private final Function<int[], Enumerable<Object>> projectionFactory;
+    private final BiFunction<int[], List<ColumnFilter>, Enumerable<Object>> projectionFactory;
 
-    public CalciteTable(final Function<RelDataTypeFactory, RelDataType> tableDefinitionFactory, final Function<int[], Enumerable<Object>> projectionFactory) {
+    // Filters cannot easily be embedded in generated code, so each list of filters is registered here when a scan is
+    // implemented and the generated code refers to it by ID. Only the most recently used lists are retained, so that
+    // tables used to plan many different queries do not grow without bound.
+    private static final int MAX_REGISTERED_FILTERS = 100;
+
+    private final AtomicInteger filtersIdGenerator = new AtomicInteger();
+    private final Map<Integer, List<ColumnFilter>> registeredFilters = new LinkedHashMap<>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, List<ColumnFilter>> eldest) {
+            return size() > MAX_REGISTERED_FILTERS;
+        }
+    };
+
+    public CalciteTable(final Function<RelDataTypeFactory, RelDataType> tableDefinitionFactory,
+                        final BiFunction<int[], List<ColumnFilter>, Enumerable<Object>> projectionFactory) {
         this.tableDefinitionFactory = tableDefinitionFactory;
         this.projectionFactory = projectionFactory;
     }
@@ -53,7 +74,28 @@ public class CalciteTable extends AbstractTable implements QueryableTable, Trans
     // Returns an enumerable over a given projection of the fields.
     // Called from generated code. While the DataContent is not used, it is provided by the calling code and must be present.
     public Enumerable<Object> project(final DataContext dataContext, final int[] fields) {
-        return projectionFactory.apply(fields);
+        return projectionFactory.apply(fields, Collections.emptyList());
+    }
+
+    // Returns an enumerable over a given projection of the fields, for rows that may satisfy the registered filters.
+    // Called from generated code. The filters are only an optimization, as the query still evaluates its full condition,
+    // so if they are no longer registered then all rows are returned.
+    public Enumerable<Object> project(final DataContext dataContext, final int[] fields, final int filtersId) {
+        final List<ColumnFilter> filters;
+        synchronized (registeredFilters) {
+            filters = registeredFilters.get(filtersId);
+        }
+
+        return projectionFactory.apply(fields, filters == null ? Collections.emptyList() : filters);
+    }
+
+    int registerFilters(final List<ColumnFilter> filters) {
+        final int filtersId = filtersIdGenerator.getAndIncrement();
+        synchronized (registeredFilters) {
+            registeredFilters.put(filtersId, List.copyOf(filters));
+        }
+
+        return filtersId;
     }
 
     @Override
@@ -80,7 +122,7 @@ public class CalciteTable extends AbstractTable implements QueryableTable, Trans
             fields[i] = i;
         }
 
-        return new NiFiTableScan(context.getCluster(), relOptTable, fields);
+        return new NiFiTableScan(context.getCluster(), relOptTable, fields, Collections.emptyList());
     }
 
     @Override
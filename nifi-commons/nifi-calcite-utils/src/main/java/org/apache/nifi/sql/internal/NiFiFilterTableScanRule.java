@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.sql.internal;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.core.RelFactories;
+import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.tools.RelBuilderFactory;
+import org.apache.nifi.sql.ColumnFilter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pushes the simple conditions of a filter down into the table scan below it, so that the data source is able to discard
+ * rows before they are handed to Calcite. The filter itself is retained, so the conditions are still fully evaluated by Calcite.
+ */
+class NiFiFilterTableScanRule extends RelRule<NiFiFilterTableScanRule.Config> {
+
+    NiFiFilterTableScanRule(final Config config) {
+        super(config);
+    }
+
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        final LogicalFilter filter = call.rel(0);
+        final NiFiTableScan scan = call.rel(1);
+
+        if (!scan.getFilters().isEmpty()) {
+            // Filters have already been pushed into this scan.
+            return;
+        }
+
+        final RexNode condition = RexUtil.expandSearch(filter.getCluster().getRexBuilder(), null, filter.getCondition());
+        final List<ColumnFilter> columnFilters = new ArrayList<>();
+        for (final RexNode conjunction : RelOptUtil.conjunctions(condition)) {
+            final ColumnFilter columnFilter = toColumnFilter(conjunction, scan.getFields());
+            if (columnFilter != null) {
+                columnFilters.add(columnFilter);
+            }
+        }
+
+        if (columnFilters.isEmpty()) {
+            return;
+        }
+
+        final NiFiTableScan tableScan = new NiFiTableScan(scan.getCluster(), scan.getTable(), scan.getFields(), columnFilters);
+        call.transformTo(filter.copy(filter.getTraitSet(), tableScan, filter.getCondition()));
+    }
+
+    private static ColumnFilter toColumnFilter(final RexNode node, final int[] scanFields) {
+        if (!(node instanceof RexCall call)) {
+            return null;
+        }
+
+        final List<RexNode> operands = call.getOperands();
+        if (operands.size() == 1) {
+            if (!(operands.get(0) instanceof RexInputRef inputRef)) {
+                return null;
+            }
+
+            final int columnIndex = scanFields[inputRef.getIndex()];
+            return switch (call.getKind()) {
+                case IS_NULL -> new ColumnFilter(columnIndex, ColumnFilter.Operator.IS_NULL, null);
+                case IS_NOT_NULL -> new ColumnFilter(columnIndex, ColumnFilter.Operator.IS_NOT_NULL, null);
+                default -> null;
+            };
+        }
+
+        if (operands.size() != 2) {
+            return null;
+        }
+
+        final SqlKind kind;
+        final RexInputRef inputRef;
+        final RexLiteral literal;
+        if (operands.get(0) instanceof RexInputRef ref && operands.get(1) instanceof RexLiteral lit) {
+            kind = call.getKind();
+            inputRef = ref;
+            literal = lit;
+        } else if (operands.get(0) instanceof RexLiteral lit && operands.get(1) instanceof RexInputRef ref) {
+            kind = call.getKind().reverse();
+            inputRef = ref;
+            literal = lit;
+        } else {
+            return null;
+        }
+
+        final ColumnFilter.Operator operator = switch (kind) {
+            case EQUALS -> ColumnFilter.Operator.EQUALS;
+            case NOT_EQUALS -> ColumnFilter.Operator.NOT_EQUALS;
+            case LESS_THAN -> ColumnFilter.Operator.LESS_THAN;
+            case LESS_THAN_OR_EQUAL -> ColumnFilter.Operator.LESS_THAN_OR_EQUAL;
+            case GREATER_THAN -> ColumnFilter.Operator.GREATER_THAN;
+            case GREATER_THAN_OR_EQUAL -> ColumnFilter.Operator.GREATER_THAN_OR_EQUAL;
+            default -> null;
+        };
+        if (operator == null) {
+            return null;
+        }
+
+        final Object value = getLiteralValue(literal);
+        if (value == null) {
+            return null;
+        }
+
+        return new ColumnFilter(scanFields[inputRef.getIndex()], operator, value);
+    }
+
+    // Only literals whose comparison semantics are unambiguous are pushed down. Character literals, for instance, are
+    // not pushed down because Calcite may pad or trim them when comparing.
+    private static Object getLiteralValue(final RexLiteral literal) {
+        final SqlTypeName typeName = literal.getTypeName();
+        if (SqlTypeName.EXACT_TYPES.contains(typeName)) {
+            return literal.getValueAs(BigDecimal.class);
+        }
+        if (typeName == SqlTypeName.BOOLEAN) {
+            return literal.getValueAs(Boolean.class);
+        }
+
+        return null;
+    }
+
+    public interface Config extends RelRule.Config {
+        Config DEFAULT = new StandardConfig()
+            .withOperandSupplier(b0 -> b0.operand(LogicalFilter.class).oneInput(b1 ->
+                b1.operand(NiFiTableScan.class).noInputs()));
+
+
+        @Override
+        default NiFiFilterTableScanRule toRule() {
+            return new NiFiFilterTableScanRule(this);
+        }
+    }
+
+    private static class StandardConfig implements Config {
+        private RelBuilderFactory relBuilderFactory = RelFactories.LOGICAL_BUILDER;
+        private String description;
+        private OperandTransform operandTransform;
+
+
+        @Override
+        public StandardConfig withRelBuilderFactory(final RelBuilderFactory factory) {
+            this.relBuilderFactory = factory;
+            return this;
+        }
+
+        @Override
+        public StandardConfig withDescription(final String description) {
+            this.description = description;
+            return this;
+        }
+
+        @Override
+        public StandardConfig withOperandSupplier(final OperandTransform transform) {
+            this.operandTransform = transform;
+            return this;
+        }
+
+        @Override
+        public RelBuilderFactory relBuilderFactory() {
+            return relBuilderFactory;
+        }
+
+        @Override
+        public String description() {
+            return description;
+        }
+
+
+        @Override
+        public OperandTransform operandSupplier() {
+            return this.operandTransform;
+        }
+    }
+
+}
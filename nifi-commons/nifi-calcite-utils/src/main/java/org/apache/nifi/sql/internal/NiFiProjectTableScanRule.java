@@ -38,24 +38,25 @@ class NiFiProjectTableScanRule extends RelRule<NiFiProjectTableScanRule.Config>
         final LogicalProject project = call.rel(0);
         final NiFiTableScan scan = call.rel(1);
 
-        final int[] fields = getProjectionFields(project.getProjects());
+        final int[] fields = getProjectionFields(project.getProjects(), scan.getFields());
         if (fields == null) {
             // Project contains expressions more complex than just field references.
             return;
         }
 
-        final NiFiTableScan tableScan = new NiFiTableScan(scan.getCluster(), scan.getTable(), fields);
+        final NiFiTableScan tableScan = new NiFiTableScan(scan.getCluster(), scan.getTable(), fields, scan.getFilters());
         call.transformTo(tableScan);
     }
 
 
-    private static int[] getProjectionFields(final List<RexNode> expressions) {
+    private static int[] getProjectionFields(final List<RexNode> expressions, final int[] scanFields) {
         final int[] fields = new int[expressions.size()];
         for (int i = 0; i < expressions.size(); i++) {
             final RexNode exp = expressions.get(i);
 
             if (exp instanceof RexInputRef) {
-                fields[i] = ((RexInputRef) exp).getIndex();
+                // Map the index of the scan's output back to the index of the table's column
+                fields[i] = scanFields[((RexInputRef) exp).getIndex()];
             } else {
                 // not a simple projection
                 return null;
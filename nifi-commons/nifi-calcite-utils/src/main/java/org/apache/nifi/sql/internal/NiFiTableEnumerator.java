@@ -22,6 +22,7 @@ import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.processor.exception.ProcessException;
 import org.apache.nifi.sql.ResettableDataSource;
 import org.apache.nifi.sql.RowStream;
+import org.apache.nifi.sql.ScanPushdown;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
@@ -32,6 +33,7 @@ public class NiFiTableEnumerator implements Enumerator<Object> {
     private final ResettableDataSource dataSource;
     private final ComponentLog logger;
     private final int[] fields;
+    private final ScanPushdown pushdown;
     private final Runnable onFinishCallback;
     private final Consumer<NiFiTableEnumerator> onCloseCallback;
 
@@ -43,9 +45,15 @@ public class NiFiTableEnumerator implements Enumerator<Object> {
 
     public NiFiTableEnumerator(final ResettableDataSource dataSource, final ComponentLog logger, final int[] fields, final Runnable onFinishCallback,
                                final Consumer<NiFiTableEnumerator> onCloseCallback) {
+        this(dataSource, logger, fields, null, onFinishCallback, onCloseCallback);
+    }
+
+    public NiFiTableEnumerator(final ResettableDataSource dataSource, final ComponentLog logger, final int[] fields, final ScanPushdown pushdown,
+                               final Runnable onFinishCallback, final Consumer<NiFiTableEnumerator> onCloseCallback) {
         this.dataSource = dataSource;
         this.logger = logger;
         this.fields = fields;
+        this.pushdown = pushdown;
         this.onFinishCallback = onFinishCallback;
         this.onCloseCallback = onCloseCallback;
         reset();
@@ -148,7 +156,7 @@ public class NiFiTableEnumerator implements Enumerator<Object> {
         }
 
         try {
-            rowStream = dataSource.reset();
+            rowStream = pushdown == null ? dataSource.reset() : dataSource.reset(pushdown);
         } catch (final Exception e) {
             throw new RuntimeException("Failed to data stream from " + dataSource, e);
         }
@@ -34,28 +34,49 @@ import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptCost;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.nifi.sql.ColumnFilter;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 class NiFiTableScan extends TableScan implements EnumerableRel {
     private final ConstantExpression fieldExpression;
     private final int[] fields;
+    private final List<ColumnFilter> filters;
 
-    protected NiFiTableScan(final RelOptCluster cluster, final RelOptTable table, final int[] fields) {
+    protected NiFiTableScan(final RelOptCluster cluster, final RelOptTable table, final int[] fields, final List<ColumnFilter> filters) {
         super(cluster, cluster.traitSetOf(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
         this.fields = fields;
+        this.filters = filters;
         fieldExpression = Expressions.constant(fields);
     }
 
+    int[] getFields() {
+        return fields;
+    }
+
+    List<ColumnFilter> getFilters() {
+        return filters;
+    }
+
     @Override
     public void register(final RelOptPlanner planner) {
         planner.addRule(new NiFiProjectTableScanRule(NiFiProjectTableScanRule.Config.DEFAULT));
+        planner.addRule(new NiFiFilterTableScanRule(NiFiFilterTableScanRule.Config.DEFAULT));
+    }
+
+    @Override
+    public RelWriter explainTerms(final RelWriter pw) {
+        return super.explainTerms(pw)
+            .item("fields", Arrays.toString(fields))
+            .itemIf("filters", filters, !filters.isEmpty());
     }
 
     @Override
@@ -78,9 +99,12 @@ class NiFiTableScan extends TableScan implements EnumerableRel {
         //
         // For example, if table has 3 fields, project has 1 field,
         // then factor = (1 + 2) / (3 + 2) = 0.6
+        //
+        // A scan that is able to discard rows early is made slightly more attractive still.
+        final double filterFactor = filters.isEmpty() ? 1D : 0.9D;
         return super.computeSelfCost(planner, mq)
             .multiplyBy(((double) fields.length + 2D)
-                / ((double) table.getRowType().getFieldCount() + 2D));
+                / ((double) table.getRowType().getFieldCount() + 2D) * filterFactor);
     }
 
     @Override
@@ -90,7 +114,13 @@ class NiFiTableScan extends TableScan implements EnumerableRel {
         final PhysType physType = PhysTypeImpl.of(typeFactory, getRowType(), pref.preferArray());
 
         final Expression tableExpression = table.getExpression(CalciteTable.class);
-        final MethodCallExpression methodCallExpression = Expressions.call(tableExpression, "project", rootExpression, fieldExpression);
+        final MethodCallExpression methodCallExpression;
+        if (filters.isEmpty()) {
+            methodCallExpression = Expressions.call(tableExpression, "project", rootExpression, fieldExpression);
+        } else {
+            final int filtersId = table.unwrap(CalciteTable.class).registerFilters(filters);
+            methodCallExpression = Expressions.call(tableExpression, "project", rootExpression, fieldExpression, Expressions.constant(filtersId));
+        }
         final BlockStatement blockStatement = Blocks.toBlock(methodCallExpression);
         return implementor.result(physType, blockStatement);
     }
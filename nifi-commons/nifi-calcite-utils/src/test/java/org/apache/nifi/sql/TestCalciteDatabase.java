@@ -21,6 +21,7 @@ import org.apache.nifi.logging.ComponentLog;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -30,6 +31,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -106,6 +108,51 @@ public class TestCalciteDatabase {
         }
     }
 
+    @Test
+    public void testFilterPushdown() throws SQLException, IOException {
+        final ListDataSource dataSource = createNameNumberDataSource();
+
+        try (final CalciteDatabase database = new CalciteDatabase()) {
+            database.addTable(new NiFiTable("CANNED_DATA", dataSource, mock(ComponentLog.class)));
+
+            try (final PreparedStatement stmt = database.getConnection().prepareStatement("SELECT name FROM CANNED_DATA WHERE number > 100 AND name <> 'Mark'");
+                 final ResultSet resultSet = stmt.executeQuery()) {
+
+                assertTrue(resultSet.next());
+                assertEquals("Jane Doe", resultSet.getString(1));
+                assertFalse(resultSet.next());
+            }
+        }
+
+        final ScanPushdown pushdown = dataSource.getLastPushdown();
+        assertNotNull(pushdown);
+        assertEquals(List.of(new ColumnFilter(1, ColumnFilter.Operator.GREATER_THAN, BigDecimal.valueOf(100))), pushdown.filters());
+        assertEquals(2, dataSource.getRowsReturned());
+    }
+
+    @Test
+    public void testBufferedDataSourceReadsOnce() throws SQLException, IOException {
+        final ListDataSource dataSource = createNameNumberDataSource();
+        final BufferedDataSource bufferedDataSource = new BufferedDataSource(dataSource, 100);
+
+        try (final CalciteDatabase database = new CalciteDatabase()) {
+            database.addTable(new NiFiTable("CANNED_DATA", bufferedDataSource, mock(ComponentLog.class)));
+
+            for (final String query : List.of("SELECT * FROM CANNED_DATA WHERE number > 100", "SELECT COUNT(*) FROM CANNED_DATA")) {
+                try (final PreparedStatement stmt = database.getConnection().prepareStatement(query);
+                     final ResultSet resultSet = stmt.executeQuery()) {
+                    assertTrue(resultSet.next());
+                    while (resultSet.next()) {
+                        assertNotNull(resultSet.getObject(1));
+                    }
+                }
+            }
+        }
+
+        assertTrue(bufferedDataSource.isFullyBuffered());
+        assertEquals(1, dataSource.getResetCount());
+    }
+
     public static class ToUpperCase {
         public String invoke(final String value) {
             return value.toUpperCase();
@@ -115,6 +162,13 @@ public class TestCalciteDatabase {
     private CalciteDatabase createNameNumberDatabase() throws SQLException {
         final CalciteDatabase database = new CalciteDatabase();
 
+        final NiFiTable table = new NiFiTable("CANNED_DATA", createNameNumberDataSource(), mock(ComponentLog.class));
+        database.addTable(table);
+
+        return database;
+    }
+
+    private ListDataSource createNameNumberDataSource() {
         final NiFiTableSchema tableSchema = new NiFiTableSchema(List.of(
             new ColumnSchema("name", String.class, false),
             new ColumnSchema("number", int.class, false)
@@ -126,12 +180,7 @@ public class TestCalciteDatabase {
             new Object[] {"Jane Doe", 2910},
             new Object[] {"Other", -42}
         );
-        final ListDataSource arrayListDataSource = new ListDataSource(tableSchema, rows);
-
-        final NiFiTable table = new NiFiTable("CANNED_DATA", arrayListDataSource, mock(ComponentLog.class));
-        database.addTable(table);
-
-        return database;
+        return new ListDataSource(tableSchema, rows);
     }
 
     private CalciteDatabase createNameTimestampDatabase() throws SQLException {
@@ -157,6 +206,9 @@ public class TestCalciteDatabase {
     private static class ListDataSource implements ResettableDataSource {
         private final NiFiTableSchema schema;
         private final List<Object[]> rows;
+        private ScanPushdown lastPushdown;
+        private int resetCount = 0;
+        private int rowsReturned = 0;
 
         public ListDataSource(final NiFiTableSchema schema, final List<Object[]> rows) {
             this.schema = schema;
@@ -170,7 +222,32 @@ public class TestCalciteDatabase {
 
         @Override
         public RowStream reset() {
-            return new IterableRowStream<>(rows, row -> row);
+            resetCount++;
+            return new IterableRowStream<>(rows, this::countRow);
+        }
+
+        @Override
+        public RowStream reset(final ScanPushdown pushdown) {
+            resetCount++;
+            lastPushdown = pushdown;
+            return new IterableRowStream<>(rows.stream().filter(pushdown::test).toList(), this::countRow);
+        }
+
+        private Object[] countRow(final Object[] row) {
+            rowsReturned++;
+            return row;
+        }
+
+        public ScanPushdown getLastPushdown() {
+            return lastPushdown;
+        }
+
+        public int getResetCount() {
+            return resetCount;
+        }
+
+        public int getRowsReturned() {
+            return rowsReturned;
         }
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.sql.internal;
+
+import org.apache.nifi.sql.ColumnFilter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestCalciteTable {
+
+    @Test
+    public void testRegisteredFiltersAreBounded() {
+        final AtomicReference<List<ColumnFilter>> projectedFilters = new AtomicReference<>();
+        final CalciteTable table = new CalciteTable(typeFactory -> null, (fields, filters) -> {
+            projectedFilters.set(filters);
+            return null;
+        });
+
+        final List<Integer> filtersIds = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final List<ColumnFilter> filters = List.of(new ColumnFilter(0, ColumnFilter.Operator.EQUALS, BigDecimal.valueOf(i)));
+            filtersIds.add(table.registerFilters(filters));
+        }
+
+        // The most recently registered filters are still used by the scan
+        table.project(null, new int[] {0}, filtersIds.getLast());
+        assertEquals(List.of(new ColumnFilter(0, ColumnFilter.Operator.EQUALS, BigDecimal.valueOf(999))), projectedFilters.get());
+
+        // Filters that are no longer registered are not pushed down, leaving the query to evaluate its full condition
+        table.project(null, new int[] {0}, filtersIds.getFirst());
+        assertTrue(projectedFilters.get().isEmpty());
+    }
+}
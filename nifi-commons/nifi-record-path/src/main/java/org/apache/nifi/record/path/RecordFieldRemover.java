@@ -46,8 +46,7 @@ public class RecordFieldRemover {
 
     public void remove(final RecordPathRemovalProperties recordPathRemovalProperties) {
         final RecordPath recordPath = recordPathCache.getCompiled(recordPathRemovalProperties.getRecordPath());
-        final RecordPathResult recordPathResult = recordPath.evaluate(record);
-        final List<FieldValue> selectedFields = recordPathResult.getSelectedFields().collect(Collectors.toList());
+        final List<FieldValue> selectedFields = recordPath.evaluateFieldValues(record);
 
         if (selectedFields.isEmpty()) {
             return;
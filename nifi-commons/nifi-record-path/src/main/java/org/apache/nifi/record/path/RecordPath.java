@@ -30,6 +30,8 @@ import org.apache.nifi.record.path.paths.RecordPathSegment;
 import org.apache.nifi.record.path.paths.RootPath;
 import org.apache.nifi.serialization.record.Record;
 
+import java.util.List;
+
 public interface RecordPath {
 
     /**
@@ -48,6 +50,18 @@ public interface RecordPath {
      */
     RecordPathResult evaluate(Record record);
 
+    /**
+     * Evaluates the RecordPath against the given Record, returning a FieldValue for each field that matches. This is equivalent to
+     * collecting the selected fields of {@link #evaluate(Record)} into a List but allows simple paths, such as <code>/person/name</code>
+     * or <code>/accounts[0]</code>, to be evaluated without creating a {@link java.util.stream.Stream Stream} for each record.
+     *
+     * @param record the Record to evaluate
+     * @return a List that contains a FieldValue for each field that matches
+     */
+    default List<FieldValue> evaluateFieldValues(final Record record) {
+        return evaluate(record).getSelectedFields().toList();
+    }
+
 
     /**
      * Evaluates a RecordPath against the given context node. This allows a RecordPath to be evaluated
@@ -24,16 +24,62 @@ import org.apache.nifi.record.path.FieldValue;
 import org.apache.nifi.record.path.RecordPathEvaluationContext;
 import org.apache.nifi.record.path.util.Filters;
 import org.apache.nifi.serialization.record.DataType;
+import org.apache.nifi.serialization.record.Record;
 import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.type.ArrayDataType;
 
 public class ArrayIndexPath extends RecordPathSegment {
     private final int index;
+    private final boolean simplePath;
+
+    private volatile ElementField elementField;
 
     ArrayIndexPath(final int index, final RecordPathSegment parent, final boolean absolute) {
         super("[" + index + "]", parent, absolute);
         this.index = index;
+        this.simplePath = parent != null && parent.isSimplePath();
+    }
+
+    @Override
+    boolean isSimplePath() {
+        return simplePath;
+    }
+
+    @Override
+    FieldValue evaluateSimple(final Record record) {
+        final FieldValue parentFieldValue = getParentPath().evaluateSimple(record);
+        if (parentFieldValue == null || !(parentFieldValue.getValue() instanceof Object[] values)) {
+            return null;
+        }
+
+        final RecordField arrayField = parentFieldValue.getField();
+        if (arrayField.getDataType().getFieldType() != RecordFieldType.ARRAY) {
+            return null;
+        }
+
+        final int arrayIndex = getArrayIndex(values.length);
+        if (arrayIndex < 0 || arrayIndex >= values.length) {
+            return null;
+        }
+
+        return new ArrayIndexFieldValue(values[arrayIndex], getElementField(arrayField), parentFieldValue, arrayIndex);
+    }
+
+    private RecordField getElementField(final RecordField arrayField) {
+        // The element field depends only on the array field, which is the same for as long as the records evaluated share the same schema
+        final ElementField cached = elementField;
+        if (cached != null && cached.arrayField() == arrayField) {
+            return cached.field();
+        }
+
+        final DataType elementDataType = ((ArrayDataType) arrayField.getDataType()).getElementType();
+        final RecordField field = new RecordField(arrayField.getFieldName(), elementDataType);
+        elementField = new ElementField(arrayField, field);
+        return field;
+    }
+
+    private record ElementField(RecordField arrayField, RecordField field) {
     }
 
     @Override
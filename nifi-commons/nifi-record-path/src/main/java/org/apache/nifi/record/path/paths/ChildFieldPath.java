@@ -24,6 +24,7 @@ import org.apache.nifi.record.path.util.Filters;
 import org.apache.nifi.serialization.record.Record;
 import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
 import org.apache.nifi.serialization.record.type.RecordDataType;
 
 import java.util.Optional;
@@ -31,10 +32,54 @@ import java.util.stream.Stream;
 
 public class ChildFieldPath extends RecordPathSegment {
     private final String childName;
+    private final boolean simplePath;
+
+    private volatile ResolvedField resolvedField;
 
     ChildFieldPath(final String childName, final RecordPathSegment parent, final boolean absolute) {
         super("/" + childName, parent, absolute);
         this.childName = childName;
+        this.simplePath = parent != null && parent.isSimplePath();
+    }
+
+    @Override
+    boolean isSimplePath() {
+        return simplePath;
+    }
+
+    @Override
+    FieldValue evaluateSimple(final Record record) {
+        final FieldValue parentFieldValue = getParentPath().evaluateSimple(record);
+        if (parentFieldValue == null || !(parentFieldValue.getValue() instanceof Record parentRecord)) {
+            return null;
+        }
+
+        final Object value = parentRecord.getValue(childName);
+        if (value == null) {
+            return null;
+        }
+
+        final RecordField field = resolveField(parentRecord.getSchema());
+        if (field == null) {
+            return null;
+        }
+
+        return new StandardFieldValue(value, field, parentFieldValue);
+    }
+
+    private RecordField resolveField(final RecordSchema schema) {
+        // Resolving the field by name is avoided for as long as the records evaluated share the same schema
+        final ResolvedField cached = resolvedField;
+        if (cached != null && cached.schema() == schema) {
+            return cached.field();
+        }
+
+        final RecordField field = schema.getField(childName).orElse(null);
+        resolvedField = new ResolvedField(schema, field);
+        return field;
+    }
+
+    private record ResolvedField(RecordSchema schema, RecordField field) {
     }
 
     private FieldValue missingChild(final FieldValue parent) {
@@ -17,6 +17,7 @@
 
 package org.apache.nifi.record.path.paths;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -25,6 +26,7 @@ import org.apache.nifi.record.path.RecordPath;
 import org.apache.nifi.record.path.RecordPathEvaluationContext;
 import org.apache.nifi.record.path.RecordPathResult;
 import org.apache.nifi.record.path.StandardRecordPathEvaluationContext;
+import org.apache.nifi.record.path.StandardRecordPathResult;
 import org.apache.nifi.serialization.record.Record;
 
 public abstract class RecordPathSegment implements RecordPath {
@@ -78,8 +80,49 @@ public abstract class RecordPathSegment implements RecordPath {
         return getPath().equals(other.getPath());
     }
 
+    /**
+     * Indicates whether or not this segment, together with all of its parents, consists only of the root path, child field references
+     * and single array index references. Such paths select at most a single field and can be evaluated via {@link #evaluateSimple(Record)}
+     * without the overhead of creating a {@link Stream} for each segment.
+     *
+     * @return <code>true</code> if this path is a simple path, <code>false</code> otherwise
+     */
+    boolean isSimplePath() {
+        return false;
+    }
+
+    /**
+     * Evaluates this path against the given Record without creating a {@link Stream}. This is supported only for paths where
+     * {@link #isSimplePath()} returns <code>true</code>, and only for the common case in which every segment resolves to a value.
+     * Whenever that is not the case, <code>null</code> is returned and the caller must fall back to {@link #evaluate(RecordPathEvaluationContext)},
+     * which also takes care of the less common cases, such as missing fields and null values.
+     *
+     * @param record the Record to evaluate
+     * @return the single selected field, or <code>null</code> if the path must be evaluated via {@link #evaluate(RecordPathEvaluationContext)}
+     */
+    FieldValue evaluateSimple(final Record record) {
+        return null;
+    }
+
+    @Override
+    public final List<FieldValue> evaluateFieldValues(final Record record) {
+        if (isSimplePath()) {
+            final FieldValue fieldValue = evaluateSimple(record);
+            if (fieldValue != null) {
+                return List.of(fieldValue);
+            }
+        }
+
+        return evaluate(new StandardRecordPathEvaluationContext(record)).toList();
+    }
+
     @Override
     public final RecordPathResult evaluate(final Record record) {
+        final FieldValue simpleFieldValue = isSimplePath() ? evaluateSimple(record) : null;
+        if (simpleFieldValue != null) {
+            return new StandardRecordPathResult(getPath(), Stream.of(simpleFieldValue));
+        }
+
         final RecordPathEvaluationContext context = new StandardRecordPathEvaluationContext(record);
         final Stream<FieldValue> selectedFields = evaluate(context);
 
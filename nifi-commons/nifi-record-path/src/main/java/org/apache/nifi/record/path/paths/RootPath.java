@@ -22,20 +22,51 @@ import java.util.stream.Stream;
 import org.apache.nifi.record.path.FieldValue;
 import org.apache.nifi.record.path.RecordPathEvaluationContext;
 import org.apache.nifi.record.path.StandardFieldValue;
+import org.apache.nifi.serialization.record.Record;
 import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
 
 public class RootPath extends RecordPathSegment {
     private static final String PATH = "";
 
+    private volatile RootField rootField;
+
     public RootPath() {
         super(PATH, null, true);
     }
 
     @Override
     public Stream<FieldValue> evaluate(final RecordPathEvaluationContext context) {
-        final RecordField field = new RecordField("root", RecordFieldType.RECORD.getRecordDataType(context.getRecord().getSchema()));
-        final FieldValue fieldValue = new StandardFieldValue(context.getRecord(), field, null);
-        return Stream.of(fieldValue);
+        return Stream.of(getRootFieldValue(context.getRecord()));
+    }
+
+    @Override
+    boolean isSimplePath() {
+        return true;
+    }
+
+    @Override
+    FieldValue evaluateSimple(final Record record) {
+        return getRootFieldValue(record);
+    }
+
+    private FieldValue getRootFieldValue(final Record record) {
+        final RecordSchema schema = record.getSchema();
+
+        // Records that are evaluated one after another nearly always share the same schema, so the root field is retained for the last schema seen
+        final RootField cached = rootField;
+        final RecordField field;
+        if (cached != null && cached.schema() == schema) {
+            field = cached.field();
+        } else {
+            field = new RecordField("root", RecordFieldType.RECORD.getRecordDataType(schema));
+            rootField = new RootField(schema, field);
+        }
+
+        return new StandardFieldValue(record, field, null);
+    }
+
+    private record RootField(RecordSchema schema, RecordField field) {
     }
 }
@@ -279,6 +279,64 @@ public class TestRecordPath {
         assertFieldValue(record, "attributes", "whitespace", evaluateSingleFieldValue("/attributes[' \\t\\r\\n']", record));
     }
 
+    @Nested
+    class SimplePathEvaluation {
+        private static final List<String> SIMPLE_PATHS = List.of(
+                "/",
+                "/name",
+                "/missing",
+                "/mainAccount/balance",
+                "/mainAccount/address/city",
+                "/mainAccount/unknown",
+                "/accounts[0]/address/state",
+                "/accounts[-1]/id",
+                "/accounts[5]/id",
+                "/friends[1]",
+                "/name[0]"
+        );
+
+        @Test
+        public void simplePathsSelectSameFieldsAsStreamEvaluation() {
+            for (final String path : SIMPLE_PATHS) {
+                final RecordPath recordPath = RecordPath.compile(path);
+
+                // Evaluating with a context node always uses the Stream based evaluation
+                final List<FieldValue> expected = evaluateMultiFieldValue(recordPath, record);
+                assertEquals(expected, recordPath.evaluate(record).getSelectedFields().toList(), path);
+                assertEquals(expected, recordPath.evaluateFieldValues(record), path);
+            }
+        }
+
+        @Test
+        public void simplePathsResolveFieldsForEachSchema() {
+            final RecordPath recordPath = RecordPath.compile("/mainAccount/balance");
+            assertFieldValue(mainAccountRecord, "balance", 123.45, recordPath.evaluateFieldValues(record).getFirst());
+
+            final RecordSchema otherAccountSchema = recordSchemaOf(
+                    recordFieldOf("balance", RecordFieldType.STRING)
+            );
+            final Record otherAccountRecord = new MapRecord(otherAccountSchema, new HashMap<>(Map.of("balance", "zero")));
+            final RecordSchema otherSchema = recordSchemaOf(
+                    recordFieldOf("mainAccount", recordTypeOf(otherAccountSchema))
+            );
+            final Record otherRecord = new MapRecord(otherSchema, new HashMap<>(Map.of("mainAccount", otherAccountRecord)));
+
+            final FieldValue fieldValue = recordPath.evaluateFieldValues(otherRecord).getFirst();
+            assertFieldValue(otherAccountRecord, "balance", "zero", fieldValue);
+            assertEquals(RecordFieldType.STRING.getDataType(), fieldValue.getField().getDataType());
+
+            assertFieldValue(mainAccountRecord, "balance", 123.45, recordPath.evaluateFieldValues(record).getFirst());
+        }
+
+        @Test
+        public void simplePathsSupportUpdatingValues() {
+            final RecordPath recordPath = RecordPath.compile("/accounts[0]/balance");
+            recordPath.evaluateFieldValues(record).getFirst().updateValue(42.0D);
+
+            assertEquals(42.0D, evaluateSingleFieldValue(recordPath, record).getValue());
+        }
+    }
+
     @Nested
     class ArrayReferences {
         private final String[] friendValues = (String[]) record.getAsArray("friends");
@@ -23,6 +23,7 @@ import org.apache.nifi.serialization.record.RecordSet;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Set;
 
 /**
  * <p>
@@ -76,6 +77,19 @@ public interface RecordReader extends Closeable {
      */
     RecordSchema getSchema() throws MalformedRecordException;
 
+    /**
+     * Informs the reader that the caller will access only the fields with the given names in the Records that are returned. A reader that
+     * supports this may skip parsing and converting the values of all other fields, in which case those fields will have a <code>null</code>
+     * value in the Records that it returns. This method should be called before the first Record is read.
+     * The default implementation ignores the given field names and continues to read all fields.
+     *
+     * @param fieldNames the names of the fields that will be accessed
+     * @return <code>true</code> if the reader will skip the fields that are not named, <code>false</code> if all fields will still be read
+     */
+    default boolean selectFields(final Set<String> fieldNames) {
+        return false;
+    }
+
     /**
      * @return a RecordSet that returns the records in this Record Reader in a streaming fashion
      */
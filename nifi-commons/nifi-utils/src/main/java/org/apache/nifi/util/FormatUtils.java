@@ -20,6 +20,7 @@ import org.apache.nifi.processor.DataUnit;
 import org.apache.nifi.time.DurationFormat;
 
 import java.text.NumberFormat;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -152,6 +153,24 @@ public class FormatUtils {
         return DurationFormat.getTimeDuration(value, desiredUnit);
     }
 
+    /**
+     * Returns the time duration parsed from the {@code String} input, falling back to the default value when the input is not
+     * a valid time duration, such as when a configured property value is malformed.
+     *
+     * @param value the raw String input (i.e. "28 minutes")
+     * @param defaultValue the time duration to return when the input cannot be parsed (i.e. "1 min")
+     * @return the duration, with millisecond precision
+     */
+    public static Duration getTimeDuration(final String value, final String defaultValue) {
+        long durationMillis;
+        try {
+            durationMillis = getTimeDuration(value, TimeUnit.MILLISECONDS);
+        } catch (final IllegalArgumentException e) {
+            durationMillis = getTimeDuration(defaultValue, TimeUnit.MILLISECONDS);
+        }
+        return Duration.ofMillis(durationMillis);
+    }
+
     /**
      * Returns the parsed and converted input in the requested units.
      * <p>
@@ -21,6 +21,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.text.DecimalFormatSymbols;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -189,4 +190,17 @@ public class TestFormatUtils {
                          + TimeUnit.MILLISECONDS.convert(60, TimeUnit.SECONDS)
                          + TimeUnit.MILLISECONDS.convert(1001, TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS, "1000:01:01.001"));
     }
+
+    @ParameterizedTest
+    @MethodSource("getTimeDurationWithDefault")
+    public void testGetTimeDurationWithDefault(String value, String defaultValue, Duration expected) {
+        assertEquals(expected, FormatUtils.getTimeDuration(value, defaultValue));
+    }
+
+    private static Stream<Arguments> getTimeDurationWithDefault() {
+        return Stream.of(Arguments.of("30 secs", "1 min", Duration.ofSeconds(30)),
+            Arguments.of("250 millis", "1 min", Duration.ofMillis(250)),
+            Arguments.of("thirty seconds", "1 min", Duration.ofMinutes(1)),
+            Arguments.of("", "5 secs", Duration.ofSeconds(5)));
+    }
 }
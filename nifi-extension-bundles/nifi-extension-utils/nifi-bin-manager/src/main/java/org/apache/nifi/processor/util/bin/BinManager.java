@@ -24,6 +24,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,6 +53,8 @@ public class BinManager {
 
     private final AtomicInteger maxBinAgeSeconds = new AtomicInteger(Integer.MAX_VALUE);
     private final Map<String, List<Bin>> groupBinMap = new HashMap<>();
+    // Group identifier of each bin, ordered from the oldest bin to the newest bin
+    private final Map<Bin, String> binGroupsByAge = new LinkedHashMap<>();
     private final ReentrantReadWriteLock rwLock = new ReentrantReadWriteLock();
     private final Lock rLock = rwLock.readLock();
     private final Lock wLock = rwLock.writeLock();
@@ -69,6 +73,7 @@ public class BinManager {
                 }
             }
             groupBinMap.clear();
+            binGroupsByAge.clear();
             binCount = 0;
         } finally {
             wLock.unlock();
@@ -202,6 +207,7 @@ public class BinManager {
                 final Bin bin = new Bin(sessionFactory.createSession(), minSizeBytes.get(), currentMaxSizeBytes, minEntries.get(),
                     maxEntries.get(), fileCountAttribute.get());
                 currentBins.add(bin);
+                binGroupsByAge.put(bin, groupIdentifier);
                 binCount++;
                 final boolean added = bin.offer(flowFile, session);
                 if (added) {
@@ -229,33 +235,33 @@ public class BinManager {
      * @return bins that are considered full
      */
     public Collection<Bin> removeReadyBins(boolean relaxFullnessConstraint) {
-        final Map<String, List<Bin>> newGroupMap = new HashMap<>();
         final List<Bin> readyBins = new ArrayList<>();
 
         wLock.lock();
         try {
-            for (final Map.Entry<String, List<Bin>> group : groupBinMap.entrySet()) {
-                final List<Bin> remainingBins = new ArrayList<>();
-                for (final Bin bin : group.getValue()) {
+            final Iterator<List<Bin>> groupBins = groupBinMap.values().iterator();
+            while (groupBins.hasNext()) {
+                final List<Bin> bins = groupBins.next();
+                bins.removeIf(bin -> {
                     if (relaxFullnessConstraint && bin.isFullEnough()) {
                         bin.setEvictionReason(bin.determineEvictionReason());
-                        readyBins.add(bin);
                     } else if (!relaxFullnessConstraint && bin.isFull()) { //strict check
                         bin.setEvictionReason(bin.determineEvictionReason());
-                        readyBins.add(bin);
                     } else if (relaxFullnessConstraint && bin.isOlderThan(maxBinAgeSeconds.get(), TimeUnit.SECONDS)) {
                         bin.setEvictionReason(EvictionReason.TIMEOUT);
-                        readyBins.add(bin);
                     } else { //it isn't time yet...
-                        remainingBins.add(bin);
+                        return false;
                     }
-                }
-                if (!remainingBins.isEmpty()) {
-                    newGroupMap.put(group.getKey(), remainingBins);
+
+                    readyBins.add(bin);
+                    binGroupsByAge.remove(bin);
+                    return true;
+                });
+
+                if (bins.isEmpty()) {
+                    groupBins.remove();
                 }
             }
-            groupBinMap.clear();
-            groupBinMap.putAll(newGroupMap);
             binCount -= readyBins.size();
         } finally {
             wLock.unlock();
@@ -266,27 +272,20 @@ public class BinManager {
     public Bin removeOldestBin() {
         wLock.lock();
         try {
-            Bin oldestBin = null;
-            String oldestBinGroup = null;
-
-            for (final Map.Entry<String, List<Bin>> group : groupBinMap.entrySet()) {
-                for (final Bin bin : group.getValue()) {
-                    if (oldestBin == null || bin.isOlderThan(oldestBin)) {
-                        oldestBin = bin;
-                        oldestBinGroup = group.getKey();
-                    }
-                }
-            }
-
-            if (oldestBin == null) {
+            final Iterator<Map.Entry<Bin, String>> oldestBins = binGroupsByAge.entrySet().iterator();
+            if (!oldestBins.hasNext()) {
                 return null;
             }
 
+            final Map.Entry<Bin, String> oldestBinGroup = oldestBins.next();
+            oldestBins.remove();
+            final Bin oldestBin = oldestBinGroup.getKey();
+
             binCount--;
-            final List<Bin> bins = groupBinMap.get(oldestBinGroup);
+            final List<Bin> bins = groupBinMap.get(oldestBinGroup.getValue());
             bins.remove(oldestBin);
             if (bins.isEmpty()) {
-                groupBinMap.remove(oldestBinGroup);
+                groupBinMap.remove(oldestBinGroup.getValue());
             }
             return oldestBin;
         } finally {
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processor.util.bin;
+
+import org.apache.nifi.flowfile.FlowFile;
+import org.apache.nifi.processor.ProcessSession;
+import org.apache.nifi.processor.ProcessSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TestBinManager {
+    private static final String FIRST_GROUP = "first";
+    private static final String SECOND_GROUP = "second";
+    private static final String THIRD_GROUP = "third";
+
+    @Mock
+    private ProcessSession session;
+
+    @Mock
+    private ProcessSessionFactory sessionFactory;
+
+    @Mock
+    private ProcessSession binSession;
+
+    private BinManager binManager;
+
+    @BeforeEach
+    void setBinManager() {
+        when(sessionFactory.createSession()).thenReturn(binSession);
+        binManager = new BinManager();
+    }
+
+    @Test
+    void testRemoveOldestBin() {
+        binManager.setMaximumEntries(1);
+
+        final FlowFile firstFlowFile = createFlowFile();
+        assertTrue(binManager.offer(SECOND_GROUP, firstFlowFile, session, sessionFactory));
+        assertTrue(binManager.offer(FIRST_GROUP, createFlowFile(), session, sessionFactory));
+        assertTrue(binManager.offer(SECOND_GROUP, createFlowFile(), session, sessionFactory));
+        assertEquals(3, binManager.getBinCount());
+
+        final Bin oldestBin = binManager.removeOldestBin();
+        assertEquals(List.of(firstFlowFile), oldestBin.getContents());
+        assertEquals(2, binManager.getBinCount());
+
+        assertTrue(binManager.offer(THIRD_GROUP, createFlowFile(), session, sessionFactory));
+        assertEquals(3, binManager.getBinCount());
+    }
+
+    @Test
+    void testRemoveReadyBinsRemovesOldestBins() {
+        binManager.setMaximumEntries(2);
+
+        assertTrue(binManager.offer(FIRST_GROUP, createFlowFile(), session, sessionFactory));
+        assertTrue(binManager.offer(FIRST_GROUP, createFlowFile(), session, sessionFactory));
+        final FlowFile secondGroupFlowFile = createFlowFile();
+        assertTrue(binManager.offer(SECOND_GROUP, secondGroupFlowFile, session, sessionFactory));
+
+        final Collection<Bin> readyBins = binManager.removeReadyBins(false);
+        assertEquals(1, readyBins.size());
+        final Bin readyBin = readyBins.iterator().next();
+        assertEquals(EvictionReason.MAX_ENTRIES_THRESHOLD_REACHED, readyBin.getEvictionReason());
+        assertEquals(1, binManager.getBinCount());
+
+        final Bin oldestBin = binManager.removeOldestBin();
+        assertEquals(List.of(secondGroupFlowFile), oldestBin.getContents());
+        assertEquals(0, binManager.getBinCount());
+        assertNull(binManager.removeOldestBin());
+    }
+
+    @Test
+    void testPurge() {
+        final FlowFile flowFile = createFlowFile();
+        assertTrue(binManager.offer(FIRST_GROUP, flowFile, session, sessionFactory));
+        binManager.purge();
+
+        assertEquals(0, binManager.getBinCount());
+        assertNull(binManager.removeOldestBin());
+
+        assertTrue(binManager.offer(FIRST_GROUP, flowFile, session, sessionFactory));
+        final Bin bin = binManager.removeOldestBin();
+        assertSame(flowFile, bin.getContents().getFirst());
+    }
+
+    /**
+     * Offers FlowFiles for random groups, evicting the oldest bin once the maximum number of bins is reached in the same way as BinFiles
+     */
+    private FlowFile createFlowFile() {
+        final FlowFile flowFile = mock(FlowFile.class);
+        when(flowFile.getSize()).thenReturn(1L);
+        return flowFile;
+    }
+}
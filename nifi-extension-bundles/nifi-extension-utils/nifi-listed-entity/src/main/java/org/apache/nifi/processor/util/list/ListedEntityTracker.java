@@ -47,8 +47,10 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -77,7 +79,9 @@ public class ListedEntityTracker<T extends ListableEntity> {
                     " If it tracks per node listed entities, then the optional '::{nodeId}' part is added to manage state separately." +
                     " E.g. cluster wide cache key = 'ListedEntities::8dda2321-0164-1000-50fa-3042fe7d6a7b'," +
                     " per node cache key = 'ListedEntities::8dda2321-0164-1000-50fa-3042fe7d6a7b::nifi-node3'" +
-                    " The stored cache content is Gzipped JSON string." +
+                    " Listed entities are partitioned by identifier hash into shards stored as '{cacheKey}::{shardIndex}'," +
+                    " with the number of shards stored as '{cacheKey}::shards', so that only shards containing changed entities are rewritten." +
+                    " The stored shard content is Gzipped JSON string." +
                     " The cache key will be deleted when target listing configuration is changed." +
                     " %s", NOTE))
             .identifiesControllerService(DistributedMapCacheClient.class)
@@ -125,11 +129,19 @@ public class ListedEntityTracker<T extends ListableEntity> {
             .defaultValue("${hostname()}")
             .build();
 
+    /**
+     * Target maximum number of entities in a single shard, the number of shards grows in powers of two to keep below this.
+     */
+    static final int MAX_ENTITIES_PER_SHARD = 10_000;
+    private static final int MAX_SHARD_COUNT = 4096;
+
     static final Supplier<Long> DEFAULT_CURRENT_TIMESTAMP_SUPPLIER = System::currentTimeMillis;
     private final Supplier<Long> currentTimestampSupplier;
 
     private final Serializer<String> stringSerializer = (v, o) -> o.write(v.getBytes(StandardCharsets.UTF_8));
 
+    private final Deserializer<String> stringDeserializer = v -> v == null || v.length == 0 ? null : new String(v, StandardCharsets.UTF_8);
+
     private final Serializer<Map<String, ListedEntity>> listedEntitiesSerializer = (v, o) -> {
         final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(o);
         objectMapper.writeValue(gzipOutputStream, v);
@@ -158,6 +170,14 @@ public class ListedEntityTracker<T extends ListableEntity> {
     private String nodeId;
     private DistributedMapCacheClient mapCacheClient;
 
+    /*
+     * Number of shards currently persisted, zero when no shard has been persisted yet, and indexes of shards
+     * having entities changed since those were last persisted.
+     */
+    private volatile int shardCount;
+    private final Set<Integer> modifiedShards = ConcurrentHashMap.newKeySet();
+    private volatile boolean legacyEntitiesRestored;
+
     public ListedEntityTracker(final String componentId, final ComponentLog logger, final RecordSchema recordSchema) {
         this(componentId, logger, DEFAULT_CURRENT_TIMESTAMP_SUPPLIER, recordSchema);
     }
@@ -206,16 +226,105 @@ public class ListedEntityTracker<T extends ListableEntity> {
         };
     }
 
-    private void persistListedEntities(Map<String, ListedEntity> listedEntities) throws IOException {
-        final String cacheKey = getCacheKey();
-        logger.debug("Persisting listed entities: {}={}", cacheKey, listedEntities);
-        mapCacheClient.put(cacheKey, listedEntities, stringSerializer, listedEntitiesSerializer);
+    private String getShardCountCacheKey() {
+        return getCacheKey() + "::shards";
+    }
+
+    private String getShardCacheKey(final int shardIndex) {
+        return getCacheKey() + "::" + shardIndex;
     }
 
+    private static int getShardIndex(final String identifier, final int shards) {
+        return identifier.hashCode() & (shards - 1);
+    }
+
+    private static int getRequiredShardCount(final int entityCount) {
+        int shards = 1;
+        while (shards < MAX_SHARD_COUNT && (long) shards * MAX_ENTITIES_PER_SHARD < entityCount) {
+            shards <<= 1;
+        }
+        return shards;
+    }
+
+    private void markModified(final String identifier) {
+        if (shardCount > 0) {
+            modifiedShards.add(getShardIndex(identifier, shardCount));
+        }
+    }
+
+    /**
+     * Persist shards containing modified entities, increasing the number of shards and rewriting all of them when
+     * the number of entities outgrows the current shards.
+     */
+    private void persistListedEntities(final Map<String, ListedEntity> listedEntities) throws IOException {
+        final int shards = Math.max(shardCount, getRequiredShardCount(listedEntities.size()));
+        final boolean resharded = shards != shardCount;
+        final Set<Integer> shardsToPersist = new HashSet<>();
+        if (resharded) {
+            for (int shardIndex = 0; shardIndex < shards; shardIndex++) {
+                shardsToPersist.add(shardIndex);
+            }
+        } else {
+            shardsToPersist.addAll(modifiedShards);
+        }
+
+        // Partition entities of modified shards in a single pass, leaving unmodified shards untouched
+        final Map<Integer, Map<String, ListedEntity>> shardEntities = new HashMap<>();
+        shardsToPersist.forEach(shardIndex -> shardEntities.put(shardIndex, new HashMap<>()));
+        listedEntities.forEach((identifier, listedEntity) -> {
+            final Map<String, ListedEntity> entities = shardEntities.get(getShardIndex(identifier, shards));
+            if (entities != null) {
+                entities.put(identifier, listedEntity);
+            }
+        });
+
+        final Map<String, Map<String, ListedEntity>> shardValues = new HashMap<>();
+        shardEntities.forEach((shardIndex, entities) -> shardValues.put(getShardCacheKey(shardIndex), entities));
+        logger.debug("Persisting {} of {} listed entity shards for {} entities: {}", shardValues.size(), shards, listedEntities.size(), getCacheKey());
+        mapCacheClient.putAll(shardValues, stringSerializer, listedEntitiesSerializer);
+
+        if (resharded) {
+            mapCacheClient.put(getShardCountCacheKey(), String.valueOf(shards), stringSerializer, stringSerializer);
+            shardCount = shards;
+        }
+        if (legacyEntitiesRestored) {
+            logger.debug("Removing listed entities stored as single entry: {}", getCacheKey());
+            mapCacheClient.remove(getCacheKey(), stringSerializer);
+            legacyEntitiesRestored = false;
+        }
+        modifiedShards.removeAll(shardsToPersist);
+    }
+
+    private int fetchShardCount() throws IOException {
+        final String shards = mapCacheClient.get(getShardCountCacheKey(), stringSerializer, stringDeserializer);
+        return shards == null ? 0 : Integer.parseInt(shards);
+    }
+
+    /**
+     * Fetch listed entities one shard at a time, falling back to listed entities stored as a single entry by previous versions.
+     */
     private Map<String, ListedEntity> fetchListedEntities() throws IOException {
-        final String cacheKey = getCacheKey();
-        final Map<String, ListedEntity> listedEntities = mapCacheClient.get(cacheKey, stringSerializer, listedEntitiesDeserializer);
-        logger.debug("Fetched listed entities: {}={}", cacheKey, listedEntities);
+        final int shards = fetchShardCount();
+        shardCount = shards;
+        modifiedShards.clear();
+        legacyEntitiesRestored = false;
+
+        if (shards == 0) {
+            final String cacheKey = getCacheKey();
+            final Map<String, ListedEntity> listedEntities = mapCacheClient.get(cacheKey, stringSerializer, listedEntitiesDeserializer);
+            logger.debug("Fetched listed entities: {}={}", cacheKey, listedEntities);
+            legacyEntitiesRestored = listedEntities != null;
+            return listedEntities;
+        }
+
+        final Map<String, ListedEntity> listedEntities = new ConcurrentHashMap<>();
+        for (int shardIndex = 0; shardIndex < shards; shardIndex++) {
+            final Map<String, ListedEntity> shardEntities = mapCacheClient.get(getShardCacheKey(shardIndex), stringSerializer, listedEntitiesDeserializer);
+            if (shardEntities != null) {
+                listedEntities.putAll(shardEntities);
+            }
+        }
+        logger.debug("Fetched {} listed entities from {} shards: {}", listedEntities.size(), shards, getCacheKey());
         return listedEntities;
     }
 
@@ -225,7 +334,18 @@ public class ListedEntityTracker<T extends ListableEntity> {
             final String cacheKey = getCacheKey();
             logger.debug("Removing listed entities from cache storage: {}", cacheKey);
             mapCacheClient.remove(cacheKey, stringSerializer);
+
+            final int shards = fetchShardCount();
+            for (int shardIndex = 0; shardIndex < shards; shardIndex++) {
+                mapCacheClient.remove(getShardCacheKey(shardIndex), stringSerializer);
+            }
+            if (shards > 0) {
+                mapCacheClient.remove(getShardCountCacheKey(), stringSerializer);
+            }
         }
+        shardCount = 0;
+        modifiedShards.clear();
+        legacyEntitiesRestored = false;
     }
 
     public void trackEntities(ProcessContext context, ProcessSession session,
@@ -251,6 +371,8 @@ public class ListedEntityTracker<T extends ListableEntity> {
                 if (fetchedListedEntities == null) {
                     this.alreadyListedEntities = new ConcurrentHashMap<>();
                     initialListing = true;
+                } else if (fetchedListedEntities instanceof ConcurrentHashMap) {
+                    this.alreadyListedEntities = fetchedListedEntities;
                 } else {
                     this.alreadyListedEntities = new ConcurrentHashMap<>(fetchedListedEntities);
                 }
@@ -316,6 +438,10 @@ public class ListedEntityTracker<T extends ListableEntity> {
         // Remove old entries.
         oldEntityIds.forEach(oldEntityId -> alreadyListedEntities.remove(oldEntityId));
 
+        // Track shards containing removed or updated entities, as subclasses may override how updated entities are emitted.
+        oldEntityIds.forEach(this::markModified);
+        updatedEntities.forEach(updatedEntity -> markModified(updatedEntity.getIdentifier()));
+
         // Emit updated entities.
         if (context.getProperty(AbstractListProcessor.RECORD_WRITER).isSet()) {
             try {
@@ -17,6 +17,7 @@
 
 package org.apache.nifi.processor.util.list;
 
+import org.apache.nifi.annotation.notification.PrimaryNodeState;
 import org.apache.nifi.components.ConfigVerificationResult;
 import org.apache.nifi.components.ConfigVerificationResult.Outcome;
 import org.apache.nifi.components.PropertyDescriptor;
@@ -57,11 +58,13 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestAbstractListProcessor {
@@ -347,6 +350,59 @@ public class TestAbstractListProcessor {
                 "Found 6 objects.  Of those, 2 match the filter.");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEntityTrackingStateMigratedToShards() throws Exception {
+        final EphemeralMapCacheClientService trackingCache = new EphemeralMapCacheClientService();
+        runner.addControllerService("tracking-cache", trackingCache);
+        runner.enableControllerService(trackingCache);
+
+        runner.setProperty(AbstractListProcessor.LISTING_STRATEGY, AbstractListProcessor.BY_ENTITIES);
+        runner.setProperty(ListedEntityTracker.TRACKING_STATE_CACHE, "tracking-cache");
+        runner.setProperty(ListedEntityTracker.TRACKING_TIME_WINDOW, "10ms");
+
+        // Listed entities stored as a single entry by previous versions
+        final String cacheKey = "ListedEntities::" + proc.getIdentifier();
+        final Map<String, ListedEntity> legacyEntities = new HashMap<>();
+        legacyEntities.put("one", new ListedEntity(1, 1));
+        trackingCache.stored.put(cacheKey, legacyEntities);
+
+        proc.addEntity("one", "one", 1, 1);
+        proc.addEntity("two", "two", 2, 2);
+        proc.currentTimestamp.set(5L);
+        runner.run();
+
+        runner.assertAllFlowFilesTransferred(AbstractListProcessor.REL_SUCCESS, 1);
+        runner.getFlowFilesForRelationship(AbstractListProcessor.REL_SUCCESS).get(0)
+                .assertAttributeEquals(CoreAttributes.FILENAME.key(), "two");
+
+        assertFalse(trackingCache.stored.containsKey(cacheKey));
+        assertEquals("1", trackingCache.stored.get(cacheKey + "::shards"));
+        final Map<String, ListedEntity> shardEntities = (Map<String, ListedEntity>) trackingCache.stored.get(cacheKey + "::0");
+        assertEquals(Set.of("one", "two"), shardEntities.keySet());
+
+        // Restored from shards after state is reloaded
+        proc.onPrimaryNodeChange(PrimaryNodeState.ELECTED_PRIMARY_NODE);
+        proc.addEntity("three", "three", 3, 3);
+        proc.currentTimestamp.set(6L);
+        runner.clearTransferState();
+        runner.run();
+
+        runner.assertAllFlowFilesTransferred(AbstractListProcessor.REL_SUCCESS, 1);
+        runner.getFlowFilesForRelationship(AbstractListProcessor.REL_SUCCESS).get(0)
+                .assertAttributeEquals(CoreAttributes.FILENAME.key(), "three");
+        final Map<String, ListedEntity> updatedShardEntities = (Map<String, ListedEntity>) trackingCache.stored.get(cacheKey + "::0");
+        assertEquals(Set.of("one", "two", "three"), updatedShardEntities.keySet());
+
+        // Reset state removes all shards, so that all entities are listed again
+        runner.setProperty(ListedEntityTracker.INITIAL_LISTING_TARGET, "all");
+        runner.setProperty(ConcreteListProcessor.RESET_STATE, "1");
+        proc.currentTimestamp.set(7L);
+        runner.clearTransferState();
+        runner.run();
+        runner.assertAllFlowFilesTransferred(AbstractListProcessor.REL_SUCCESS, 3);
+    }
+
     private void assertVerificationOutcome(final Outcome expectedOutcome, final String expectedExplanationRegex) {
         final List<ConfigVerificationResult> results = proc.verify(runner.getProcessContext(), runner.getLogger(), Collections.emptyMap());
 
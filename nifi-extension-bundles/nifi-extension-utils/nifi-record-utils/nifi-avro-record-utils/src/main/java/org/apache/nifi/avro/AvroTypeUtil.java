@@ -927,9 +927,26 @@ public class AvroTypeUtil {
     }
 
     public static Map<String, Object> convertAvroRecordToMap(final GenericRecord avroRecord, final RecordSchema recordSchema, final Charset charset) {
+        return convertAvroRecordToMap(avroRecord, recordSchema, charset, null);
+    }
+
+    /**
+     * Converts the given Avro Record into a Map of field name to value, converting only the fields whose names are in the given set
+     *
+     * @param avroRecord the Avro Record to convert
+     * @param recordSchema the schema of the Record
+     * @param charset the character set to use when converting byte arrays into Strings
+     * @param selectedFieldNames the names of the fields to convert, or <code>null</code> to convert all fields
+     * @return a Map of field name to value for the selected fields
+     */
+    public static Map<String, Object> convertAvroRecordToMap(final GenericRecord avroRecord, final RecordSchema recordSchema, final Charset charset, final Set<String> selectedFieldNames) {
         final Map<String, Object> values = new HashMap<>(recordSchema.getFieldCount());
 
         for (final RecordField recordField : recordSchema.getFields()) {
+            if (selectedFieldNames != null && !selectedFieldNames.contains(recordField.getFieldName())) {
+                continue;
+            }
+
             final String relevantFieldName = getMatchingFieldName(avroRecord, recordField);
             final Object value = (relevantFieldName == null) ? null : avroRecord.get(relevantFieldName);
 
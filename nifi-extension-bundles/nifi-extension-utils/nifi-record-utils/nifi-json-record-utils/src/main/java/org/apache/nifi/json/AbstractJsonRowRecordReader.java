@@ -156,8 +156,7 @@ public abstract class AbstractJsonRowRecordReader implements RecordReader {
 
     @Override
     public Record nextRecord(final boolean coerceTypes, final boolean dropUnknownFields) throws IOException, MalformedRecordException {
-        final JsonNode nextNode = getNextJsonNode();
-        if (nextNode == null) {
+        if (!skipToNextObject()) {
             if (captureFieldPredicate != null) {
                 while (jsonParser.nextToken() != null) {
                     captureCurrentField(captureFieldPredicate);
@@ -167,7 +166,32 @@ public abstract class AbstractJsonRowRecordReader implements RecordReader {
             return null;
         }
 
-        final RecordSchema schema = getSchema();
+        return readRecord(jsonParser, getSchema(), coerceTypes, dropUnknownFields);
+    }
+
+    /**
+     * Reads the next Record from the given parser, which is positioned at the <code>START_OBJECT</code> token of the JSON object
+     * that makes up the Record. Upon return, the parser must be positioned at the matching <code>END_OBJECT</code> token.
+     * The default implementation reads the object into a {@link JsonNode} and converts it by calling
+     * {@link #convertJsonNodeToRecord(JsonNode, RecordSchema, boolean, boolean)}.
+     *
+     * @param parser            the parser to read from
+     * @param schema            the schema of the Record
+     * @param coerceTypes       whether or not the values should be coerced into the types of the schema
+     * @param dropUnknownFields whether or not fields that are not in the schema should be dropped
+     * @return the Record that was read
+     * @throws IOException              in case of JSON stream processing failure
+     * @throws MalformedRecordException in case of malformed JSON input
+     */
+    protected Record readRecord(final JsonParser parser, final RecordSchema schema, final boolean coerceTypes, final boolean dropUnknownFields)
+            throws IOException, MalformedRecordException {
+        final JsonNode nextNode;
+        try {
+            nextNode = parser.readValueAsTree();
+        } catch (final JsonParseException e) {
+            throw new MalformedRecordException("Failed to parse JSON", e);
+        }
+
         try {
             return convertJsonNodeToRecord(nextNode, schema, coerceTypes, dropUnknownFields);
         } catch (final MalformedRecordException mre) {
@@ -381,12 +405,12 @@ public abstract class AbstractJsonRowRecordReader implements RecordReader {
     }
 
 
-    private JsonNode getNextJsonNode() throws IOException, MalformedRecordException {
+    private boolean skipToNextObject() throws IOException, MalformedRecordException {
         try {
             while (true) {
                 final JsonToken token = jsonParser.nextToken();
                 if (token == null) {
-                    return null;
+                    return false;
                 }
 
                 switch (token) {
@@ -405,7 +429,7 @@ public abstract class AbstractJsonRowRecordReader implements RecordReader {
                             }
                         }
 
-                        return jsonParser.readValueAsTree();
+                        return true;
                     default:
                         // We got a token that isn't expected. This can happen when using the Nested Field Strategy.
                         // For example, the field given has a String as a value instead of a Record. In this case, we want to skip to the next field.
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.json;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.record.DataType;
+import org.apache.nifi.serialization.record.MapRecord;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.type.ArrayDataType;
+import org.apache.nifi.serialization.record.type.MapDataType;
+import org.apache.nifi.serialization.record.type.RecordDataType;
+import org.apache.nifi.serialization.record.util.DataTypeUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * <p>
+ * A JSON Record Reader that converts the tokens of each JSON object directly into the fields of the Record, as described by the schema,
+ * rather than first reading each JSON object into a {@link JsonNode} tree. Fields that are not part of the schema are skipped without
+ * being read.
+ * </p>
+ *
+ * <p>
+ * Values whose type is a CHOICE, or that otherwise cannot be determined from the schema alone, are read into a tree and converted in the
+ * same way as the {@link JsonTreeRowRecordReader} does, because determining the type may require inspecting the value more than once.
+ * Records that are produced do not retain a serialized form of the JSON that they were read from.
+ * </p>
+ */
+public class JsonStreamingRowRecordReader extends JsonTreeRowRecordReader {
+
+    public JsonStreamingRowRecordReader(
+            final InputStream in,
+            final ComponentLog logger,
+            final RecordSchema schema,
+            final String dateFormat,
+            final String timeFormat,
+            final String timestampFormat,
+            final StartingFieldStrategy startingFieldStrategy,
+            final String startingFieldName,
+            final SchemaApplicationStrategy schemaApplicationStrategy,
+            final BiPredicate<String, String> captureFieldPredicate,
+            final TokenParserFactory tokenParserFactory
+    ) throws IOException, MalformedRecordException {
+        super(in, logger, schema, dateFormat, timeFormat, timestampFormat, startingFieldStrategy, startingFieldName, schemaApplicationStrategy,
+                captureFieldPredicate, tokenParserFactory);
+    }
+
+    @Override
+    protected Record readRecord(final JsonParser parser, final RecordSchema schema, final boolean coerceTypes, final boolean dropUnknownFields)
+            throws IOException, MalformedRecordException {
+        final JsonStreamContext enclosingContext = parser.getParsingContext().getParent();
+
+        try {
+            return readObject(parser, schema, null, getSelectedFieldNames(), coerceTypes, dropUnknownFields);
+        } catch (final JsonParseException e) {
+            throw new MalformedRecordException("Failed to parse JSON", e);
+        } catch (final MalformedRecordException | RuntimeException e) {
+            // Move past the rest of the JSON object so that subsequent Records can still be read
+            skipToEndOfObject(parser, enclosingContext);
+
+            if (e instanceof MalformedRecordException mre) {
+                throw mre;
+            }
+            throw new MalformedRecordException("Successfully parsed a JSON object from input but failed to convert into a Record object with the given schema", e);
+        }
+    }
+
+    private void skipToEndOfObject(final JsonParser parser, final JsonStreamContext enclosingContext) throws IOException {
+        while (parser.getParsingContext() != enclosingContext && parser.nextToken() != null) {
+            parser.skipChildren();
+        }
+    }
+
+    private Record readObject(final JsonParser parser, final RecordSchema schema, final String fieldNamePrefix, final Set<String> fieldNamesToRead,
+                              final boolean coerceTypes, final boolean dropUnknown) throws IOException, MalformedRecordException {
+        final Map<String, Object> values = new LinkedHashMap<>(schema.getFieldCount() * 2);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String jsonFieldName = parser.currentName();
+            parser.nextToken();
+
+            final RecordField recordField = schema.getField(jsonFieldName).orElse(null);
+            if (recordField == null || (fieldNamesToRead != null && !fieldNamesToRead.contains(recordField.getFieldName()))) {
+                parser.skipChildren();
+                continue;
+            }
+
+            final String fieldName = recordField.getFieldName();
+            final String fullFieldName = fieldNamePrefix == null ? fieldName : fieldNamePrefix + fieldName;
+            values.put(fieldName, readValue(parser, recordField.getDataType(), fullFieldName, coerceTypes, dropUnknown));
+        }
+
+        return new MapRecord(schema, values, false, dropUnknown);
+    }
+
+    private Object readValue(final JsonParser parser, final DataType dataType, final String fieldName, final boolean coerceTypes, final boolean dropUnknown)
+            throws IOException, MalformedRecordException {
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        if (dataType == null || dataType.getFieldType() == RecordFieldType.CHOICE) {
+            final JsonNode node = parser.readValueAsTree();
+            return coerceTypes && dataType != null ? convertField(node, fieldName, dataType, dropUnknown) : getRawNodeValue(node, dataType, fieldName);
+        }
+
+        final RecordFieldType fieldType = dataType.getFieldType();
+        switch (fieldType) {
+            case MAP:
+                if (token == JsonToken.START_OBJECT) {
+                    return readMap(parser, ((MapDataType) dataType).getValueType(), fieldName, coerceTypes, dropUnknown);
+                }
+                break;
+            case ARRAY:
+                if (token == JsonToken.START_ARRAY) {
+                    return readArray(parser, ((ArrayDataType) dataType).getElementType(), fieldName, coerceTypes, dropUnknown);
+                }
+                break;
+            case RECORD: {
+                final RecordSchema childSchema = ((RecordDataType) dataType).getChildSchema();
+                if (token == JsonToken.START_OBJECT && childSchema != null) {
+                    return readObject(parser, childSchema, fieldName + ".", null, coerceTypes, dropUnknown);
+                }
+                break;
+            }
+            default:
+                break;
+        }
+
+        // Values that do not have the shape described by the schema are converted in the same way as with a JSON tree
+        if (token.isStructStart() || fieldType == RecordFieldType.MAP || fieldType == RecordFieldType.ARRAY || fieldType == RecordFieldType.RECORD) {
+            final JsonNode node = parser.readValueAsTree();
+            return coerceTypes ? convertField(node, fieldName, dataType, dropUnknown) : getRawNodeValue(node, dataType, fieldName);
+        }
+
+        if (coerceTypes) {
+            return DataTypeUtils.convertType(getRawScalarValue(parser, token), dataType, getDateFormat(), getTimeFormat(), getTimestampFormat(), fieldName);
+        }
+
+        final Object rawValue = getRawScalarValue(parser, token);
+        if (rawValue instanceof String && (fieldType == RecordFieldType.DATE || fieldType == RecordFieldType.TIME || fieldType == RecordFieldType.TIMESTAMP)) {
+            try {
+                return DataTypeUtils.convertType(rawValue, dataType, getDateFormat(), getTimeFormat(), getTimestampFormat(), fieldName);
+            } catch (final Exception e) {
+                return rawValue;
+            }
+        }
+
+        return rawValue;
+    }
+
+    private Object getRawScalarValue(final JsonParser parser, final JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_STRING -> parser.getText();
+            case VALUE_EMBEDDED_OBJECT -> parser.getEmbeddedObject();
+            default -> null;
+        };
+    }
+
+    private Map<String, Object> readMap(final JsonParser parser, final DataType valueType, final String fieldName, final boolean coerceTypes, final boolean dropUnknown)
+            throws IOException, MalformedRecordException {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String key = parser.currentName();
+            parser.nextToken();
+
+            final String valueFieldName = coerceTypes ? fieldName : fieldName + "['" + key + "']";
+            map.put(key, readValue(parser, valueType, valueFieldName, coerceTypes, dropUnknown));
+        }
+
+        return map;
+    }
+
+    private Object[] readArray(final JsonParser parser, final DataType elementType, final String fieldName, final boolean coerceTypes, final boolean dropUnknown)
+            throws IOException, MalformedRecordException {
+        final List<Object> elements = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            elements.add(readValue(parser, elementType, fieldName, coerceTypes, dropUnknown));
+        }
+
+        return elements.toArray();
+    }
+}
@@ -45,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
@@ -52,6 +53,8 @@ public class JsonTreeRowRecordReader extends AbstractJsonRowRecordReader {
 
     private final RecordSchema schema;
 
+    private Set<String> selectedFieldNames;
+
     public JsonTreeRowRecordReader(
             final InputStream in,
             final ComponentLog logger,
@@ -138,6 +141,33 @@ public class JsonTreeRowRecordReader extends AbstractJsonRowRecordReader {
         final Map<String, Object> values = new LinkedHashMap<>(schema.getFieldCount() * 2);
         final JsonNode jsonNodeForSerialization;
 
+        // Field selection applies only to the top-level fields. The serialized form is not retained for a partially read Record.
+        final Set<String> fieldNamesToRead = fieldNamePrefix == null ? selectedFieldNames : null;
+        if (fieldNamesToRead != null) {
+            for (final RecordField recordField : schema.getFields()) {
+                final String fieldName = recordField.getFieldName();
+                if (!fieldNamesToRead.contains(fieldName)) {
+                    continue;
+                }
+
+                final JsonNode childNode = getChildNode(jsonNode, recordField);
+                if (childNode == null) {
+                    continue;
+                }
+
+                final Object value;
+                if (coerceTypes) {
+                    value = convertField(childNode, fieldName, recordField.getDataType(), dropUnknown);
+                } else {
+                    value = getRawNodeValue(childNode, recordField.getDataType(), fieldName);
+                }
+
+                values.put(fieldName, value);
+            }
+
+            return new MapRecord(schema, values, false, dropUnknown);
+        }
+
         if (dropUnknown) {
             jsonNodeForSerialization = jsonNode.deepCopy();
 
@@ -283,6 +313,19 @@ public class JsonTreeRowRecordReader extends AbstractJsonRowRecordReader {
         return null;
     }
 
+    @Override
+    public boolean selectFields(final Set<String> fieldNames) {
+        this.selectedFieldNames = fieldNames == null ? null : Set.copyOf(fieldNames);
+        return selectedFieldNames != null;
+    }
+
+    /**
+     * @return the names of the top-level fields that should be read, or <code>null</code> if all fields should be read
+     */
+    protected Set<String> getSelectedFieldNames() {
+        return selectedFieldNames;
+    }
+
     @Override
     public RecordSchema getSchema() {
         return schema;
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.json;
+
+import org.apache.nifi.components.DescribedValue;
+
+public enum ParsingStrategy implements DescribedValue {
+    TREE(
+            "Tree",
+            "Reads each JSON object into an intermediate tree before converting it into a Record. All fields are read, including fields that are not in the schema."
+    ),
+    STREAMING(
+            "Streaming",
+            "Converts the JSON tokens of each object directly into the fields of the schema, without building an intermediate tree. "
+                    + "Fields that are not in the schema are skipped without being read, so they are not available to Processors that inspect the Record. "
+                    + "Uses less memory and CPU than the Tree strategy, particularly for wide objects."
+    );
+
+    private final String displayName;
+    private final String description;
+
+    ParsingStrategy(final String displayName, final String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String getValue() {
+        return name();
+    }
+}
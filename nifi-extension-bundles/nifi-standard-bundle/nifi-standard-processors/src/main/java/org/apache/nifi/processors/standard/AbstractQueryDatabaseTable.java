@@ -21,6 +21,7 @@ import org.apache.nifi.annotation.lifecycle.OnScheduled;
 import org.apache.nifi.annotation.lifecycle.OnStopped;
 import org.apache.nifi.components.AllowableValue;
 import org.apache.nifi.components.PropertyDescriptor;
+import org.apache.nifi.components.PropertyValue;
 import org.apache.nifi.components.ValidationContext;
 import org.apache.nifi.components.ValidationResult;
 import org.apache.nifi.components.state.Scope;
@@ -42,13 +43,17 @@ import org.apache.nifi.util.StopWatch;
 import org.apache.nifi.util.db.JdbcCommon;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.text.ParseException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -57,7 +62,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -177,6 +189,25 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
             .defaultValue(INITIAL_LOAD_STRATEGY_ALL_ROWS.getValue())
             .build();
 
+    public static final PropertyDescriptor PARALLEL_PARTITION_COUNT = new PropertyDescriptor.Builder()
+            .name("Parallel Partition Count")
+            .description("The number of partitions to fetch concurrently. When greater than 1, a single Maximum-value Column of an integer, date or timestamp type is required and "
+                    + "a Custom Query must not be set. The range of new values of the Maximum-value Column is split into this number of contiguous ranges, and each range is "
+                    + "queried on its own connection from the Database Connection Pooling Service and written to its own FlowFiles concurrently. The connection pool should allow at "
+                    + "least this many connections. The ranges that have been fetched are recorded in the processor state, so an execution that fails part way through resumes "
+                    + "with the remaining ranges. The observed maximum value is only stored once every range has been fetched. A value of 1 fetches all rows with a single query.")
+            .defaultValue("1")
+            .required(true)
+            .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+            .expressionLanguageSupported(ExpressionLanguageScope.ENVIRONMENT)
+            .build();
+
+    // State keys recording the progress of a parallel fetch are the maximum value key of the partitioning column followed by one of these names
+    private static final String PARTITION_STATE_PREFIX = "partition.";
+    private static final String PARTITION_UPPER_BOUND = PARTITION_STATE_PREFIX + "upper.bound";
+    private static final String PARTITION_BOUNDARIES = PARTITION_STATE_PREFIX + "boundaries";
+    private static final String PARTITION_COMPLETED = PARTITION_STATE_PREFIX + "completed";
+
     @Override
     public Set<Relationship> getRelationships() {
         return relationships;
@@ -214,6 +245,27 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
                     .build());
         }
 
+        final Integer parallelPartitionCount = validationContext.getProperty(PARALLEL_PARTITION_COUNT).evaluateAttributeExpressions().asInteger();
+        if (parallelPartitionCount != null && parallelPartitionCount > 1) {
+            final PropertyValue maxValueColumnNamesProperty = validationContext.getProperty(MAX_VALUE_COLUMN_NAMES);
+            if (!maxValueColumnNames || (!maxValueColumnNamesProperty.isExpressionLanguagePresent() && maxValueColumnNamesProperty.getValue().contains(","))) {
+                results.add(new ValidationResult.Builder().valid(false)
+                        .subject(PARALLEL_PARTITION_COUNT.getDisplayName())
+                        .input(String.valueOf(parallelPartitionCount))
+                        .explanation(String.format("'%s' greater than 1 requires '%s' to be set to a single column", PARALLEL_PARTITION_COUNT.getDisplayName(),
+                                MAX_VALUE_COLUMN_NAMES.getDisplayName()))
+                        .build());
+            }
+            if (validationContext.getProperty(SQL_QUERY).isSet()) {
+                results.add(new ValidationResult.Builder().valid(false)
+                        .subject(PARALLEL_PARTITION_COUNT.getDisplayName())
+                        .input(String.valueOf(parallelPartitionCount))
+                        .explanation(String.format("'%s' greater than 1 cannot be used when '%s' is set", PARALLEL_PARTITION_COUNT.getDisplayName(),
+                                SQL_QUERY.getDisplayName()))
+                        .build());
+            }
+        }
+
         final Boolean propertyAutoCommit = validationContext.getProperty(AUTO_COMMIT).evaluateAttributeExpressions().asBoolean();
         final Integer fetchSize = validationContext.getProperty(FETCH_SIZE).evaluateAttributeExpressions().asInteger();
         final DatabaseAdapter dbAdapter = dbAdapters.get(validationContext.getProperty(DB_TYPE).getValue());
@@ -266,19 +318,13 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
         final String initialLoadStrategy = context.getProperty(INITIAL_LOAD_STRATEGY).getValue();
         final String customWhereClause = context.getProperty(WHERE_CLAUSE).evaluateAttributeExpressions().getValue();
         final Integer queryTimeout = context.getProperty(QUERY_TIMEOUT).evaluateAttributeExpressions().asTimePeriod(TimeUnit.SECONDS).intValue();
-        final Integer fetchSize = context.getProperty(FETCH_SIZE).evaluateAttributeExpressions().asInteger();
         final Integer maxRowsPerFlowFile = context.getProperty(MAX_ROWS_PER_FLOW_FILE).evaluateAttributeExpressions().asInteger();
         final Integer outputBatchSizeField = context.getProperty(OUTPUT_BATCH_SIZE).evaluateAttributeExpressions().asInteger();
         final int outputBatchSize = outputBatchSizeField == null ? 0 : outputBatchSizeField;
-        final Integer maxFragments = context.getProperty(MAX_FRAGMENTS).isSet()
-                ? context.getProperty(MAX_FRAGMENTS).evaluateAttributeExpressions().asInteger()
-                : 0;
         final Integer transIsolationLevel = context.getProperty(TRANS_ISOLATION_LEVEL).isSet()
                 ? context.getProperty(TRANS_ISOLATION_LEVEL).asInteger()
                 : null;
 
-        SqlWriter sqlWriter = configureSqlWriter(session, context);
-
         final StateMap stateMap;
         try {
             stateMap = session.getState(Scope.CLUSTER);
@@ -345,7 +391,94 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
             }
         }
 
+        final Integer partitionColumnType = getPartitionColumnType(context, dbAdapter, tableName, sqlQuery, maxValueColumnNameList);
+        if (partitionColumnType != null) {
+            try {
+                fetchPartitions(context, sessionFactory, dbcpService, dbAdapter, tableName, columnNames, maxValueColumnNameList.getFirst(), partitionColumnType,
+                        customWhereClause, statePropertyMap);
+            } catch (final ProcessException | SQLException e) {
+                logger.error("Unable to fetch partitions of table {}", tableName, e);
+                context.yield();
+            } finally {
+                try {
+                    // Update the state
+                    session.setState(statePropertyMap, Scope.CLUSTER);
+                } catch (IOException ioe) {
+                    getLogger().error("{} failed to update State Manager, maximum observed values will not be recorded", this, ioe);
+                }
+
+                session.commitAsync();
+            }
+            return;
+        }
+
+        // Discard any partition progress left behind by a previous parallel fetch, as the query below covers all partitions
+        statePropertyMap.keySet().removeIf(AbstractQueryDatabaseTable::isPartitionStateKey);
+
         final String selectQuery = getQuery(dbAdapter, tableName, sqlQuery, columnNames, maxValueColumnNameList, customWhereClause, statePropertyMap);
+
+        try {
+            // Max values will be updated in the state property map by the callback
+            final MaxValueResultSetRowCollector maxValCollector = new MaxValueResultSetRowCollector(tableName, statePropertyMap, dbAdapter);
+            final int fragmentCount = fetchRows(context, session, dbcpService, dbAdapter, selectQuery, tableName, resultSetFlowFiles, maxValCollector);
+
+            // If no rows were returned, yield
+            if (fragmentCount == 0) {
+                context.yield();
+            }
+
+            // Apply state changes from the Max Value tracker
+            maxValCollector.applyStateChanges();
+
+            // Even though the maximum value and total count are known at this point, to maintain consistent behavior if Output Batch Size is set, do not store the attributes
+            if (outputBatchSize == 0) {
+                addMaxValueAttributes(session, resultSetFlowFiles, statePropertyMap, maxRowsPerFlowFile > 0 ? fragmentCount : null);
+            }
+
+            session.transfer(resultSetFlowFiles, REL_SUCCESS);
+
+        } catch (final ProcessException | SQLException e) {
+            logger.error("Unable to execute SQL select query {} due to {}", selectQuery, e);
+            if (!resultSetFlowFiles.isEmpty()) {
+                session.remove(resultSetFlowFiles);
+            }
+            context.yield();
+        } finally {
+            try {
+                // Update the state
+                session.setState(statePropertyMap, Scope.CLUSTER);
+            } catch (IOException ioe) {
+                getLogger().error("{} failed to update State Manager, maximum observed values will not be recorded", this, ioe);
+            }
+
+            session.commitAsync();
+        }
+    }
+
+    /**
+     * Executes the given query on a connection from the pool and writes the result set to one or more FlowFiles, honoring the Max Rows Per Flow File,
+     * Output Batch Size and Maximum Number of Fragments properties. FlowFiles that have not yet been transferred are added to the given list.
+     *
+     * @return the number of non-empty FlowFiles (fragments) written
+     */
+    private int fetchRows(final ProcessContext context, final ProcessSession session, final DBCPService dbcpService, final DatabaseAdapter dbAdapter,
+                          final String selectQuery, final String tableName, final List<FlowFile> resultSetFlowFiles,
+                          final MaxValueResultSetRowCollector maxValCollector) throws SQLException {
+        final ComponentLog logger = getLogger();
+
+        final Integer queryTimeout = context.getProperty(QUERY_TIMEOUT).evaluateAttributeExpressions().asTimePeriod(TimeUnit.SECONDS).intValue();
+        final Integer fetchSize = context.getProperty(FETCH_SIZE).evaluateAttributeExpressions().asInteger();
+        final Integer maxRowsPerFlowFile = context.getProperty(MAX_ROWS_PER_FLOW_FILE).evaluateAttributeExpressions().asInteger();
+        final Integer outputBatchSizeField = context.getProperty(OUTPUT_BATCH_SIZE).evaluateAttributeExpressions().asInteger();
+        final int outputBatchSize = outputBatchSizeField == null ? 0 : outputBatchSizeField;
+        final Integer maxFragments = context.getProperty(MAX_FRAGMENTS).isSet()
+                ? context.getProperty(MAX_FRAGMENTS).evaluateAttributeExpressions().asInteger()
+                : 0;
+        final Integer transIsolationLevel = context.getProperty(TRANS_ISOLATION_LEVEL).isSet()
+                ? context.getProperty(TRANS_ISOLATION_LEVEL).asInteger()
+                : null;
+
+        final SqlWriter sqlWriter = configureSqlWriter(session, context);
         final StopWatch stopWatch = new StopWatch(true);
         final String fragmentIdentifier = UUID.randomUUID().toString();
 
@@ -399,8 +532,6 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
 
             try (final ResultSet resultSet = st.executeQuery(selectQuery)) {
                 int fragmentIndex = 0;
-                // Max values will be updated in the state property map by the callback
-                final MaxValueResultSetRowCollector maxValCollector = new MaxValueResultSetRowCollector(tableName, statePropertyMap, dbAdapter);
 
                 while (true) {
                     final AtomicLong nrOfRows = new AtomicLong(0L);
@@ -449,10 +580,6 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
                     } else {
                         // If there were no rows returned, don't send the flowfile
                         session.remove(fileToProcess);
-                        // If no rows and this was first FlowFile, yield
-                        if (fragmentIndex == 0) {
-                            context.yield();
-                        }
                         break;
                     }
 
@@ -472,32 +599,7 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
                     }
                 }
 
-                // Apply state changes from the Max Value tracker
-                maxValCollector.applyStateChanges();
-
-                // Even though the maximum value and total count are known at this point, to maintain consistent behavior if Output Batch Size is set, do not store the attributes
-                if (outputBatchSize == 0) {
-                    for (int i = 0; i < resultSetFlowFiles.size(); i++) {
-                        final Map<String, String> newAttributesMap = new HashMap<>();
-
-                        // Add maximum values as attributes
-                        for (Map.Entry<String, String> entry : statePropertyMap.entrySet()) {
-                            // Get just the column name from the key
-                            String key = entry.getKey();
-                            String colName = key.substring(key.lastIndexOf(NAMESPACE_DELIMITER) + NAMESPACE_DELIMITER.length());
-                            newAttributesMap.put("maxvalue." + colName, entry.getValue());
-                        }
-
-                        // Set count for all FlowFiles
-                        if (maxRowsPerFlowFile > 0) {
-                            newAttributesMap.put(FRAGMENT_COUNT, Integer.toString(fragmentIndex));
-                        }
-
-                        resultSetFlowFiles.set(i, session.putAllAttributes(resultSetFlowFiles.get(i), newAttributesMap));
-                    }
-                }
-            } catch (final SQLException e) {
-                throw e;
+                return fragmentIndex;
             } finally {
                 if (con.getAutoCommit() != originalAutoCommit) {
                     try {
@@ -509,25 +611,247 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
                     }
                 }
             }
+        }
+    }
 
-            session.transfer(resultSetFlowFiles, REL_SUCCESS);
+    private void addMaxValueAttributes(final ProcessSession session, final List<FlowFile> flowFiles, final Map<String, String> statePropertyMap, final Integer fragmentCount) {
+        for (int i = 0; i < flowFiles.size(); i++) {
+            final Map<String, String> newAttributesMap = new HashMap<>();
 
-        } catch (final ProcessException | SQLException e) {
-            logger.error("Unable to execute SQL select query {} due to {}", selectQuery, e);
-            if (!resultSetFlowFiles.isEmpty()) {
-                session.remove(resultSetFlowFiles);
+            // Add maximum values as attributes
+            for (Map.Entry<String, String> entry : statePropertyMap.entrySet()) {
+                // Get just the column name from the key
+                String key = entry.getKey();
+                String colName = key.substring(key.lastIndexOf(NAMESPACE_DELIMITER) + NAMESPACE_DELIMITER.length());
+                newAttributesMap.put("maxvalue." + colName, entry.getValue());
+            }
+
+            // Set count for all FlowFiles
+            if (fragmentCount != null) {
+                newAttributesMap.put(FRAGMENT_COUNT, Integer.toString(fragmentCount));
+            }
+
+            flowFiles.set(i, session.putAllAttributes(flowFiles.get(i), newAttributesMap));
+        }
+    }
+
+    /**
+     * Returns the SQL type of the Maximum-value Column if the rows should be fetched in parallel partitions, or null if a single query should be used.
+     * Parallel fetching requires a single Maximum-value Column of an integer, date or timestamp type and no custom query.
+     */
+    private Integer getPartitionColumnType(final ProcessContext context, final DatabaseAdapter dbAdapter, final String tableName, final String sqlQuery,
+                                           final List<String> maxValueColumnNameList) {
+        final int partitionCount = context.getProperty(PARALLEL_PARTITION_COUNT).evaluateAttributeExpressions().asInteger();
+        if (partitionCount < 2 || !StringUtils.isEmpty(sqlQuery) || maxValueColumnNameList == null || maxValueColumnNameList.size() != 1) {
+            return null;
+        }
+
+        final Integer type = columnTypeMap.get(getStateKey(tableName, maxValueColumnNameList.getFirst(), dbAdapter));
+        if (type == null) {
+            return null;
+        }
+        return switch (type) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.DATE, Types.TIMESTAMP -> type;
+            default -> {
+                getLogger().debug("Maximum-value Column {} of type {} does not support partitioning; fetching with a single query", maxValueColumnNameList.getFirst(), type);
+                yield null;
+            }
+        };
+    }
+
+    /**
+     * Splits the new rows of the table into contiguous ranges of the given column and fetches each range concurrently, using a separate connection
+     * and session per range. The range boundaries and the completed ranges are recorded in the state so that an execution that fails part way through
+     * resumes with the remaining ranges. Each range records its completion in the state committed with its FlowFiles, and the maximum value is only
+     * advanced once every range has been fetched.
+     */
+    private void fetchPartitions(final ProcessContext context, final ProcessSessionFactory sessionFactory, final DBCPService dbcpService, final DatabaseAdapter dbAdapter,
+                                 final String tableName, final String columnNames, final String columnName, final int columnType, final String customWhereClause,
+                                 final Map<String, String> statePropertyMap) throws SQLException {
+        final ComponentLog logger = getLogger();
+        final String maxValueKey = getStateKey(tableName, columnName, dbAdapter);
+        final String upperBoundKey = maxValueKey + NAMESPACE_DELIMITER + PARTITION_UPPER_BOUND;
+        final String boundariesKey = maxValueKey + NAMESPACE_DELIMITER + PARTITION_BOUNDARIES;
+        final String completedKey = maxValueKey + NAMESPACE_DELIMITER + PARTITION_COMPLETED;
+
+        if (!statePropertyMap.containsKey(upperBoundKey)) {
+            // Determine the range of new values, bounding the upper end so that rows added while fetching are picked up by the next execution
+            final String boundsColumns = String.format("MIN(%s) MIN_%s, MAX(%s) %s", columnName, columnName, columnName, columnName);
+            final String boundsQuery = getQuery(dbAdapter, tableName, null, boundsColumns, List.of(columnName), customWhereClause, statePropertyMap);
+            try (final Connection con = dbcpService.getConnection(Collections.emptyMap());
+                 final Statement st = con.createStatement()) {
+                st.setQueryTimeout(context.getProperty(QUERY_TIMEOUT).evaluateAttributeExpressions().asTimePeriod(TimeUnit.SECONDS).intValue());
+                try (final ResultSet resultSet = st.executeQuery(boundsQuery)) {
+                    if (!resultSet.next() || resultSet.getObject(2) == null) {
+                        // No new rows
+                        context.yield();
+                        return;
+                    }
+
+                    final int partitionCount = context.getProperty(PARALLEL_PARTITION_COUNT).evaluateAttributeExpressions().asInteger();
+                    final List<Long> boundaries = getPartitionBoundaries(getPartitionValue(resultSet, 1, columnType), getPartitionValue(resultSet, 2, columnType), partitionCount);
+                    statePropertyMap.put(upperBoundKey, getMaxValueFromRow(resultSet, 2, columnType, null, dbAdapter.getName()));
+                    statePropertyMap.put(boundariesKey, boundaries.stream().map(String::valueOf).collect(Collectors.joining(",")));
+                    statePropertyMap.put(completedKey, "");
+                }
+            } catch (final ParseException | IOException e) {
+                throw new ProcessException("Unable to determine the range of " + columnName + " using query " + boundsQuery, e);
+            }
+        }
+
+        final String upperBound = statePropertyMap.get(upperBoundKey);
+        final List<Long> boundaries = parseLongs(statePropertyMap.get(boundariesKey));
+        final Set<Integer> completedPartitions = new ConcurrentSkipListSet<>(parseLongs(statePropertyMap.get(completedKey)).stream().map(Long::intValue).toList());
+        final int partitionCount = boundaries.size() + 1;
+        final boolean initialFetch = StringUtils.isEmpty(statePropertyMap.get(maxValueKey));
+
+        // Every partition carries the maximum value that will be stored once all partitions have completed
+        final Map<String, String> maxValueAttributeMap = new HashMap<>(statePropertyMap);
+        maxValueAttributeMap.keySet().removeIf(AbstractQueryDatabaseTable::isPartitionStateKey);
+        maxValueAttributeMap.put(maxValueKey, upperBound);
+        final boolean addMaxValueAttributes = context.getProperty(OUTPUT_BATCH_SIZE).evaluateAttributeExpressions().asInteger() == 0;
+        final boolean addFragmentCount = context.getProperty(MAX_ROWS_PER_FLOW_FILE).evaluateAttributeExpressions().asInteger() > 0;
+
+        // Partition sessions replace the whole state when committed, so state updates and commits are made one partition at a time
+        final Map<String, String> partitionBaseState = new HashMap<>(statePropertyMap);
+        final Object partitionStateLock = new Object();
+
+        final Map<Integer, Future<?>> futures = new TreeMap<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(partitionCount - completedPartitions.size());
+        try {
+            for (int i = 0; i < partitionCount; i++) {
+                if (completedPartitions.contains(i)) {
+                    continue;
+                }
+
+                final List<String> rangeClauses = new ArrayList<>();
+                if (i > 0) {
+                    rangeClauses.add(columnName + " >= " + getPartitionLiteral(columnType, boundaries.get(i - 1), dbAdapter));
+                }
+                if (i < partitionCount - 1) {
+                    rangeClauses.add(columnName + " < " + getPartitionLiteral(columnType, boundaries.get(i), dbAdapter));
+                } else {
+                    rangeClauses.add(columnName + " <= " + getLiteralByType(columnType, upperBound, dbAdapter.getName()));
+                }
+                String partitionWhereClause = StringUtils.join(rangeClauses, " AND ");
+                if (i == 0 && initialFetch) {
+                    // Without a stored maximum value, a single query would also return rows with no value for the column
+                    partitionWhereClause = "(" + partitionWhereClause + ") OR " + columnName + " IS NULL";
+                }
+                if (customWhereClause != null) {
+                    partitionWhereClause = "(" + partitionWhereClause + ") AND (" + customWhereClause + ")";
+                }
+                final String partitionQuery = getQuery(dbAdapter, tableName, null, columnNames, List.of(columnName), partitionWhereClause, statePropertyMap);
+
+                final int partitionIndex = i;
+                futures.put(i, executor.submit(() -> {
+                    final ProcessSession partitionSession = sessionFactory.createSession();
+                    final List<FlowFile> partitionFlowFiles = new ArrayList<>();
+                    try {
+                        final int fragmentCount = fetchRows(context, partitionSession, dbcpService, dbAdapter, partitionQuery, tableName, partitionFlowFiles, null);
+                        if (addMaxValueAttributes) {
+                            addMaxValueAttributes(partitionSession, partitionFlowFiles, maxValueAttributeMap, addFragmentCount ? fragmentCount : null);
+                        }
+                        partitionSession.transfer(partitionFlowFiles, REL_SUCCESS);
+
+                        // Record the partition as fetched in the same commit as its FlowFiles
+                        synchronized (partitionStateLock) {
+                            final Set<Integer> partitionsCompleted = new TreeSet<>(completedPartitions);
+                            partitionsCompleted.add(partitionIndex);
+                            final Map<String, String> partitionState = new HashMap<>(partitionBaseState);
+                            applyPartitionProgress(partitionState, partitionsCompleted, partitionCount, maxValueKey, upperBound);
+                            partitionSession.setState(partitionState, Scope.CLUSTER);
+                            partitionSession.commitAsync();
+                            completedPartitions.add(partitionIndex);
+                        }
+                    } catch (final Throwable t) {
+                        partitionSession.rollback();
+                        throw t;
+                    }
+                    return null;
+                }));
+            }
+
+            for (final Map.Entry<Integer, Future<?>> entry : futures.entrySet()) {
+                try {
+                    entry.getValue().get();
+                } catch (final ExecutionException e) {
+                    logger.error("Unable to fetch partition {} of {} from table {}", entry.getKey(), partitionCount, tableName, e.getCause());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ProcessException("Interrupted while fetching partitions of table " + tableName, e);
+                }
             }
-            context.yield();
         } finally {
-            try {
-                // Update the state
-                session.setState(statePropertyMap, Scope.CLUSTER);
-            } catch (IOException ioe) {
-                getLogger().error("{} failed to update State Manager, maximum observed values will not be recorded", this, ioe);
+            // Wait for running partitions to finish so that any partition committed after this point is included in the stored state
+            executor.shutdownNow();
+            executor.close();
+
+            synchronized (partitionStateLock) {
+                applyPartitionProgress(statePropertyMap, completedPartitions, partitionCount, maxValueKey, upperBound);
             }
+        }
 
-            session.commitAsync();
+        if (completedPartitions.size() < partitionCount) {
+            context.yield();
+        }
+    }
+
+    /**
+     * Records the completed partitions in the given state, or removes the partition progress and advances the maximum value to the upper bound once
+     * all partitions have completed.
+     */
+    private static void applyPartitionProgress(final Map<String, String> state, final Set<Integer> completedPartitions, final int partitionCount,
+                                               final String maxValueKey, final String upperBound) {
+        if (completedPartitions.size() == partitionCount) {
+            state.keySet().removeIf(AbstractQueryDatabaseTable::isPartitionStateKey);
+            state.put(maxValueKey, upperBound);
+        } else {
+            state.put(maxValueKey + NAMESPACE_DELIMITER + PARTITION_COMPLETED, StringUtils.join(completedPartitions, ","));
+        }
+    }
+
+    /**
+     * Returns the values at which to split the range [lower, upper] into at most the given number of contiguous partitions of roughly equal size.
+     */
+    static List<Long> getPartitionBoundaries(final long lower, final long upper, final int partitionCount) {
+        final BigInteger lowerValue = BigInteger.valueOf(lower);
+        final BigInteger rangeSize = BigInteger.valueOf(upper).subtract(lowerValue).add(BigInteger.ONE);
+        final BigInteger count = rangeSize.min(BigInteger.valueOf(partitionCount));
+
+        final List<Long> boundaries = new ArrayList<>();
+        for (int i = 1; i < count.intValue(); i++) {
+            boundaries.add(lowerValue.add(rangeSize.multiply(BigInteger.valueOf(i)).divide(count)).longValue());
         }
+        return boundaries;
+    }
+
+    private static long getPartitionValue(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        return switch (columnType) {
+            case Types.DATE -> resultSet.getDate(columnIndex).toLocalDate().toEpochDay();
+            case Types.TIMESTAMP -> resultSet.getTimestamp(columnIndex).getTime();
+            default -> resultSet.getLong(columnIndex);
+        };
+    }
+
+    private static String getPartitionLiteral(final int columnType, final long value, final DatabaseAdapter dbAdapter) {
+        final String formattedValue = switch (columnType) {
+            case Types.DATE -> LocalDate.ofEpochDay(value).toString();
+            case Types.TIMESTAMP -> new Timestamp(value).toString();
+            default -> Long.toString(value);
+        };
+        return getLiteralByType(columnType, formattedValue, dbAdapter.getName());
+    }
+
+    private static List<Long> parseLongs(final String value) {
+        if (StringUtils.isEmpty(value)) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(Long::valueOf).toList();
+    }
+
+    private static boolean isPartitionStateKey(final String key) {
+        return key.contains(NAMESPACE_DELIMITER + PARTITION_STATE_PREFIX);
     }
 
     protected String getQuery(DatabaseAdapter dbAdapter, String tableName, String columnNames, List<String> maxValColumnNames,
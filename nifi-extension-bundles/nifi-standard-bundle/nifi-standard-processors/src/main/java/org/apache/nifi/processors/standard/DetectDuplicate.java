@@ -45,7 +45,11 @@ import org.apache.nifi.processor.util.StandardValidators;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -108,12 +112,22 @@ public class DetectDuplicate extends AbstractProcessor {
             .defaultValue("true")
             .build();
 
+    public static final PropertyDescriptor BATCH_SIZE = new PropertyDescriptor.Builder()
+            .name("Batch Size")
+            .description("The maximum number of FlowFiles to process in each invocation. The Cache Entry Identifiers of all FlowFiles in a batch are "
+                    + "checked using a single request to the Distributed Cache Service when the service supports batch operations.")
+            .required(true)
+            .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+            .defaultValue("1")
+            .build();
+
     private static final List<PropertyDescriptor> PROPERTIES = List.of(
             CACHE_ENTRY_IDENTIFIER,
             FLOWFILE_DESCRIPTION,
             AGE_OFF_DURATION,
             DISTRIBUTED_CACHE_SERVICE,
-            CACHE_IDENTIFIER
+            CACHE_IDENTIFIER,
+            BATCH_SIZE
     );
 
     public static final Relationship REL_DUPLICATE = new Relationship.Builder()
@@ -151,66 +165,116 @@ public class DetectDuplicate extends AbstractProcessor {
 
     @Override
     public void onTrigger(final ProcessContext context, final ProcessSession session) throws ProcessException {
-        FlowFile flowFile = session.get();
-        if (flowFile == null) {
+        final int batchSize = context.getProperty(BATCH_SIZE).asInteger();
+        final List<FlowFile> flowFiles = session.get(batchSize);
+        if (flowFiles.isEmpty()) {
             return;
         }
 
         final ComponentLog logger = getLogger();
-        final String cacheKey = context.getProperty(CACHE_ENTRY_IDENTIFIER).evaluateAttributeExpressions(flowFile).getValue();
-        if (StringUtils.isBlank(cacheKey)) {
-            logger.error("FlowFile {} has no attribute for given Cache Entry Identifier", flowFile);
-            flowFile = session.penalize(flowFile);
-            session.transfer(flowFile, REL_FAILURE);
+        final List<FlowFile> keyedFlowFiles = new ArrayList<>(flowFiles.size());
+        final List<String> cacheKeys = new ArrayList<>(flowFiles.size());
+        final Map<String, CacheValue> cacheValues = new LinkedHashMap<>();
+        final long now = System.currentTimeMillis();
+        for (final FlowFile flowFile : flowFiles) {
+            final String cacheKey = context.getProperty(CACHE_ENTRY_IDENTIFIER).evaluateAttributeExpressions(flowFile).getValue();
+            if (StringUtils.isBlank(cacheKey)) {
+                logger.error("FlowFile {} has no attribute for given Cache Entry Identifier", flowFile);
+                session.transfer(session.penalize(flowFile), REL_FAILURE);
+                continue;
+            }
+
+            keyedFlowFiles.add(flowFile);
+            cacheKeys.add(cacheKey);
+            if (!cacheValues.containsKey(cacheKey)) {
+                final String flowFileDescription = context.getProperty(FLOWFILE_DESCRIPTION).evaluateAttributeExpressions(flowFile).getValue();
+                cacheValues.put(cacheKey, new CacheValue(flowFileDescription, now));
+            }
+        }
+
+        if (keyedFlowFiles.isEmpty()) {
             return;
         }
+
         final DistributedMapCacheClient cache = context.getProperty(DISTRIBUTED_CACHE_SERVICE).asControllerService(DistributedMapCacheClient.class);
-        final Long durationMS = context.getProperty(AGE_OFF_DURATION).asTimePeriod(TimeUnit.MILLISECONDS);
-        final long now = System.currentTimeMillis();
+        final boolean shouldCacheIdentifier = context.getProperty(CACHE_IDENTIFIER).asBoolean();
 
+        // Look up all distinct identifiers using a single cache request when the batch contains more than one identifier
+        final Map<String, CacheValue> originalCacheValues;
         try {
-            final String flowFileDescription = context.getProperty(FLOWFILE_DESCRIPTION).evaluateAttributeExpressions(flowFile).getValue();
-            final CacheValue cacheValue = new CacheValue(flowFileDescription, now);
-            final CacheValue originalCacheValue;
-
-            final boolean shouldCacheIdentifier = context.getProperty(CACHE_IDENTIFIER).asBoolean();
-            if (shouldCacheIdentifier) {
-                originalCacheValue = cache.getAndPutIfAbsent(cacheKey, cacheValue, keySerializer, valueSerializer, valueDeserializer);
-            } else {
-                originalCacheValue = cache.get(cacheKey, keySerializer, valueDeserializer);
+            originalCacheValues = getOriginalCacheValues(cache, cacheValues, shouldCacheIdentifier);
+        } catch (final IOException e) {
+            for (final FlowFile flowFile : keyedFlowFiles) {
+                session.transfer(session.penalize(flowFile), REL_FAILURE);
             }
+            logger.error("Unable to communicate with cache when processing {} FlowFiles", keyedFlowFiles.size(), e);
+            return;
+        }
 
-            boolean duplicate = originalCacheValue != null;
-            if (duplicate && durationMS != null && (now >= originalCacheValue.getEntryTimeMS() + durationMS)) {
-                boolean status = cache.remove(cacheKey, keySerializer);
-                logger.debug("Removal of expired cached entry with key {} returned {}", cacheKey, status);
+        final Long durationMS = context.getProperty(AGE_OFF_DURATION).asTimePeriod(TimeUnit.MILLISECONDS);
+        for (int i = 0; i < keyedFlowFiles.size(); i++) {
+            FlowFile flowFile = keyedFlowFiles.get(i);
+            final String cacheKey = cacheKeys.get(i);
+            final CacheValue cacheValue = cacheValues.get(cacheKey);
+            final CacheValue originalCacheValue = originalCacheValues.get(cacheKey);
+
+            try {
+                boolean duplicate = originalCacheValue != null;
+                if (duplicate && durationMS != null && (now >= originalCacheValue.getEntryTimeMS() + durationMS)) {
+                    boolean status = cache.remove(cacheKey, keySerializer);
+                    logger.debug("Removal of expired cached entry with key {} returned {}", cacheKey, status);
+
+                    // both should typically result in duplicate being false...but, better safe than sorry
+                    if (shouldCacheIdentifier) {
+                        duplicate = !cache.putIfAbsent(cacheKey, cacheValue, keySerializer, valueSerializer);
+                    } else {
+                        duplicate = cache.containsKey(cacheKey, keySerializer);
+                    }
+                }
 
-                // both should typically result in duplicate being false...but, better safe than sorry
-                if (shouldCacheIdentifier) {
-                    duplicate = !cache.putIfAbsent(cacheKey, cacheValue, keySerializer, valueSerializer);
+                if (duplicate) {
+                    session.getProvenanceReporter().route(flowFile, REL_DUPLICATE, "Duplicate of: " + ORIGINAL_DESCRIPTION_ATTRIBUTE_NAME);
+                    String originalFlowFileDescription = originalCacheValue.getDescription();
+                    flowFile = session.putAttribute(flowFile, ORIGINAL_DESCRIPTION_ATTRIBUTE_NAME, originalFlowFileDescription);
+                    session.transfer(flowFile, REL_DUPLICATE);
+                    logger.info("Found {} to be a duplicate of FlowFile with description {}", flowFile, originalFlowFileDescription);
+                    session.adjustCounter("Duplicates Detected", 1L, false);
                 } else {
-                    duplicate = cache.containsKey(cacheKey, keySerializer);
+                    // Subsequent FlowFiles in the batch with the same identifier are duplicates of this FlowFile when cached
+                    originalCacheValues.put(cacheKey, shouldCacheIdentifier ? cacheValue : null);
+
+                    session.getProvenanceReporter().route(flowFile, REL_NON_DUPLICATE);
+                    session.transfer(flowFile, REL_NON_DUPLICATE);
+                    logger.info("Could not find a duplicate entry in cache for {}; routing to non-duplicate", flowFile);
+                    session.adjustCounter("Non-Duplicate Files Processed", 1L, false);
                 }
+            } catch (final IOException e) {
+                flowFile = session.penalize(flowFile);
+                session.transfer(flowFile, REL_FAILURE);
+                logger.error("Unable to communicate with cache when processing {}", flowFile, e);
             }
+        }
+    }
 
-            if (duplicate) {
-                session.getProvenanceReporter().route(flowFile, REL_DUPLICATE, "Duplicate of: " + ORIGINAL_DESCRIPTION_ATTRIBUTE_NAME);
-                String originalFlowFileDescription = originalCacheValue.getDescription();
-                flowFile = session.putAttribute(flowFile, ORIGINAL_DESCRIPTION_ATTRIBUTE_NAME, originalFlowFileDescription);
-                session.transfer(flowFile, REL_DUPLICATE);
-                logger.info("Found {} to be a duplicate of FlowFile with description {}", flowFile, originalFlowFileDescription);
-                session.adjustCounter("Duplicates Detected", 1L, false);
+    private Map<String, CacheValue> getOriginalCacheValues(final DistributedMapCacheClient cache, final Map<String, CacheValue> cacheValues,
+                                                           final boolean shouldCacheIdentifier) throws IOException {
+        final Map<String, CacheValue> originalCacheValues;
+        if (cacheValues.size() == 1) {
+            final Map.Entry<String, CacheValue> entry = cacheValues.entrySet().iterator().next();
+            final CacheValue originalCacheValue;
+            if (shouldCacheIdentifier) {
+                originalCacheValue = cache.getAndPutIfAbsent(entry.getKey(), entry.getValue(), keySerializer, valueSerializer, valueDeserializer);
             } else {
-                session.getProvenanceReporter().route(flowFile, REL_NON_DUPLICATE);
-                session.transfer(flowFile, REL_NON_DUPLICATE);
-                logger.info("Could not find a duplicate entry in cache for {}; routing to non-duplicate", flowFile);
-                session.adjustCounter("Non-Duplicate Files Processed", 1L, false);
+                originalCacheValue = cache.get(entry.getKey(), keySerializer, valueDeserializer);
             }
-        } catch (final IOException e) {
-            flowFile = session.penalize(flowFile);
-            session.transfer(flowFile, REL_FAILURE);
-            logger.error("Unable to communicate with cache when processing {}", flowFile, e);
+            originalCacheValues = new HashMap<>();
+            originalCacheValues.put(entry.getKey(), originalCacheValue);
+        } else if (shouldCacheIdentifier) {
+            originalCacheValues = new HashMap<>(cache.getAndPutIfAbsentAll(cacheValues, keySerializer, valueSerializer, valueDeserializer));
+        } else {
+            originalCacheValues = new HashMap<>(cache.subMap(cacheValues.keySet(), keySerializer, valueDeserializer));
         }
+        return originalCacheValues;
     }
 
     private static class CacheValue {
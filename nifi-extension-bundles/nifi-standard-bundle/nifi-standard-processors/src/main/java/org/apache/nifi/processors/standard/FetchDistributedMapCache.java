@@ -52,7 +52,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -119,12 +120,22 @@ public class FetchDistributedMapCache extends AbstractProcessor {
             .defaultValue("UTF-8")
             .build();
 
+    public static final PropertyDescriptor BATCH_SIZE = new PropertyDescriptor.Builder()
+            .name("Batch Size")
+            .description("The maximum number of FlowFiles to process in each invocation. The values for all FlowFiles in a batch are "
+                    + "fetched using a single request to the Distributed Cache Service when the service supports batch operations.")
+            .required(true)
+            .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+            .defaultValue("1")
+            .build();
+
     private static final List<PropertyDescriptor> PROPERTIES = List.of(
             CACHE_ENTRY_IDENTIFIER,
             DISTRIBUTED_CACHE_SERVICE,
             PUT_CACHE_VALUE_IN_ATTRIBUTE,
             PUT_ATTRIBUTE_MAX_LENGTH,
-            CHARACTER_SET
+            CHARACTER_SET,
+            BATCH_SIZE
     );
 
     public static final Relationship REL_SUCCESS = new Relationship.Builder()
@@ -190,42 +201,92 @@ public class FetchDistributedMapCache extends AbstractProcessor {
 
     @Override
     public void onTrigger(final ProcessContext context, final ProcessSession session) throws ProcessException {
-        FlowFile flowFile = session.get();
-        if (flowFile == null) {
+        final int batchSize = context.getProperty(BATCH_SIZE).asInteger();
+        final List<FlowFile> flowFiles = session.get(batchSize);
+        if (flowFiles.isEmpty()) {
             return;
         }
 
         final ComponentLog logger = getLogger();
-        final String cacheKey = context.getProperty(CACHE_ENTRY_IDENTIFIER).evaluateAttributeExpressions(flowFile).getValue();
-        // This block retains the previous behavior when only one Cache Entry Identifier was allowed, so as not to change the expected error message
-        if (StringUtils.isBlank(cacheKey)) {
-            logger.error("FlowFile {} has no attribute for given Cache Entry Identifier", flowFile);
-            flowFile = session.penalize(flowFile);
-            session.transfer(flowFile, REL_FAILURE);
-            return;
-        }
-        List<String> cacheKeys = Arrays.stream(cacheKey.split(",")).filter(path -> !StringUtils.isEmpty(path)).map(String::trim).toList();
-        for (int i = 0; i < cacheKeys.size(); i++) {
-            if (StringUtils.isBlank(cacheKeys.get(i))) {
-                // Log first missing identifier, route to failure, and return
-                logger.error("FlowFile {} has no attribute for Cache Entry Identifier in position {}", flowFile, i);
+        final List<FlowFile> keyedFlowFiles = new ArrayList<>(flowFiles.size());
+        final List<String> flowFileCacheKeys = new ArrayList<>(flowFiles.size());
+        final Set<String> lookupKeys = new LinkedHashSet<>();
+        for (FlowFile flowFile : flowFiles) {
+            final String cacheKey = context.getProperty(CACHE_ENTRY_IDENTIFIER).evaluateAttributeExpressions(flowFile).getValue();
+            // This block retains the previous behavior when only one Cache Entry Identifier was allowed, so as not to change the expected error message
+            if (StringUtils.isBlank(cacheKey)) {
+                logger.error("FlowFile {} has no attribute for given Cache Entry Identifier", flowFile);
                 flowFile = session.penalize(flowFile);
                 session.transfer(flowFile, REL_FAILURE);
-                return;
+                continue;
             }
+            final List<String> cacheKeys = getCacheKeys(cacheKey);
+            final int blankPosition = cacheKeys.indexOf("");
+            if (blankPosition >= 0) {
+                // Log first missing identifier and route to failure
+                logger.error("FlowFile {} has no attribute for Cache Entry Identifier in position {}", flowFile, blankPosition);
+                flowFile = session.penalize(flowFile);
+                session.transfer(flowFile, REL_FAILURE);
+                continue;
+            }
+
+            keyedFlowFiles.add(flowFile);
+            flowFileCacheKeys.add(cacheKey);
+            if (cacheKeys.size() == 1) {
+                lookupKeys.add(cacheKey);
+            } else {
+                lookupKeys.addAll(cacheKeys);
+            }
+        }
+
+        if (keyedFlowFiles.isEmpty()) {
+            return;
         }
 
         final DistributedMapCacheClient cache = context.getProperty(DISTRIBUTED_CACHE_SERVICE).asControllerService(DistributedMapCacheClient.class);
 
+        // Fetch the values for all FlowFiles in the batch using a single cache request
+        final Map<String, byte[]> fetchedValues;
         try {
-            final Map<String, byte[]> cacheValues;
-            final boolean singleKey = cacheKeys.size() == 1;
-            if (singleKey) {
-                cacheValues = new HashMap<>(1);
-                cacheValues.put(cacheKeys.getFirst(), cache.get(cacheKey, keySerializer, valueDeserializer));
+            if (lookupKeys.size() == 1) {
+                final String lookupKey = lookupKeys.iterator().next();
+                fetchedValues = new HashMap<>(1);
+                fetchedValues.put(lookupKey, cache.get(lookupKey, keySerializer, valueDeserializer));
             } else {
-                cacheValues = cache.subMap(new HashSet<>(cacheKeys), keySerializer, valueDeserializer);
+                fetchedValues = cache.subMap(lookupKeys, keySerializer, valueDeserializer);
             }
+        } catch (final IOException e) {
+            for (FlowFile flowFile : keyedFlowFiles) {
+                flowFile = session.penalize(flowFile);
+                session.transfer(flowFile, REL_FAILURE);
+                logger.error("Unable to communicate with cache when processing {}", flowFile, e);
+            }
+            return;
+        }
+
+        for (int i = 0; i < keyedFlowFiles.size(); i++) {
+            final String cacheKey = flowFileCacheKeys.get(i);
+            final List<String> cacheKeys = getCacheKeys(cacheKey);
+            final Map<String, byte[]> cacheValues = new LinkedHashMap<>();
+            if (cacheKeys.size() == 1) {
+                cacheValues.put(cacheKeys.getFirst(), fetchedValues.get(cacheKey));
+            } else {
+                for (final String key : cacheKeys) {
+                    cacheValues.put(key, fetchedValues.get(key));
+                }
+            }
+            transferFlowFile(context, session, keyedFlowFiles.get(i), cacheKey, cacheKeys.size() == 1, cacheValues);
+        }
+    }
+
+    private List<String> getCacheKeys(final String cacheKey) {
+        return Arrays.stream(cacheKey.split(",")).filter(path -> !StringUtils.isEmpty(path)).map(String::trim).toList();
+    }
+
+    private void transferFlowFile(final ProcessContext context, final ProcessSession session, FlowFile flowFile, final String cacheKey,
+                                  final boolean singleKey, final Map<String, byte[]> cacheValues) {
+        final ComponentLog logger = getLogger();
+        try {
             boolean notFound = false;
             for (Map.Entry<String, byte[]> cacheValueEntry : cacheValues.entrySet()) {
                 final byte[] cacheValue = cacheValueEntry.getValue();
@@ -251,7 +312,7 @@ public class FetchDistributedMapCache extends AbstractProcessor {
 
                         flowFile = session.putAttribute(flowFile, attributeName, attributeValue);
 
-                    } else if (cacheKeys.size() > 1) {
+                    } else if (!singleKey) {
                         throw new IOException("Multiple Cache Value Identifiers specified without Put Cache Value In Attribute set");
                     } else {
                         // Write single value to content
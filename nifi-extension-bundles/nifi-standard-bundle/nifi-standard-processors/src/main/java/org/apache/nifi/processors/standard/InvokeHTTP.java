@@ -21,8 +21,11 @@ import com.burgstaller.okhttp.CachingAuthenticatorDecorator;
 import com.burgstaller.okhttp.digest.CachingAuthenticator;
 import com.burgstaller.okhttp.digest.DigestAuthenticator;
 import okhttp3.Cache;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.ConnectionPool;
 import okhttp3.Credentials;
+import okhttp3.Dispatcher;
 import okhttp3.Handshake;
 import okhttp3.Headers;
 import okhttp3.JavaNetCookieJar;
@@ -88,6 +91,7 @@ import javax.annotation.Nullable;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.X509TrustManager;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -114,7 +118,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
@@ -384,6 +390,24 @@ public class InvokeHTTP extends AbstractProcessor {
             .addValidator(StandardValidators.NON_EMPTY_VALIDATOR)
             .build();
 
+    public static final PropertyDescriptor REQUEST_BATCH_SIZE = new PropertyDescriptor.Builder()
+            .name("Request Batch Size")
+            .description("Maximum number of FlowFiles processed in a single invocation. When greater than 1, requests for the FlowFiles are sent asynchronously, "
+                    + "up to the number of in-flight requests configured, and each FlowFile is routed as soon as its response has been received. "
+                    + "The content of each FlowFile sent as a request body is read into memory before the request is sent.")
+            .required(true)
+            .defaultValue("1")
+            .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+            .build();
+
+    public static final PropertyDescriptor REQUEST_IN_FLIGHT_LIMIT = new PropertyDescriptor.Builder()
+            .name("Request In-Flight Limit")
+            .description("Maximum number of asynchronous requests awaiting a response at the same time when the Request Batch Size is greater than 1.")
+            .required(true)
+            .defaultValue("10")
+            .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+            .build();
+
     public static final PropertyDescriptor RESPONSE_BODY_ATTRIBUTE_NAME = new PropertyDescriptor.Builder()
             .name("Response Body Attribute Name")
             .description("FlowFile attribute name used to write an HTTP response body for FlowFiles transferred to the Original relationship.")
@@ -508,6 +532,8 @@ public class InvokeHTTP extends AbstractProcessor {
             REQUEST_DATE_HEADER_ENABLED,
             REQUEST_HEADER_ATTRIBUTES_PATTERN,
             REQUEST_USER_AGENT,
+            REQUEST_BATCH_SIZE,
+            REQUEST_IN_FLIGHT_LIMIT,
             RESPONSE_BODY_ATTRIBUTE_NAME,
             RESPONSE_BODY_ATTRIBUTE_SIZE,
             RESPONSE_BODY_IGNORED,
@@ -794,6 +820,15 @@ public class InvokeHTTP extends AbstractProcessor {
 
         setAuthenticator(okHttpClientBuilder, context);
 
+        // Allow the configured number of asynchronous requests, as the default Dispatcher limits requests per host to 5
+        if (context.getProperty(REQUEST_BATCH_SIZE).asInteger() > 1) {
+            final int requestInFlightLimit = context.getProperty(REQUEST_IN_FLIGHT_LIMIT).asInteger();
+            final Dispatcher dispatcher = new Dispatcher();
+            dispatcher.setMaxRequests(Math.max(requestInFlightLimit, dispatcher.getMaxRequests()));
+            dispatcher.setMaxRequestsPerHost(Math.max(requestInFlightLimit, dispatcher.getMaxRequestsPerHost()));
+            okHttpClientBuilder.dispatcher(dispatcher);
+        }
+
         chunkedTransferEncoding = context.getProperty(REQUEST_CHUNKED_TRANSFER_ENCODING_ENABLED).asBoolean();
 
         okHttpClientAtomicReference.set(okHttpClientBuilder.build());
@@ -830,6 +865,12 @@ public class InvokeHTTP extends AbstractProcessor {
 
     @Override
     public void onTrigger(ProcessContext context, ProcessSession session) throws ProcessException {
+        final int requestBatchSize = context.getProperty(REQUEST_BATCH_SIZE).asInteger();
+        if (requestBatchSize > 1 && context.hasNonLoopConnection()) {
+            invokeRequests(context, session, requestBatchSize);
+            return;
+        }
+
         OkHttpClient okHttpClient = okHttpClientAtomicReference.get();
 
         FlowFile requestFlowFile = session.get();
@@ -851,24 +892,127 @@ public class InvokeHTTP extends AbstractProcessor {
             }
         }
 
-        final int maxAttributeSize = context.getProperty(RESPONSE_BODY_ATTRIBUTE_SIZE).asInteger();
-        final ComponentLog logger = getLogger();
-        final UUID txId = UUID.randomUUID();
-
-        FlowFile responseFlowFile = null;
+        final String urlProperty;
+        final Request httpRequest;
         try {
-            final String urlProperty = trimToEmpty(context.getProperty(HTTP_URL).evaluateAttributeExpressions(requestFlowFile).getValue());
-
-            Request httpRequest = configureRequest(context, session, requestFlowFile, urlProperty);
-            logRequest(logger, httpRequest);
+            urlProperty = trimToEmpty(context.getProperty(HTTP_URL).evaluateAttributeExpressions(requestFlowFile).getValue());
+            httpRequest = configureRequest(context, session, requestFlowFile, urlProperty, null);
+            logRequest(getLogger(), httpRequest);
 
             if (httpRequest.body() != null) {
                 session.getProvenanceReporter().send(requestFlowFile, urlProperty, true);
             }
+        } catch (final Exception e) {
+            handleRequestFailure(context, session, requestFlowFile, null, e);
+            return;
+        }
+
+        final long startNanos = System.nanoTime();
+        processResponse(context, session, requestFlowFile, urlProperty, httpRequest, startNanos, () -> okHttpClient.newCall(httpRequest).execute());
+    }
+
+    /**
+     * Send requests for a batch of FlowFiles asynchronously, keeping up to the configured number of requests in flight and
+     * processing each response on the calling thread as it arrives, since the ProcessSession must not be used concurrently.
+     */
+    private void invokeRequests(final ProcessContext context, final ProcessSession session, final int requestBatchSize) {
+        final List<FlowFile> requestFlowFiles = session.get(requestBatchSize);
+        if (requestFlowFiles.isEmpty()) {
+            return;
+        }
+
+        final OkHttpClient okHttpClient = okHttpClientAtomicReference.get();
+        final int requestInFlightLimit = context.getProperty(REQUEST_IN_FLIGHT_LIMIT).asInteger();
+        final boolean requestBodyEnabled = context.getProperty(REQUEST_BODY_ENABLED).asBoolean();
+        final BlockingQueue<CompletedCall> completedCalls = new LinkedBlockingQueue<>();
+        final Set<Call> inFlightCalls = new HashSet<>();
+
+        try {
+            for (final FlowFile requestFlowFile : requestFlowFiles) {
+                while (inFlightCalls.size() >= requestInFlightLimit) {
+                    processCompletedCall(context, session, completedCalls.take(), inFlightCalls);
+                }
+
+                try {
+                    final String urlProperty = trimToEmpty(context.getProperty(HTTP_URL).evaluateAttributeExpressions(requestFlowFile).getValue());
+                    final boolean requestBodySupported = findRequestMethod(getRequestMethod(context, requestFlowFile))
+                            .map(HttpMethod::isRequestBodySupported)
+                            .orElse(false);
+                    byte[] requestContent = null;
+                    if (requestBodySupported && requestBodyEnabled) {
+                        // Read content on the calling thread so that the HTTP client can write the request body without using the session
+                        final ByteArrayOutputStream requestContentStream = new ByteArrayOutputStream();
+                        session.exportTo(requestFlowFile, requestContentStream);
+                        requestContent = requestContentStream.toByteArray();
+                    }
+
+                    final Request httpRequest = configureRequest(context, session, requestFlowFile, urlProperty, requestContent);
+                    logRequest(getLogger(), httpRequest);
+                    if (httpRequest.body() != null) {
+                        session.getProvenanceReporter().send(requestFlowFile, urlProperty, true);
+                    }
+
+                    final PendingCall pendingCall = new PendingCall(requestFlowFile, urlProperty, httpRequest, System.nanoTime());
+                    final Call call = okHttpClient.newCall(httpRequest);
+                    inFlightCalls.add(call);
+                    call.enqueue(new Callback() {
+                        @Override
+                        public void onResponse(final Call call, final Response response) {
+                            completedCalls.add(new CompletedCall(call, pendingCall, response, null));
+                        }
+
+                        @Override
+                        public void onFailure(final Call call, final IOException e) {
+                            completedCalls.add(new CompletedCall(call, pendingCall, null, e));
+                        }
+                    });
+                } catch (final Exception e) {
+                    handleRequestFailure(context, session, requestFlowFile, null, e);
+                }
+            }
+
+            while (!inFlightCalls.isEmpty()) {
+                processCompletedCall(context, session, completedCalls.take(), inFlightCalls);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessException("Interrupted while waiting for HTTP responses", e);
+        } finally {
+            // Cancel requests still in flight when processing did not complete and release completed responses not processed
+            inFlightCalls.forEach(Call::cancel);
+            CompletedCall completedCall;
+            while ((completedCall = completedCalls.poll()) != null) {
+                if (completedCall.response() != null) {
+                    completedCall.response().close();
+                }
+            }
+        }
+    }
+
+    private void processCompletedCall(final ProcessContext context, final ProcessSession session, final CompletedCall completedCall, final Set<Call> inFlightCalls) {
+        inFlightCalls.remove(completedCall.call());
+
+        final PendingCall pendingCall = completedCall.pendingCall();
+
+        processResponse(context, session, pendingCall.requestFlowFile(), pendingCall.url(), pendingCall.request(), pendingCall.startNanos(), () -> {
+            if (completedCall.failure() != null) {
+                throw completedCall.failure();
+            }
+            return completedCall.response();
+        });
+    }
 
-            final long startNanos = System.nanoTime();
+    private void processResponse(final ProcessContext context, final ProcessSession session, FlowFile requestFlowFile,
+                                 final String urlProperty, final Request httpRequest, final long startNanos, final ResponseSupplier responseSupplier) {
+        // Checking to see if the property to put the body of the response in an attribute was set
+        final boolean putToAttribute = context.getProperty(RESPONSE_BODY_ATTRIBUTE_NAME).isSet();
+        final int maxAttributeSize = context.getProperty(RESPONSE_BODY_ATTRIBUTE_SIZE).asInteger();
+        final ComponentLog logger = getLogger();
+        final UUID txId = UUID.randomUUID();
 
-            try (Response responseHttp = okHttpClient.newCall(httpRequest).execute()) {
+        FlowFile responseFlowFile = null;
+        try {
+            try (Response responseHttp = responseSupplier.get()) {
                 logResponse(logger, urlProperty, responseHttp);
 
                 // store the status code and message
@@ -1004,24 +1148,30 @@ public class InvokeHTTP extends AbstractProcessor {
 
             }
         } catch (final Exception e) {
-            if (requestFlowFile == null) {
-                logger.error("Request Processing failed", e);
-                context.yield();
-            } else {
-                logger.error("Request Processing failed: {}", requestFlowFile, e);
-                requestFlowFile = session.penalize(requestFlowFile);
-                requestFlowFile = session.putAttribute(requestFlowFile, EXCEPTION_CLASS, e.getClass().getName());
-                requestFlowFile = session.putAttribute(requestFlowFile, EXCEPTION_MESSAGE, e.getMessage());
-                session.transfer(requestFlowFile, FAILURE);
-            }
+            handleRequestFailure(context, session, requestFlowFile, responseFlowFile, e);
+        }
+    }
 
-            if (responseFlowFile != null) {
-                session.remove(responseFlowFile);
-            }
+    private void handleRequestFailure(final ProcessContext context, final ProcessSession session, FlowFile requestFlowFile, final FlowFile responseFlowFile, final Exception e) {
+        final ComponentLog logger = getLogger();
+        if (requestFlowFile == null) {
+            logger.error("Request Processing failed", e);
+            context.yield();
+        } else {
+            logger.error("Request Processing failed: {}", requestFlowFile, e);
+            requestFlowFile = session.penalize(requestFlowFile);
+            requestFlowFile = session.putAttribute(requestFlowFile, EXCEPTION_CLASS, e.getClass().getName());
+            requestFlowFile = session.putAttribute(requestFlowFile, EXCEPTION_MESSAGE, e.getMessage());
+            session.transfer(requestFlowFile, FAILURE);
+        }
+
+        if (responseFlowFile != null) {
+            session.remove(responseFlowFile);
         }
     }
 
-    private Request configureRequest(final ProcessContext context, final ProcessSession session, final FlowFile requestFlowFile, String url) {
+    private Request configureRequest(final ProcessContext context, final ProcessSession session, final FlowFile requestFlowFile, String url,
+                                     final byte[] requestContent) {
         final Request.Builder requestBuilder = new Request.Builder();
 
         requestBuilder.url(url);
@@ -1054,7 +1204,7 @@ public class InvokeHTTP extends AbstractProcessor {
         if (httpMethodFound.isPresent()) {
             final HttpMethod httpMethod = httpMethodFound.get();
             if (httpMethod.isRequestBodySupported()) {
-                requestBody = getRequestBodyToSend(session, context, requestFlowFile, contentEncodingStrategy);
+                requestBody = getRequestBodyToSend(session, context, requestFlowFile, contentEncodingStrategy, requestContent);
             } else {
                 requestBody = null;
             }
@@ -1069,7 +1219,8 @@ public class InvokeHTTP extends AbstractProcessor {
 
     private RequestBody getRequestBodyToSend(final ProcessSession session, final ProcessContext context,
                                              final FlowFile requestFlowFile,
-                                             final ContentEncodingStrategy contentEncodingStrategy
+                                             final ContentEncodingStrategy contentEncodingStrategy,
+                                             final byte[] requestContent
     ) {
         boolean requestBodyEnabled = context.getProperty(REQUEST_BODY_ENABLED).asBoolean();
 
@@ -1102,10 +1253,14 @@ public class InvokeHTTP extends AbstractProcessor {
                         ? Okio.buffer(new GzipSink(sink))
                         : sink;
 
-                session.read(requestFlowFile, inputStream -> {
-                    final Source source = Okio.source(inputStream);
-                    outputSink.writeAll(source);
-                });
+                if (requestContent == null) {
+                    session.read(requestFlowFile, inputStream -> {
+                        final Source source = Okio.source(inputStream);
+                        outputSink.writeAll(source);
+                    });
+                } else {
+                    outputSink.write(requestContent);
+                }
 
                 // Close Output Sink for gzip to write trailing bytes
                 if (ContentEncodingStrategy.GZIP == contentEncodingStrategy) {
@@ -1330,4 +1485,14 @@ public class InvokeHTTP extends AbstractProcessor {
         final String method = context.getProperty(HTTP_METHOD).evaluateAttributeExpressions(flowFile).getValue().toUpperCase();
         return trimToEmpty(method);
     }
+
+    private interface ResponseSupplier {
+        Response get() throws IOException;
+    }
+
+    private record PendingCall(FlowFile requestFlowFile, String url, Request request, long startNanos) {
+    }
+
+    private record CompletedCall(Call call, PendingCall pendingCall, Response response, IOException failure) {
+    }
 }
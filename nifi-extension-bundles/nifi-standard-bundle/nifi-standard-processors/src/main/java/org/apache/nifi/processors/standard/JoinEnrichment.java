@@ -36,6 +36,7 @@ import org.apache.nifi.expression.ExpressionLanguageScope;
 import org.apache.nifi.flowfile.FlowFile;
 import org.apache.nifi.flowfile.attributes.CoreAttributes;
 import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.processor.DataUnit;
 import org.apache.nifi.processor.ProcessContext;
 import org.apache.nifi.processor.ProcessSession;
 import org.apache.nifi.processor.ProcessSessionFactory;
@@ -48,10 +49,12 @@ import org.apache.nifi.processor.util.bin.BinManager;
 import org.apache.nifi.processor.util.bin.BinProcessingResult;
 import org.apache.nifi.processor.util.bin.EvictionReason;
 import org.apache.nifi.processors.standard.enrichment.EnrichmentRole;
+import org.apache.nifi.processors.standard.enrichment.HashJoinStrategy;
 import org.apache.nifi.processors.standard.enrichment.InsertRecordFieldsJoinStrategy;
 import org.apache.nifi.processors.standard.enrichment.RecordJoinInput;
 import org.apache.nifi.processors.standard.enrichment.RecordJoinResult;
 import org.apache.nifi.processors.standard.enrichment.RecordJoinStrategy;
+import org.apache.nifi.processors.standard.enrichment.SortMergeJoinStrategy;
 import org.apache.nifi.processors.standard.enrichment.SqlJoinCache;
 import org.apache.nifi.processors.standard.enrichment.SqlJoinStrategy;
 import org.apache.nifi.processors.standard.enrichment.WrapperJoinStrategy;
@@ -106,6 +109,15 @@ public class JoinEnrichment extends BinFiles {
     static final AllowableValue JOIN_INSERT_ENRICHMENT_FIELDS = new AllowableValue("Insert Enrichment Fields", "Insert Enrichment Fields",
         "The enrichment is joined together with the original FlowFile by placing all fields of the enrichment Record into the corresponding Record from the original FlowFile. " +
             "Records will be correlated based on their index in the FlowFile.");
+    static final AllowableValue JOIN_HASH = new AllowableValue("Hash Join", "Hash Join",
+        "Records are correlated by the values of the Original Join Key and the Enrichment Join Key. Each 'original' Record is written once for every 'enrichment' Record with an equal " +
+            "key, with the fields of the enrichment Record added to it, and 'original' Records without a match are written unchanged. The 'enrichment' Records are held in an in-memory " +
+            "hash table. If the 'enrichment' FlowFile is larger than the Hash Join Memory Budget, both FlowFiles are first partitioned by key into temporary files on disk and joined " +
+            "one partition at a time, in which case the joined Records are not written in the order of the 'original' FlowFile.");
+    static final AllowableValue JOIN_SORT_MERGE = new AllowableValue("Sort-Merge Join", "Sort-Merge Join",
+        "Records are correlated and combined in the same way as the Hash Join strategy, but both FlowFiles must already be sorted in ascending order of their join keys. The Records " +
+            "are joined in a single streaming pass, holding in memory only the 'enrichment' Records that share the current key, and are written in the order of the 'original' " +
+            "FlowFile. If either FlowFile is found not to be sorted, both FlowFiles are routed to 'failure'.");
 
     static final PropertyDescriptor ORIGINAL_RECORD_READER = new PropertyDescriptor.Builder()
         .name("Original Record Reader")
@@ -135,7 +147,7 @@ public class JoinEnrichment extends BinFiles {
         .displayName("Join Strategy")
         .description("Specifies how to join the two FlowFiles into a single FlowFile")
         .required(true)
-        .allowableValues(JOIN_WRAPPER, JOIN_SQL, JOIN_INSERT_ENRICHMENT_FIELDS)
+        .allowableValues(JOIN_WRAPPER, JOIN_SQL, JOIN_INSERT_ENRICHMENT_FIELDS, JOIN_HASH, JOIN_SORT_MERGE)
         .defaultValue(JOIN_WRAPPER.getValue())
         .build();
     static final PropertyDescriptor SQL = new PropertyDescriptor.Builder()
@@ -171,6 +183,37 @@ public class JoinEnrichment extends BinFiles {
         .expressionLanguageSupported(ExpressionLanguageScope.FLOWFILE_ATTRIBUTES)
         .dependsOn(JOIN_STRATEGY, JOIN_INSERT_ENRICHMENT_FIELDS)
         .build();
+    static final PropertyDescriptor ORIGINAL_JOIN_KEY = new PropertyDescriptor.Builder()
+        .name("Original Join Key")
+        .displayName("Original Join Key")
+        .description("A RecordPath that identifies the field of the 'original' Record whose value is compared with the Enrichment Join Key. If the RecordPath selects more " +
+            "than one field, the first is used.")
+        .required(true)
+        .addValidator(new RecordPathValidator())
+        .expressionLanguageSupported(ExpressionLanguageScope.FLOWFILE_ATTRIBUTES)
+        .dependsOn(JOIN_STRATEGY, JOIN_HASH, JOIN_SORT_MERGE)
+        .build();
+    static final PropertyDescriptor ENRICHMENT_JOIN_KEY = new PropertyDescriptor.Builder()
+        .name("Enrichment Join Key")
+        .displayName("Enrichment Join Key")
+        .description("A RecordPath that identifies the field of the 'enrichment' Record whose value is compared with the Original Join Key. If the RecordPath selects more " +
+            "than one field, the first is used.")
+        .required(true)
+        .addValidator(new RecordPathValidator())
+        .expressionLanguageSupported(ExpressionLanguageScope.FLOWFILE_ATTRIBUTES)
+        .dependsOn(JOIN_STRATEGY, JOIN_HASH, JOIN_SORT_MERGE)
+        .build();
+    static final PropertyDescriptor HASH_JOIN_MEMORY_BUDGET = new PropertyDescriptor.Builder()
+        .name("Hash Join Memory Budget")
+        .displayName("Hash Join Memory Budget")
+        .description("The largest 'enrichment' FlowFile for which the hash table is built in memory. For larger FlowFiles, both FlowFiles are partitioned into temporary files " +
+            "in the Java temporary directory so that the 'enrichment' data of each partition is approximately this size. The size of the FlowFile content is used as an estimate " +
+            "of the heap required, so the actual heap used by the hash table may be a multiple of this value, depending on the data format.")
+        .required(true)
+        .addValidator(StandardValidators.DATA_SIZE_VALIDATOR)
+        .defaultValue("64 MB")
+        .dependsOn(JOIN_STRATEGY, JOIN_HASH)
+        .build();
 
     static final PropertyDescriptor TIMEOUT = new PropertyDescriptor.Builder()
         .name("Timeout")
@@ -195,6 +238,9 @@ public class JoinEnrichment extends BinFiles {
             DEFAULT_PRECISION,
             DEFAULT_SCALE,
             INSERTION_RECORD_PATH,
+            ORIGINAL_JOIN_KEY,
+            ENRICHMENT_JOIN_KEY,
+            HASH_JOIN_MEMORY_BUDGET,
             MAX_BIN_COUNT,
             TIMEOUT
     );
@@ -369,7 +415,7 @@ public class JoinEnrichment extends BinFiles {
         // Create a RecordSet that will be used to produce the Records we need.
         final WriteResult writeResult;
         final String mimeType;
-        FlowFile output;
+        FlowFile output = null;
         try (final RecordJoinResult result = joinStrategy.join(originalInput, enrichmentInput, combinedAttributes, session, writerSchema)) {
             // Create output FlowFile
             output = session.create(flowFiles);
@@ -387,6 +433,9 @@ public class JoinEnrichment extends BinFiles {
             }
         } catch (final Exception e) {
             getLogger().error("Failed to join 'original' FlowFile {} and 'enrichment' FlowFile {}; routing to failure", original, enrichment, e);
+            if (output != null) {
+                session.remove(output);
+            }
             return transferFailure(flowFiles, session);
         }
 
@@ -432,6 +481,15 @@ public class JoinEnrichment extends BinFiles {
         } else if (strategyName.equalsIgnoreCase(JOIN_INSERT_ENRICHMENT_FIELDS.getValue())) {
             final String recordPath = context.getProperty(INSERTION_RECORD_PATH).evaluateAttributeExpressions(attributes).getValue();
             return new InsertRecordFieldsJoinStrategy(getLogger(), recordPath);
+        } else if (strategyName.equalsIgnoreCase(JOIN_HASH.getValue())) {
+            final String originalKey = context.getProperty(ORIGINAL_JOIN_KEY).evaluateAttributeExpressions(attributes).getValue();
+            final String enrichmentKey = context.getProperty(ENRICHMENT_JOIN_KEY).evaluateAttributeExpressions(attributes).getValue();
+            final long memoryBudget = context.getProperty(HASH_JOIN_MEMORY_BUDGET).asDataSize(DataUnit.B).longValue();
+            return new HashJoinStrategy(getLogger(), originalKey, enrichmentKey, memoryBudget);
+        } else if (strategyName.equalsIgnoreCase(JOIN_SORT_MERGE.getValue())) {
+            final String originalKey = context.getProperty(ORIGINAL_JOIN_KEY).evaluateAttributeExpressions(attributes).getValue();
+            final String enrichmentKey = context.getProperty(ENRICHMENT_JOIN_KEY).evaluateAttributeExpressions(attributes).getValue();
+            return new SortMergeJoinStrategy(getLogger(), originalKey, enrichmentKey);
         }
 
         throw new ProcessException("Invalid Join Strategy: " + strategyName);
@@ -52,11 +52,15 @@ import org.apache.nifi.util.Tuple;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileStore;
 import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
+import java.nio.file.FileSystemLoopException;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributeView;
 import java.nio.file.attribute.BasicFileAttributes;
@@ -67,6 +71,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -77,11 +82,17 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
@@ -151,6 +162,16 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
             .defaultValue("true")
             .build();
 
+    public static final PropertyDescriptor LISTING_PARALLELISM = new Builder()
+            .name("Listing Parallelism")
+            .description("The maximum number of threads used to list subdirectories concurrently when " + RECURSE.getName() + " is true. "
+                + "Listing subdirectories concurrently can significantly reduce the time taken to list large directory trees on remote file shares, "
+                + "where each directory listing and file attribute lookup has a high latency. A value of 1 lists all directories from a single thread.")
+            .required(true)
+            .addValidator(POSITIVE_INTEGER_VALIDATOR)
+            .defaultValue("1")
+            .build();
+
     public static final PropertyDescriptor DIRECTORY_LOCATION = new Builder()
             .name("Input Directory Location")
             .description("Specifies where the Input Directory is located. This is used to determine whether state should be stored locally or across the cluster.")
@@ -271,6 +292,7 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
             DIRECTORY,
             LISTING_STRATEGY,
             RECURSE,
+            LISTING_PARALLELISM,
             RECORD_WRITER,
             DIRECTORY_LOCATION,
             FILE_FILTER,
@@ -513,7 +535,7 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
 
         final Path basePath = new File(evaluatedPath).toPath();
         final Boolean recurse = context.getProperty(RECURSE).asBoolean();
-        final Map<Path, BasicFileAttributes> lastModifiedMap = new HashMap<>();
+        final int listingParallelism = context.getProperty(LISTING_PARALLELISM).asInteger();
 
         final BiPredicate<Path, BasicFileAttributes> fileFilter;
         final PerformanceTracker performanceTracker;
@@ -529,7 +551,7 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
         int maxDepth = recurse ? Integer.MAX_VALUE : 1;
 
         final BiPredicate<Path, BasicFileAttributes> matcher = new BiPredicate<>() {
-            private long lastTimestamp = System.currentTimeMillis();
+            private final AtomicLong lastTimestamp = new AtomicLong(System.currentTimeMillis());
 
             @Override
             public boolean test(final Path path, final BasicFileAttributes attributes) {
@@ -538,8 +560,7 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
                 }
 
                 final long now = System.currentTimeMillis();
-                final long timeToList = now - lastTimestamp;
-                lastTimestamp = now;
+                final long timeToList = now - lastTimestamp.getAndSet(now);
 
                 final Path relativeDirectory = basePath.relativize(path).getParent();
                 final String relativePath = relativeDirectory == null ? "" : relativeDirectory.toString();
@@ -556,15 +577,7 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
                 try {
                     final boolean matchesFilters = (minTimestamp == null || attributes.lastModifiedTime().toMillis() >= minTimestamp)
                             && fileFilter.test(path, attributes);
-                    if (!isDirectory && (!applyFilters || matchesFilters)) {
-                        // We store the attributes for each Path we are returning in order to avoid
-                        // retrieving them again later when creating the FileInfo
-                        lastModifiedMap.put(path, attributes);
-
-                        return true;
-                    }
-
-                    return false;
+                    return !isDirectory && (!applyFilters || matchesFilters);
                 } finally {
                     performanceTracker.completeOperation(operationKey);
 
@@ -579,56 +592,50 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
             final long start = System.currentTimeMillis();
             final List<FileInfo> result = new LinkedList<>();
 
-            Files.walkFileTree(basePath, Set.of(FileVisitOption.FOLLOW_LINKS), maxDepth, new FileVisitor<>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attributes) {
-                    if (Files.isReadable(dir)) {
-                        return FileVisitResult.CONTINUE;
-                    } else {
-                        getLogger().debug("The following directory is not readable: {}", dir);
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
-                }
-
-                @Override
-                public FileVisitResult visitFile(final Path path, final BasicFileAttributes attributes) {
-                    if (matcher.test(path, attributes)) {
-                        final File file = path.toFile();
-                        final BasicFileAttributes fileAttributes = lastModifiedMap.get(path);
-                        final FileInfo fileInfo = new FileInfo.Builder()
-                                .directory(false)
-                                .filename(file.getName())
-                                .fullPathFileName(file.getAbsolutePath())
-                                .lastModifiedTime(fileAttributes.lastModifiedTime().toMillis())
-                                .size(fileAttributes.size())
-                                .build();
-
-                        result.add(fileInfo);
+            if (recurse && listingParallelism > 1) {
+                walkFileTreeParallel(basePath, listingParallelism, matcher, result);
+            } else {
+                Files.walkFileTree(basePath, Set.of(FileVisitOption.FOLLOW_LINKS), maxDepth, new FileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attributes) {
+                        if (Files.isReadable(dir)) {
+                            return FileVisitResult.CONTINUE;
+                        } else {
+                            getLogger().debug("The following directory is not readable: {}", dir);
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
                     }
 
-                    return FileVisitResult.CONTINUE;
-                }
+                    @Override
+                    public FileVisitResult visitFile(final Path path, final BasicFileAttributes attributes) {
+                        if (matcher.test(path, attributes)) {
+                            result.add(createFileInfo(path, attributes));
+                        }
 
-                @Override
-                public FileVisitResult visitFileFailed(final Path path, final IOException e) {
-                    if (e instanceof AccessDeniedException) {
-                        getLogger().debug("The following file is not readable: {}", path);
-                        return FileVisitResult.SKIP_SUBTREE;
-                    } else {
-                        getLogger().error("Error during visiting file {}", path, e);
-                        return FileVisitResult.TERMINATE;
+                        return FileVisitResult.CONTINUE;
                     }
-                }
 
-                @Override
-                public FileVisitResult postVisitDirectory(final Path dir, final IOException e) {
-                    if (e != null) {
-                        getLogger().error("Error during visiting directory {}", dir, e);
+                    @Override
+                    public FileVisitResult visitFileFailed(final Path path, final IOException e) {
+                        if (e instanceof AccessDeniedException) {
+                            getLogger().debug("The following file is not readable: {}", path);
+                            return FileVisitResult.SKIP_SUBTREE;
+                        } else {
+                            getLogger().error("Error during visiting file {}", path, e);
+                            return FileVisitResult.TERMINATE;
+                        }
                     }
 
-                    return FileVisitResult.CONTINUE;
-                }
-            });
+                    @Override
+                    public FileVisitResult postVisitDirectory(final Path dir, final IOException e) {
+                        if (e != null) {
+                            getLogger().error("Error during visiting directory {}", dir, e);
+                        }
+
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            }
 
             final long millis = System.currentTimeMillis() - start;
 
@@ -644,6 +651,43 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
         }
     }
 
+    private FileInfo createFileInfo(final Path path, final BasicFileAttributes attributes) {
+        final File file = path.toFile();
+        return new FileInfo.Builder()
+                .directory(false)
+                .filename(file.getName())
+                .fullPathFileName(file.getAbsolutePath())
+                .lastModifiedTime(attributes.lastModifiedTime().toMillis())
+                .size(attributes.size())
+                .build();
+    }
+
+    /**
+     * Walk the directory tree listing each directory as a separate task in a fork-join pool, following links and handling
+     * unreadable entries and failures in the same way as {@link Files#walkFileTree}. Files are listed in no particular order.
+     */
+    private void walkFileTreeParallel(final Path basePath, final int parallelism, final BiPredicate<Path, BasicFileAttributes> matcher,
+                                      final List<FileInfo> result) throws IOException {
+        final BasicFileAttributes baseAttributes = Files.readAttributes(basePath, BasicFileAttributes.class);
+        final List<Object> baseKeys = List.of(getDirectoryKey(basePath, baseAttributes));
+        final Queue<FileInfo> listedFiles = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean terminated = new AtomicBoolean();
+
+        final ForkJoinPool listingPool = new ForkJoinPool(parallelism);
+        try {
+            listingPool.invoke(new ListDirectoryTask(basePath, baseKeys, matcher, listedFiles, terminated));
+        } finally {
+            listingPool.shutdownNow();
+        }
+
+        result.addAll(listedFiles);
+    }
+
+    private static Object getDirectoryKey(final Path directory, final BasicFileAttributes attributes) throws IOException {
+        final Object fileKey = attributes.fileKey();
+        return fileKey == null ? directory.toRealPath() : fileKey;
+    }
+
     @Override
     protected String getListingContainerName(final ProcessContext context) {
         return String.format("%s Directory [%s]", context.getProperty(DIRECTORY_LOCATION).getValue(), getPath(context));
@@ -1281,6 +1325,87 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
         RETRIEVE_NEXT_FILE_FROM_OS
     }
 
+    /**
+     * Lists the entries of a single directory, forking a task for each readable subdirectory that is not one of its own ancestors
+     */
+    private class ListDirectoryTask extends RecursiveAction {
+        private final Path directory;
+        private final List<Object> directoryKeys;
+        private final BiPredicate<Path, BasicFileAttributes> matcher;
+        private final Queue<FileInfo> listedFiles;
+        private final AtomicBoolean terminated;
+
+        ListDirectoryTask(final Path directory, final List<Object> directoryKeys, final BiPredicate<Path, BasicFileAttributes> matcher,
+                          final Queue<FileInfo> listedFiles, final AtomicBoolean terminated) {
+            this.directory = directory;
+            this.directoryKeys = directoryKeys;
+            this.matcher = matcher;
+            this.listedFiles = listedFiles;
+            this.terminated = terminated;
+        }
+
+        @Override
+        protected void compute() {
+            if (terminated.get()) {
+                return;
+            }
+            if (!Files.isReadable(directory)) {
+                getLogger().debug("The following directory is not readable: {}", directory);
+                return;
+            }
+
+            final List<ListDirectoryTask> subdirectoryTasks = new ArrayList<>();
+            try (final DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (final Path path : entries) {
+                    if (terminated.get()) {
+                        break;
+                    }
+
+                    try {
+                        final BasicFileAttributes attributes = readAttributes(path);
+                        if (attributes.isDirectory()) {
+                            final Object directoryKey = getDirectoryKey(path, attributes);
+                            if (directoryKeys.contains(directoryKey)) {
+                                throw new FileSystemLoopException(path.toString());
+                            }
+
+                            final List<Object> subdirectoryKeys = new ArrayList<>(directoryKeys.size() + 1);
+                            subdirectoryKeys.addAll(directoryKeys);
+                            subdirectoryKeys.add(directoryKey);
+                            subdirectoryTasks.add(new ListDirectoryTask(path, subdirectoryKeys, matcher, listedFiles, terminated));
+                        } else if (matcher.test(path, attributes)) {
+                            listedFiles.add(createFileInfo(path, attributes));
+                        }
+                    } catch (final AccessDeniedException e) {
+                        getLogger().debug("The following file is not readable: {}", path);
+                    } catch (final IOException e) {
+                        getLogger().error("Error during visiting file {}", path, e);
+                        terminated.set(true);
+                    }
+                }
+            } catch (final AccessDeniedException e) {
+                getLogger().debug("The following directory is not readable: {}", directory);
+            } catch (final IOException | DirectoryIteratorException e) {
+                getLogger().error("Error during visiting directory {}", directory, e);
+            }
+
+            invokeAll(subdirectoryTasks);
+        }
+
+        private BasicFileAttributes readAttributes(final Path path) throws IOException {
+            try {
+                return Files.readAttributes(path, BasicFileAttributes.class);
+            } catch (final IOException e) {
+                // Broken links are visited as files, in the same way as Files.walkFileTree
+                try {
+                    return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                } catch (final IOException ignored) {
+                    throw e;
+                }
+            }
+        }
+    }
+
     private static class ProcessorStoppedException extends RuntimeException {
     }
 
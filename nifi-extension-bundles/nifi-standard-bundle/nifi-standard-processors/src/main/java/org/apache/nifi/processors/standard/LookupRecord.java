@@ -48,7 +48,6 @@ import org.apache.nifi.processor.exception.ProcessException;
 import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.record.path.FieldValue;
 import org.apache.nifi.record.path.RecordPath;
-import org.apache.nifi.record.path.RecordPathResult;
 import org.apache.nifi.record.path.util.RecordPathCache;
 import org.apache.nifi.record.path.validation.RecordPathValidator;
 import org.apache.nifi.schema.access.SchemaNotFoundException;
@@ -79,7 +78,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -537,16 +535,12 @@ public class LookupRecord extends AbstractProcessor {
             for (final Map.Entry<String, RecordPath> entry : recordPaths.entrySet()) {
                 final RecordPath recordPath = entry.getValue();
 
-                final RecordPathResult pathResult = recordPath.evaluate(record);
-                AtomicLong selectedFieldsCount = new AtomicLong(0);
-                final List<FieldValue> lookupFieldValues = pathResult.getSelectedFields()
-                        .filter(fieldVal -> {
-                            selectedFieldsCount.incrementAndGet();
-                            return fieldVal.getValue() != null;
-                        })
+                final List<FieldValue> selectedFields = recordPath.evaluateFieldValues(record);
+                final List<FieldValue> lookupFieldValues = selectedFields.stream()
+                        .filter(fieldVal -> fieldVal.getValue() != null)
                         .toList();
 
-                if (selectedFieldsCount.get() == 0) {
+                if (selectedFields.isEmpty()) {
                     // When selectedFieldsCount == 0; then an empty array was found which counts as a match.
                     // Since the array is empty, no further processing is needed, so continue to next recordPath.
                     continue;
@@ -665,7 +659,7 @@ public class LookupRecord extends AbstractProcessor {
             // Ensure that the Record has the appropriate schema to account for the newly added values
             final RecordPath resultPath = lookupContext.getResultRecordPath();
             if (resultPath != null) {
-                final RecordPathResult resultPathResult = resultPath.evaluate(record);
+                final List<FieldValue> resultFieldValues = resultPath.evaluateFieldValues(record);
 
                 final String resultContentsValue = context.getProperty(RESULT_CONTENTS).getValue();
                 if (RESULT_RECORD_FIELDS.getValue().equals(resultContentsValue) && lookupValue instanceof Record lookupRecord) {
@@ -674,7 +668,7 @@ public class LookupRecord extends AbstractProcessor {
                     // the Lookup Record to the destination Record. However, if the destination Record Path returns
                     // something other than a Record, then we can't add the fields to it. We can only replace it,
                     // because it doesn't make sense to add fields to anything but a Record.
-                    resultPathResult.getSelectedFields().forEach(fieldVal -> {
+                    resultFieldValues.forEach(fieldVal -> {
                         final Object destinationValue = fieldVal.getValue();
 
                         if (destinationValue instanceof final Record destinationRecord) {
@@ -702,7 +696,7 @@ public class LookupRecord extends AbstractProcessor {
                     });
                 } else {
                     final DataType inferredDataType = DataTypeUtils.inferDataType(lookupValue, RecordFieldType.STRING.getDataType());
-                    resultPathResult.getSelectedFields().forEach(fieldVal -> fieldVal.updateValue(lookupValue, inferredDataType));
+                    resultFieldValues.forEach(fieldVal -> fieldVal.updateValue(lookupValue, inferredDataType));
                 }
 
                 record.incorporateInactiveFields();
@@ -756,8 +750,7 @@ public class LookupRecord extends AbstractProcessor {
                 final String coordinateKey = entry.getKey();
                 final RecordPath recordPath = entry.getValue();
 
-                final RecordPathResult pathResult = recordPath.evaluate(record);
-                final List<FieldValue> lookupFieldValues = pathResult.getSelectedFields()
+                final List<FieldValue> lookupFieldValues = recordPath.evaluateFieldValues(record).stream()
                     .filter(fieldVal -> fieldVal.getValue() != null)
                     .toList();
 
@@ -55,6 +55,7 @@ import org.apache.nifi.serialization.record.util.DataTypeUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -64,7 +65,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @SupportsBatching
 @InputRequirement(Requirement.INPUT_REQUIRED)
@@ -243,10 +243,11 @@ public class PartitionRecord extends AbstractProcessor {
                     final String propName = entry.getKey();
                     final RecordPath recordPath = entry.getValue();
 
-                    final Stream<FieldValue> fieldValueStream = recordPath.evaluate(record).getSelectedFields();
-                    final List<ValueWrapper> fieldValues = fieldValueStream
-                        .map(fieldVal -> new ValueWrapper(fieldVal.getValue()))
-                        .collect(Collectors.toList());
+                    final List<FieldValue> selectedFields = recordPath.evaluateFieldValues(record);
+                    final List<ValueWrapper> fieldValues = new ArrayList<>(selectedFields.size());
+                    for (final FieldValue fieldVal : selectedFields) {
+                        fieldValues.add(new ValueWrapper(fieldVal.getValue()));
+                    }
                     recordMap.put(propName, fieldValues);
                 }
 
@@ -415,6 +415,17 @@ public class PutDatabaseRecord extends AbstractProcessor {
             .expressionLanguageSupported(FLOWFILE_ATTRIBUTES)
             .build();
 
+    static final PropertyDescriptor MAX_ROWS_PER_INSERT = new Builder()
+            .name("Maximum Rows Per Insert Statement")
+            .description("Specifies the maximum number of records to insert using a single INSERT statement. Values greater than 1 insert records using multi-row INSERT "
+                    + "statements, which reduces the number of statements sent to and executed by the database. Each statement in a batch then inserts up to this "
+                    + "number of records. Multi-row INSERT statements are supported only for some Database Types. The number of rows multiplied by the number of "
+                    + "columns must not exceed the maximum number of parameters the database supports for a single statement.")
+            .defaultValue("1")
+            .required(true)
+            .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+            .build();
+
     static final PropertyDescriptor AUTO_COMMIT = new PropertyDescriptor.Builder()
             .name("database-session-autocommit")
             .displayName("Database Session AutoCommit")
@@ -477,6 +488,7 @@ public class PutDatabaseRecord extends AbstractProcessor {
                 RollbackOnFailure.ROLLBACK_ON_FAILURE,
                 TABLE_SCHEMA_CACHE_SIZE,
                 MAX_BATCH_SIZE,
+                MAX_ROWS_PER_INSERT,
                 AUTO_COMMIT
         );
     }
@@ -511,6 +523,15 @@ public class PutDatabaseRecord extends AbstractProcessor {
             );
         }
 
+        if (validationContext.getProperty(MAX_ROWS_PER_INSERT).asInteger() > 1 && !databaseAdapter.supportsMultiRowInsert()) {
+            validationResults.add(new ValidationResult.Builder()
+                    .subject(MAX_ROWS_PER_INSERT.getDisplayName())
+                    .valid(false)
+                    .explanation(databaseAdapter.getName() + " does not support multi-row INSERT statements")
+                    .build()
+            );
+        }
+
         final Boolean autoCommit = validationContext.getProperty(AUTO_COMMIT).asBoolean();
         final boolean rollbackOnFailure = validationContext.getProperty(RollbackOnFailure.ROLLBACK_ON_FAILURE).asBoolean();
         if (autoCommit != null && autoCommit && rollbackOnFailure) {
@@ -774,6 +795,7 @@ public class PutDatabaseRecord extends AbstractProcessor {
         final String updateKeys = context.getProperty(UPDATE_KEYS).evaluateAttributeExpressions(flowFile).getValue();
         final String deleteKeys = context.getProperty(DELETE_KEYS).evaluateAttributeExpressions(flowFile).getValue();
         final int maxBatchSize = context.getProperty(MAX_BATCH_SIZE).evaluateAttributeExpressions(flowFile).asInteger();
+        final int maxRowsPerInsert = context.getProperty(MAX_ROWS_PER_INSERT).asInteger();
         final int timeoutMillis = context.getProperty(QUERY_TIMEOUT).evaluateAttributeExpressions().asTimePeriod(TimeUnit.MILLISECONDS).intValue();
 
         final String binaryStringFormat = context.getProperty(BINARY_STRING_FORMAT).evaluateAttributeExpressions(flowFile).getValue();
@@ -815,6 +837,8 @@ public class PutDatabaseRecord extends AbstractProcessor {
         final String fqTableName = generateTableName(settings, catalog, schemaName, tableName, tableSchema);
 
         final Map<String, PreparedSqlAndColumns> preparedSql = new HashMap<>();
+        // Records waiting to be added to a multi-row INSERT statement
+        final List<Record> pendingInsertRecords = new ArrayList<>();
         int currentBatchSize = 0;
         int batchIndex = 0;
         Record outerRecord;
@@ -831,12 +855,15 @@ public class PutDatabaseRecord extends AbstractProcessor {
 
                 final List<Record> dataRecords = getDataRecords(outerRecord);
                 for (final Record currentRecord : dataRecords) {
+                    final boolean multiRowInsert = maxRowsPerInsert > 1 && INSERT_TYPE.equalsIgnoreCase(statementType);
                     PreparedSqlAndColumns preparedSqlAndColumns = preparedSql.get(statementType);
                     if (preparedSqlAndColumns == null) {
                         final RecordSchema recordSchema = currentRecord.getSchema();
 
                         final SqlAndIncludedColumns sqlHolder;
-                        if (INSERT_TYPE.equalsIgnoreCase(statementType)) {
+                        if (multiRowInsert) {
+                            sqlHolder = generateMultiRowInsert(recordSchema, fqTableName, tableSchema, settings, normalizer, maxRowsPerInsert);
+                        } else if (INSERT_TYPE.equalsIgnoreCase(statementType)) {
                             sqlHolder = generateInsert(recordSchema, fqTableName, tableSchema, settings, normalizer);
                         } else if (UPDATE_TYPE.equalsIgnoreCase(statementType)) {
                             sqlHolder = generateUpdate(recordSchema, fqTableName, updateKeys, tableSchema, settings, normalizer);
@@ -853,16 +880,7 @@ public class PutDatabaseRecord extends AbstractProcessor {
                         // Log debug sqlHolder
                         log.debug("Generated SQL: {}", sqlHolder.getSql());
                         // Create the Prepared Statement
-                        final PreparedStatement preparedStatement = con.prepareStatement(sqlHolder.getSql());
-
-                        try {
-                            preparedStatement.setQueryTimeout(timeoutMillis); // timeout in seconds
-                        } catch (final SQLException se) {
-                            // If the driver doesn't support query timeout, then assume it is "infinite". Allow a timeout of zero only
-                            if (timeoutMillis > 0) {
-                                throw se;
-                            }
-                        }
+                        final PreparedStatement preparedStatement = prepareStatement(con, sqlHolder.getSql(), timeoutMillis);
 
                         preparedSqlAndColumns = new PreparedSqlAndColumns(sqlHolder, preparedStatement);
                         preparedSql.put(statementType, preparedSqlAndColumns);
@@ -873,114 +891,40 @@ public class PutDatabaseRecord extends AbstractProcessor {
                     final String sql = preparedSqlAndColumns.getSqlAndIncludedColumns().getSql();
 
                     if (ps != lastPreparedStatement && lastPreparedStatement != null) {
-                        batchIndex++;
-                        log.debug("Executing query {} because Statement Type changed between Records for {}; fieldIndexes: {}; batch index: {}; batch size: {}",
-                                sql, flowFile, fieldIndexes, batchIndex, currentBatchSize);
-                        lastPreparedStatement.executeBatch();
+                        if (currentBatchSize > 0) {
+                            batchIndex++;
+                            log.debug("Executing query {} because Statement Type changed between Records for {}; fieldIndexes: {}; batch index: {}; batch size: {}",
+                                    sql, flowFile, fieldIndexes, batchIndex, currentBatchSize);
+                            lastPreparedStatement.executeBatch();
+
+                            session.adjustCounter("Batches Executed", 1, false);
+                            currentBatchSize = 0;
+                        }
 
-                        session.adjustCounter("Batches Executed", 1, false);
-                        currentBatchSize = 0;
+                        if (!pendingInsertRecords.isEmpty()) {
+                            executeMultiRowInsert(con, pendingInsertRecords, fqTableName, tableSchema, settings, normalizer, binaryStringFormat, timeoutMillis);
+                            pendingInsertRecords.clear();
+                        }
                     }
                     lastPreparedStatement = ps;
 
-                    final Object[] values = currentRecord.getValues();
-                    final List<DataType> dataTypes = currentRecord.getSchema().getDataTypes();
-                    final RecordSchema recordSchema = currentRecord.getSchema();
-                    final Map<String, ColumnDescription> columns = tableSchema.getColumns();
-
-                    int deleteIndex = 0;
-                    for (int i = 0; i < fieldIndexes.size(); i++) {
-                        final int currentFieldIndex = fieldIndexes.get(i);
-                        Object currentValue = values[currentFieldIndex];
-                        final DataType dataType = dataTypes.get(currentFieldIndex);
-                        final int fieldSqlType = DataTypeUtils.getSQLTypeValue(dataType);
-                        final String fieldName = recordSchema.getField(currentFieldIndex).getFieldName();
-                        String columnName = TableSchema.normalizedName(fieldName, settings.translateFieldNames, normalizer);
-                        int sqlType;
-
-                        final ColumnDescription column = columns.get(columnName);
-                        // 'column' should not be null here as the fieldIndexes should correspond to fields that match table columns, but better to handle just in case
-                        if (column == null) {
-                            if (!settings.ignoreUnmappedFields) {
-                                throw new SQLDataException("Cannot map field '" + fieldName + "' to any column in the database\n"
-                                        + (settings.translateFieldNames ? "Normalized " : "") + "Columns: " + String.join(",", columns.keySet()));
-                            } else {
-                                sqlType = fieldSqlType;
-                            }
-                        } else {
-                            sqlType = column.getDataType();
-                            // SQLServer returns -150 for sql_variant from DatabaseMetaData though the server expects -156 when setting a sql_variant parameter
-                            if (sqlType == -150) {
-                                sqlType = -156;
-                            }
+                    if (multiRowInsert) {
+                        // Records are only set on the statement once there are enough of them to fill all of its rows
+                        pendingInsertRecords.add(currentRecord);
+                        session.adjustCounter(statementType + " updates performed", 1, false);
+                        if (pendingInsertRecords.size() < maxRowsPerInsert) {
+                            continue;
                         }
 
-                        // Convert (if necessary) from field data type to column data type
-                        if (fieldSqlType != sqlType) {
-                            try {
-                                DataType targetDataType = DataTypeUtils.getDataTypeFromSQLTypeValue(sqlType);
-                                // If sqlType is unsupported, fall back to the fieldSqlType instead
-                                if (targetDataType == null) {
-                                    targetDataType = DataTypeUtils.getDataTypeFromSQLTypeValue(fieldSqlType);
-                                }
-                                if (targetDataType != null) {
-                                    if (sqlType == Types.BLOB || sqlType == Types.BINARY || sqlType == Types.VARBINARY || sqlType == Types.LONGVARBINARY) {
-                                        if (currentValue instanceof Object[]) {
-                                            // Convert Object[Byte] arrays to byte[]
-                                            Object[] src = (Object[]) currentValue;
-                                            if (src.length > 0) {
-                                                if (!(src[0] instanceof Byte)) {
-                                                    throw new IllegalTypeConversionException("Cannot convert value " + currentValue + " to BLOB/BINARY/VARBINARY/LONGVARBINARY");
-                                                }
-                                            }
-                                            byte[] dest = new byte[src.length];
-                                            for (int j = 0; j < src.length; j++) {
-                                                dest[j] = (Byte) src[j];
-                                            }
-                                            currentValue = dest;
-                                        } else if (currentValue instanceof String stringValue) {
-                                            if (BINARY_STRING_FORMAT_BASE64.getValue().equals(binaryStringFormat)) {
-                                                currentValue = Base64.getDecoder().decode(stringValue);
-                                            } else if (BINARY_STRING_FORMAT_HEXADECIMAL.getValue().equals(binaryStringFormat)) {
-                                                currentValue = HexFormat.of().parseHex(stringValue);
-                                            } else {
-                                                currentValue = stringValue.getBytes(StandardCharsets.UTF_8);
-                                            }
-                                        } else if (currentValue != null && !(currentValue instanceof byte[])) {
-                                            throw new IllegalTypeConversionException("Cannot convert value " + currentValue + " to BLOB/BINARY/VARBINARY/LONGVARBINARY");
-                                        }
-                                    } else {
-                                        currentValue = DataTypeUtils.convertType(
-                                                currentValue,
-                                                targetDataType,
-                                                fieldName);
-                                    }
-                                }
-                            } catch (IllegalTypeConversionException itce) {
-                                // If the field and column types don't match or the value can't otherwise be converted to the column datatype,
-                                // try with the original object and field datatype
-                                sqlType = DataTypeUtils.getSQLTypeValue(dataType);
-                            }
-                        }
-
-                        // If DELETE type, insert the object twice if the column is nullable because of the null check (see generateDelete for details)
-                        if (DELETE_TYPE.equalsIgnoreCase(statementType)) {
-                            setParameter(ps, ++deleteIndex, currentValue, fieldSqlType, sqlType);
-                            if (column != null && column.isNullable()) {
-                                setParameter(ps, ++deleteIndex, currentValue, fieldSqlType, sqlType);
-                            }
-                        } else if (UPSERT_TYPE.equalsIgnoreCase(statementType)) {
-                            final int timesToAddObjects = databaseAdapter.getTimesToAddColumnObjectsForUpsert();
-                            for (int j = 0; j < timesToAddObjects; j++) {
-                                setParameter(ps, i + (fieldIndexes.size() * j) + 1, currentValue, fieldSqlType, sqlType);
-                            }
-                        } else {
-                            setParameter(ps, i + 1, currentValue, fieldSqlType, sqlType);
-                        }
+                        setParameters(ps, pendingInsertRecords, fieldIndexes, tableSchema, settings, normalizer, binaryStringFormat);
+                        pendingInsertRecords.clear();
+                        ps.addBatch();
+                    } else {
+                        setParameters(ps, 0, currentRecord, fieldIndexes, statementType, tableSchema, settings, normalizer, binaryStringFormat);
+                        ps.addBatch();
+                        session.adjustCounter(statementType + " updates performed", 1, false);
                     }
 
-                    ps.addBatch();
-                    session.adjustCounter(statementType + " updates performed", 1, false);
                     if (++currentBatchSize == maxBatchSize) {
                         batchIndex++;
                         log.debug("Executing query {} because batch reached max size for {}; fieldIndexes: {}; batch index: {}; batch size: {}",
@@ -996,6 +940,10 @@ public class PutDatabaseRecord extends AbstractProcessor {
                 lastPreparedStatement.executeBatch();
                 session.adjustCounter("Batches Executed", 1, false);
             }
+
+            if (!pendingInsertRecords.isEmpty()) {
+                executeMultiRowInsert(con, pendingInsertRecords, fqTableName, tableSchema, settings, normalizer, binaryStringFormat, timeoutMillis);
+            }
         } finally {
             for (final PreparedSqlAndColumns preparedSqlAndColumns : preparedSql.values()) {
                 preparedSqlAndColumns.getPreparedStatement().close();
@@ -1003,6 +951,141 @@ public class PutDatabaseRecord extends AbstractProcessor {
         }
     }
 
+    private PreparedStatement prepareStatement(final Connection con, final String sql, final int timeoutMillis) throws SQLException {
+        final PreparedStatement preparedStatement = con.prepareStatement(sql);
+
+        try {
+            preparedStatement.setQueryTimeout(timeoutMillis); // timeout in seconds
+        } catch (final SQLException se) {
+            // If the driver doesn't support query timeout, then assume it is "infinite". Allow a timeout of zero only
+            if (timeoutMillis > 0) {
+                throw se;
+            }
+        }
+
+        return preparedStatement;
+    }
+
+    private void executeMultiRowInsert(final Connection con, final List<Record> records, final String tableName, final TableSchema tableSchema, final DMLSettings settings,
+                                       final NameNormalizer normalizer, final String binaryStringFormat, final int timeoutMillis) throws SQLException, IOException {
+        final SqlAndIncludedColumns sqlHolder = generateMultiRowInsert(records.getFirst().getSchema(), tableName, tableSchema, settings, normalizer, records.size());
+        getLogger().debug("Generated SQL: {}", sqlHolder.getSql());
+
+        try (final PreparedStatement preparedStatement = prepareStatement(con, sqlHolder.getSql(), timeoutMillis)) {
+            setParameters(preparedStatement, records, sqlHolder.getFieldIndexes(), tableSchema, settings, normalizer, binaryStringFormat);
+            preparedStatement.executeUpdate();
+        }
+    }
+
+    private void setParameters(final PreparedStatement ps, final List<Record> insertRecords, final List<Integer> fieldIndexes, final TableSchema tableSchema,
+                               final DMLSettings settings, final NameNormalizer normalizer, final String binaryStringFormat) throws SQLException, IOException {
+        int parameterOffset = 0;
+        for (final Record insertRecord : insertRecords) {
+            setParameters(ps, parameterOffset, insertRecord, fieldIndexes, INSERT_TYPE, tableSchema, settings, normalizer, binaryStringFormat);
+            parameterOffset += fieldIndexes.size();
+        }
+    }
+
+    private void setParameters(final PreparedStatement ps, final int parameterOffset, final Record currentRecord, final List<Integer> fieldIndexes, final String statementType,
+                               final TableSchema tableSchema, final DMLSettings settings, final NameNormalizer normalizer, final String binaryStringFormat)
+            throws SQLException, IOException {
+        final Object[] values = currentRecord.getValues();
+        final List<DataType> dataTypes = currentRecord.getSchema().getDataTypes();
+        final RecordSchema recordSchema = currentRecord.getSchema();
+        final Map<String, ColumnDescription> columns = tableSchema.getColumns();
+
+        int deleteIndex = 0;
+        for (int i = 0; i < fieldIndexes.size(); i++) {
+            final int currentFieldIndex = fieldIndexes.get(i);
+            Object currentValue = values[currentFieldIndex];
+            final DataType dataType = dataTypes.get(currentFieldIndex);
+            final int fieldSqlType = DataTypeUtils.getSQLTypeValue(dataType);
+            final String fieldName = recordSchema.getField(currentFieldIndex).getFieldName();
+            String columnName = TableSchema.normalizedName(fieldName, settings.translateFieldNames, normalizer);
+            int sqlType;
+
+            final ColumnDescription column = columns.get(columnName);
+            // 'column' should not be null here as the fieldIndexes should correspond to fields that match table columns, but better to handle just in case
+            if (column == null) {
+                if (!settings.ignoreUnmappedFields) {
+                    throw new SQLDataException("Cannot map field '" + fieldName + "' to any column in the database\n"
+                            + (settings.translateFieldNames ? "Normalized " : "") + "Columns: " + String.join(",", columns.keySet()));
+                } else {
+                    sqlType = fieldSqlType;
+                }
+            } else {
+                sqlType = column.getDataType();
+                // SQLServer returns -150 for sql_variant from DatabaseMetaData though the server expects -156 when setting a sql_variant parameter
+                if (sqlType == -150) {
+                    sqlType = -156;
+                }
+            }
+
+            // Convert (if necessary) from field data type to column data type
+            if (fieldSqlType != sqlType) {
+                try {
+                    DataType targetDataType = DataTypeUtils.getDataTypeFromSQLTypeValue(sqlType);
+                    // If sqlType is unsupported, fall back to the fieldSqlType instead
+                    if (targetDataType == null) {
+                        targetDataType = DataTypeUtils.getDataTypeFromSQLTypeValue(fieldSqlType);
+                    }
+                    if (targetDataType != null) {
+                        if (sqlType == Types.BLOB || sqlType == Types.BINARY || sqlType == Types.VARBINARY || sqlType == Types.LONGVARBINARY) {
+                            if (currentValue instanceof Object[]) {
+                                // Convert Object[Byte] arrays to byte[]
+                                Object[] src = (Object[]) currentValue;
+                                if (src.length > 0) {
+                                    if (!(src[0] instanceof Byte)) {
+                                        throw new IllegalTypeConversionException("Cannot convert value " + currentValue + " to BLOB/BINARY/VARBINARY/LONGVARBINARY");
+                                    }
+                                }
+                                byte[] dest = new byte[src.length];
+                                for (int j = 0; j < src.length; j++) {
+                                    dest[j] = (Byte) src[j];
+                                }
+                                currentValue = dest;
+                            } else if (currentValue instanceof String stringValue) {
+                                if (BINARY_STRING_FORMAT_BASE64.getValue().equals(binaryStringFormat)) {
+                                    currentValue = Base64.getDecoder().decode(stringValue);
+                                } else if (BINARY_STRING_FORMAT_HEXADECIMAL.getValue().equals(binaryStringFormat)) {
+                                    currentValue = HexFormat.of().parseHex(stringValue);
+                                } else {
+                                    currentValue = stringValue.getBytes(StandardCharsets.UTF_8);
+                                }
+                            } else if (currentValue != null && !(currentValue instanceof byte[])) {
+                                throw new IllegalTypeConversionException("Cannot convert value " + currentValue + " to BLOB/BINARY/VARBINARY/LONGVARBINARY");
+                            }
+                        } else {
+                            currentValue = DataTypeUtils.convertType(
+                                    currentValue,
+                                    targetDataType,
+                                    fieldName);
+                        }
+                    }
+                } catch (IllegalTypeConversionException itce) {
+                    // If the field and column types don't match or the value can't otherwise be converted to the column datatype,
+                    // try with the original object and field datatype
+                    sqlType = DataTypeUtils.getSQLTypeValue(dataType);
+                }
+            }
+
+            // If DELETE type, insert the object twice if the column is nullable because of the null check (see generateDelete for details)
+            if (DELETE_TYPE.equalsIgnoreCase(statementType)) {
+                setParameter(ps, ++deleteIndex, currentValue, fieldSqlType, sqlType);
+                if (column != null && column.isNullable()) {
+                    setParameter(ps, ++deleteIndex, currentValue, fieldSqlType, sqlType);
+                }
+            } else if (UPSERT_TYPE.equalsIgnoreCase(statementType)) {
+                final int timesToAddObjects = databaseAdapter.getTimesToAddColumnObjectsForUpsert();
+                for (int j = 0; j < timesToAddObjects; j++) {
+                    setParameter(ps, i + (fieldIndexes.size() * j) + 1, currentValue, fieldSqlType, sqlType);
+                }
+            } else {
+                setParameter(ps, parameterOffset + i + 1, currentValue, fieldSqlType, sqlType);
+            }
+        }
+    }
+
     private void setParameter(PreparedStatement ps, int index, Object value, int fieldSqlType, int sqlType) throws IOException {
         if (sqlType == Types.BLOB) {
             // Convert Byte[] or String (anything that has been converted to byte[]) into BLOB
@@ -1230,21 +1313,44 @@ public class PutDatabaseRecord extends AbstractProcessor {
 
         checkValuesForRequiredColumns(recordSchema, tableSchema, settings, normalizer);
 
-        final StringBuilder sqlBuilder = new StringBuilder();
-        sqlBuilder.append("INSERT INTO ");
-        sqlBuilder.append(tableName);
-        sqlBuilder.append(" (");
+        final IncludedColumns includedColumns = getIncludedColumns(recordSchema, tableName, tableSchema, settings, normalizer);
 
-        // iterate over all of the fields in the record, building the SQL statement by adding the column names
-        List<String> fieldNames = recordSchema.getFieldNames();
-        final List<Integer> includedColumns = new ArrayList<>();
+        // complete the SQL statements by adding ?'s for all of the values to be escaped.
+        final String sql = "INSERT INTO " + tableName
+                + " (" + String.join(", ", includedColumns.columnNames()) + ")"
+                + " VALUES (" + StringUtils.repeat("?", ",", includedColumns.columnNames().size()) + ")";
+
+        return new SqlAndIncludedColumns(sql, includedColumns.fieldIndices());
+    }
+
+    SqlAndIncludedColumns generateMultiRowInsert(final RecordSchema recordSchema, final String tableName, final TableSchema tableSchema, final DMLSettings settings,
+                                                 final NameNormalizer normalizer, final int rowCount) throws IllegalArgumentException, SQLException {
+
+        checkValuesForRequiredColumns(recordSchema, tableSchema, settings, normalizer);
+
+        final IncludedColumns includedColumns = getIncludedColumns(recordSchema, tableName, tableSchema, settings, normalizer);
+        final String sql = databaseAdapter.getMultiRowInsertStatement(tableName, includedColumns.columnNames(), rowCount);
+
+        return new SqlAndIncludedColumns(sql, includedColumns.fieldIndices());
+    }
+
+    /**
+     * Maps the fields in the record to the columns of the table, returning the column names to insert, escaped when configured,
+     * and the indices of the fields that supply their values
+     */
+    private IncludedColumns getIncludedColumns(final RecordSchema recordSchema, final String tableName, final TableSchema tableSchema, final DMLSettings settings,
+                                               final NameNormalizer normalizer) throws SQLDataException {
+        final List<String> columnNames = new ArrayList<>();
+        final List<Integer> fieldIndices = new ArrayList<>();
+
+        // iterate over all of the fields in the record, finding the column for each field
+        final List<String> fieldNames = recordSchema.getFieldNames();
         if (fieldNames != null) {
-            int fieldCount = fieldNames.size();
-            AtomicInteger fieldsFound = new AtomicInteger(0);
+            final int fieldCount = fieldNames.size();
 
             for (int i = 0; i < fieldCount; i++) {
-                RecordField field = recordSchema.getField(i);
-                String fieldName = field.getFieldName();
+                final RecordField field = recordSchema.getField(i);
+                final String fieldName = field.getFieldName();
 
                 final ColumnDescription desc = tableSchema.getColumns().get(TableSchema.normalizedName(fieldName, settings.translateFieldNames, normalizer));
                 if (desc == null && !settings.ignoreUnmappedFields) {
@@ -1253,36 +1359,26 @@ public class PutDatabaseRecord extends AbstractProcessor {
                 }
 
                 if (desc != null) {
-                    if (fieldsFound.getAndIncrement() > 0) {
-                        sqlBuilder.append(", ");
-                    }
-
                     if (settings.escapeColumnNames) {
-                        sqlBuilder.append(tableSchema.getQuotedIdentifierString())
-                                .append(desc.getColumnName())
-                                .append(tableSchema.getQuotedIdentifierString());
+                        columnNames.add(tableSchema.getQuotedIdentifierString() + desc.getColumnName() + tableSchema.getQuotedIdentifierString());
                     } else {
-                        sqlBuilder.append(desc.getColumnName());
+                        columnNames.add(desc.getColumnName());
                     }
-                    includedColumns.add(i);
+                    fieldIndices.add(i);
                 } else {
                     // User is ignoring unmapped fields, but log at debug level just in case
                     getLogger().debug("Did not map field '{}' to any column in the database\n{}Columns: {}",
                             fieldName, (settings.translateFieldNames ? "Normalized " : ""), String.join(",", tableSchema.getColumns().keySet()));
                 }
             }
+        }
 
-            // complete the SQL statements by adding ?'s for all of the values to be escaped.
-            sqlBuilder.append(") VALUES (");
-            sqlBuilder.append(StringUtils.repeat("?", ",", includedColumns.size()));
-            sqlBuilder.append(")");
-
-            if (fieldsFound.get() == 0) {
-                throw new SQLDataException("None of the fields in the record map to the columns defined by the " + tableName + " table\n"
-                        + (settings.translateFieldNames ? "Normalized " : "") + "Columns: " + String.join(",", tableSchema.getColumns().keySet()));
-            }
+        if (columnNames.isEmpty()) {
+            throw new SQLDataException("None of the fields in the record map to the columns defined by the " + tableName + " table\n"
+                    + (settings.translateFieldNames ? "Normalized " : "") + "Columns: " + String.join(",", tableSchema.getColumns().keySet()));
         }
-        return new SqlAndIncludedColumns(sqlBuilder.toString(), includedColumns);
+
+        return new IncludedColumns(columnNames, fieldIndices);
     }
 
     SqlAndIncludedColumns generateUpsert(final RecordSchema recordSchema, final String tableName, final String updateKeys,
@@ -1736,6 +1832,12 @@ public class PutDatabaseRecord extends AbstractProcessor {
         }
     }
 
+    /**
+     * Column names to insert and the indexes of the record fields that supply their values, in statement order
+     */
+    private record IncludedColumns(List<String> columnNames, List<Integer> fieldIndices) {
+    }
+
     private static class RecordPathStatementType implements Function<Record, String> {
         private final RecordPath recordPath;
 
@@ -47,7 +47,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @SupportsBatching
@@ -105,11 +110,21 @@ public class PutDistributedMapCache extends AbstractProcessor {
         .expressionLanguageSupported(ExpressionLanguageScope.NONE)
         .build();
 
+    public static final PropertyDescriptor BATCH_SIZE = new PropertyDescriptor.Builder()
+        .name("Batch Size")
+        .description("The maximum number of FlowFiles to process in each invocation. The entries for all FlowFiles in a batch are "
+            + "sent using a single request to the Distributed Cache Service when the service supports batch operations.")
+        .required(true)
+        .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+        .defaultValue("1")
+        .build();
+
     private static final List<PropertyDescriptor> PROPERTIES = List.of(
             CACHE_ENTRY_IDENTIFIER,
             DISTRIBUTED_CACHE_SERVICE,
             CACHE_UPDATE_STRATEGY,
-            CACHE_ENTRY_MAX_BYTES
+            CACHE_ENTRY_MAX_BYTES,
+            BATCH_SIZE
     );
 
     public static final Relationship REL_SUCCESS = new Relationship.Builder()
@@ -143,77 +158,123 @@ public class PutDistributedMapCache extends AbstractProcessor {
 
     @Override
     public void onTrigger(final ProcessContext context, final ProcessSession session) throws ProcessException {
-        FlowFile flowFile = session.get();
-        if (flowFile == null) {
+        final int batchSize = context.getProperty(BATCH_SIZE).asInteger();
+        final List<FlowFile> flowFiles = session.get(batchSize);
+        if (flowFiles.isEmpty()) {
             return;
         }
 
         final ComponentLog logger = getLogger();
+        final long maxCacheEntrySize = context.getProperty(CACHE_ENTRY_MAX_BYTES).asDataSize(DataUnit.B).longValue();
+        final boolean keepOriginal = context.getProperty(CACHE_UPDATE_STRATEGY).getValue().equals(CACHE_UPDATE_KEEP_ORIGINAL.getValue());
+
+        final List<FlowFile> keyedFlowFiles = new ArrayList<>(flowFiles.size());
+        final List<String> cacheKeys = new ArrayList<>(flowFiles.size());
+        final Map<String, byte[]> cacheValues = new LinkedHashMap<>();
+        for (FlowFile flowFile : flowFiles) {
+            // cache key is computed from attribute 'CACHE_ENTRY_IDENTIFIER' with expression language support
+            final String cacheKey = context.getProperty(CACHE_ENTRY_IDENTIFIER).evaluateAttributeExpressions(flowFile).getValue();
+
+            // if the computed value is null, or empty, we transfer the flow file to failure relationship
+            if (StringUtils.isBlank(cacheKey)) {
+                logger.error("FlowFile {} has no attribute for given Cache Entry Identifier", flowFile);
+                flowFile = session.penalize(flowFile);
+                session.transfer(flowFile, REL_FAILURE);
+                continue;
+            }
 
-        // cache key is computed from attribute 'CACHE_ENTRY_IDENTIFIER' with expression language support
-        final String cacheKey = context.getProperty(CACHE_ENTRY_IDENTIFIER).evaluateAttributeExpressions(flowFile).getValue();
-
-        // if the computed value is null, or empty, we transfer the flow file to failure relationship
-        if (StringUtils.isBlank(cacheKey)) {
-            logger.error("FlowFile {} has no attribute for given Cache Entry Identifier", flowFile);
-            flowFile = session.penalize(flowFile);
-            session.transfer(flowFile, REL_FAILURE);
-            return;
-        }
-
-        // the cache client used to interact with the distributed cache
-        final DistributedMapCacheClient cache = context.getProperty(DISTRIBUTED_CACHE_SERVICE).asControllerService(DistributedMapCacheClient.class);
-
-        try {
-
-            final long maxCacheEntrySize = context.getProperty(CACHE_ENTRY_MAX_BYTES).asDataSize(DataUnit.B).longValue();
             long flowFileSize = flowFile.getSize();
 
             // too big flow file
             if (flowFileSize > maxCacheEntrySize) {
                 logger.warn("Flow file {} size {} exceeds the max cache entry size ({} B).", flowFile, flowFileSize, maxCacheEntrySize);
                 session.transfer(flowFile, REL_FAILURE);
-                return;
+                continue;
             }
 
             if (flowFileSize == 0) {
                 logger.warn("Flow file {} is empty, there is nothing to cache.", flowFile);
                 session.transfer(flowFile, REL_FAILURE);
-                return;
-
+                continue;
             }
 
             // get flow file content
             final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
             session.exportTo(flowFile, byteStream);
-            byte[] cacheValue = byteStream.toByteArray();
-            final String updateStrategy = context.getProperty(CACHE_UPDATE_STRATEGY).getValue();
-            boolean cached = false;
-
-            if (updateStrategy.equals(CACHE_UPDATE_REPLACE.getValue())) {
-                cache.put(cacheKey, cacheValue, keySerializer, valueSerializer);
-                cached = true;
-            } else if (updateStrategy.equals(CACHE_UPDATE_KEEP_ORIGINAL.getValue())) {
-                final byte[] oldValue = cache.getAndPutIfAbsent(cacheKey, cacheValue, keySerializer, valueSerializer, valueDeserializer);
-                if (oldValue == null) {
-                    cached = true;
+            final byte[] cacheValue = byteStream.toByteArray();
+
+            // the last value wins when replacing, whereas only the first value can be cached when keeping the original
+            if (keepOriginal) {
+                cacheValues.putIfAbsent(cacheKey, cacheValue);
+            } else {
+                cacheValues.put(cacheKey, cacheValue);
+            }
+            keyedFlowFiles.add(flowFile);
+            cacheKeys.add(cacheKey);
+        }
+
+        if (keyedFlowFiles.isEmpty()) {
+            return;
+        }
+
+        // the cache client used to interact with the distributed cache
+        final DistributedMapCacheClient cache = context.getProperty(DISTRIBUTED_CACHE_SERVICE).asControllerService(DistributedMapCacheClient.class);
+
+        final Set<String> cachedKeys = new HashSet<>();
+        try {
+            if (keepOriginal) {
+                final Map<String, byte[]> oldValues = getAndPutIfAbsent(cache, cacheValues);
+                for (final Map.Entry<String, byte[]> oldValue : oldValues.entrySet()) {
+                    if (oldValue.getValue() == null) {
+                        cachedKeys.add(oldValue.getKey());
+                    }
                 }
+            } else {
+                if (cacheValues.size() == 1) {
+                    final Map.Entry<String, byte[]> entry = cacheValues.entrySet().iterator().next();
+                    cache.put(entry.getKey(), entry.getValue(), keySerializer, valueSerializer);
+                } else {
+                    cache.putAll(cacheValues, keySerializer, valueSerializer);
+                }
+                cachedKeys.addAll(cacheValues.keySet());
             }
+        } catch (final IOException e) {
+            for (FlowFile flowFile : keyedFlowFiles) {
+                flowFile = session.penalize(flowFile);
+                session.transfer(flowFile, REL_FAILURE);
+                logger.error("Unable to communicate with cache when processing {}", flowFile, e);
+            }
+            return;
+        }
+
+        for (int i = 0; i < keyedFlowFiles.size(); i++) {
+            final String cacheKey = cacheKeys.get(i);
+
+            // only the first FlowFile with a given key can be cached when keeping the original
+            final boolean cached = keepOriginal ? cachedKeys.remove(cacheKey) : cachedKeys.contains(cacheKey);
 
             // set 'cached' attribute
-            flowFile = session.putAttribute(flowFile, CACHED_ATTRIBUTE_NAME, String.valueOf(cached));
+            final FlowFile flowFile = session.putAttribute(keyedFlowFiles.get(i), CACHED_ATTRIBUTE_NAME, String.valueOf(cached));
 
             if (cached) {
                 session.transfer(flowFile, REL_SUCCESS);
             } else {
                 session.transfer(flowFile, REL_FAILURE);
             }
+        }
+    }
 
-        } catch (final IOException e) {
-            flowFile = session.penalize(flowFile);
-            session.transfer(flowFile, REL_FAILURE);
-            logger.error("Unable to communicate with cache when processing {}", flowFile, e);
+    private Map<String, byte[]> getAndPutIfAbsent(final DistributedMapCacheClient cache, final Map<String, byte[]> cacheValues) throws IOException {
+        final Map<String, byte[]> oldValues;
+        if (cacheValues.size() == 1) {
+            final Map.Entry<String, byte[]> entry = cacheValues.entrySet().iterator().next();
+            final byte[] oldValue = cache.getAndPutIfAbsent(entry.getKey(), entry.getValue(), keySerializer, valueSerializer, valueDeserializer);
+            oldValues = new HashMap<>();
+            oldValues.put(entry.getKey(), oldValue);
+        } else {
+            oldValues = cache.getAndPutIfAbsentAll(cacheValues, keySerializer, valueSerializer, valueDeserializer);
         }
+        return oldValues;
     }
 
     public static class CacheValueSerializer implements Serializer<byte[]> {
@@ -107,6 +107,7 @@ public class QueryDatabaseTable extends AbstractQueryDatabaseTable {
             MAX_ROWS_PER_FLOW_FILE,
             OUTPUT_BATCH_SIZE,
             MAX_FRAGMENTS,
+            PARALLEL_PARTITION_COUNT,
             NORMALIZE_NAMES_FOR_AVRO,
             TRANS_ISOLATION_LEVEL,
             USE_AVRO_LOGICAL_TYPES,
@@ -207,6 +207,7 @@ public class QueryDatabaseTableRecord extends AbstractQueryDatabaseTable {
             MAX_ROWS_PER_FLOW_FILE,
             OUTPUT_BATCH_SIZE,
             MAX_FRAGMENTS,
+            PARALLEL_PARTITION_COUNT,
             NORMALIZE_NAMES,
             USE_AVRO_LOGICAL_TYPES,
             VARIABLE_REGISTRY_ONLY_DEFAULT_PRECISION,
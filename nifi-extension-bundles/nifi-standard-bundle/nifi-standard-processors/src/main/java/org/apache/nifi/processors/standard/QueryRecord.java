@@ -44,11 +44,13 @@ import org.apache.nifi.flowfile.attributes.CoreAttributes;
 import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.migration.PropertyConfiguration;
 import org.apache.nifi.processor.AbstractProcessor;
+import org.apache.nifi.processor.DataUnit;
 import org.apache.nifi.processor.ProcessContext;
 import org.apache.nifi.processor.ProcessSession;
 import org.apache.nifi.processor.ProcessorInitializationContext;
 import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.processor.exception.ProcessException;
+import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.processors.standard.calcite.RecordPathFunctions;
 import org.apache.nifi.processors.standard.calcite.RecordResultSetOutputStreamCallback;
 import org.apache.nifi.queryrecord.RecordDataSource;
@@ -57,9 +59,11 @@ import org.apache.nifi.serialization.RecordReaderFactory;
 import org.apache.nifi.serialization.RecordSetWriterFactory;
 import org.apache.nifi.serialization.WriteResult;
 import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.sql.BufferedDataSource;
 import org.apache.nifi.sql.CalciteDatabase;
 import org.apache.nifi.sql.NiFiTable;
 import org.apache.nifi.sql.NiFiTableSchema;
+import org.apache.nifi.sql.ResettableDataSource;
 import org.apache.nifi.util.StopWatch;
 import org.apache.nifi.util.StringUtils;
 import org.apache.nifi.util.Tuple;
@@ -217,11 +221,34 @@ public class QueryRecord extends AbstractProcessor {
         .defaultValue("true")
         .required(true)
         .build();
+    static final PropertyDescriptor MAX_BUFFERED_RECORDS = new PropertyDescriptor.Builder()
+        .name("Max Buffered Records")
+        .description("When more than one SQL query is configured, the records of each FlowFile are parsed once and held in memory so that all queries "
+            + "can be evaluated without parsing the FlowFile again. If a FlowFile contains more than this number of records, the records are not held "
+            + "in memory and each query reads the FlowFile content again. A value of 0 disables buffering. This limit is a number of records, "
+            + "not an amount of memory; the Max Buffer Size property bounds the size of the FlowFiles whose records may be buffered.")
+        .expressionLanguageSupported(ExpressionLanguageScope.NONE)
+        .addValidator(StandardValidators.NON_NEGATIVE_INTEGER_VALIDATOR)
+        .defaultValue("10000")
+        .required(true)
+        .build();
+    static final PropertyDescriptor MAX_BUFFER_SIZE = new PropertyDescriptor.Builder()
+        .name("Max Buffer Size")
+        .description("When more than one SQL query is configured, the records of a FlowFile are held in memory only if the size of the FlowFile "
+            + "content does not exceed this value. Parsed records typically occupy more memory than the content from which they were read, "
+            + "so this value should be well below the available heap. Larger FlowFiles are read again for each query.")
+        .expressionLanguageSupported(ExpressionLanguageScope.NONE)
+        .addValidator(StandardValidators.DATA_SIZE_VALIDATOR)
+        .defaultValue("10 MB")
+        .required(true)
+        .build();
 
     private static final List<PropertyDescriptor> PROPERTIES = List.of(
             RECORD_READER_FACTORY,
             RECORD_WRITER_FACTORY,
             INCLUDE_ZERO_RECORD_FLOWFILES,
+            MAX_BUFFERED_RECORDS,
+            MAX_BUFFER_SIZE,
             DEFAULT_PRECISION,
             DEFAULT_SCALE
     );
@@ -353,12 +380,23 @@ public class QueryRecord extends AbstractProcessor {
         final Map<String, String> originalAttributes = original.getAttributes();
         int recordsRead = 0;
 
-        try {
-            for (final PropertyDescriptor descriptor : context.getProperties().keySet()) {
-                if (!descriptor.isDynamic()) {
-                    continue;
-                }
+        final List<PropertyDescriptor> queryDescriptors = context.getProperties().keySet().stream()
+            .filter(PropertyDescriptor::isDynamic)
+            .toList();
+
+        // When there is more than one query, retain the parsed records so that the FlowFile is parsed only once
+        final RecordDataSource recordDataSource = new RecordDataSource(readerSchema, session, original, recordReaderFactory, getLogger());
+        final int maxBufferedRecords = context.getProperty(MAX_BUFFERED_RECORDS).asInteger();
+        final double maxBufferSize = context.getProperty(MAX_BUFFER_SIZE).asDataSize(DataUnit.B);
+        final ResettableDataSource dataSource;
+        if (queryDescriptors.size() > 1 && maxBufferedRecords > 0 && original.getSize() <= maxBufferSize) {
+            dataSource = new BufferedDataSource(recordDataSource, maxBufferedRecords);
+        } else {
+            dataSource = recordDataSource;
+        }
 
+        try {
+            for (final PropertyDescriptor descriptor : queryDescriptors) {
                 final Relationship relationship = new Relationship.Builder().name(descriptor.getName()).build();
 
                 // We have to fork a child because we may need to read the input FlowFile more than once,
@@ -369,7 +407,7 @@ public class QueryRecord extends AbstractProcessor {
 
                 try {
                     final String sql = context.getProperty(descriptor).evaluateAttributeExpressions(original).getValue();
-                    final QueryResult queryResult = query(session, original, readerSchema, sql, recordReaderFactory);
+                    final QueryResult queryResult = query(dataSource, readerSchema, sql);
 
                     final ResultSet rs = queryResult.getResultSet();
                     final RecordResultSetOutputStreamCallback writer = new RecordResultSetOutputStreamCallback(getLogger(),
@@ -440,6 +478,14 @@ public class QueryRecord extends AbstractProcessor {
         }
 
         session.adjustCounter("Records Read", recordsRead, false);
+
+        // Records and fields that the query did not need, and that were therefore discarded or never parsed
+        if (recordDataSource.getRecordsSkipped() > 0) {
+            session.adjustCounter("Records Skipped", recordDataSource.getRecordsSkipped(), false);
+        }
+        if (recordDataSource.getFieldsSkipped() > 0) {
+            session.adjustCounter("Fields Skipped", recordDataSource.getFieldsSkipped(), false);
+        }
     }
 
 
@@ -471,15 +517,14 @@ public class QueryRecord extends AbstractProcessor {
     }
 
 
-    private QueryResult query(final ProcessSession session, final FlowFile flowFile, final RecordSchema schema, final String sql, final RecordReaderFactory recordReaderFactory)
-                throws SQLException {
+    private QueryResult query(final ResettableDataSource dataSource, final RecordSchema schema, final String sql) throws SQLException {
 
         final Supplier<CachedStatement> statementBuilder = () -> buildCachedStatement(sql, schema);
 
         final CachedStatement cachedStatement = getStatement(sql, schema, statementBuilder);
         final PreparedStatement stmt = cachedStatement.statement();
         final NiFiTable table = cachedStatement.table();
-        table.setDataSource(new RecordDataSource(schema, session, flowFile, recordReaderFactory, getLogger()));
+        table.setDataSource(dataSource);
 
         final ResultSet rs;
         try {
@@ -59,7 +59,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @SideEffectFree
 @SupportsBatching
@@ -224,7 +223,7 @@ public class UpdateRecord extends AbstractRecordProcessor {
 
         for (final String recordPathText : recordPaths) {
             final RecordPath recordPath = recordPathCache.getCompiled(recordPathText);
-            final RecordPathResult result = recordPath.evaluate(record);
+            final List<FieldValue> destinationFields = recordPath.evaluateFieldValues(record);
 
             if (evaluateValueAsRecordPath) {
                 final String replacementValue = context.getProperty(recordPathText).evaluateAttributeExpressions(flowFile).getValue();
@@ -233,9 +232,9 @@ public class UpdateRecord extends AbstractRecordProcessor {
                 // If we have an Absolute RecordPath, we need to evaluate the RecordPath only once against the Record.
                 // If the RecordPath is a Relative Path, then we have to evaluate it against each FieldValue.
                 if (replacementRecordPath.isAbsolute()) {
-                    record = processAbsolutePath(replacementRecordPath, result.getSelectedFields(), record);
+                    record = processAbsolutePath(replacementRecordPath, destinationFields, record);
                 } else {
-                    record = processRelativePath(replacementRecordPath, result.getSelectedFields(), record);
+                    record = processRelativePath(replacementRecordPath, destinationFields, record);
                 }
             } else {
                 final PropertyValue replacementValue = context.getProperty(recordPathText);
@@ -243,7 +242,7 @@ public class UpdateRecord extends AbstractRecordProcessor {
                 if (replacementValue.isExpressionLanguagePresent()) {
                     final Map<String, String> fieldVariables = new HashMap<>();
 
-                    result.getSelectedFields().forEach(fieldVal -> {
+                    destinationFields.forEach(fieldVal -> {
                         fieldVariables.clear();
                         fieldVariables.put(FIELD_NAME, fieldVal.getField().getFieldName());
                         fieldVariables.put(FIELD_VALUE, DataTypeUtils.toString(fieldVal.getValue(), (String) null));
@@ -255,7 +254,7 @@ public class UpdateRecord extends AbstractRecordProcessor {
                     });
                 } else {
                     final String evaluatedReplacementVal = replacementValue.evaluateAttributeExpressions(flowFile).getValue();
-                    result.getSelectedFields().forEach(fieldVal -> fieldVal.updateValue(evaluatedReplacementVal, RecordFieldType.STRING.getDataType()));
+                    destinationFields.forEach(fieldVal -> fieldVal.updateValue(evaluatedReplacementVal, RecordFieldType.STRING.getDataType()));
                 }
             }
         }
@@ -265,20 +264,17 @@ public class UpdateRecord extends AbstractRecordProcessor {
         return record;
     }
 
-    private Record processAbsolutePath(final RecordPath replacementRecordPath, final Stream<FieldValue> destinationFields, final Record record) {
-        final List<FieldValue> selectedFields = getSelectedFields(replacementRecordPath, null, record);
-        final List<FieldValue> destinationFieldValues = destinationFields.collect(Collectors.toList());
+    private Record processAbsolutePath(final RecordPath replacementRecordPath, final List<FieldValue> destinationFields, final Record record) {
+        final List<FieldValue> selectedFields = replacementRecordPath.evaluateFieldValues(record);
 
-        return updateRecord(destinationFieldValues, selectedFields, record);
+        return updateRecord(destinationFields, selectedFields, record);
     }
 
     private boolean isReplacingRoot(final List<FieldValue> destinationFields) {
         return destinationFields.size() == 1 && destinationFields.getFirst().getParentRecord().isEmpty();
     }
 
-    private Record processRelativePath(final RecordPath replacementRecordPath, final Stream<FieldValue> destinationFields, Record record) {
-        final List<FieldValue> destinationFieldValues = destinationFields.collect(Collectors.toList());
-
+    private Record processRelativePath(final RecordPath replacementRecordPath, final List<FieldValue> destinationFieldValues, Record record) {
         if (isReplacingRoot(destinationFieldValues)) {
             final List<FieldValue> selectedFields = getSelectedFields(replacementRecordPath, destinationFieldValues.getFirst(), record);
             record = updateRecord(destinationFieldValues, selectedFields, record);
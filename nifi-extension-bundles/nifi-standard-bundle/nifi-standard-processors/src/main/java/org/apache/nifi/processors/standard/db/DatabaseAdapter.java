@@ -16,6 +16,8 @@
  */
 package org.apache.nifi.processors.standard.db;
 
+import org.apache.commons.lang3.StringUtils;
+
 import java.sql.JDBCType;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -120,6 +122,44 @@ public interface DatabaseAdapter {
         throw new UnsupportedOperationException("UPSERT is not supported for " + getName());
     }
 
+    /**
+     * Tells whether this adapter supports INSERT statements containing multiple rows of values.
+     *
+     * @return true if multi-row INSERT is supported, false otherwise
+     */
+    default boolean supportsMultiRowInsert() {
+        return false;
+    }
+
+    /**
+     * Returns an SQL INSERT statement that inserts the given number of rows, using a row value constructor for each row.
+     * <br /><br />
+     * Not all databases support inserting multiple rows using a single statement - use together with {@link #supportsMultiRowInsert()}!
+     *
+     * @param table       The name of the table in which to insert the records.
+     * @param columnNames The name of the columns in the table to add values to.
+     * @param rowCount    The number of rows inserted by the statement.
+     * @return A String containing the parameterized jdbc SQL statement.
+     * The parameters are ordered by row, with the parameters for each row in the same order as the provided column list.
+     */
+    default String getMultiRowInsertStatement(String table, List<String> columnNames, int rowCount) {
+        if (StringUtils.isEmpty(table)) {
+            throw new IllegalArgumentException("Table name cannot be null or blank");
+        }
+        if (columnNames == null || columnNames.isEmpty()) {
+            throw new IllegalArgumentException("Column names cannot be null or empty");
+        }
+        if (rowCount < 1) {
+            throw new IllegalArgumentException("Row count must be greater than zero");
+        }
+
+        final String parameterizedRow = "(" + StringUtils.repeat("?", ", ", columnNames.size()) + ")";
+
+        return "INSERT INTO " + table
+                + " (" + String.join(", ", columnNames) + ")"
+                + " VALUES " + StringUtils.repeat(parameterizedRow, ", ", rowCount);
+    }
+
     /**
      * <p>Returns a bare identifier string by removing wrapping escape characters
      * from identifier strings such as table and column names.</p>
@@ -67,6 +67,11 @@ public class MySQLDatabaseAdapter extends GenericDatabaseAdapter {
         return true;
     }
 
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
     /**
      * Tells How many times the column values need to be inserted into the prepared statement. Some DBs (such as MySQL) need the values specified twice in the statement,
      * some need only to specify them once.
@@ -159,6 +159,16 @@ public class Oracle12DatabaseAdapter implements DatabaseAdapter {
         return statementStringBuilder.toString();
     }
 
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    @Override
+    public String getMultiRowInsertStatement(String table, List<String> columnNames, int rowCount) {
+        return OracleDatabaseAdapter.getInsertAllStatement(table, columnNames, rowCount);
+    }
+
     private List<String> getConflictColumnsClause(Collection<String> uniqueKeyColumnNames, List<String> conflictColumns,
             String table, String newTableAlias) {
         List<String> conflictColumnsClause = conflictColumns.stream()
@@ -127,6 +127,36 @@ public class OracleDatabaseAdapter implements DatabaseAdapter {
         return tableName;
     }
 
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    @Override
+    public String getMultiRowInsertStatement(String table, List<String> columnNames, int rowCount) {
+        return getInsertAllStatement(table, columnNames, rowCount);
+    }
+
+    /**
+     * Returns a multi-table INSERT statement that inserts the given number of rows into the same table, since Oracle does not support
+     * multiple row value constructors in a single INSERT statement. Shared with {@link Oracle12DatabaseAdapter}.
+     */
+    static String getInsertAllStatement(final String table, final List<String> columnNames, final int rowCount) {
+        if (StringUtils.isEmpty(table)) {
+            throw new IllegalArgumentException("Table name cannot be null or blank");
+        }
+        if (columnNames == null || columnNames.isEmpty()) {
+            throw new IllegalArgumentException("Column names cannot be null or empty");
+        }
+        if (rowCount < 1) {
+            throw new IllegalArgumentException("Row count must be greater than zero");
+        }
+
+        final String insertInto = "INTO " + table + " (" + String.join(", ", columnNames) + ") VALUES (" + StringUtils.repeat("?", ", ", columnNames.size()) + ")";
+
+        return "INSERT ALL " + StringUtils.repeat(insertInto, " ", rowCount) + " SELECT 1 FROM DUAL";
+    }
+
     @Override
     public List<String> getAlterTableStatements(String tableName, List<ColumnDescription> columnsToAdd, final boolean quoteTableName, final boolean quoteColumnNames) {
         StringBuilder createTableStatement = new StringBuilder();
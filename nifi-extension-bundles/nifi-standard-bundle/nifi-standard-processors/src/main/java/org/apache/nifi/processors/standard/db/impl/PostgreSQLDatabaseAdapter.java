@@ -59,6 +59,11 @@ public class PostgreSQLDatabaseAdapter extends GenericDatabaseAdapter {
         return true;
     }
 
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
     @Override
     public String getUpsertStatement(String table, List<String> columnNames, Collection<String> uniqueKeyColumnNames) {
         if (StringUtils.isEmpty(table)) {
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.standard.enrichment;
+
+import org.apache.avro.Schema;
+import org.apache.nifi.avro.AvroTypeUtil;
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.processor.ProcessSession;
+import org.apache.nifi.serialization.RecordReader;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.RecordSet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Joins Records by building a hash table of the 'enrichment' Records keyed by the enrichment key, and then streaming the 'original' Records through it.
+ * If the 'enrichment' FlowFile is larger than the memory budget, both FlowFiles are first partitioned by key into temporary files on disk so that only
+ * the hash table of one partition is held in memory at a time. In that case the joined Records are grouped by partition rather than being written in
+ * the order of the 'original' FlowFile.
+ */
+public class HashJoinStrategy extends KeyedJoinStrategy {
+    static final int MAX_PARTITION_COUNT = 1024;
+
+    private final long memoryBudget;
+
+    private long bytesSpilled;
+    private long recordsSpilled;
+    private long maxPartitionBytes;
+    private int partitionCount = 1;
+
+    public HashJoinStrategy(final ComponentLog logger, final String originalKeyRecordPath, final String enrichmentKeyRecordPath, final long memoryBudget) {
+        super(logger, originalKeyRecordPath, enrichmentKeyRecordPath);
+        this.memoryBudget = memoryBudget;
+    }
+
+    @Override
+    public RecordJoinResult join(final RecordJoinInput originalInput, final RecordJoinInput enrichmentInput, final Map<String, String> combinedAttributes,
+                                 final ProcessSession session, final RecordSchema writerSchema) throws Exception {
+
+        final long enrichmentSize = enrichmentInput.getFlowFile().getSize();
+        final List<RecordSpillFile> spillFiles = new ArrayList<>();
+        final PartitionLoader partitionLoader;
+
+        if (enrichmentSize <= memoryBudget) {
+            // The content size of the enrichment FlowFile is used as an estimate of the memory required to hold its Records
+            maxPartitionBytes = enrichmentSize;
+            partitionLoader = index -> {
+                final Map<Object, List<Record>> hashTable;
+                try (final InputStream enrichmentIn = session.read(enrichmentInput.getFlowFile());
+                     final RecordReader enrichmentReader = createRecordReader(enrichmentInput, enrichmentIn)) {
+                    hashTable = buildHashTable(enrichmentReader, true);
+                }
+
+                final InputStream originalIn = session.read(originalInput.getFlowFile());
+                try {
+                    return new LoadedPartition(hashTable, createRecordReader(originalInput, originalIn), originalIn);
+                } catch (final Exception e) {
+                    closeQuietly(originalIn);
+                    throw e;
+                }
+            };
+        } else {
+            partitionCount = (int) Math.min(MAX_PARTITION_COUNT, Math.max(2L, (enrichmentSize + memoryBudget - 1) / memoryBudget));
+
+            final List<RecordSpillFile> enrichmentPartitions;
+            final List<RecordSpillFile> originalPartitions;
+            try {
+                enrichmentPartitions = spill(enrichmentInput, session, true, spillFiles);
+                originalPartitions = spill(originalInput, session, false, spillFiles);
+            } catch (final Exception e) {
+                closeQuietly(spillFiles.toArray(new AutoCloseable[0]));
+                throw e;
+            }
+
+            partitionLoader = index -> {
+                final Map<Object, List<Record>> hashTable;
+                try (final RecordReader enrichmentReader = enrichmentPartitions.get(index).createRecordReader()) {
+                    hashTable = buildHashTable(enrichmentReader, false);
+                }
+                return new LoadedPartition(hashTable, originalPartitions.get(index).createRecordReader());
+            };
+        }
+
+        final JoinedRecordSet recordSet = new JoinedRecordSet(createResultSchema(originalInput, enrichmentInput), partitionLoader);
+        return new RecordJoinResult() {
+            @Override
+            public RecordSet getRecordSet() {
+                return recordSet;
+            }
+
+            @Override
+            public void close() {
+                closeQuietly(recordSet);
+                closeQuietly(spillFiles.toArray(new AutoCloseable[0]));
+                reportStatistics(session);
+            }
+        };
+    }
+
+    private Map<Object, List<Record>> buildHashTable(final RecordReader enrichmentReader, final boolean countRecords) throws IOException {
+        final Map<Object, List<Record>> hashTable = new HashMap<>();
+
+        Record enrichmentRecord;
+        while ((enrichmentRecord = nextRecord(enrichmentReader)) != null) {
+            if (countRecords) {
+                countEnrichmentRecord();
+            }
+
+            // Records with a null key cannot match any 'original' Record
+            final Object key = getEnrichmentKey(enrichmentRecord);
+            if (key != null) {
+                hashTable.computeIfAbsent(key, k -> new ArrayList<>(1)).add(enrichmentRecord);
+            }
+        }
+
+        return hashTable;
+    }
+
+    /**
+     * Writes the Records of the given input to one spill file per partition, based on the hash of each Record's key.
+     */
+    private List<RecordSpillFile> spill(final RecordJoinInput input, final ProcessSession session, final boolean enrichment, final List<RecordSpillFile> spillFiles) throws IOException {
+        final RecordSchema recordSchema = input.getRecordSchema();
+        final Schema avroSchema = AvroTypeUtil.extractAvroSchema(recordSchema);
+
+        final List<RecordSpillFile> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            final RecordSpillFile spillFile = new RecordSpillFile(recordSchema, avroSchema);
+            spillFiles.add(spillFile);
+            partitions.add(spillFile);
+        }
+
+        try (final InputStream in = session.read(input.getFlowFile());
+             final RecordReader reader = createRecordReader(input, in)) {
+
+            Record record;
+            while ((record = nextRecord(reader)) != null) {
+                final Object key;
+                if (enrichment) {
+                    countEnrichmentRecord();
+                    key = getEnrichmentKey(record);
+                    if (key == null) {
+                        continue;
+                    }
+                } else {
+                    key = getOriginalKey(record);
+                }
+
+                partitions.get(getPartition(key)).write(record);
+                recordsSpilled++;
+            }
+        }
+
+        for (final RecordSpillFile partition : partitions) {
+            final long partitionBytes = partition.finishWriting();
+            bytesSpilled += partitionBytes;
+            if (enrichment) {
+                maxPartitionBytes = Math.max(maxPartitionBytes, partitionBytes);
+            }
+        }
+
+        return partitions;
+    }
+
+    private int getPartition(final Object key) {
+        if (key == null) {
+            return 0;
+        }
+
+        // Use the high-order bits of the hash code so that the keys within a partition remain well distributed in its hash table
+        return Math.floorMod(Integer.reverse(key.hashCode()), partitionCount);
+    }
+
+    @Override
+    protected void reportStatistics(final ProcessSession session) {
+        super.reportStatistics(session);
+
+        if (partitionCount > 1) {
+            session.adjustCounter("Hash Join Records Spilled", recordsSpilled, false);
+            session.adjustCounter("Hash Join Bytes Spilled", bytesSpilled, false);
+            session.adjustCounter("Hash Join Partitions Spilled", partitionCount, false);
+        }
+
+        getLogger().debug("Hash join held at most {} bytes of 'enrichment' data in memory and spilled {} Records ({} bytes) to disk in {} partitions",
+            maxPartitionBytes, recordsSpilled, bytesSpilled, partitionCount == 1 ? 0 : partitionCount);
+    }
+
+    private interface PartitionLoader {
+        LoadedPartition load(int partitionIndex) throws IOException;
+    }
+
+    private record LoadedPartition(Map<Object, List<Record>> hashTable, RecordReader originalReader, AutoCloseable... resources) {
+    }
+
+    /**
+     * Streams the 'original' Records of each partition in turn through the hash table of that partition
+     */
+    private class JoinedRecordSet implements RecordSet, AutoCloseable {
+        private final RecordSchema schema;
+        private final PartitionLoader partitionLoader;
+        private final Queue<Record> joinedRecords = new ArrayDeque<>();
+        private int partitionIndex = -1;
+        private LoadedPartition partition;
+
+        JoinedRecordSet(final RecordSchema schema, final PartitionLoader partitionLoader) {
+            this.schema = schema;
+            this.partitionLoader = partitionLoader;
+        }
+
+        @Override
+        public RecordSchema getSchema() {
+            return schema;
+        }
+
+        @Override
+        public Record next() throws IOException {
+            while (joinedRecords.isEmpty()) {
+                final Record originalRecord = partition == null ? null : nextRecord(partition.originalReader());
+                if (originalRecord == null) {
+                    close();
+                    if (++partitionIndex >= partitionCount) {
+                        return null;
+                    }
+
+                    partition = partitionLoader.load(partitionIndex);
+                    continue;
+                }
+
+                final List<Record> matches = partition.hashTable().getOrDefault(getOriginalKey(originalRecord), List.of());
+                joinOriginalRecord(originalRecord, matches, schema, joinedRecords);
+            }
+
+            return joinedRecords.poll();
+        }
+
+        @Override
+        public void close() {
+            if (partition != null) {
+                closeQuietly(partition.originalReader());
+                closeQuietly(partition.resources());
+                partition = null;
+            }
+        }
+    }
+}
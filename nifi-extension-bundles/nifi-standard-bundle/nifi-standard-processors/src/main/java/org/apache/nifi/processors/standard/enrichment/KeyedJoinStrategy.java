@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.standard.enrichment;
+
+import org.apache.nifi.flowfile.FlowFile;
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.processor.ProcessSession;
+import org.apache.nifi.record.path.FieldValue;
+import org.apache.nifi.record.path.RecordPath;
+import org.apache.nifi.record.path.util.RecordPathCache;
+import org.apache.nifi.schema.access.SchemaNotFoundException;
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.RecordReader;
+import org.apache.nifi.serialization.record.MapRecord;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.util.DataTypeUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class for strategies that correlate 'original' and 'enrichment' Records by the value of a key rather than by their index in the FlowFile.
+ * Each 'original' Record is written once for every 'enrichment' Record with an equal key, with the fields of the enrichment Record inserted into it.
+ * 'original' Records without a match, including those with a null key, are written unchanged, as with a SQL LEFT OUTER JOIN.
+ */
+public abstract class KeyedJoinStrategy implements RecordJoinStrategy {
+    private static final RecordPathCache recordPathCache = new RecordPathCache(100);
+
+    private final ComponentLog logger;
+    private final RecordPath originalKeyRecordPath;
+    private final RecordPath enrichmentKeyRecordPath;
+
+    private final long startNanos = System.nanoTime();
+    private long originalRecordCount;
+    private long enrichmentRecordCount;
+    private long matchedRecordCount;
+    private long joinedRecordCount;
+
+    protected KeyedJoinStrategy(final ComponentLog logger, final String originalKeyRecordPath, final String enrichmentKeyRecordPath) {
+        this.logger = logger;
+        this.originalKeyRecordPath = recordPathCache.getCompiled(originalKeyRecordPath);
+        this.enrichmentKeyRecordPath = recordPathCache.getCompiled(enrichmentKeyRecordPath);
+    }
+
+    protected ComponentLog getLogger() {
+        return logger;
+    }
+
+    protected Object getOriginalKey(final Record originalRecord) {
+        return getKey(originalKeyRecordPath, originalRecord);
+    }
+
+    protected Object getEnrichmentKey(final Record enrichmentRecord) {
+        return getKey(enrichmentKeyRecordPath, enrichmentRecord);
+    }
+
+    private static Object getKey(final RecordPath recordPath, final Record record) {
+        final Object value = recordPath.evaluate(record).getSelectedFields()
+            .findFirst()
+            .map(FieldValue::getValue)
+            .orElse(null);
+        return normalizeKey(value);
+    }
+
+    protected RecordReader createRecordReader(final RecordJoinInput input, final InputStream in) throws IOException {
+        final FlowFile flowFile = input.getFlowFile();
+        try {
+            return input.getRecordReaderFactory().createRecordReader(flowFile, in, getLogger());
+        } catch (final MalformedRecordException | SchemaNotFoundException e) {
+            throw new IOException("Failed to create Record Reader for " + flowFile, e);
+        }
+    }
+
+    /**
+     * Creates the schema of the joined Records, which contains the fields of both the 'original' and the 'enrichment' Records
+     */
+    protected RecordSchema createResultSchema(final RecordJoinInput originalInput, final RecordJoinInput enrichmentInput) {
+        return DataTypeUtils.merge(originalInput.getRecordSchema(), enrichmentInput.getRecordSchema());
+    }
+
+    protected static Record nextRecord(final RecordReader reader) throws IOException {
+        try {
+            return reader.nextRecord();
+        } catch (final MalformedRecordException e) {
+            throw new IOException("Failed to read record", e);
+        }
+    }
+
+    /**
+     * Normalizes a key so that equal values read by different Record Readers are equal, e.g. an Integer 5 from one reader and a Long 5 from another.
+     */
+    static Object normalizeKey(final Object value) {
+        if (value instanceof Number number) {
+            try {
+                return new BigDecimal(number.toString()).stripTrailingZeros();
+            } catch (final NumberFormatException e) {
+                // NaN and infinite values have no decimal representation
+                return number.doubleValue();
+            }
+        }
+        if (value instanceof CharSequence || value instanceof Character) {
+            return value.toString();
+        }
+        return value;
+    }
+
+    /**
+     * Compares two non-null normalized keys consistently with {@link Object#equals(Object)}, so that keys match in the same way as they do in a hash table.
+     * Keys of different types are never equal and are ordered by the name of their type. Keys of the same Comparable type use their natural ordering,
+     * and other keys are ordered by their String representations.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compareKeys(final Object left, final Object right) {
+        if (left.getClass() != right.getClass()) {
+            return left.getClass().getName().compareTo(right.getClass().getName());
+        }
+        if (left instanceof Comparable comparable) {
+            return comparable.compareTo(right);
+        }
+        if (left.equals(right)) {
+            return 0;
+        }
+
+        final int comparison = left.toString().compareTo(right.toString());
+        return comparison == 0 ? Integer.compare(left.hashCode(), right.hashCode()) : comparison;
+    }
+
+    /**
+     * Adds to the given queue the joined Records for an 'original' Record: one for each of the matching 'enrichment' Records, or the 'original' Record alone
+     * if there are none
+     */
+    protected void joinOriginalRecord(final Record originalRecord, final List<Record> matchingEnrichmentRecords, final RecordSchema resultSchema, final Queue<Record> joinedRecords) {
+        originalRecordCount++;
+
+        if (matchingEnrichmentRecords.isEmpty()) {
+            joinedRecords.add(joinRecords(originalRecord, null, resultSchema));
+            return;
+        }
+
+        matchedRecordCount++;
+        for (final Record enrichmentRecord : matchingEnrichmentRecords) {
+            joinedRecords.add(joinRecords(originalRecord, enrichmentRecord, resultSchema));
+        }
+    }
+
+    private Record joinRecords(final Record originalRecord, final Record enrichmentRecord, final RecordSchema resultSchema) {
+        joinedRecordCount++;
+
+        final Map<String, Object> values = new LinkedHashMap<>();
+        for (final RecordField field : resultSchema.getFields()) {
+            values.put(field.getFieldName(), null);
+        }
+        values.putAll(originalRecord.toMap());
+        if (enrichmentRecord != null) {
+            values.putAll(enrichmentRecord.toMap());
+        }
+        return new MapRecord(resultSchema, values);
+    }
+
+    protected void countEnrichmentRecord() {
+        enrichmentRecordCount++;
+    }
+
+    /**
+     * Adjusts the session counters with the number of Records read and joined, and logs the rate at which Records were joined
+     */
+    protected void reportStatistics(final ProcessSession session) {
+        final long elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+
+        session.adjustCounter("Join Original Records Read", originalRecordCount, false);
+        session.adjustCounter("Join Enrichment Records Read", enrichmentRecordCount, false);
+        session.adjustCounter("Join Matched Records", matchedRecordCount, false);
+        session.adjustCounter("Join Unmatched Records", originalRecordCount - matchedRecordCount, false);
+
+        logger.debug("Joined {} 'original' Records with {} 'enrichment' Records into {} Records in {} millis ({} Records/second)",
+            originalRecordCount, enrichmentRecordCount, joinedRecordCount, elapsedMillis, joinedRecordCount * 1000L / elapsedMillis);
+    }
+
+    protected void closeQuietly(final AutoCloseable... closeables) {
+        for (final AutoCloseable closeable : closeables) {
+            if (closeable != null) {
+                try {
+                    closeable.close();
+                } catch (final Exception e) {
+                    logger.warn("Failed to close {}", closeable, e);
+                }
+            }
+        }
+    }
+}
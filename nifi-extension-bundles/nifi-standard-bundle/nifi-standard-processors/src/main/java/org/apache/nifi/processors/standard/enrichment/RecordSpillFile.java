@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.standard.enrichment;
+
+import org.apache.avro.Schema;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.nifi.avro.AvroTypeUtil;
+import org.apache.nifi.serialization.RecordReader;
+import org.apache.nifi.serialization.record.MapRecord;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordSchema;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A temporary file holding Records encoded as Avro, used to spill join partitions to disk. The file is deleted when closed.
+ */
+class RecordSpillFile implements Closeable {
+    private final RecordSchema recordSchema;
+    private final Schema avroSchema;
+    private final Path path;
+    private DataFileWriter<GenericRecord> writer;
+
+    RecordSpillFile(final RecordSchema recordSchema, final Schema avroSchema) throws IOException {
+        this.recordSchema = recordSchema;
+        this.avroSchema = avroSchema;
+        this.path = Files.createTempFile("join-enrichment-", ".avro");
+
+        try {
+            writer = new DataFileWriter<>(new GenericDatumWriter<GenericRecord>(avroSchema));
+            writer.create(avroSchema, path.toFile());
+        } catch (final IOException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    void write(final Record record) throws IOException {
+        writer.append(AvroTypeUtil.createAvroRecord(record, avroSchema));
+    }
+
+    /**
+     * Completes writing the file
+     *
+     * @return the size of the file in bytes
+     */
+    long finishWriting() throws IOException {
+        writer.close();
+        writer = null;
+        return Files.size(path);
+    }
+
+    RecordReader createRecordReader() throws IOException {
+        final DataFileReader<GenericRecord> dataFileReader = new DataFileReader<>(path.toFile(), new GenericDatumReader<>());
+
+        return new RecordReader() {
+            @Override
+            public Record nextRecord(final boolean coerceTypes, final boolean dropUnknownFields) {
+                if (!dataFileReader.hasNext()) {
+                    return null;
+                }
+
+                final GenericRecord avroRecord = dataFileReader.next();
+                return new MapRecord(recordSchema, AvroTypeUtil.convertAvroRecordToMap(avroRecord, recordSchema));
+            }
+
+            @Override
+            public RecordSchema getSchema() {
+                return recordSchema;
+            }
+
+            @Override
+            public void close() throws IOException {
+                dataFileReader.close();
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (writer != null) {
+                writer.close();
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
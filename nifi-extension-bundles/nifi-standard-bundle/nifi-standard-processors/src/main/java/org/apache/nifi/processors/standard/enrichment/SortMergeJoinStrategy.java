@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.standard.enrichment;
+
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.processor.ProcessSession;
+import org.apache.nifi.serialization.RecordReader;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.RecordSet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Joins Records from 'original' and 'enrichment' FlowFiles that are both sorted in ascending order of their keys, in a single streaming pass over each.
+ * Only the 'enrichment' Records that share the current key are held in memory, and the joined Records are written in the order of the 'original' FlowFile.
+ * Records whose key is null are skipped when checking the ordering.
+ */
+public class SortMergeJoinStrategy extends KeyedJoinStrategy {
+
+    public SortMergeJoinStrategy(final ComponentLog logger, final String originalKeyRecordPath, final String enrichmentKeyRecordPath) {
+        super(logger, originalKeyRecordPath, enrichmentKeyRecordPath);
+    }
+
+    @Override
+    public RecordJoinResult join(final RecordJoinInput originalInput, final RecordJoinInput enrichmentInput, final Map<String, String> combinedAttributes,
+                                 final ProcessSession session, final RecordSchema writerSchema) throws Exception {
+
+        InputStream originalIn = null;
+        RecordReader originalReader = null;
+        InputStream enrichmentIn = null;
+        RecordReader enrichmentReader = null;
+
+        try {
+            originalIn = session.read(originalInput.getFlowFile());
+            originalReader = createRecordReader(originalInput, originalIn);
+
+            enrichmentIn = session.read(enrichmentInput.getFlowFile());
+            enrichmentReader = createRecordReader(enrichmentInput, enrichmentIn);
+        } catch (final Throwable t) {
+            closeQuietly(originalReader, originalIn, enrichmentReader, enrichmentIn);
+            throw t;
+        }
+
+        final MergedRecordSet recordSet = new MergedRecordSet(createResultSchema(originalInput, enrichmentInput), originalReader, enrichmentReader);
+        final AutoCloseable[] resources = {originalReader, originalIn, enrichmentReader, enrichmentIn};
+
+        return new RecordJoinResult() {
+            @Override
+            public RecordSet getRecordSet() {
+                return recordSet;
+            }
+
+            @Override
+            public void close() {
+                closeQuietly(resources);
+                reportStatistics(session);
+            }
+        };
+    }
+
+    private class MergedRecordSet implements RecordSet {
+        private final RecordSchema schema;
+        private final RecordReader originalReader;
+        private final RecordReader enrichmentReader;
+        private final Queue<Record> joinedRecords = new ArrayDeque<>();
+
+        // The 'enrichment' Records with the key of the most recent match
+        private final List<Record> group = new ArrayList<>();
+        private Object groupKey;
+
+        // The next 'enrichment' Record that has been read but not yet compared
+        private Record nextEnrichmentRecord;
+        private Object nextEnrichmentKey;
+
+        private Object previousOriginalKey;
+        private Object previousEnrichmentKey;
+
+        MergedRecordSet(final RecordSchema schema, final RecordReader originalReader, final RecordReader enrichmentReader) {
+            this.schema = schema;
+            this.originalReader = originalReader;
+            this.enrichmentReader = enrichmentReader;
+        }
+
+        @Override
+        public RecordSchema getSchema() {
+            return schema;
+        }
+
+        @Override
+        public Record next() throws IOException {
+            while (joinedRecords.isEmpty()) {
+                final Record originalRecord = nextRecord(originalReader);
+                if (originalRecord == null) {
+                    return null;
+                }
+
+                final Object key = getOriginalKey(originalRecord);
+                if (key == null) {
+                    joinOriginalRecord(originalRecord, List.of(), schema, joinedRecords);
+                    continue;
+                }
+
+                verifyOrder("original", previousOriginalKey, key);
+                previousOriginalKey = key;
+                joinOriginalRecord(originalRecord, getMatches(key), schema, joinedRecords);
+            }
+
+            return joinedRecords.poll();
+        }
+
+        private List<Record> getMatches(final Object key) throws IOException {
+            if (groupKey != null && compareKeys(groupKey, key) == 0) {
+                return group;
+            }
+
+            // Because the 'original' keys are ascending, the current group can no longer match
+            group.clear();
+            groupKey = null;
+
+            // Discard 'enrichment' Records with lower keys, which have no matching 'original' Record
+            while (nextEnrichmentRecord != null || readNextEnrichmentRecord()) {
+                final int comparison = compareKeys(nextEnrichmentKey, key);
+                if (comparison > 0) {
+                    break;
+                }
+
+                if (comparison == 0) {
+                    groupKey = key;
+                    group.add(nextEnrichmentRecord);
+                }
+                nextEnrichmentRecord = null;
+            }
+
+            return group;
+        }
+
+        private boolean readNextEnrichmentRecord() throws IOException {
+            Record enrichmentRecord;
+            while ((enrichmentRecord = nextRecord(enrichmentReader)) != null) {
+                countEnrichmentRecord();
+
+                // Records with a null key cannot match any 'original' Record
+                final Object key = getEnrichmentKey(enrichmentRecord);
+                if (key != null) {
+                    verifyOrder("enrichment", previousEnrichmentKey, key);
+                    previousEnrichmentKey = key;
+
+                    nextEnrichmentRecord = enrichmentRecord;
+                    nextEnrichmentKey = key;
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private void verifyOrder(final String role, final Object previousKey, final Object key) throws IOException {
+            if (previousKey != null && compareKeys(previousKey, key) > 0) {
+                throw new IOException("The '%s' Records are not sorted in ascending order of their key: key [%s] follows key [%s]".formatted(role, key, previousKey));
+            }
+        }
+    }
+}
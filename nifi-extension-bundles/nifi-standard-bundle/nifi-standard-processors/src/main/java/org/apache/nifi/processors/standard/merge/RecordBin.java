@@ -150,7 +150,8 @@ public class RecordBin {
             flowFileMigrated = true;
             this.flowFiles.add(flowFile);
 
-            thresholds.getFragmentCountAttribute().ifPresent(this::validateFragmentCount);
+            // FlowFiles already in the bin were validated when they were offered, so only the new FlowFile needs to be checked
+            thresholds.getFragmentCountAttribute().ifPresent(countAttributeName -> validateFragmentCount(countAttributeName, List.of(flowFile)));
 
             if (recordCount >= getMinimumRecordCount()) {
                 // If we have met our minimum record count, we need to flush so that when we reach the desired number of bytes
@@ -314,9 +315,17 @@ public class RecordBin {
     /**
      * Ensure that at least one FlowFile has a fragment.count attribute and that they all have the same value, if they have a value.
      */
-    private void validateFragmentCount(String countAttributeName) {
+    private void validateFragmentCount(final String countAttributeName) {
+        validateFragmentCount(countAttributeName, flowFiles);
+    }
+
+    /**
+     * Ensure that the given FlowFiles have the same fragment.count attribute value as the FlowFiles previously validated for this bin, if they have a value,
+     * and that at least one FlowFile validated for this bin has the attribute.
+     */
+    private void validateFragmentCount(final String countAttributeName, final List<FlowFile> flowFilesToValidate) {
         Integer expectedFragmentCount = thresholds.getFragmentCount();
-        for (final FlowFile flowFile : flowFiles) {
+        for (final FlowFile flowFile : flowFilesToValidate) {
             final String countVal = flowFile.getAttribute(countAttributeName);
             if (countVal == null) {
                 continue;
@@ -31,6 +31,8 @@ import org.apache.nifi.serialization.RecordReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -50,6 +52,7 @@ public class RecordBinManager {
 
     private final AtomicLong maxBinAgeNanos = new AtomicLong(Long.MAX_VALUE);
     private final Map<String, List<RecordBin>> groupBinMap = new HashMap<>(); // guarded by lock
+    private final Map<RecordBin, String> binGroupsByAge = new LinkedHashMap<>(); // guarded by lock, ordered from oldest to newest bin
     private final Lock lock = new ReentrantLock();
 
     private final AtomicInteger binCount = new AtomicInteger(0);
@@ -75,6 +78,7 @@ public class RecordBinManager {
                 }
             }
             groupBinMap.clear();
+            binGroupsByAge.clear();
             binCount.set(0);
         } finally {
             lock.unlock();
@@ -168,6 +172,7 @@ public class RecordBinManager {
                 // track of a Bin. If we don't lose this, we could completely lose a Bin.
                 final List<RecordBin> bins = groupBinMap.computeIfAbsent(groupIdentifier, grpId -> new CopyOnWriteArrayList<>());
                 bins.add(bin);
+                binGroupsByAge.put(bin, groupIdentifier);
             } finally {
                 lock.unlock();
             }
@@ -210,22 +215,15 @@ public class RecordBinManager {
 
         lock.lock();
         try {
-            String oldestBinGroup = null;
-
-            for (final Map.Entry<String, List<RecordBin>> group : groupBinMap.entrySet()) {
-                for (final RecordBin bin : group.getValue()) {
-                    if (oldestBin == null || bin.isOlderThan(oldestBin)) {
-                        oldestBin = bin;
-                        oldestBinGroup = group.getKey();
-                    }
-                }
-            }
-
-            if (oldestBin == null) {
+            // Bins are tracked in the order added, avoiding a scan of all bins each time the maximum number of bins is exceeded
+            final Iterator<Map.Entry<RecordBin, String>> oldestBins = binGroupsByAge.entrySet().iterator();
+            if (!oldestBins.hasNext()) {
                 return;
             }
 
-            removeBins(oldestBinGroup, List.of(oldestBin));
+            final Map.Entry<RecordBin, String> oldestBinGroup = oldestBins.next();
+            oldestBin = oldestBinGroup.getKey();
+            removeBins(oldestBinGroup.getValue(), List.of(oldestBin));
         } finally {
             lock.unlock();
         }
@@ -293,6 +291,7 @@ public class RecordBinManager {
             if (list != null) {
                 final int initialSize = list.size();
                 list.removeAll(bins);
+                bins.forEach(binGroupsByAge::remove);
 
                 // Determine how many items were removed from the list and
                 // update our binCount to keep track of this.
@@ -31,6 +31,7 @@ import org.apache.nifi.serialization.record.type.ArrayDataType;
 import org.apache.nifi.serialization.record.type.ChoiceDataType;
 import org.apache.nifi.serialization.record.type.MapDataType;
 import org.apache.nifi.sql.ArrayType;
+import org.apache.nifi.sql.ColumnFilter;
 import org.apache.nifi.sql.ColumnSchema;
 import org.apache.nifi.sql.ColumnType;
 import org.apache.nifi.sql.MapType;
@@ -38,11 +39,14 @@ import org.apache.nifi.sql.NiFiTableSchema;
 import org.apache.nifi.sql.ResettableDataSource;
 import org.apache.nifi.sql.RowStream;
 import org.apache.nifi.sql.ScalarType;
+import org.apache.nifi.sql.ScanPushdown;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class RecordDataSource implements ResettableDataSource {
     private final NiFiTableSchema tableSchema;
@@ -51,6 +55,9 @@ public class RecordDataSource implements ResettableDataSource {
     private final RecordReaderFactory readerFactory;
     private final ComponentLog logger;
 
+    private long recordsSkipped = 0L;
+    private long fieldsSkipped = 0L;
+
 
     public RecordDataSource(final RecordSchema recordSchema, final ProcessSession session, final FlowFile flowFile, final RecordReaderFactory recordReaderFactory, final ComponentLog logger) {
         this.tableSchema = createTableSchema(recordSchema);
@@ -65,17 +72,23 @@ public class RecordDataSource implements ResettableDataSource {
         return tableSchema;
     }
 
+    /**
+     * @return the number of records that were read but discarded before being handed to the query because they could not match the query's filters
+     */
+    public long getRecordsSkipped() {
+        return recordsSkipped;
+    }
+
+    /**
+     * @return the number of field values that the Record Reader did not need to parse because they were not referenced by the query
+     */
+    public long getFieldsSkipped() {
+        return fieldsSkipped;
+    }
+
     @Override
     public RowStream reset() throws IOException {
-        final InputStream in = session.read(flowFile);
-        final RecordReader reader;
-        try {
-            reader = readerFactory.createRecordReader(flowFile, in, logger);
-        } catch (final Exception e) {
-            in.close();
-            throw new IOException(e);
-        }
-
+        final RecordReader reader = createRecordReader();
         final RecordSet recordSet = reader.createRecordSet();
 
         return new RowStream() {
@@ -92,6 +105,58 @@ public class RecordDataSource implements ResettableDataSource {
         };
     }
 
+    @Override
+    public RowStream reset(final ScanPushdown pushdown) throws IOException {
+        final RecordReader reader = createRecordReader();
+
+        final List<ColumnSchema> columns = tableSchema.columns();
+        final Set<String> referencedFieldNames = new HashSet<>();
+        for (final int columnIndex : pushdown.columns()) {
+            referencedFieldNames.add(columns.get(columnIndex).getName());
+        }
+        for (final ColumnFilter filter : pushdown.filters()) {
+            referencedFieldNames.add(columns.get(filter.getColumnIndex()).getName());
+        }
+
+        final boolean fieldsSelected = referencedFieldNames.size() < columns.size() && reader.selectFields(referencedFieldNames);
+        final int unreferencedFieldCount = fieldsSelected ? columns.size() - referencedFieldNames.size() : 0;
+        final RecordSet recordSet = reader.createRecordSet();
+
+        return new RowStream() {
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+
+            @Override
+            public Object[] nextRow() throws IOException {
+                Record record;
+                while ((record = recordSet.next()) != null) {
+                    fieldsSkipped += unreferencedFieldCount;
+
+                    final Object[] row = record.getValues();
+                    if (pushdown.test(row)) {
+                        return row;
+                    }
+
+                    recordsSkipped++;
+                }
+
+                return null;
+            }
+        };
+    }
+
+    private RecordReader createRecordReader() throws IOException {
+        final InputStream in = session.read(flowFile);
+        try {
+            return readerFactory.createRecordReader(flowFile, in, logger);
+        } catch (final Exception e) {
+            in.close();
+            throw new IOException(e);
+        }
+    }
+
     public static NiFiTableSchema createTableSchema(final RecordSchema recordSchema) {
         final List<ColumnSchema> columns = new ArrayList<>();
 
@@ -103,6 +103,8 @@ import static org.mockito.Mockito.when;
 public class InvokeHTTPTest {
     private static final String HTTP_LOCALHOST_URL = "http://localhost";
 
+    private static final int HTTP_TEMPORARY_REDIRECT = 307;
+
     private static final String LOCALHOST = "localhost";
 
     private static final String BASE_PATH = "/";
@@ -782,6 +784,78 @@ public class InvokeHTTPTest {
         }
     }
 
+    @Test
+    public void testRunPostRequestBatchSize() throws InterruptedException {
+        runner.setProperty(InvokeHTTP.HTTP_METHOD, HttpMethod.POST.name());
+        runner.setProperty(InvokeHTTP.REQUEST_BATCH_SIZE, "4");
+        runner.setProperty(InvokeHTTP.REQUEST_IN_FLIGHT_LIMIT, "2");
+        setUrlProperty();
+
+        final int requests = 4;
+        for (int i = 0; i < requests; i++) {
+            mockWebServer.enqueue(new MockResponse().setResponseCode(HTTP_OK));
+            runner.enqueue(FLOW_FILE_CONTENT);
+        }
+        runner.run();
+
+        runner.assertTransferCount(InvokeHTTP.RESPONSE, requests);
+        runner.assertTransferCount(InvokeHTTP.ORIGINAL, requests);
+        runner.assertTransferCount(InvokeHTTP.FAILURE, 0);
+        for (final MockFlowFile flowFile : runner.getFlowFilesForRelationship(InvokeHTTP.ORIGINAL)) {
+            assertStatusCodeEquals(flowFile, HTTP_OK);
+        }
+
+        for (int i = 0; i < requests; i++) {
+            final RecordedRequest request = takeRequestCompleted();
+            assertEquals(HttpMethod.POST.name(), request.getMethod());
+            assertEquals(FLOW_FILE_CONTENT, request.getBody().readUtf8());
+        }
+    }
+
+    @Test
+    public void testRunPostRequestBatchSizeRedirectResendsBody() throws InterruptedException {
+        runner.setProperty(InvokeHTTP.HTTP_METHOD, HttpMethod.POST.name());
+        runner.setProperty(InvokeHTTP.REQUEST_BATCH_SIZE, "2");
+        setUrlProperty();
+
+        mockWebServer.enqueue(new MockResponse().setResponseCode(HTTP_TEMPORARY_REDIRECT).setHeader(LOCATION_HEADER, getMockWebServerUrl()));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(HTTP_OK));
+        runner.enqueue(FLOW_FILE_CONTENT);
+        runner.run();
+
+        runner.assertTransferCount(InvokeHTTP.ORIGINAL, 1);
+        runner.assertTransferCount(InvokeHTTP.FAILURE, 0);
+        assertStatusCodeEquals(runner.getFlowFilesForRelationship(InvokeHTTP.ORIGINAL).getFirst(), HTTP_OK);
+
+        for (int i = 0; i < 2; i++) {
+            final RecordedRequest request = takeRequestCompleted();
+            assertEquals(HttpMethod.POST.name(), request.getMethod());
+            assertEquals(FLOW_FILE_CONTENT, request.getBody().readUtf8());
+        }
+    }
+
+    @Test
+    public void testRunGetRequestBatchSizeRetryAndFailure() {
+        runner.setProperty(InvokeHTTP.REQUEST_BATCH_SIZE, "2");
+        setUrlProperty();
+
+        final String methodAttributeKey = "request.method";
+        runner.setProperty(InvokeHTTP.HTTP_METHOD, String.format("${%s}", methodAttributeKey));
+
+        mockWebServer.enqueue(new MockResponse().setResponseCode(HTTP_INTERNAL_ERROR));
+        runner.enqueue(FLOW_FILE_CONTENT, Map.of(methodAttributeKey, HttpMethod.GET.name()));
+        final Map<String, String> attributes = new HashMap<>();
+        attributes.put(methodAttributeKey, null);
+        runner.enqueue(FLOW_FILE_CONTENT, attributes);
+        runner.run();
+
+        runner.assertTransferCount(InvokeHTTP.RETRY, 1);
+        runner.assertTransferCount(InvokeHTTP.FAILURE, 1);
+        runner.assertTransferCount(InvokeHTTP.ORIGINAL, 0);
+        assertStatusCodeEquals(runner.getFlowFilesForRelationship(InvokeHTTP.RETRY).getFirst(), HTTP_INTERNAL_ERROR);
+        getFailureFlowFile().assertAttributeEquals(InvokeHTTP.EXCEPTION_CLASS, IllegalArgumentException.class.getName());
+    }
+
     @Test
     public void testRunPostHttp200SuccessChunkedEncoding() throws InterruptedException {
         runner.setProperty(InvokeHTTP.HTTP_METHOD, HttpMethod.POST.name());
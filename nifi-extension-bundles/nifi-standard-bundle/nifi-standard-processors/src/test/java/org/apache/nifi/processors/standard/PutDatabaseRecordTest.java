@@ -664,6 +664,64 @@ public class PutDatabaseRecordTest {
         conn.close();
     }
 
+    @Test
+    public void testInsertMultiRowStatements() throws InitializationException, ProcessException, SQLException {
+        setRunner(TestCaseEnum.DEFAULT_2.getTestCase());
+
+        recreateTable(createPersons);
+        final MockRecordParser parser = new MockRecordParser();
+        runner.addControllerService("parser", parser);
+        runner.enableControllerService(parser);
+
+        parser.addSchemaField("id", RecordFieldType.INT);
+        parser.addSchemaField("name", RecordFieldType.STRING);
+        parser.addSchemaField("code", RecordFieldType.INT);
+
+        for (int i = 1; i <= 5; i++) {
+            parser.addRecord(i, "rec" + i, 100 + i);
+        }
+
+        runner.setProperty(PutDatabaseRecord.RECORD_READER_FACTORY, "parser");
+        runner.setProperty(PutDatabaseRecord.DB_TYPE, "Derby");
+        runner.setProperty(PutDatabaseRecord.STATEMENT_TYPE, PutDatabaseRecord.INSERT_TYPE);
+        runner.setProperty(PutDatabaseRecord.TABLE_NAME, "PERSONS");
+        runner.setProperty(PutDatabaseRecord.MAX_ROWS_PER_INSERT, "2");
+
+        runner.enqueue(new byte[0]);
+        runner.run();
+
+        runner.assertAllFlowFilesTransferred(PutDatabaseRecord.REL_SUCCESS, 1);
+        final Connection conn = dbcp.getConnection();
+        final Statement stmt = conn.createStatement();
+        final ResultSet rs = stmt.executeQuery("SELECT * FROM PERSONS ORDER BY id");
+        for (int i = 1; i <= 5; i++) {
+            assertTrue(rs.next());
+            assertEquals(i, rs.getInt(1));
+            assertEquals("rec" + i, rs.getString(2));
+            assertEquals(100 + i, rs.getInt(3));
+        }
+        assertFalse(rs.next());
+
+        stmt.close();
+        conn.close();
+    }
+
+    @Test
+    public void testInsertMultiRowStatementsNotSupported() throws InitializationException {
+        setRunner(TestCaseEnum.DEFAULT_0.getTestCase());
+
+        final MockRecordParser parser = new MockRecordParser();
+        runner.addControllerService("parser", parser);
+        runner.enableControllerService(parser);
+
+        runner.setProperty(PutDatabaseRecord.RECORD_READER_FACTORY, "parser");
+        runner.setProperty(PutDatabaseRecord.STATEMENT_TYPE, PutDatabaseRecord.INSERT_TYPE);
+        runner.setProperty(PutDatabaseRecord.TABLE_NAME, "PERSONS");
+        runner.setProperty(PutDatabaseRecord.MAX_ROWS_PER_INSERT, "2");
+
+        runner.assertNotValid();
+    }
+
     @Test
     public void testInsertNoTableSpecified() throws InitializationException, ProcessException, SQLException {
         setRunner(TestCaseEnum.DEFAULT_0.getTestCase());
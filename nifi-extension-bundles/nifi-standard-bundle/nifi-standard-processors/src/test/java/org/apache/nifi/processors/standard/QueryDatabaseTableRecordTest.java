@@ -54,6 +54,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -1475,6 +1476,160 @@ public class QueryDatabaseTableRecordTest {
         runner.getStateManager().assertStateEquals("test_null_int@!@id", "2", Scope.CLUSTER);
     }
 
+    @Test
+    public void testParallelPartitionCount() throws SQLException {
+        // load test data to database
+        final Connection con = ((DBCPService) runner.getControllerService("dbcp")).getConnection();
+        Statement stmt = con.createStatement();
+
+        try {
+            stmt.execute("drop table TEST_QUERY_DB_TABLE");
+        } catch (final SQLException sqle) {
+            // Ignore this error, probably a "table does not exist" since Derby doesn't yet support DROP IF EXISTS [DERBY-4842]
+        }
+
+        stmt.execute("create table TEST_QUERY_DB_TABLE (id integer not null, name varchar(100))");
+        for (int i = 0; i < 100; i++) {
+            stmt.execute("insert into TEST_QUERY_DB_TABLE (id, name) VALUES (" + i + ", 'Name " + i + "')");
+        }
+
+        runner.setProperty(QueryDatabaseTableRecord.TABLE_NAME, "TEST_QUERY_DB_TABLE");
+        runner.setIncomingConnection(false);
+        runner.setProperty(QueryDatabaseTableRecord.MAX_VALUE_COLUMN_NAMES, "ID");
+        runner.setProperty(QueryDatabaseTableRecord.PARALLEL_PARTITION_COUNT, "4");
+
+        runner.run();
+        runner.assertAllFlowFilesTransferred(QueryDatabaseTableRecord.REL_SUCCESS, 4);
+        assertEquals(100, getTotalRowCount());
+        runner.getFlowFilesForRelationship(QueryDatabaseTableRecord.REL_SUCCESS).forEach(flowFile -> flowFile.assertAttributeEquals("maxvalue.id", "99"));
+        runner.getStateManager().assertStateEquals("test_query_db_table@!@id", "99", Scope.CLUSTER);
+        runner.getStateManager().assertStateNotSet("test_query_db_table@!@id@!@partition.upper.bound", Scope.CLUSTER);
+        runner.clearTransferState();
+
+        // Run again, this time no flowfiles/rows should be transferred
+        runner.run();
+        runner.assertTransferCount(QueryDatabaseTableRecord.REL_SUCCESS, 0);
+        runner.clearTransferState();
+
+        // Add new rows, only the new rows should be transferred
+        for (int i = 100; i < 110; i++) {
+            stmt.execute("insert into TEST_QUERY_DB_TABLE (id, name) VALUES (" + i + ", 'Name " + i + "')");
+        }
+        runner.run();
+        runner.assertAllFlowFilesTransferred(QueryDatabaseTableRecord.REL_SUCCESS, 4);
+        assertEquals(10, getTotalRowCount());
+        runner.getStateManager().assertStateEquals("test_query_db_table@!@id", "109", Scope.CLUSTER);
+        runner.clearTransferState();
+    }
+
+    @Test
+    public void testParallelPartitionCountTimestamp() throws SQLException {
+        // load test data to database
+        final Connection con = ((DBCPService) runner.getControllerService("dbcp")).getConnection();
+        Statement stmt = con.createStatement();
+
+        try {
+            stmt.execute("drop table TEST_QUERY_DB_TABLE");
+        } catch (final SQLException sqle) {
+            // Ignore this error, probably a "table does not exist" since Derby doesn't yet support DROP IF EXISTS [DERBY-4842]
+        }
+
+        stmt.execute("create table TEST_QUERY_DB_TABLE (id integer not null, created_on timestamp)");
+        stmt.execute("insert into TEST_QUERY_DB_TABLE (id, created_on) VALUES (0, NULL)");
+        for (int i = 1; i < 30; i++) {
+            stmt.execute("insert into TEST_QUERY_DB_TABLE (id, created_on) VALUES (" + i + ", '2000-01-" + String.format("%02d", i) + " 03:23:34.000123456')");
+        }
+
+        runner.setProperty(QueryDatabaseTableRecord.TABLE_NAME, "TEST_QUERY_DB_TABLE");
+        runner.setIncomingConnection(false);
+        runner.setProperty(QueryDatabaseTableRecord.MAX_VALUE_COLUMN_NAMES, "created_on");
+        runner.setProperty(QueryDatabaseTableRecord.PARALLEL_PARTITION_COUNT, "3");
+
+        runner.run();
+        runner.assertAllFlowFilesTransferred(QueryDatabaseTableRecord.REL_SUCCESS, 3);
+        assertEquals(30, getTotalRowCount());
+        runner.getStateManager().assertStateEquals("test_query_db_table@!@created_on", "2000-01-29 03:23:34.000123456", Scope.CLUSTER);
+        runner.clearTransferState();
+
+        // Add a new row with a lower timestamp (but same millisecond value), no flow file should be transferred
+        stmt.execute("insert into TEST_QUERY_DB_TABLE (id, created_on) VALUES (30, '2000-01-29 03:23:34.000')");
+        runner.run();
+        runner.assertTransferCount(QueryDatabaseTableRecord.REL_SUCCESS, 0);
+        runner.clearTransferState();
+    }
+
+    @Test
+    public void testParallelPartitionCountResumesIncompletePartitions() throws SQLException, IOException {
+        // load test data to database
+        final Connection con = ((DBCPService) runner.getControllerService("dbcp")).getConnection();
+        Statement stmt = con.createStatement();
+
+        try {
+            stmt.execute("drop table TEST_QUERY_DB_TABLE");
+        } catch (final SQLException sqle) {
+            // Ignore this error, probably a "table does not exist" since Derby doesn't yet support DROP IF EXISTS [DERBY-4842]
+        }
+
+        stmt.execute("create table TEST_QUERY_DB_TABLE (id integer not null, name varchar(100))");
+        for (int i = 0; i < 110; i++) {
+            stmt.execute("insert into TEST_QUERY_DB_TABLE (id, name) VALUES (" + i + ", 'Name " + i + "')");
+        }
+
+        runner.setProperty(QueryDatabaseTableRecord.TABLE_NAME, "TEST_QUERY_DB_TABLE");
+        runner.setIncomingConnection(false);
+        runner.setProperty(QueryDatabaseTableRecord.MAX_VALUE_COLUMN_NAMES, "ID");
+        runner.setProperty(QueryDatabaseTableRecord.PARALLEL_PARTITION_COUNT, "4");
+
+        // Simulate a previous execution that fetched only the first and third of four partitions with ids up to 99
+        final Map<String, String> state = new HashMap<>();
+        state.put("test_query_db_table@!@id@!@partition.upper.bound", "99");
+        state.put("test_query_db_table@!@id@!@partition.boundaries", "25,50,75");
+        state.put("test_query_db_table@!@id@!@partition.completed", "0,2");
+        runner.getStateManager().setState(state, Scope.CLUSTER);
+
+        runner.run();
+        runner.assertAllFlowFilesTransferred(QueryDatabaseTableRecord.REL_SUCCESS, 2);
+        assertEquals(50, getTotalRowCount());
+        runner.getStateManager().assertStateEquals("test_query_db_table@!@id", "99", Scope.CLUSTER);
+        runner.getStateManager().assertStateNotSet("test_query_db_table@!@id@!@partition.completed", Scope.CLUSTER);
+        runner.clearTransferState();
+
+        // The rows added after the interrupted execution are fetched next
+        runner.run();
+        assertEquals(10, getTotalRowCount());
+        runner.getStateManager().assertStateEquals("test_query_db_table@!@id", "109", Scope.CLUSTER);
+    }
+
+    @Test
+    public void testParallelPartitionCountValidation() {
+        runner.setProperty(QueryDatabaseTableRecord.TABLE_NAME, "TEST_QUERY_DB_TABLE");
+        runner.setProperty(QueryDatabaseTableRecord.PARALLEL_PARTITION_COUNT, "4");
+        runner.assertNotValid();
+
+        runner.setProperty(QueryDatabaseTableRecord.MAX_VALUE_COLUMN_NAMES, "ID, BUCKET");
+        runner.assertNotValid();
+
+        runner.setProperty(QueryDatabaseTableRecord.MAX_VALUE_COLUMN_NAMES, "ID");
+        runner.assertValid();
+
+        runner.setProperty(QueryDatabaseTableRecord.SQL_QUERY, "SELECT * FROM TEST_QUERY_DB_TABLE");
+        runner.assertNotValid();
+    }
+
+    @Test
+    public void testGetPartitionBoundaries() {
+        assertEquals(List.of(25L, 50L, 75L), AbstractQueryDatabaseTable.getPartitionBoundaries(0, 99, 4));
+        assertEquals(List.of(2L), AbstractQueryDatabaseTable.getPartitionBoundaries(1, 2, 4));
+        assertEquals(List.of(), AbstractQueryDatabaseTable.getPartitionBoundaries(5, 5, 4));
+        assertEquals(List.of(0L), AbstractQueryDatabaseTable.getPartitionBoundaries(Long.MIN_VALUE, Long.MAX_VALUE, 2));
+    }
+
+    private long getTotalRowCount() {
+        return runner.getFlowFilesForRelationship(QueryDatabaseTableRecord.REL_SUCCESS).stream()
+                .mapToLong(flowFile -> Long.parseLong(flowFile.getAttribute(QueryDatabaseTableRecord.RESULT_ROW_COUNT)))
+                .sum();
+    }
+
     /**
      * Simple implementation only for QueryDatabaseTableRecord processor testing.
      */
@@ -168,6 +168,33 @@ public class TestDetectDuplicate {
         runner.assertTransferCount(DetectDuplicate.REL_FAILURE, 0);
     }
 
+    @Test
+    public void testDuplicateWithinBatch() throws InitializationException {
+        final TestRunner runner = TestRunners.newTestRunner(DetectDuplicate.class);
+        final EphemeralMapCacheClientService client = createClient();
+        final Map<String, String> clientProperties = new HashMap<>();
+        clientProperties.put(MapCacheClientService.HOSTNAME.getName(), "localhost");
+        runner.addControllerService("client", client, clientProperties);
+        runner.setProperty(DetectDuplicate.DISTRIBUTED_CACHE_SERVICE, "client");
+        runner.setProperty(DetectDuplicate.FLOWFILE_DESCRIPTION, "${description}");
+        runner.setProperty(DetectDuplicate.AGE_OFF_DURATION, "48 hours");
+        runner.setProperty(DetectDuplicate.BATCH_SIZE, "10");
+        runner.enableControllerService(client);
+
+        runner.enqueue(new byte[]{}, Map.of("hash.value", "1000", "description", "first"));
+        runner.enqueue(new byte[]{}, Map.of("hash.value", "1000", "description", "second"));
+        runner.enqueue(new byte[]{}, Map.of("description", "missing"));
+        runner.enqueue(new byte[]{}, Map.of("hash.value", "1000", "description", "third"));
+
+        runner.run();
+        runner.assertTransferCount(DetectDuplicate.REL_NON_DUPLICATE, 1);
+        runner.assertTransferCount(DetectDuplicate.REL_DUPLICATE, 2);
+        runner.assertTransferCount(DetectDuplicate.REL_FAILURE, 1);
+        runner.getFlowFilesForRelationship(DetectDuplicate.REL_NON_DUPLICATE).get(0).assertAttributeEquals("description", "first");
+        runner.getFlowFilesForRelationship(DetectDuplicate.REL_DUPLICATE)
+                .forEach(flowFile -> flowFile.assertAttributeEquals(DetectDuplicate.ORIGINAL_DESCRIPTION_ATTRIBUTE_NAME, "first"));
+    }
+
     static final class EphemeralMapCacheClientService extends AbstractControllerService implements DistributedMapCacheClient {
 
         boolean exists = false;
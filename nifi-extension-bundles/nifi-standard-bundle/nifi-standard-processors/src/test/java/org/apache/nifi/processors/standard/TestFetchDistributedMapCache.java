@@ -204,6 +204,28 @@ public class TestFetchDistributedMapCache {
     }
 
 
+    @Test
+    public void testBatchFlowFiles() throws IOException {
+        service.put("key1", "value1", new FetchDistributedMapCache.StringSerializer(), new FetchDistributedMapCache.StringSerializer());
+        service.put("key2", "value2", new FetchDistributedMapCache.StringSerializer(), new FetchDistributedMapCache.StringSerializer());
+        runner.setProperty(FetchDistributedMapCache.CACHE_ENTRY_IDENTIFIER, "${cacheKeyAttribute}");
+        runner.setProperty(FetchDistributedMapCache.BATCH_SIZE, "10");
+
+        runner.enqueue("content", Map.of("cacheKeyAttribute", "key1"));
+        runner.enqueue("content", Map.of("cacheKeyAttribute", "key2"));
+        runner.enqueue("content", Map.of("cacheKeyAttribute", "missing"));
+        runner.enqueue("content");
+
+        runner.run();
+
+        runner.assertTransferCount(FetchDistributedMapCache.REL_SUCCESS, 2);
+        runner.assertTransferCount(FetchDistributedMapCache.REL_NOT_FOUND, 1);
+        runner.assertTransferCount(FetchDistributedMapCache.REL_FAILURE, 1);
+        runner.getFlowFilesForRelationship(FetchDistributedMapCache.REL_SUCCESS).get(0).assertContentEquals("value1");
+        runner.getFlowFilesForRelationship(FetchDistributedMapCache.REL_SUCCESS).get(1).assertContentEquals("value2");
+        runner.getFlowFilesForRelationship(FetchDistributedMapCache.REL_NOT_FOUND).get(0).assertAttributeEquals("cacheKeyAttribute", "missing");
+    }
+
     private static class MockCacheClient extends AbstractControllerService implements DistributedMapCacheClient {
         private final ConcurrentMap<Object, Object> values = new ConcurrentHashMap<>();
         private boolean failOnCalls = false;
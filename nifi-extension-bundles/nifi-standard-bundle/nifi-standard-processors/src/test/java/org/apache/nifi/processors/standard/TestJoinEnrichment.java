@@ -34,6 +34,8 @@ import org.apache.nifi.util.MockComponentLog;
 import org.apache.nifi.util.TestRunner;
 import org.apache.nifi.util.TestRunners;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.BufferedInputStream;
 import java.io.File;
@@ -334,6 +336,141 @@ public class TestJoinEnrichment {
         assertEquals("jane.doe@nifi.apache.org", secondCustomerDetails.getValue("email"));
     }
 
+    // Tests that the Hash Join produces the same result as the LEFT OUTER JOIN example in the Additional Details
+    @Test
+    public void testHashJoin() throws InitializationException, IOException, SchemaNotFoundException, MalformedRecordException {
+        final TestRunner runner = TestRunners.newTestRunner(new JoinEnrichment());
+
+        final ArrayListRecordWriter writer = setupCsvServices(runner);
+        runner.setProperty(JoinEnrichment.JOIN_STRATEGY, JoinEnrichment.JOIN_HASH);
+        runner.setProperty(JoinEnrichment.ORIGINAL_JOIN_KEY, "/id");
+        runner.setProperty(JoinEnrichment.ENRICHMENT_JOIN_KEY, "/customer_id");
+        enqueueLeftOuterJoinExample(runner);
+
+        runner.run();
+
+        runner.assertTransferCount(JoinEnrichment.REL_JOINED, 1);
+        runner.assertTransferCount(JoinEnrichment.REL_ORIGINAL, 2);
+
+        final List<Record> expected = readCsvRecords(new File(EXAMPLES_DIR, "left-outer-join-expected.csv"));
+        assertEquals(new HashSet<>(expected), new HashSet<>(writer.getRecordsWritten()));
+        assertEquals(4L, runner.getCounterValue("Join Original Records Read"));
+        assertEquals(3L, runner.getCounterValue("Join Matched Records"));
+        assertEquals(1L, runner.getCounterValue("Join Unmatched Records"));
+        assertNull(runner.getCounterValue("Hash Join Bytes Spilled"));
+    }
+
+    // Tests that a Hash Join whose enrichment data exceeds the memory budget spills partitions to disk and still produces every joined record
+    @Test
+    public void testHashJoinSpillsToDisk() throws InitializationException, IOException, SchemaNotFoundException, MalformedRecordException {
+        final TestRunner runner = TestRunners.newTestRunner(new JoinEnrichment());
+
+        final ArrayListRecordWriter writer = setupCsvServices(runner);
+        runner.setProperty(JoinEnrichment.JOIN_STRATEGY, JoinEnrichment.JOIN_HASH);
+        runner.setProperty(JoinEnrichment.ORIGINAL_JOIN_KEY, "/id");
+        runner.setProperty(JoinEnrichment.ENRICHMENT_JOIN_KEY, "/customer_id");
+        runner.setProperty(JoinEnrichment.HASH_JOIN_MEMORY_BUDGET, "16 B");
+        enqueueLeftOuterJoinExample(runner);
+
+        runner.run();
+
+        runner.assertTransferCount(JoinEnrichment.REL_JOINED, 1);
+        runner.assertTransferCount(JoinEnrichment.REL_ORIGINAL, 2);
+
+        final List<Record> expected = readCsvRecords(new File(EXAMPLES_DIR, "left-outer-join-expected.csv"));
+        assertEquals(new HashSet<>(expected), new HashSet<>(writer.getRecordsWritten()));
+        assertTrue(runner.getCounterValue("Hash Join Partitions Spilled") > 1);
+        assertEquals(7L, runner.getCounterValue("Hash Join Records Spilled"));
+        assertTrue(runner.getCounterValue("Hash Join Bytes Spilled") > 0);
+    }
+
+    @Test
+    public void testSortMergeJoin() throws InitializationException {
+        final TestRunner runner = TestRunners.newTestRunner(new JoinEnrichment());
+
+        final ArrayListRecordWriter writer = setupJsonServices(runner);
+        runner.setProperty(JoinEnrichment.JOIN_STRATEGY, JoinEnrichment.JOIN_SORT_MERGE);
+        runner.setProperty(JoinEnrichment.ORIGINAL_JOIN_KEY, "/id");
+        runner.setProperty(JoinEnrichment.ENRICHMENT_JOIN_KEY, "/customer_id");
+
+        enqueueSortedJoinInputs(runner, "[{\"id\": 1, \"name\": \"a\"}, {\"id\": 2, \"name\": \"b\"}, {\"id\": 2, \"name\": \"c\"}, {\"id\": 4, \"name\": \"d\"}]");
+
+        runner.run();
+
+        runner.assertTransferCount(JoinEnrichment.REL_JOINED, 1);
+        runner.assertTransferCount(JoinEnrichment.REL_ORIGINAL, 2);
+
+        final List<Record> written = writer.getRecordsWritten();
+        final List<String> joined = written.stream()
+            .map(record -> record.getAsString("id") + ":" + record.getAsString("name") + ":" + record.getAsString("email"))
+            .toList();
+        assertEquals(List.of("1:a:w", "2:b:x", "2:b:y", "2:c:x", "2:c:y", "4:d:null"), joined);
+        assertEquals(3L, runner.getCounterValue("Join Matched Records"));
+        assertEquals(1L, runner.getCounterValue("Join Unmatched Records"));
+    }
+
+    @Test
+    public void testSortMergeJoinUnsortedInput() throws InitializationException {
+        final TestRunner runner = TestRunners.newTestRunner(new JoinEnrichment());
+
+        setupJsonServices(runner);
+        runner.setProperty(JoinEnrichment.JOIN_STRATEGY, JoinEnrichment.JOIN_SORT_MERGE);
+        runner.setProperty(JoinEnrichment.ORIGINAL_JOIN_KEY, "/id");
+        runner.setProperty(JoinEnrichment.ENRICHMENT_JOIN_KEY, "/customer_id");
+
+        enqueueSortedJoinInputs(runner, "[{\"id\": 2, \"name\": \"b\"}, {\"id\": 1, \"name\": \"a\"}]");
+
+        runner.run();
+
+        runner.assertAllFlowFilesTransferred(JoinEnrichment.REL_FAILURE, 2);
+    }
+
+    // Tests that both keyed strategies treat a String key and a numeric key with the same text as different keys
+    @ParameterizedTest
+    @ValueSource(strings = {"Hash Join", "Sort-Merge Join"})
+    public void testKeyedJoinDoesNotMatchKeysOfDifferentTypes(final String joinStrategy) throws InitializationException {
+        final TestRunner runner = TestRunners.newTestRunner(new JoinEnrichment());
+
+        final ArrayListRecordWriter writer = setupJsonServices(runner);
+        runner.setProperty(JoinEnrichment.JOIN_STRATEGY, joinStrategy);
+        runner.setProperty(JoinEnrichment.ORIGINAL_JOIN_KEY, "/id");
+        runner.setProperty(JoinEnrichment.ENRICHMENT_JOIN_KEY, "/customer_id");
+
+        enqueueSortedJoinInputs(runner, "[{\"id\": \"2\", \"name\": \"b\"}]");
+
+        runner.run();
+
+        runner.assertTransferCount(JoinEnrichment.REL_JOINED, 1);
+        assertEquals(1, writer.getRecordsWritten().size());
+        assertNull(writer.getRecordsWritten().getFirst().getValue("email"));
+        assertEquals(0L, runner.getCounterValue("Join Matched Records"));
+        assertEquals(1L, runner.getCounterValue("Join Unmatched Records"));
+    }
+
+    private void enqueueLeftOuterJoinExample(final TestRunner runner) throws IOException {
+        final Map<String, String> originalAttributes = new HashMap<>();
+        originalAttributes.put("enrichment.group.id", "abc");
+        originalAttributes.put("enrichment.role", "ORIGINAL");
+        runner.enqueue(new File(EXAMPLES_DIR, "left-outer-join-original.csv").toPath(), originalAttributes);
+
+        final Map<String, String> enrichmentAttributes = new HashMap<>();
+        enrichmentAttributes.put("enrichment.group.id", "abc");
+        enrichmentAttributes.put("enrichment.role", "ENRICHMENT");
+        runner.enqueue(new File(EXAMPLES_DIR, "left-outer-join-enrichment.csv").toPath(), enrichmentAttributes);
+    }
+
+    private void enqueueSortedJoinInputs(final TestRunner runner, final String originalJson) {
+        final Map<String, String> originalAttributes = new HashMap<>();
+        originalAttributes.put("enrichment.group.id", "abc");
+        originalAttributes.put("enrichment.role", "ORIGINAL");
+        runner.enqueue(originalJson, originalAttributes);
+
+        final Map<String, String> enrichmentAttributes = new HashMap<>();
+        enrichmentAttributes.put("enrichment.group.id", "abc");
+        enrichmentAttributes.put("enrichment.role", "ENRICHMENT");
+        runner.enqueue("[{\"customer_id\": 1, \"email\": \"w\"}, {\"customer_id\": 2, \"email\": \"x\"}, {\"customer_id\": 2, \"email\": \"y\"}, "
+            + "{\"customer_id\": 3, \"email\": \"z\"}]", enrichmentAttributes);
+    }
 
     private List<Record> readCsvRecords(final File file) throws IOException, SchemaNotFoundException, MalformedRecordException {
         final CommaSeparatedRecordReader reader = new CommaSeparatedRecordReader();
@@ -53,10 +53,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -742,6 +744,44 @@ public class TestListFile {
         assertEquals(1, successFiles2.size());
     }
 
+    @Test
+    public void testRecurseParallel() throws Exception {
+        final long now = getTestModifiedTime();
+
+        final Set<String> expectedFilenames = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            final File subdir = new File(TESTDIR + "/subdir" + i + "/nested" + i);
+            assertTrue(subdir.mkdirs());
+
+            for (final File directory : List.of(subdir.getParentFile(), subdir)) {
+                final File file = new File(directory, directory.getName() + ".txt");
+                assertTrue(file.createNewFile());
+                assertTrue(file.setLastModified(now));
+                expectedFilenames.add(file.getName());
+            }
+        }
+
+        runner.setProperty(ListFile.DIRECTORY, testDir.getAbsolutePath());
+        runner.setProperty(ListFile.RECURSE, "true");
+        runner.setProperty(ListFile.LISTING_PARALLELISM, "4");
+        assertVerificationOutcome(Outcome.SUCCESSFUL, "Successfully listed .* Found 8 objects.  Of those, 8 match the filter.");
+        runNext();
+
+        runner.assertAllFlowFilesTransferred(ListFile.REL_SUCCESS, 8);
+        final Set<String> listedFilenames = new HashSet<>();
+        for (final MockFlowFile flowFile : runner.getFlowFilesForRelationship(ListFile.REL_SUCCESS)) {
+            final String filename = flowFile.getAttribute(CoreAttributes.FILENAME.key());
+            listedFilenames.add(filename);
+
+            final String directoryName = filename.substring(0, filename.length() - ".txt".length());
+            final String expectedPath = directoryName.startsWith("nested")
+                    ? "subdir" + directoryName.substring("nested".length()) + File.separator + directoryName + File.separator
+                    : directoryName + File.separator;
+            flowFile.assertAttributeEquals(CoreAttributes.PATH.key(), expectedPath);
+        }
+        assertEquals(expectedFilenames, listedFilenames);
+    }
+
     @Test
     public void testReadable() throws Exception {
         final long now = getTestModifiedTime();
@@ -356,6 +356,26 @@ public class TestMergeRecord {
 
     }
 
+    @Test
+    public void testDefragmentMismatchedFragmentCount() {
+        runner.setProperty(MergeRecord.MERGE_STRATEGY, MergeRecord.MERGE_STRATEGY_DEFRAGMENT);
+
+        for (int i = 0; i < 3; i++) {
+            final Map<String, String> attrs = new HashMap<>();
+            attrs.put(MergeRecord.FRAGMENT_COUNT_ATTRIBUTE, i < 2 ? "3" : "2");
+            attrs.put(MergeRecord.FRAGMENT_ID_ATTRIBUTE, "1");
+            attrs.put(MergeRecord.FRAGMENT_INDEX_ATTRIBUTE, String.valueOf(i));
+
+            runner.enqueue("Name, Age\nJohn, 3" + i, attrs);
+        }
+
+        runner.run(1);
+
+        runner.assertTransferCount(MergeRecord.REL_MERGED, 0);
+        runner.assertTransferCount(MergeRecord.REL_ORIGINAL, 0);
+        runner.assertTransferCount(MergeRecord.REL_FAILURE, 3);
+    }
+
 
     @Test
     public void testMinSize() {
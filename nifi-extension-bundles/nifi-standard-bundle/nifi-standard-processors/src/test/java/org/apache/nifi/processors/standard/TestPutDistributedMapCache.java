@@ -218,6 +218,48 @@ public class TestPutDistributedMapCache {
         assertEquals(original, new String(value, StandardCharsets.UTF_8));
     }
 
+    @Test
+    public void testBatchCacheStrategyReplace() throws IOException {
+        runner.setProperty(PutDistributedMapCache.CACHE_ENTRY_IDENTIFIER, "${cacheKeyAttribute}");
+        runner.setProperty(PutDistributedMapCache.BATCH_SIZE, "10");
+
+        runner.enqueue("first".getBytes(StandardCharsets.UTF_8), Map.of("cacheKeyAttribute", "batch1"));
+        runner.enqueue("second".getBytes(StandardCharsets.UTF_8), Map.of("cacheKeyAttribute", "batch2"));
+        runner.enqueue("third".getBytes(StandardCharsets.UTF_8), Map.of("cacheKeyAttribute", "batch1"));
+
+        runner.run();
+
+        runner.assertAllFlowFilesTransferred(PutDistributedMapCache.REL_SUCCESS, 3);
+        runner.getFlowFilesForRelationship(PutDistributedMapCache.REL_SUCCESS).forEach(flowFile -> flowFile.assertAttributeEquals("cached", "true"));
+
+        byte[] value = service.get("batch1", new PutDistributedMapCache.StringSerializer(), new PutDistributedMapCache.CacheValueDeserializer());
+        assertEquals("third", new String(value, StandardCharsets.UTF_8));
+        value = service.get("batch2", new PutDistributedMapCache.StringSerializer(), new PutDistributedMapCache.CacheValueDeserializer());
+        assertEquals("second", new String(value, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testBatchCacheStrategyKeepOriginal() throws IOException {
+        runner.setProperty(PutDistributedMapCache.CACHE_ENTRY_IDENTIFIER, "${cacheKeyAttribute}");
+        runner.setProperty(PutDistributedMapCache.CACHE_UPDATE_STRATEGY, PutDistributedMapCache.CACHE_UPDATE_KEEP_ORIGINAL.getValue());
+        runner.setProperty(PutDistributedMapCache.BATCH_SIZE, "10");
+
+        runner.enqueue("first".getBytes(StandardCharsets.UTF_8), Map.of("cacheKeyAttribute", "batch1"));
+        runner.enqueue("second".getBytes(StandardCharsets.UTF_8), Map.of("cacheKeyAttribute", "batch2"));
+        runner.enqueue("third".getBytes(StandardCharsets.UTF_8), Map.of("cacheKeyAttribute", "batch1"));
+
+        runner.run();
+
+        runner.assertTransferCount(PutDistributedMapCache.REL_SUCCESS, 2);
+        runner.assertTransferCount(PutDistributedMapCache.REL_FAILURE, 1);
+        final MockFlowFile failedFlowFile = runner.getFlowFilesForRelationship(PutDistributedMapCache.REL_FAILURE).get(0);
+        failedFlowFile.assertAttributeEquals("cached", "false");
+        failedFlowFile.assertContentEquals("third");
+
+        final byte[] value = service.get("batch1", new PutDistributedMapCache.StringSerializer(), new PutDistributedMapCache.CacheValueDeserializer());
+        assertEquals("first", new String(value, StandardCharsets.UTF_8));
+    }
+
     private static class MockCacheClient extends AbstractControllerService implements DistributedMapCacheClient {
         private final ConcurrentMap<Object, Object> values = new ConcurrentHashMap<>();
         private boolean failOnCalls = false;
@@ -23,7 +23,9 @@ import org.apache.nifi.json.JsonTreeReader;
 import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.reporting.InitializationException;
 import org.apache.nifi.schema.access.SchemaAccessUtils;
+import org.apache.nifi.schema.access.SchemaNotFoundException;
 import org.apache.nifi.schema.inference.SchemaInferenceUtil;
+import org.apache.nifi.serialization.RecordReader;
 import org.apache.nifi.serialization.RecordSetWriter;
 import org.apache.nifi.serialization.RecordSetWriterFactory;
 import org.apache.nifi.serialization.SimpleRecordSchema;
@@ -44,6 +46,7 @@ import org.apache.nifi.util.TestRunners;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -54,6 +57,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -1005,6 +1009,34 @@ public class TestQueryRecord {
     }
 
 
+    @Test
+    public void testFilterPushedDownToRecordReader() throws InitializationException {
+        TestRunner runner = getRunner();
+
+        CSVReader csvReader = new CSVReader();
+        runner.addControllerService("csv-reader", csvReader);
+        runner.setProperty(csvReader, SchemaAccessUtils.SCHEMA_ACCESS_STRATEGY, SchemaInferenceUtil.INFER_SCHEMA);
+
+        final MockRecordWriter writer = new MockRecordWriter("\"name\"");
+
+        runner.addControllerService("writer", writer);
+        runner.enableControllerService(csvReader);
+        runner.enableControllerService(writer);
+
+        runner.setProperty(REL_NAME, "select name from FLOWFILE WHERE age > 23");
+        runner.setProperty(QueryRecord.RECORD_READER_FACTORY, "csv-reader");
+        runner.setProperty(QueryRecord.RECORD_WRITER_FACTORY, "writer");
+
+        runner.enqueue("name,age,city\nTom,49,Springfield\nJerry,12,Shelbyville\nAlice,30,Ogdenville\n");
+        runner.run();
+
+        runner.assertTransferCount(REL_NAME, 1);
+        final MockFlowFile out = runner.getFlowFilesForRelationship(REL_NAME).get(0);
+        out.assertContentEquals("\"name\"\n\"Tom\"\n\"Alice\"\n");
+        assertEquals(1L, runner.getCounterValue("Records Skipped"));
+    }
+
+
     @Test
     public void testTransformCalc() throws InitializationException {
         final MockRecordParser parser = new MockRecordParser();
@@ -1103,6 +1135,86 @@ public class TestQueryRecord {
         flowFileOut.assertContentEquals("\"name\",\"points\"\n\"Tom\",\"100\"\n\"Jerry\",\"2\"\n");
     }
 
+    @Test
+    public void testMultipleQueriesWithBufferedRecords() throws InitializationException {
+        final int contentReads = assertMultipleQueries("10000");
+
+        // The FlowFile content is read once to determine the schema and once more to buffer the records for all three queries
+        assertEquals(2, contentReads);
+    }
+
+    @Test
+    public void testMultipleQueriesWithBufferOverflow() throws InitializationException {
+        final int contentReads = assertMultipleQueries("1");
+
+        // The records cannot be buffered, so the FlowFile content is read again for each query
+        assertEquals(4, contentReads);
+    }
+
+    @Test
+    public void testMultipleQueriesWithBufferingDisabled() throws InitializationException {
+        final int contentReads = assertMultipleQueries("0");
+        assertEquals(4, contentReads);
+    }
+
+    @Test
+    public void testMultipleQueriesWithContentLargerThanMaxBufferSize() throws InitializationException {
+        final int contentReads = assertMultipleQueries("10000", "1 B");
+
+        // The FlowFile content is larger than the Max Buffer Size, so the records are not buffered
+        assertEquals(4, contentReads);
+    }
+
+    /**
+     * Runs three queries against the same FlowFile and returns the number of times that the FlowFile content was read
+     */
+    private int assertMultipleQueries(final String maxBufferedRecords) throws InitializationException {
+        return assertMultipleQueries(maxBufferedRecords, QueryRecord.MAX_BUFFER_SIZE.getDefaultValue());
+    }
+
+    private int assertMultipleQueries(final String maxBufferedRecords, final String maxBufferSize) throws InitializationException {
+        final AtomicInteger contentReads = new AtomicInteger();
+        final MockRecordParser parser = new MockRecordParser() {
+            @Override
+            public RecordReader createRecordReader(final Map<String, String> variables, final InputStream in, final long inputLength, final ComponentLog logger)
+                    throws IOException, SchemaNotFoundException {
+                contentReads.incrementAndGet();
+                return super.createRecordReader(variables, in, inputLength, logger);
+            }
+        };
+        parser.addSchemaField("name", RecordFieldType.STRING);
+        parser.addSchemaField("points", RecordFieldType.INT);
+        parser.addRecord("Tom", 1);
+        parser.addRecord("Jerry", 2);
+        parser.addRecord("Tom", 99);
+
+        final MockRecordWriter writer = new MockRecordWriter("\"name\",\"points\"");
+
+        TestRunner runner = getRunner();
+        runner.addControllerService("parser", parser);
+        runner.enableControllerService(parser);
+        runner.addControllerService("writer", writer);
+        runner.enableControllerService(writer);
+
+        runner.setProperty("total", "select name, sum(points) as points from FLOWFILE GROUP BY name");
+        runner.setProperty("low", "select name, points from FLOWFILE WHERE points < 50");
+        runner.setProperty("first", "select name, points from FLOWFILE LIMIT 1");
+        runner.setProperty(QueryRecord.RECORD_READER_FACTORY, "parser");
+        runner.setProperty(QueryRecord.RECORD_WRITER_FACTORY, "writer");
+        runner.setProperty(QueryRecord.MAX_BUFFERED_RECORDS, maxBufferedRecords);
+        runner.setProperty(QueryRecord.MAX_BUFFER_SIZE, maxBufferSize);
+
+        runner.enqueue("Tom,Jerry");
+        runner.run();
+
+        runner.assertTransferCount(QueryRecord.REL_ORIGINAL, 1);
+        runner.getFlowFilesForRelationship("total").get(0).assertContentEquals("\"name\",\"points\"\n\"Tom\",\"100\"\n\"Jerry\",\"2\"\n");
+        runner.getFlowFilesForRelationship("low").get(0).assertContentEquals("\"name\",\"points\"\n\"Tom\",\"1\"\n\"Jerry\",\"2\"\n");
+        runner.getFlowFilesForRelationship("first").get(0).assertContentEquals("\"name\",\"points\"\n\"Tom\",\"1\"\n");
+
+        return contentReads.get();
+    }
+
     @Test
     public void testNullValueInSingleField() throws InitializationException {
         final MockRecordParser parser = new MockRecordParser();
@@ -110,6 +110,11 @@ public class DerbyDatabaseAdapter implements DatabaseAdapter {
         return query.toString();
     }
 
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
     @Override
     public boolean supportsCreateTableIfNotExists() {
         // This is not actually true, but it returns true so we can use the workaround for testing. "Real" adapters should report this accurately
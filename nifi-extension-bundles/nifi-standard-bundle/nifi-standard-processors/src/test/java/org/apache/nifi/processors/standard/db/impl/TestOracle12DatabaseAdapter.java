@@ -177,6 +177,19 @@ public class TestOracle12DatabaseAdapter {
     }
 
 
+    @Test
+    public void testGetMultiRowInsertStatement() {
+        assertTrue(db.supportsMultiRowInsert());
+
+        String expected = "INSERT ALL"
+                + " INTO table (column1, column2) VALUES (?, ?)"
+                + " INTO table (column1, column2) VALUES (?, ?)"
+                + " SELECT 1 FROM DUAL";
+
+        assertEquals(expected, db.getMultiRowInsertStatement("table", Arrays.asList("column1", "column2"), 2));
+    }
+
+
     private void testGetUpsertStatement(String tableName, List<String> columnNames, Collection<String> uniqueKeyColumnNames, IllegalArgumentException expected) {
         final IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> {
             testGetUpsertStatement(tableName, columnNames, uniqueKeyColumnNames, (String) null);
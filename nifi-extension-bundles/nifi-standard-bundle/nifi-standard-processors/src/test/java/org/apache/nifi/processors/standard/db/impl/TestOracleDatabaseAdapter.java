@@ -133,4 +133,23 @@ public class TestOracleDatabaseAdapter {
         String actualStatement = db.getCreateTableStatement(tableSchema, true, true);
         assertEquals(expectedStatement, actualStatement);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetMultiRowInsertStatement() {
+        assertTrue(db.supportsMultiRowInsert());
+
+        String expected = "INSERT ALL"
+                + " INTO table (column1, column2) VALUES (?, ?)"
+                + " INTO table (column1, column2) VALUES (?, ?)"
+                + " SELECT 1 FROM DUAL";
+
+        assertEquals(expected, db.getMultiRowInsertStatement("table", Arrays.asList("column1", "column2"), 2));
+    }
+
+    @Test
+    public void testGetMultiRowInsertStatementWithInvalidRowCount() {
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> db.getMultiRowInsertStatement("table", Arrays.asList("column1", "column2"), 0));
+        assertEquals("Row count must be greater than zero", e.getMessage());
+    }
+}
@@ -122,6 +122,22 @@ public class TestPostgreSQLDatabaseAdapter {
         testGetInsertIgnoreStatement(tableName, columnNames, uniqueKeyColumnNames, expected);
     }
 
+    @Test
+    public void testGetMultiRowInsertStatement() {
+        assertTrue(testSubject.supportsMultiRowInsert(), testSubject.getClass().getSimpleName() + " should support multi-row insert");
+
+        String expected = "INSERT INTO table (column1, column2) VALUES (?, ?), (?, ?), (?, ?)";
+
+        assertEquals(expected, testSubject.getMultiRowInsertStatement("table", Arrays.asList("column1", "column2"), 3));
+    }
+
+    @Test
+    public void testGetMultiRowInsertStatementWithInvalidRowCount() {
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> testSubject.getMultiRowInsertStatement("table", Arrays.asList("column1", "column2"), 0));
+        assertEquals("Row count must be greater than zero", e.getMessage());
+    }
+
     private void testGetUpsertStatement(String tableName, List<String> columnNames, Collection<String> uniqueKeyColumnNames, IllegalArgumentException expected) {
         final IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> {
             testGetUpsertStatement(tableName, columnNames, uniqueKeyColumnNames, (String) null);
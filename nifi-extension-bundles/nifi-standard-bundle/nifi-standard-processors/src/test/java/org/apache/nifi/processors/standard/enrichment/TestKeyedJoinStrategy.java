@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.standard.enrichment;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestKeyedJoinStrategy {
+
+    @Test
+    public void testNormalizeNumericKeys() {
+        assertEquals(KeyedJoinStrategy.normalizeKey(5), KeyedJoinStrategy.normalizeKey(5L));
+        assertEquals(KeyedJoinStrategy.normalizeKey(5), KeyedJoinStrategy.normalizeKey(5.0D));
+        assertEquals(KeyedJoinStrategy.normalizeKey(new BigDecimal("5.00")), KeyedJoinStrategy.normalizeKey((short) 5));
+        assertNotEquals(KeyedJoinStrategy.normalizeKey(5), KeyedJoinStrategy.normalizeKey(5.5F));
+        assertEquals(Double.NaN, KeyedJoinStrategy.normalizeKey(Double.NaN));
+    }
+
+    @Test
+    public void testNormalizeStringKeys() {
+        assertEquals("abc", KeyedJoinStrategy.normalizeKey(new StringBuilder("abc")));
+        assertEquals("a", KeyedJoinStrategy.normalizeKey('a'));
+        assertNotEquals(KeyedJoinStrategy.normalizeKey("5"), KeyedJoinStrategy.normalizeKey(5));
+        assertNull(KeyedJoinStrategy.normalizeKey(null));
+    }
+
+    @Test
+    public void testCompareKeys() {
+        assertTrue(KeyedJoinStrategy.compareKeys(KeyedJoinStrategy.normalizeKey(2), KeyedJoinStrategy.normalizeKey(10L)) < 0);
+        assertTrue(KeyedJoinStrategy.compareKeys("b", "a") > 0);
+        assertEquals(0, KeyedJoinStrategy.compareKeys(KeyedJoinStrategy.normalizeKey(7), KeyedJoinStrategy.normalizeKey(7.0D)));
+
+        // Keys of different types never match, as in the hash table of a Hash Join, and are ordered by type
+        assertNotEquals(0, KeyedJoinStrategy.compareKeys(KeyedJoinStrategy.normalizeKey(5), KeyedJoinStrategy.normalizeKey("5")));
+        assertTrue(KeyedJoinStrategy.compareKeys(KeyedJoinStrategy.normalizeKey(10), "9") > 0);
+        assertTrue(KeyedJoinStrategy.compareKeys("9", KeyedJoinStrategy.normalizeKey(10)) < 0);
+    }
+}
@@ -75,6 +75,30 @@ public interface DistributedMapCacheClient extends ControllerService {
      */
     <K, V> V getAndPutIfAbsent(K key, V value, Serializer<K> keySerializer, Serializer<V> valueSerializer, Deserializer<V> valueDeserializer) throws IOException;
 
+    /**
+     * Performs a bulk getAndPutIfAbsent operation, adding each of the specified keys and values to the cache if the
+     * key is not already present. This should be used when needed to check and update a large batch of keys in a
+     * single operation.
+     *
+     * @param <K> type of key
+     * @param <V> type of value
+     * @param keysAndValues A java.util.Map that contains an association between keys and values to be added if absent
+     * @param keySerializer key serializer
+     * @param valueSerializer value serializer
+     * @param valueDeserializer value deserializer
+     * @return a Map containing every requested key, associated with the value that already existed in the cache, or
+     * with <code>null</code> if the key did not exist and its value was added to the cache
+     * @throws IOException if unable to communicate with the remote instance
+     */
+    default <K, V> Map<K, V> getAndPutIfAbsentAll(Map<K, V> keysAndValues, Serializer<K> keySerializer, Serializer<V> valueSerializer,
+                                                  Deserializer<V> valueDeserializer) throws IOException {
+        final Map<K, V> results = new HashMap<>(keysAndValues.size());
+        for (Map.Entry<K, V> entry : keysAndValues.entrySet()) {
+            results.put(entry.getKey(), getAndPutIfAbsent(entry.getKey(), entry.getValue(), keySerializer, valueSerializer, valueDeserializer));
+        }
+        return results;
+    }
+
     /**
      * Determines if the given value is present in the cache and if so returns
      * <code>true</code>, else returns <code>false</code>
@@ -89,6 +113,24 @@ public interface DistributedMapCacheClient extends ControllerService {
      */
     <K> boolean containsKey(K key, Serializer<K> keySerializer) throws IOException;
 
+    /**
+     * Determines which of the given keys are present in the cache. This should be used when needed to check a large
+     * batch of keys in a single operation.
+     *
+     * @param <K> type of key
+     * @param keys a set of keys to lookup in the map
+     * @param keySerializer key serializer
+     * @return a Map associating each requested key with <code>true</code> if it is present in the cache, else <code>false</code>
+     * @throws IOException if unable to communicate with the remote instance
+     */
+    default <K> Map<K, Boolean> containsKeys(Set<K> keys, Serializer<K> keySerializer) throws IOException {
+        final Map<K, Boolean> results = new HashMap<>(keys.size());
+        for (K key : keys) {
+            results.put(key, containsKey(key, keySerializer));
+        }
+        return results;
+    }
+
     /**
      * Adds the specified key and value to the cache, overwriting any value that is
      * currently set.
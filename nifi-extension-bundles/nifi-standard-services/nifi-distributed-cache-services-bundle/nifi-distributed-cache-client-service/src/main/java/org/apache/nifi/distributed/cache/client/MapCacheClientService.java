@@ -103,7 +103,7 @@ public class MapCacheClientService extends AbstractControllerService implements
     public void onEnabled(final ConfigurationContext context) {
         getLogger().debug("Enabling Map Cache Client Service [{}]", context.getName());
         this.versionNegotiatorFactory  = new StandardVersionNegotiatorFactory(
-                ProtocolVersion.V3.value(), ProtocolVersion.V2.value(), ProtocolVersion.V1.value());
+                ProtocolVersion.V4.value(), ProtocolVersion.V3.value(), ProtocolVersion.V2.value(), ProtocolVersion.V1.value());
         this.cacheClient = new NettyMapCacheClient(
                 context.getProperty(HOSTNAME).getValue(),
                 context.getProperty(PORT).asInteger(),
@@ -138,12 +138,58 @@ public class MapCacheClientService extends AbstractControllerService implements
         cacheClient.put(bytesKey, bytesValue);
     }
 
+    @Override
+    public <K, V> void putAll(final Map<K, V> keysAndValues, final Serializer<K> keySerializer, final Serializer<V> valueSerializer) throws IOException {
+        if (keysAndValues.isEmpty()) {
+            return;
+        }
+
+        final List<byte[]> bytesKeys = new ArrayList<>(keysAndValues.size());
+        final List<byte[]> bytesValues = new ArrayList<>(keysAndValues.size());
+        for (final Map.Entry<K, V> entry : keysAndValues.entrySet()) {
+            bytesKeys.add(CacheClientSerde.serialize(entry.getKey(), keySerializer));
+            bytesValues.add(CacheClientSerde.serialize(entry.getValue(), valueSerializer));
+        }
+
+        try {
+            cacheClient.putAll(bytesKeys, bytesValues);
+        } catch (final UnsupportedOperationException e) {
+            getLogger().debug("Batch operations not supported by server: sending individual requests", e);
+            AtomicDistributedMapCacheClient.super.putAll(keysAndValues, keySerializer, valueSerializer);
+        }
+    }
+
     @Override
     public <K> boolean containsKey(final K key, final Serializer<K> keySerializer) throws IOException {
         final byte[] bytesKey = CacheClientSerde.serialize(key, keySerializer);
         return cacheClient.containsKey(bytesKey);
     }
 
+    @Override
+    public <K> Map<K, Boolean> containsKeys(final Set<K> keys, final Serializer<K> keySerializer) throws IOException {
+        if (keys.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        final List<K> orderedKeys = new ArrayList<>(keys);
+        final List<byte[]> bytesKeys = new ArrayList<>(orderedKeys.size());
+        for (final K key : orderedKeys) {
+            bytesKeys.add(CacheClientSerde.serialize(key, keySerializer));
+        }
+
+        try {
+            final List<Boolean> found = cacheClient.containsKeys(bytesKeys);
+            final Map<K, Boolean> results = new HashMap<>(orderedKeys.size());
+            for (int i = 0; i < orderedKeys.size(); i++) {
+                results.put(orderedKeys.get(i), found.get(i));
+            }
+            return results;
+        } catch (final UnsupportedOperationException e) {
+            getLogger().debug("Batch operations not supported by server: sending individual requests", e);
+            return AtomicDistributedMapCacheClient.super.containsKeys(keys, keySerializer);
+        }
+    }
+
     @Override
     public <K, V> V getAndPutIfAbsent(final K key, final V value, final Serializer<K> keySerializer, final Serializer<V> valueSerializer, final Deserializer<V> valueDeserializer) throws IOException {
         final byte[] bytesKey = CacheClientSerde.serialize(key, keySerializer);
@@ -152,6 +198,31 @@ public class MapCacheClientService extends AbstractControllerService implements
         return cacheClient.getAndPutIfAbsent(bytesKey, bytesValue, inboundAdapter);
     }
 
+    @Override
+    public <K, V> Map<K, V> getAndPutIfAbsentAll(final Map<K, V> keysAndValues, final Serializer<K> keySerializer, final Serializer<V> valueSerializer,
+                                                 final Deserializer<V> valueDeserializer) throws IOException {
+        if (keysAndValues.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        // Serialize entries in key set order so that the inbound adapter associates results with the requested keys
+        final Set<K> keys = keysAndValues.keySet();
+        final List<byte[]> bytesKeys = new ArrayList<>(keys.size());
+        final List<byte[]> bytesValues = new ArrayList<>(keys.size());
+        for (final K key : keys) {
+            bytesKeys.add(CacheClientSerde.serialize(key, keySerializer));
+            bytesValues.add(CacheClientSerde.serialize(keysAndValues.get(key), valueSerializer));
+        }
+
+        try {
+            final MapValuesInboundAdapter<K, V> inboundAdapter = new MapValuesInboundAdapter<>(keys, valueDeserializer, new HashMap<>());
+            return cacheClient.getAndPutIfAbsentAll(bytesKeys, bytesValues, inboundAdapter);
+        } catch (final UnsupportedOperationException e) {
+            getLogger().debug("Batch operations not supported by server: sending individual requests", e);
+            return AtomicDistributedMapCacheClient.super.getAndPutIfAbsentAll(keysAndValues, keySerializer, valueSerializer, valueDeserializer);
+        }
+    }
+
     @Override
     public <K, V> V get(final K key, final Serializer<K> keySerializer, final Deserializer<V> valueDeserializer) throws IOException {
         final byte[] bytesKey = CacheClientSerde.serialize(key, keySerializer);
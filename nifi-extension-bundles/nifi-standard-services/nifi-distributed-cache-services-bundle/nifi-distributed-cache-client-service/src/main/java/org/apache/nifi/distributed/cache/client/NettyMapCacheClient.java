@@ -18,6 +18,7 @@ package org.apache.nifi.distributed.cache.client;
 
 import org.apache.nifi.distributed.cache.client.adapter.AtomicCacheEntryInboundAdapter;
 import org.apache.nifi.distributed.cache.client.adapter.BooleanInboundAdapter;
+import org.apache.nifi.distributed.cache.client.adapter.BooleanListInboundAdapter;
 import org.apache.nifi.distributed.cache.client.adapter.MapValuesInboundAdapter;
 import org.apache.nifi.distributed.cache.client.adapter.OutboundAdapter;
 import org.apache.nifi.distributed.cache.client.adapter.SetInboundAdapter;
@@ -31,6 +32,7 @@ import org.apache.nifi.ssl.SSLContextProvider;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -107,6 +109,29 @@ public class NettyMapCacheClient extends CacheClient {
         }
     }
 
+    /**
+     * Adds the specified keys and values to the cache in a single request, overwriting any values that are
+     * currently set.
+     *
+     * @param keys   the keys to set
+     * @param values the values to associate with the keys, in the same order as the keys
+     * @throws IOException if unable to communicate with the remote instance
+     */
+    public void putAll(final List<byte[]> keys, final List<byte[]> values) throws IOException {
+        final OutboundAdapter outboundAdapter = new OutboundAdapter()
+                .minimumVersion(ProtocolVersion.V4.value())
+                .write(MapOperation.PUT_ALL.value())
+                .write(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            outboundAdapter.write(keys.get(i)).write(values.get(i));
+        }
+        final BooleanListInboundAdapter inboundAdapter = new BooleanListInboundAdapter(keys.size());
+        invoke(outboundAdapter, inboundAdapter);
+        if (inboundAdapter.getResult().contains(Boolean.FALSE)) {
+            throw new IOException("Server indicated 'putAll' operation failed");
+        }
+    }
+
     /**
      * Determines if the given value is present in the cache and if so returns
      * <code>true</code>, else returns <code>false</code>
@@ -125,6 +150,23 @@ public class NettyMapCacheClient extends CacheClient {
         return inboundAdapter.getResult();
     }
 
+    /**
+     * Determines which of the given keys are present in the cache in a single request.
+     *
+     * @param keys the keys to lookup in the map
+     * @return a list indicating whether each key is present in the cache, in the same order as the keys
+     * @throws IOException if unable to communicate with the remote instance
+     */
+    public List<Boolean> containsKeys(final Collection<byte[]> keys) throws IOException {
+        final OutboundAdapter outboundAdapter = new OutboundAdapter()
+                .minimumVersion(ProtocolVersion.V4.value())
+                .write(MapOperation.CONTAINS_KEYS.value())
+                .write(keys);
+        final BooleanListInboundAdapter inboundAdapter = new BooleanListInboundAdapter(keys.size());
+        invoke(outboundAdapter, inboundAdapter);
+        return inboundAdapter.getResult();
+    }
+
     /**
      * Adds the specified key and value to the cache, if they are not already
      * present. If a value already exists in the cache for the given
@@ -148,6 +190,30 @@ public class NettyMapCacheClient extends CacheClient {
         return valueAdapter.getResult();
     }
 
+    /**
+     * Adds the specified keys and values to the cache in a single request, for each key that is not already present.
+     *
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @param keys       the keys to add to the map
+     * @param values     the values to add to the map if and only if the corresponding key is absent
+     * @param mapAdapter the reader used to deserialize the service result, iterating keys in the same order as the keys
+     * @return the values already present in the cache for each key, or null for keys that were added
+     * @throws IOException if unable to communicate with the remote instance
+     */
+    public <K, V> Map<K, V> getAndPutIfAbsentAll(final List<byte[]> keys, final List<byte[]> values,
+                                                 final MapValuesInboundAdapter<K, V> mapAdapter) throws IOException {
+        final OutboundAdapter outboundAdapter = new OutboundAdapter()
+                .minimumVersion(ProtocolVersion.V4.value())
+                .write(MapOperation.GET_AND_PUT_IF_ABSENT_ALL.value())
+                .write(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            outboundAdapter.write(keys.get(i)).write(values.get(i));
+        }
+        invoke(outboundAdapter, mapAdapter);
+        return mapAdapter.getResult();
+    }
+
     /**
      * Returns the value in the cache for the given key, if one exists;
      * otherwise returns <code>null</code>
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.client.adapter;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of {@link InboundAdapter} where the service response payload is expected to be a sequence of
+ * {@link Boolean} values, one for each entry of a batched service request.
+ */
+public class BooleanListInboundAdapter implements InboundAdapter {
+
+    /**
+     * Container for bytes queued from the service response {@link io.netty.channel.Channel}.
+     */
+    private final ByteBuf byteBuf;
+
+    /**
+     * The number of values expected in the service response.
+     */
+    private final int expectedResults;
+
+    /**
+     * The received service method response values, in the order of the request entries.
+     */
+    private final List<Boolean> result;
+
+    /**
+     * Constructor.
+     *
+     * @param expectedResults the number of values expected in the service response
+     */
+    public BooleanListInboundAdapter(final int expectedResults) {
+        this.byteBuf = Unpooled.buffer();
+        this.expectedResults = expectedResults;
+        this.result = new ArrayList<>(expectedResults);
+    }
+
+    /**
+     * @return the service method response values
+     */
+    public List<Boolean> getResult() {
+        return result;
+    }
+
+    @Override
+    public boolean isComplete() {
+        return result.size() == expectedResults;
+    }
+
+    @Override
+    public void queue(final byte[] bytes) {
+        byteBuf.writeBytes(bytes);
+    }
+
+    @Override
+    public void dequeue() throws IOException {
+        while (result.size() < expectedResults && byteBuf.readableBytes() >= 1) {
+            final byte b = byteBuf.readByte();
+            result.add(b != 0);
+        }
+    }
+}
@@ -21,11 +21,14 @@ package org.apache.nifi.distributed.cache.operations;
  */
 public enum MapOperation implements CacheOperation {
     CONTAINS_KEY("containsKey"),
+    CONTAINS_KEYS("containsKeys"),
     FETCH("fetch"),
     GET("get"),
     GET_AND_PUT_IF_ABSENT("getAndPutIfAbsent"),
+    GET_AND_PUT_IF_ABSENT_ALL("getAndPutIfAbsentAll"),
     KEYSET("keySet"),
     PUT("put"),
+    PUT_ALL("putAll"),
     PUT_IF_ABSENT("putIfAbsent"),
     REMOVE("remove"),
     REMOVE_AND_GET("removeAndGet"),
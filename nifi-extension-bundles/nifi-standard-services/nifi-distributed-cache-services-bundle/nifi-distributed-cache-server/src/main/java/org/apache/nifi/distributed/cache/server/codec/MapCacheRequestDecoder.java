@@ -47,12 +47,16 @@ public class MapCacheRequestDecoder extends CacheRequestDecoder {
 
         if (MapOperation.CONTAINS_KEY == cacheOperation) {
             request = readKeyRequest(cacheOperation, byteBuf);
+        } else if (MapOperation.CONTAINS_KEYS == cacheOperation) {
+            request = readSubMapRequest(cacheOperation, byteBuf);
         } else if (MapOperation.FETCH == cacheOperation) {
             request = readKeyRequest(cacheOperation, byteBuf);
         } else if (MapOperation.GET == cacheOperation) {
             request = readKeyRequest(cacheOperation, byteBuf);
         } else if (MapOperation.GET_AND_PUT_IF_ABSENT == cacheOperation) {
             request = readKeyValueRequest(cacheOperation, byteBuf);
+        } else if (MapOperation.GET_AND_PUT_IF_ABSENT_ALL == cacheOperation) {
+            request = readKeyValuesRequest(cacheOperation, byteBuf);
         } else if (MapOperation.KEYSET == cacheOperation) {
             request = new MapCacheRequest(cacheOperation);
         } else if (MapOperation.REMOVE == cacheOperation) {
@@ -65,6 +69,8 @@ public class MapCacheRequestDecoder extends CacheRequestDecoder {
             request = readSubMapRequest(cacheOperation, byteBuf);
         } else if (MapOperation.PUT == cacheOperation) {
             request = readKeyValueRequest(cacheOperation, byteBuf);
+        } else if (MapOperation.PUT_ALL == cacheOperation) {
+            request = readKeyValuesRequest(cacheOperation, byteBuf);
         } else if (MapOperation.PUT_IF_ABSENT == cacheOperation) {
             request = readKeyValueRequest(cacheOperation, byteBuf);
         } else {
@@ -137,4 +143,34 @@ public class MapCacheRequestDecoder extends CacheRequestDecoder {
 
         return mapCacheRequest;
     }
+
+    private MapCacheRequest readKeyValuesRequest(final CacheOperation cacheOperation, final ByteBuf byteBuf) {
+        final MapCacheRequest mapCacheRequest;
+
+        final OptionalInt entries = readInt(byteBuf);
+        if (entries.isPresent()) {
+            final int entriesFound = entries.getAsInt();
+            final List<byte[]> keys = new ArrayList<>();
+            final List<byte[]> values = new ArrayList<>();
+            for (int i = 0; i < entriesFound; i++) {
+                final Optional<byte[]> key = readBytes(byteBuf);
+                final Optional<byte[]> value = key.isPresent() ? readBytes(byteBuf) : Optional.empty();
+                if (value.isPresent()) {
+                    keys.add(key.get());
+                    values.add(value.get());
+                } else {
+                    // Clear Lists to return null and retry on subsequent invocations
+                    keys.clear();
+                    break;
+                }
+            }
+
+            // Requests without entries are complete once the count is read
+            mapCacheRequest = keys.size() == entriesFound ? new MapCacheRequest(cacheOperation, keys, values) : null;
+        } else {
+            mapCacheRequest = null;
+        }
+
+        return mapCacheRequest;
+    }
 }
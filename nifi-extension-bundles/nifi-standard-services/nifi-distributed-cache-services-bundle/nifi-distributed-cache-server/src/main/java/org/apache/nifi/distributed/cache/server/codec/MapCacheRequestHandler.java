@@ -37,6 +37,9 @@ import java.util.Set;
 
 /**
  * Handler for Map Cache Request operations interacts with the Map Cache and writes Results
+ * <p>
+ * Results are written without flushing and flushed once all requests decoded from the current read have been
+ * processed, so that pipelined and batched requests share a single flush to the channel.
  */
 @ChannelHandler.Sharable
 public class MapCacheRequestHandler extends SimpleChannelInboundHandler<MapCacheRequest> {
@@ -60,11 +63,17 @@ public class MapCacheRequestHandler extends SimpleChannelInboundHandler<MapCache
 
         if (MapOperation.CLOSE == cacheOperation) {
             log.debug("Map Cache Operation [{}] received", cacheOperation);
+            channelHandlerContext.flush();
             channelHandlerContext.close();
         } else if (MapOperation.CONTAINS_KEY == cacheOperation) {
             final ByteBuffer key = ByteBuffer.wrap(mapCacheRequest.getKey());
             final boolean success = mapCache.containsKey(key);
             writeResult(channelHandlerContext, cacheOperation, success);
+        } else if (MapOperation.CONTAINS_KEYS == cacheOperation) {
+            for (final byte[] key : mapCacheRequest.getKeys()) {
+                final boolean success = mapCache.containsKey(ByteBuffer.wrap(key));
+                writeResult(channelHandlerContext, cacheOperation, success);
+            }
         } else if (MapOperation.GET == cacheOperation) {
             final ByteBuffer key = ByteBuffer.wrap(mapCacheRequest.getKey());
             final ByteBuffer cached = mapCache.get(key);
@@ -75,6 +84,14 @@ public class MapCacheRequestHandler extends SimpleChannelInboundHandler<MapCache
             final MapPutResult result = mapCache.putIfAbsent(key, value);
             final ByteBuffer cached = result.isSuccessful() ? null : result.getExisting().getValue();
             writeBytes(channelHandlerContext, cacheOperation, cached);
+        } else if (MapOperation.GET_AND_PUT_IF_ABSENT_ALL == cacheOperation) {
+            final List<byte[]> keys = mapCacheRequest.getKeys();
+            final List<byte[]> values = mapCacheRequest.getValues();
+            for (int i = 0; i < keys.size(); i++) {
+                final MapPutResult result = mapCache.putIfAbsent(ByteBuffer.wrap(keys.get(i)), ByteBuffer.wrap(values.get(i)));
+                final ByteBuffer cached = result.isSuccessful() ? null : result.getExisting().getValue();
+                writeBytes(channelHandlerContext, cacheOperation, cached);
+            }
         } else if (MapOperation.FETCH == cacheOperation) {
             final ByteBuffer key = ByteBuffer.wrap(mapCacheRequest.getKey());
             final MapCacheRecord mapCacheRecord = mapCache.fetch(key);
@@ -90,6 +107,13 @@ public class MapCacheRequestHandler extends SimpleChannelInboundHandler<MapCache
             final ByteBuffer value = ByteBuffer.wrap(mapCacheRequest.getValue());
             final MapPutResult result = mapCache.put(key, value);
             writeResult(channelHandlerContext, cacheOperation, result.isSuccessful());
+        } else if (MapOperation.PUT_ALL == cacheOperation) {
+            final List<byte[]> keys = mapCacheRequest.getKeys();
+            final List<byte[]> values = mapCacheRequest.getValues();
+            for (int i = 0; i < keys.size(); i++) {
+                final MapPutResult result = mapCache.put(ByteBuffer.wrap(keys.get(i)), ByteBuffer.wrap(values.get(i)));
+                writeResult(channelHandlerContext, cacheOperation, result.isSuccessful());
+            }
         } else if (MapOperation.PUT_IF_ABSENT == cacheOperation) {
             final ByteBuffer key = ByteBuffer.wrap(mapCacheRequest.getKey());
             final ByteBuffer value = ByteBuffer.wrap(mapCacheRequest.getValue());
@@ -122,16 +146,22 @@ public class MapCacheRequestHandler extends SimpleChannelInboundHandler<MapCache
         }
     }
 
+    @Override
+    public void channelReadComplete(final ChannelHandlerContext channelHandlerContext) {
+        channelHandlerContext.flush();
+        channelHandlerContext.fireChannelReadComplete();
+    }
+
     private void writeResult(final ChannelHandlerContext channelHandlerContext, final CacheOperation cacheOperation, final boolean success) {
         log.debug("Map Cache Operation [{}] Success [{}]", cacheOperation, success);
         final CacheOperationResult cacheOperationResult = new CacheOperationResult(success);
-        channelHandlerContext.writeAndFlush(cacheOperationResult);
+        channelHandlerContext.write(cacheOperationResult);
     }
 
     private void writeSize(final ChannelHandlerContext channelHandlerContext, final CacheOperation cacheOperation, final int size) {
         final MapSizeResponse mapSizeResponse = new MapSizeResponse(size);
         log.debug("Map Cache Operation [{}] Size [{}]", cacheOperation, size);
-        channelHandlerContext.writeAndFlush(mapSizeResponse);
+        channelHandlerContext.write(mapSizeResponse);
     }
 
     private void writeBytes(final ChannelHandlerContext channelHandlerContext, final CacheOperation cacheOperation, final ByteBuffer buffer) {
@@ -139,7 +169,7 @@ public class MapCacheRequestHandler extends SimpleChannelInboundHandler<MapCache
         final int length = bytes == null ? 0 : bytes.length;
         final MapValueResponse mapValueResponse = new MapValueResponse(length, bytes);
         log.debug("Map Cache Operation [{}] Length [{}]", cacheOperation, length);
-        channelHandlerContext.writeAndFlush(mapValueResponse);
+        channelHandlerContext.write(mapValueResponse);
     }
 
     private void writeMapCacheRecord(final ChannelHandlerContext channelHandlerContext, final CacheOperation cacheOperation, final MapCacheRecord mapCacheRecord) {
@@ -148,6 +178,6 @@ public class MapCacheRequestHandler extends SimpleChannelInboundHandler<MapCache
         final int length = value == null ? 0 : value.length;
         final MapValueResponse mapValueResponse = new MapValueResponse(length, value, revision);
         log.debug("Map Cache Operation [{}] Length [{}]", cacheOperation, length);
-        channelHandlerContext.writeAndFlush(mapValueResponse);
+        channelHandlerContext.write(mapValueResponse);
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.server.map;
+
+import org.apache.nifi.components.DescribedValue;
+
+/**
+ * Storage engines available for holding the entries of a Map Cache Server
+ */
+public enum MapCacheEngine implements DescribedValue {
+    STANDARD("Standard", "Holds all entries on the heap in a single map guarded by one lock, with an exact eviction order."),
+    SHARDED("Sharded", "Splits entries across independently locked segments and stores values off-heap. Eviction is approximate, "
+            + "selecting the least valuable of a small random sample of entries according to the Eviction Strategy.");
+
+    private final String displayName;
+    private final String description;
+
+    MapCacheEngine(final String displayName, final String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    @Override
+    public String getValue() {
+        return name();
+    }
+
+    @Override
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+}
@@ -18,15 +18,19 @@ package org.apache.nifi.distributed.cache.server.map;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import javax.net.ssl.SSLContext;
 import org.apache.nifi.annotation.documentation.CapabilityDescription;
 import org.apache.nifi.annotation.documentation.SeeAlso;
 import org.apache.nifi.annotation.documentation.Tags;
+import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.controller.ConfigurationContext;
 import org.apache.nifi.distributed.cache.server.CacheServer;
 import org.apache.nifi.distributed.cache.server.AbstractCacheServer;
 import org.apache.nifi.distributed.cache.server.EvictionPolicy;
 import org.apache.nifi.processor.DataUnit;
+import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.ssl.SSLContextProvider;
 
 @Tags({"distributed", "cluster", "map", "cache", "server", "key/value"})
@@ -35,6 +39,32 @@ import org.apache.nifi.ssl.SSLContextProvider;
 @SeeAlso(classNames = {"org.apache.nifi.distributed.cache.client.MapCacheClientService"})
 public class MapCacheServer extends AbstractCacheServer {
 
+    public static final PropertyDescriptor CACHE_ENGINE = new PropertyDescriptor.Builder()
+        .name("Cache Engine")
+        .description("The storage engine used to hold cache entries. The Sharded engine reduces lock contention and heap usage "
+            + "when many clients access the cache concurrently, at the cost of approximate eviction ordering.")
+        .required(true)
+        .allowableValues(MapCacheEngine.class)
+        .defaultValue(MapCacheEngine.STANDARD)
+        .build();
+    public static final PropertyDescriptor CACHE_SEGMENTS = new PropertyDescriptor.Builder()
+        .name("Cache Segments")
+        .description("The number of independently locked segments across which cache entries are distributed. The value is rounded "
+            + "down to a power of two and limited to the Maximum Cache Entries; each segment holds an equal share of the entries.")
+        .required(true)
+        .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+        .defaultValue("16")
+        .dependsOn(CACHE_ENGINE, MapCacheEngine.SHARDED)
+        .build();
+
+    @Override
+    protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
+        final List<PropertyDescriptor> properties = new ArrayList<>(super.getSupportedPropertyDescriptors());
+        properties.add(CACHE_ENGINE);
+        properties.add(CACHE_SEGMENTS);
+        return properties;
+    }
+
     @Override
     protected CacheServer createCacheServer(final ConfigurationContext context) {
         final int port = context.getProperty(PORT).asInteger();
@@ -43,6 +73,7 @@ public class MapCacheServer extends AbstractCacheServer {
         final int maxSize = context.getProperty(MAX_CACHE_ENTRIES).asInteger();
         final String evictionPolicyName = context.getProperty(EVICTION_POLICY).getValue();
         final int maxReadSize = context.getProperty(MAX_READ_SIZE).asDataSize(DataUnit.B).intValue();
+        final MapCacheEngine cacheEngine = context.getProperty(CACHE_ENGINE).asAllowableValue(MapCacheEngine.class);
 
         final SSLContext sslContext;
         if (sslContextProvider == null) {
@@ -69,6 +100,11 @@ public class MapCacheServer extends AbstractCacheServer {
         try {
             final File persistenceDir = persistencePath == null ? null : new File(persistencePath);
 
+            if (cacheEngine == MapCacheEngine.SHARDED) {
+                final int cacheSegments = context.getProperty(CACHE_SEGMENTS).asInteger();
+                return createShardedMapCacheServer(port, maxSize, sslContext, evictionPolicy, persistenceDir, maxReadSize, cacheSegments);
+            }
+
             return createMapCacheServer(port, maxSize, sslContext, evictionPolicy, persistenceDir, maxReadSize);
         } catch (final Exception e) {
             throw new RuntimeException(e);
@@ -94,4 +130,27 @@ public class MapCacheServer extends AbstractCacheServer {
                 maxReadSize
         );
     }
+
+    protected CacheServer createShardedMapCacheServer(
+            final int port,
+            final int maxSize,
+            final SSLContext sslContext,
+            final EvictionPolicy evictionPolicy,
+            final File persistenceDir,
+            final int maxReadSize,
+            final int cacheSegments
+    ) throws IOException {
+        return new StandardMapCacheServer(
+                getLogger(),
+                getIdentifier(),
+                sslContext,
+                port,
+                maxSize,
+                evictionPolicy,
+                persistenceDir,
+                maxReadSize,
+                MapCacheEngine.SHARDED,
+                cacheSegments
+        );
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.server.map;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Allocates fixed-size chunks of direct memory for cache values. Chunk sizes are powers of two, and each size class carves
+ * its chunks out of {@link #SLAB_SIZE} byte slabs that are allocated on demand and reused once freed. Allocations are
+ * identified by a handle combining the size class and the chunk position.
+ * <p>
+ * This class is not thread-safe; callers are expected to guard each allocator with their own lock.
+ */
+final class OffHeapSlabAllocator {
+    static final int MIN_CHUNK_SIZE = 64;
+    static final int SLAB_SIZE = 64 * 1024;
+
+    private final SizeClass[] sizeClasses;
+
+    OffHeapSlabAllocator() {
+        final int classCount = Integer.numberOfTrailingZeros(SLAB_SIZE) - Integer.numberOfTrailingZeros(MIN_CHUNK_SIZE) + 1;
+        sizeClasses = new SizeClass[classCount];
+        for (int i = 0; i < classCount; i++) {
+            sizeClasses[i] = new SizeClass(MIN_CHUNK_SIZE << i);
+        }
+    }
+
+    /**
+     * @param length number of bytes to be stored
+     * @return <code>true</code> if a value of the given length fits in a single chunk
+     */
+    static boolean isAllocatable(final int length) {
+        return length <= SLAB_SIZE;
+    }
+
+    /**
+     * Copies the remaining bytes of the given buffer into a newly allocated chunk
+     *
+     * @param source the bytes to store; the position of the buffer is not changed
+     * @return handle identifying the allocated chunk
+     */
+    long allocate(final ByteBuffer source) {
+        final int length = source.remaining();
+        final int classIndex = getClassIndex(length);
+        final SizeClass sizeClass = sizeClasses[classIndex];
+        final int chunk = sizeClass.allocate();
+        sizeClass.getSlab(chunk).put(sizeClass.getOffset(chunk), source, source.position(), length);
+        return ((long) classIndex << 32) | chunk;
+    }
+
+    /**
+     * Copies the first <code>length</code> bytes of the chunk identified by the given handle into a new heap buffer
+     *
+     * @param handle the handle returned from {@link #allocate(ByteBuffer)}
+     * @param length the number of bytes stored in the chunk
+     * @return heap buffer containing the stored bytes
+     */
+    ByteBuffer read(final long handle, final int length) {
+        final SizeClass sizeClass = sizeClasses[(int) (handle >>> 32)];
+        final int chunk = (int) handle;
+        final byte[] bytes = new byte[length];
+        sizeClass.getSlab(chunk).get(sizeClass.getOffset(chunk), bytes);
+        return ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Returns the chunk identified by the given handle to the free list of its size class
+     *
+     * @param handle the handle returned from {@link #allocate(ByteBuffer)}
+     */
+    void free(final long handle) {
+        sizeClasses[(int) (handle >>> 32)].free((int) handle);
+    }
+
+    /**
+     * @return total number of bytes of direct memory held in slabs
+     */
+    long getReservedBytes() {
+        long reserved = 0;
+        for (final SizeClass sizeClass : sizeClasses) {
+            reserved += (long) sizeClass.slabs.size() * SLAB_SIZE;
+        }
+        return reserved;
+    }
+
+    /**
+     * Drops all slabs so that the direct memory can be reclaimed. Handles allocated before calling this method are no longer valid.
+     */
+    void release() {
+        for (final SizeClass sizeClass : sizeClasses) {
+            sizeClass.slabs.clear();
+            sizeClass.freeCount = 0;
+        }
+    }
+
+    private static int getClassIndex(final int length) {
+        if (length <= MIN_CHUNK_SIZE) {
+            return 0;
+        }
+        final int chunkSize = Integer.highestOneBit(length - 1) << 1;
+        return Integer.numberOfTrailingZeros(chunkSize) - Integer.numberOfTrailingZeros(MIN_CHUNK_SIZE);
+    }
+
+    private static final class SizeClass {
+        private final int chunkSize;
+        private final int chunksPerSlab;
+        private final List<ByteBuffer> slabs = new ArrayList<>();
+        private int[] freeChunks = new int[0];
+        private int freeCount;
+
+        private SizeClass(final int chunkSize) {
+            this.chunkSize = chunkSize;
+            this.chunksPerSlab = SLAB_SIZE / chunkSize;
+        }
+
+        private int allocate() {
+            if (freeCount == 0) {
+                addSlab();
+            }
+            return freeChunks[--freeCount];
+        }
+
+        private void free(final int chunk) {
+            if (freeCount == freeChunks.length) {
+                freeChunks = Arrays.copyOf(freeChunks, Math.max(chunksPerSlab, freeChunks.length * 2));
+            }
+            freeChunks[freeCount++] = chunk;
+        }
+
+        private void addSlab() {
+            final int slabIndex = slabs.size();
+            slabs.add(ByteBuffer.allocateDirect(SLAB_SIZE));
+
+            // Push chunks in reverse order so that they are handed out from the start of the slab
+            final int firstChunk = slabIndex * chunksPerSlab;
+            for (int chunk = firstChunk + chunksPerSlab - 1; chunk >= firstChunk; chunk--) {
+                free(chunk);
+            }
+        }
+
+        private ByteBuffer getSlab(final int chunk) {
+            return slabs.get(chunk / chunksPerSlab);
+        }
+
+        private int getOffset(final int chunk) {
+            return (chunk % chunksPerSlab) * chunkSize;
+        }
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.server.map;
+
+import org.apache.nifi.distributed.cache.server.CacheRecord;
+import org.apache.nifi.distributed.cache.server.EvictionPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Map Cache that partitions entries across independently locked segments so that concurrent requests for different keys
+ * do not contend on a single lock. Keys are held on the heap for lookup, while values are copied into off-heap slabs
+ * managed per segment, keeping large caches out of the garbage collector's way.
+ * <p>
+ * Each segment holds an equal share of the maximum number of entries. When a segment is full, an entry is evicted by
+ * sampling a small number of entries from that segment and removing the one ranked first by the Eviction Policy, which
+ * approximates the policy without maintaining a global sorted index.
+ */
+public class ShardedMapCache implements MapCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedMapCache.class);
+
+    static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private static final long LARGE_VALUE_HANDLE = -1L;
+
+    private final String serviceIdentifier;
+    private final Comparator<CacheRecord> evictionComparator;
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    public ShardedMapCache(final String serviceIdentifier, final int maxSize, final EvictionPolicy evictionPolicy, final int segmentCount) {
+        this.serviceIdentifier = serviceIdentifier;
+        this.evictionComparator = evictionPolicy.getComparator();
+
+        // Use a power of two no larger than the maximum size so that every segment can hold at least one entry
+        final int count = Integer.highestOneBit(Math.max(1, Math.min(segmentCount, maxSize)));
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            final int capacity = maxSize / count + (i < maxSize % count ? 1 : 0);
+            segments[i] = new Segment(capacity);
+        }
+        segmentMask = count - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "ShardedMapCache[service id=" + serviceIdentifier + ", segments=" + segments.length + "]";
+    }
+
+    int getSegmentCount() {
+        return segments.length;
+    }
+
+    long getReservedBytes() {
+        long reserved = 0;
+        for (final Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                reserved += segment.allocator.getReservedBytes();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return reserved;
+    }
+
+    @Override
+    public MapPutResult putIfAbsent(final ByteBuffer key, final ByteBuffer value) {
+        final Segment segment = getSegment(key);
+        segment.lock.lock();
+        try {
+            final Entry entry = segment.entries.get(key);
+            if (entry == null) {
+                return segment.put(key, value, null);
+            }
+
+            entry.hit();
+            final MapCacheRecord record = segment.toRecord(entry);
+            return new MapPutResult(false, record, record, null);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public MapPutResult put(final ByteBuffer key, final ByteBuffer value) {
+        final Segment segment = getSegment(key);
+        segment.lock.lock();
+        try {
+            return segment.put(key, value, segment.entries.get(key));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean containsKey(final ByteBuffer key) {
+        final Segment segment = getSegment(key);
+        segment.lock.lock();
+        try {
+            final Entry entry = segment.entries.get(key);
+            if (entry == null) {
+                return false;
+            }
+
+            entry.hit();
+            return true;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public ByteBuffer get(final ByteBuffer key) {
+        final Segment segment = getSegment(key);
+        segment.lock.lock();
+        try {
+            final Entry entry = segment.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+
+            entry.hit();
+            return segment.readValue(entry);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public Map<ByteBuffer, ByteBuffer> subMap(final List<ByteBuffer> keys) {
+        if (keys == null) {
+            return null;
+        }
+
+        final Map<ByteBuffer, ByteBuffer> results = new HashMap<>(keys.size());
+        for (final ByteBuffer key : keys) {
+            results.put(key, get(key));
+        }
+        return results;
+    }
+
+    @Override
+    public ByteBuffer remove(final ByteBuffer key) {
+        final Segment segment = getSegment(key);
+        segment.lock.lock();
+        try {
+            final Entry entry = segment.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+
+            final ByteBuffer value = segment.readValue(entry);
+            segment.remove(entry);
+            return value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public MapCacheRecord fetch(final ByteBuffer key) {
+        final Segment segment = getSegment(key);
+        segment.lock.lock();
+        try {
+            final Entry entry = segment.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+
+            entry.hit();
+            return segment.toRecord(entry);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public MapPutResult replace(final MapCacheRecord inputRecord) {
+        final ByteBuffer key = inputRecord.getKey();
+        final Segment segment = getSegment(key);
+        segment.lock.lock();
+        try {
+            final Entry existing = segment.entries.get(key);
+            if (existing != null) {
+                existing.hit();
+                if (inputRecord.getRevision() != existing.revision) {
+                    // The key has been updated by other operation.
+                    return new MapPutResult(false, inputRecord, segment.toRecord(existing), null);
+                }
+            }
+
+            return segment.put(key, inputRecord.getValue(), existing);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<ByteBuffer> keySet() {
+        final Set<ByteBuffer> keys = new HashSet<>();
+        for (final Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                keys.addAll(segment.entries.keySet());
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public void shutdown() {
+        for (final Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.entries.clear();
+                segment.sampleEntries.clear();
+                segment.allocator.release();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    private Segment getSegment(final ByteBuffer key) {
+        final int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    private final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<ByteBuffer, Entry> entries = new HashMap<>();
+        // Entries in no particular order, supporting constant time random sampling for eviction
+        private final List<Entry> sampleEntries = new ArrayList<>();
+        private final OffHeapSlabAllocator allocator = new OffHeapSlabAllocator();
+        private final int capacity;
+
+        private Segment(final int capacity) {
+            this.capacity = capacity;
+        }
+
+        private MapPutResult put(final ByteBuffer key, final ByteBuffer value, final Entry existing) {
+            // evict if we need to in order to make room for a new entry.
+            final MapCacheRecord evicted = existing == null ? evict() : null;
+
+            final long revision;
+            final MapCacheRecord existingRecord;
+            if (existing == null) {
+                revision = 0;
+                existingRecord = null;
+            } else {
+                revision = existing.revision + 1;
+                existingRecord = toRecord(existing);
+                remove(existing);
+            }
+
+            final Entry entry = new Entry(key, revision);
+            store(entry, value);
+            entries.put(key, entry);
+            entry.index = sampleEntries.size();
+            sampleEntries.add(entry);
+
+            final MapCacheRecord record = new MapCacheRecord(key, value, revision);
+            return new MapPutResult(true, record, existingRecord, evicted);
+        }
+
+        private MapCacheRecord evict() {
+            if (entries.size() < capacity || sampleEntries.isEmpty()) {
+                return null;
+            }
+
+            final Entry entryToEvict = selectEvictionCandidate();
+            final MapCacheRecord evicted = toRecord(entryToEvict);
+            remove(entryToEvict);
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("Evicting key {} from cache", new String(evicted.getKey().array(), StandardCharsets.UTF_8));
+            }
+
+            return evicted;
+        }
+
+        private Entry selectEvictionCandidate() {
+            final int size = sampleEntries.size();
+            if (size <= EVICTION_SAMPLE_SIZE) {
+                Entry candidate = sampleEntries.getFirst();
+                for (int i = 1; i < size; i++) {
+                    candidate = lowerRanked(candidate, sampleEntries.get(i));
+                }
+                return candidate;
+            }
+
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            Entry candidate = sampleEntries.get(random.nextInt(size));
+            for (int i = 1; i < EVICTION_SAMPLE_SIZE; i++) {
+                candidate = lowerRanked(candidate, sampleEntries.get(random.nextInt(size)));
+            }
+            return candidate;
+        }
+
+        private Entry lowerRanked(final Entry first, final Entry second) {
+            return evictionComparator.compare(first, second) <= 0 ? first : second;
+        }
+
+        private void remove(final Entry entry) {
+            entries.remove(entry.key);
+
+            // Move the last entry into the vacated position to keep the sample list dense
+            final Entry last = sampleEntries.removeLast();
+            if (last != entry) {
+                last.index = entry.index;
+                sampleEntries.set(entry.index, last);
+            }
+
+            if (entry.valueHandle != LARGE_VALUE_HANDLE) {
+                allocator.free(entry.valueHandle);
+            }
+            entry.largeValue = null;
+        }
+
+        private void store(final Entry entry, final ByteBuffer value) {
+            final int length = value.remaining();
+            entry.valueLength = length;
+            if (OffHeapSlabAllocator.isAllocatable(length)) {
+                entry.valueHandle = allocator.allocate(value);
+            } else {
+                final ByteBuffer largeValue = ByteBuffer.allocateDirect(length);
+                largeValue.put(0, value, value.position(), length);
+                entry.valueHandle = LARGE_VALUE_HANDLE;
+                entry.largeValue = largeValue;
+            }
+        }
+
+        private ByteBuffer readValue(final Entry entry) {
+            if (entry.valueHandle == LARGE_VALUE_HANDLE) {
+                final byte[] bytes = new byte[entry.valueLength];
+                entry.largeValue.get(0, bytes);
+                return ByteBuffer.wrap(bytes);
+            }
+
+            return allocator.read(entry.valueHandle, entry.valueLength);
+        }
+
+        private MapCacheRecord toRecord(final Entry entry) {
+            return new MapCacheRecord(entry.key, readValue(entry), entry.revision);
+        }
+    }
+
+    private static final class Entry extends CacheRecord {
+        private final ByteBuffer key;
+        private final long revision;
+        private long valueHandle;
+        private int valueLength;
+        private ByteBuffer largeValue;
+        private int index;
+
+        private Entry(final ByteBuffer key, final long revision) {
+            this.key = key;
+            this.revision = revision;
+        }
+    }
+}
@@ -58,15 +58,33 @@ public class StandardMapCacheServer extends EventCacheServer {
             final EvictionPolicy evictionPolicy,
             final File persistencePath,
             final int maxReadLength
+    ) throws IOException {
+        this(log, identifier, sslContext, port, maxCacheEntries, evictionPolicy, persistencePath, maxReadLength, MapCacheEngine.STANDARD, 1);
+    }
+
+    public StandardMapCacheServer(
+            final ComponentLog log,
+            final String identifier,
+            final SSLContext sslContext,
+            final int port,
+            final int maxCacheEntries,
+            final EvictionPolicy evictionPolicy,
+            final File persistencePath,
+            final int maxReadLength,
+            final MapCacheEngine cacheEngine,
+            final int cacheSegments
     ) throws IOException {
         super(log, port);
 
-        final MapCache simpleCache = new SimpleMapCache(identifier, maxCacheEntries, evictionPolicy);
+        final MapCache memoryCache = switch (cacheEngine) {
+            case STANDARD -> new SimpleMapCache(identifier, maxCacheEntries, evictionPolicy);
+            case SHARDED -> new ShardedMapCache(identifier, maxCacheEntries, evictionPolicy, cacheSegments);
+        };
 
         if (persistencePath == null) {
-            this.cache = simpleCache;
+            this.cache = memoryCache;
         } else {
-            final PersistentMapCache persistentCache = new PersistentMapCache(identifier, persistencePath, simpleCache);
+            final PersistentMapCache persistentCache = new PersistentMapCache(identifier, persistencePath, memoryCache);
             persistentCache.restore();
             this.cache = persistentCache;
         }
@@ -116,6 +134,7 @@ public class StandardMapCacheServer extends EventCacheServer {
 
     protected VersionNegotiator createVersionNegotiator() {
         return new StandardVersionNegotiator(
+                ProtocolVersion.V4.value(),
                 ProtocolVersion.V3.value(),
                 ProtocolVersion.V2.value(),
                 ProtocolVersion.V1.value()
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.server.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.nifi.distributed.cache.operations.CacheOperation;
+import org.apache.nifi.distributed.cache.operations.MapOperation;
+import org.apache.nifi.distributed.cache.protocol.ProtocolVersion;
+import org.apache.nifi.distributed.cache.server.protocol.MapCacheRequest;
+import org.apache.nifi.logging.ComponentLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class MapCacheRequestDecoderTest {
+    private static final int MAX_LENGTH = 1024;
+
+    private static final byte[] HEADER = "NiFi".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] KEY = "key".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] VALUE = "value".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private ComponentLog log;
+
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setChannel() {
+        final MapCacheRequestDecoder decoder = new MapCacheRequestDecoder(log, MAX_LENGTH, MapOperation.values());
+        decoder.setProtocolVersion(ProtocolVersion.V4.value());
+        channel = new EmbeddedChannel(decoder);
+        channel.writeInbound(Unpooled.wrappedBuffer(HEADER));
+    }
+
+    @Test
+    void testPutAllWithoutEntries() {
+        final ByteBuf byteBuf = Unpooled.buffer();
+        writeOperation(byteBuf, MapOperation.PUT_ALL);
+        byteBuf.writeInt(0);
+
+        channel.writeInbound(byteBuf);
+
+        final MapCacheRequest request = assertInstanceOf(MapCacheRequest.class, channel.readInbound());
+        assertEquals(MapOperation.PUT_ALL, request.getCacheOperation());
+        assertTrue(request.getKeys().isEmpty());
+        assertTrue(request.getValues().isEmpty());
+    }
+
+    @Test
+    void testGetAndPutIfAbsentAllWithoutEntriesFollowedByPutAll() {
+        final ByteBuf byteBuf = Unpooled.buffer();
+        writeOperation(byteBuf, MapOperation.GET_AND_PUT_IF_ABSENT_ALL);
+        byteBuf.writeInt(0);
+        writeOperation(byteBuf, MapOperation.PUT_ALL);
+        byteBuf.writeInt(1);
+        writeBytes(byteBuf, KEY);
+        writeBytes(byteBuf, VALUE);
+
+        channel.writeInbound(byteBuf);
+
+        final MapCacheRequest emptyRequest = assertInstanceOf(MapCacheRequest.class, channel.readInbound());
+        assertEquals(MapOperation.GET_AND_PUT_IF_ABSENT_ALL, emptyRequest.getCacheOperation());
+        assertTrue(emptyRequest.getKeys().isEmpty());
+
+        final MapCacheRequest request = assertInstanceOf(MapCacheRequest.class, channel.readInbound());
+        assertEquals(MapOperation.PUT_ALL, request.getCacheOperation());
+        assertEquals(1, request.getKeys().size());
+        assertArrayEquals(KEY, request.getKeys().getFirst());
+        assertArrayEquals(VALUE, request.getValues().getFirst());
+    }
+
+    @Test
+    void testPutAllPartialEntries() {
+        final ByteBuf byteBuf = Unpooled.buffer();
+        writeOperation(byteBuf, MapOperation.PUT_ALL);
+        byteBuf.writeInt(2);
+        writeBytes(byteBuf, KEY);
+        writeBytes(byteBuf, VALUE);
+
+        channel.writeInbound(byteBuf);
+        assertNull(channel.readInbound());
+
+        final ByteBuf remaining = Unpooled.buffer();
+        writeBytes(remaining, KEY);
+        writeBytes(remaining, VALUE);
+
+        channel.writeInbound(remaining);
+
+        final MapCacheRequest request = assertInstanceOf(MapCacheRequest.class, channel.readInbound());
+        assertEquals(2, request.getKeys().size());
+        assertEquals(2, request.getValues().size());
+    }
+
+    private void writeOperation(final ByteBuf byteBuf, final CacheOperation cacheOperation) {
+        final byte[] operation = cacheOperation.value().getBytes(StandardCharsets.UTF_8);
+        byteBuf.writeShort(operation.length);
+        byteBuf.writeBytes(operation);
+    }
+
+    private void writeBytes(final ByteBuf byteBuf, final byte[] bytes) {
+        byteBuf.writeInt(bytes.length);
+        byteBuf.writeBytes(bytes);
+    }
+}
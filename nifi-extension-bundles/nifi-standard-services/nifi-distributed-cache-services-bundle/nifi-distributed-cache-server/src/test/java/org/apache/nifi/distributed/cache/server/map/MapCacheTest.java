@@ -35,6 +35,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
@@ -146,6 +147,49 @@ public class MapCacheTest {
         }
     }
 
+    @Test
+    public void testPutAllContainsKeys() throws IOException {
+        final Map<String, String> keysAndValues = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) {
+            keysAndValues.put("keyPutAll" + i, "valuePutAll" + i);
+        }
+        client.putAll(keysAndValues, serializer, serializer);
+
+        final Set<String> keys = new LinkedHashSet<>(keysAndValues.keySet());
+        keys.add("keyPutAllMissing");
+        final Map<String, Boolean> found = client.containsKeys(keys, serializer);
+        assertEquals(4, found.size());
+        assertFalse(found.get("keyPutAllMissing"));
+        for (final Map.Entry<String, String> entry : keysAndValues.entrySet()) {
+            assertTrue(found.get(entry.getKey()));
+            assertEquals(entry.getValue(), client.get(entry.getKey(), serializer, deserializer));
+            assertTrue(client.remove(entry.getKey(), serializer));
+        }
+    }
+
+    @Test
+    public void testGetAndPutIfAbsentAll() throws IOException {
+        final String existingKey = "keyGetAndPutIfAbsentAll0";
+        final String existingValue = "valueExisting";
+        client.put(existingKey, existingValue, serializer, serializer);
+
+        final Map<String, String> keysAndValues = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) {
+            keysAndValues.put("keyGetAndPutIfAbsentAll" + i, "valueGetAndPutIfAbsentAll" + i);
+        }
+        final Map<String, String> existing = client.getAndPutIfAbsentAll(keysAndValues, serializer, serializer, deserializer);
+        assertEquals(3, existing.size());
+        assertEquals(existingValue, existing.get(existingKey));
+        assertNull(existing.get("keyGetAndPutIfAbsentAll1"));
+        assertNull(existing.get("keyGetAndPutIfAbsentAll2"));
+
+        assertEquals(existingValue, client.get(existingKey, serializer, deserializer));
+        assertEquals("valueGetAndPutIfAbsentAll1", client.get("keyGetAndPutIfAbsentAll1", serializer, deserializer));
+        for (final String key : keysAndValues.keySet()) {
+            assertTrue(client.remove(key, serializer));
+        }
+    }
+
     @Test
     public void testReplaceFetchAtomic() throws IOException {
         final String key = "keyReplaceAtomic";
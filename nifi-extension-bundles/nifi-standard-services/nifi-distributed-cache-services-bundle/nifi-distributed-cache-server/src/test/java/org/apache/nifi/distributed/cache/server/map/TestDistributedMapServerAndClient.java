@@ -267,6 +267,12 @@ public class TestDistributedMapServerAndClient {
 
             assertThrows(UnsupportedOperationException.class, () -> client.keySet(stringDeserializer));
             assertThrows(UnsupportedOperationException.class, () -> client.removeAndGet("v.*", stringSerializer, stringDeserializer));
+
+            // Batch operations should fall back to individual requests
+            final String batchKey = "test-backward-compatibility-batch";
+            client.putAll(Map.of(batchKey, "value3"), stringSerializer, stringSerializer);
+            assertEquals(Map.of(key, true, batchKey, true), client.containsKeys(Set.of(key, batchKey), stringSerializer));
+            assertEquals("value3", client.getAndPutIfAbsentAll(Map.of(batchKey, "value4"), stringSerializer, stringSerializer, stringDeserializer).get(batchKey));
         } finally {
             client.close();
         }
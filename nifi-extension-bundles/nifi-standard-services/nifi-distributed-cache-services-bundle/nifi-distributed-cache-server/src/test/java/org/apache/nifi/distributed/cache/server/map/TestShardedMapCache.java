@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.server.map;
+
+import org.apache.nifi.distributed.cache.server.EvictionPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestShardedMapCache {
+    @Test
+    public void testBasicOperations() throws Exception {
+        final ShardedMapCache cache = new ShardedMapCache("service-id", 2, EvictionPolicy.FIFO, 16);
+        assertEquals(2, cache.getSegmentCount());
+
+        final ByteBuffer key1 = wrap("key1");
+        ByteBuffer value1 = wrap("value1-0");
+
+        assertNull(cache.get(key1));
+        assertNull(cache.fetch(key1));
+        assertFalse(cache.containsKey(key1));
+
+        MapPutResult putResult = cache.put(key1, value1);
+        assertTrue(putResult.isSuccessful());
+        assertNull(putResult.getExisting());
+        assertEquals(0, putResult.getRecord().getRevision());
+        assertEquals("value1-0", toString(cache.get(key1)));
+
+        value1 = wrap("value1-1");
+        putResult = cache.put(key1, value1);
+        assertTrue(putResult.isSuccessful());
+        assertEquals(1, putResult.getRecord().getRevision());
+        assertEquals("value1-0", toString(putResult.getExisting().getValue()));
+        assertNull(putResult.getEvicted());
+
+        putResult = cache.putIfAbsent(key1, wrap("ignored"));
+        assertFalse(putResult.isSuccessful());
+        assertEquals("value1-1", toString(putResult.getExisting().getValue()));
+
+        final ByteBuffer key2 = wrap("key2");
+        cache.put(key2, wrap("value2-0"));
+
+        final Map<ByteBuffer, ByteBuffer> results = cache.subMap(Arrays.asList(key1, key2, wrap("key3")));
+        assertEquals(3, results.size());
+        assertEquals("value2-0", toString(results.get(key2)));
+        assertNull(results.get(wrap("key3")));
+
+        final ByteBuffer removed = cache.remove(key2);
+        assertEquals("value2-0", toString(removed));
+        assertNull(cache.get(key2));
+        assertEquals(1, cache.keySet().size());
+    }
+
+    @Test
+    public void testEvictionWithinSegment() throws Exception {
+        final ShardedMapCache cache = new ShardedMapCache("service-id", 3, EvictionPolicy.FIFO, 1);
+
+        cache.put(wrap("key1"), wrap("value1"));
+        cache.put(wrap("key2"), wrap("value2"));
+        cache.put(wrap("key3"), wrap("value3"));
+
+        final MapPutResult putResult = cache.put(wrap("key4"), wrap("value4"));
+        assertNotNull(putResult.getEvicted());
+        assertEquals("key1", toString(putResult.getEvicted().getKey()));
+        assertEquals("value1", toString(putResult.getEvicted().getValue()));
+        assertFalse(cache.containsKey(wrap("key1")));
+        assertEquals(3, cache.keySet().size());
+    }
+
+    @Test
+    public void testMaximumEntriesEnforced() throws Exception {
+        final int maxSize = 1000;
+        final ShardedMapCache cache = new ShardedMapCache("service-id", maxSize, EvictionPolicy.LRU, 16);
+
+        for (int i = 0; i < maxSize * 3; i++) {
+            cache.put(wrap("key-" + i), wrap("value-" + i));
+        }
+
+        assertTrue(cache.keySet().size() <= maxSize);
+    }
+
+    @Test
+    public void testValueSizes() throws Exception {
+        final ShardedMapCache cache = new ShardedMapCache("service-id", 100, EvictionPolicy.LFU, 4);
+
+        final int[] sizes = {0, 1, OffHeapSlabAllocator.MIN_CHUNK_SIZE, OffHeapSlabAllocator.MIN_CHUNK_SIZE + 1,
+            OffHeapSlabAllocator.SLAB_SIZE, OffHeapSlabAllocator.SLAB_SIZE + 1, 1024 * 1024};
+        for (final int size : sizes) {
+            final byte[] value = new byte[size];
+            Arrays.fill(value, (byte) size);
+            final ByteBuffer key = wrap("key-" + size);
+            cache.put(key, ByteBuffer.wrap(value));
+            assertArrayEquals(value, cache.get(key).array());
+        }
+
+        // Replacing values in place reuses freed chunks instead of reserving further slabs
+        final long reservedBytes = cache.getReservedBytes();
+        for (int i = 0; i < 1000; i++) {
+            cache.put(wrap("key-1"), wrap("value-" + i));
+        }
+        assertEquals(reservedBytes, cache.getReservedBytes());
+    }
+
+    @Test
+    public void testOptimisticLock() throws Exception {
+        final ShardedMapCache cache = new ShardedMapCache("service-id", 2, EvictionPolicy.FIFO, 2);
+
+        final ByteBuffer key = wrap("key1");
+        MapPutResult putResult = cache.replace(new MapCacheRecord(key, wrap("valueC1-0")));
+        assertTrue(putResult.isSuccessful(), "Replace should succeed if there's no existing key.");
+
+        putResult = cache.replace(new MapCacheRecord(key, wrap("valueC2-0")));
+        assertFalse(putResult.isSuccessful(), "Replace should fail.");
+
+        final MapCacheRecord c1 = cache.fetch(key);
+        final MapCacheRecord c2 = cache.fetch(key);
+        assertEquals(0, c1.getRevision());
+
+        putResult = cache.replace(new MapCacheRecord(key, wrap("valueC1-1"), c1.getRevision()));
+        assertTrue(putResult.isSuccessful(), "Replace should succeed since revision matched.");
+        assertEquals(1, putResult.getRecord().getRevision());
+
+        putResult = cache.replace(new MapCacheRecord(key, wrap("valueC2-1"), c2.getRevision()));
+        assertFalse(putResult.isSuccessful(), "Replace should fail.");
+        assertEquals("valueC1-1", toString(cache.get(key)));
+    }
+
+    @Test
+    public void testConcurrentPutIfAbsent() throws Exception {
+        final ShardedMapCache cache = new ShardedMapCache("service-id", 10_000, EvictionPolicy.LFU, 16);
+        final int threads = 8;
+        final int keys = 5_000;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    int added = 0;
+                    for (int i = 0; i < keys; i++) {
+                        if (cache.putIfAbsent(wrap("key-" + i), wrap("value-" + i)).isSuccessful()) {
+                            added++;
+                        }
+                    }
+                    return added;
+                }));
+            }
+
+            int totalAdded = 0;
+            for (final Future<Integer> future : futures) {
+                totalAdded += future.get();
+            }
+            assertEquals(keys, totalAdded);
+            assertEquals(keys, cache.keySet().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ByteBuffer wrap(final String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String toString(final ByteBuffer buffer) {
+        return new String(buffer.array(), StandardCharsets.UTF_8);
+    }
+}
@@ -25,10 +25,14 @@ import org.apache.nifi.serialization.record.Record;
 import org.apache.nifi.serialization.record.RecordSchema;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Set;
 
 public abstract class AvroRecordReader implements RecordReader {
 
+    private Set<String> selectedFieldNames;
+
     protected abstract GenericRecord nextAvroRecord() throws IOException;
 
     @Override
@@ -40,7 +44,7 @@ public abstract class AvroRecordReader implements RecordReader {
             }
 
             final RecordSchema schema = getSchema();
-            final Map<String, Object> values = AvroTypeUtil.convertAvroRecordToMap(record, schema);
+            final Map<String, Object> values = AvroTypeUtil.convertAvroRecordToMap(record, schema, StandardCharsets.UTF_8, selectedFieldNames);
             return new MapRecord(schema, values);
         } catch (IOException | MalformedRecordException e) {
             throw e;
@@ -48,4 +52,10 @@ public abstract class AvroRecordReader implements RecordReader {
             throw new MalformedRecordException("Error while getting next record", e);
         }
     }
+
+    @Override
+    public boolean selectFields(final Set<String> fieldNames) {
+        this.selectedFieldNames = fieldNames == null ? null : Set.copyOf(fieldNames);
+        return selectedFieldNames != null;
+    }
 }
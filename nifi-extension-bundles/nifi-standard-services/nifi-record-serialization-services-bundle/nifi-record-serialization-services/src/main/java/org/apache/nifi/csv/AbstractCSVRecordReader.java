@@ -24,6 +24,7 @@ import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
 import org.apache.nifi.serialization.record.util.DataTypeUtils;
 import java.util.Optional;
+import java.util.Set;
 
 abstract public class AbstractCSVRecordReader implements RecordReader {
 
@@ -38,6 +39,8 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
 
     protected final RecordSchema schema;
 
+    private Set<String> selectedFieldNames;
+
     AbstractCSVRecordReader(final ComponentLog logger, final RecordSchema schema, final boolean hasHeader, final boolean ignoreHeader,
                             final String dateFormat, final String timeFormat, final String timestampFormat, final boolean trimDoubleQuote) {
         this.logger = logger;
@@ -139,6 +142,20 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
         return value;
     }
 
+    @Override
+    public boolean selectFields(final Set<String> fieldNames) {
+        this.selectedFieldNames = fieldNames == null ? null : Set.copyOf(fieldNames);
+        return selectedFieldNames != null;
+    }
+
+    /**
+     * @param fieldName the name of a field
+     * @return <code>true</code> if the value of the field should be read, <code>false</code> if the caller has indicated that it will not access the field
+     */
+    protected final boolean isFieldSelected(final String fieldName) {
+        return selectedFieldNames == null || selectedFieldNames.contains(fieldName);
+    }
+
     protected String trim(String value) {
         return (value.length() > 1) && value.startsWith("\"") && value.endsWith("\"") ? value.substring(1, value.length() - 1) : value;
     }
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Splits a stream of CSV data into chunks of approximately a given size, such that each chunk ends at the end of a record.
+ * A line feed character is considered the end of a record only if it does not occur within a quoted value, so values that
+ * span multiple lines are never split across chunks. The data must use a character set in which the line feed, quote and
+ * escape characters are each encoded as a single byte that does not occur within the encoding of any other character,
+ * such as UTF-8, US-ASCII or ISO-8859-1.
+ */
+class CSVChunkSplitter {
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final InputStream in;
+    private final int chunkSize;
+    private final int quoteByte;
+    private final int escapeByte;
+
+    private byte[] buffer;
+    private int bufferLength = 0;
+    private int scannedLength = 0;
+    private int lastRecordEnd = 0;
+    private boolean inQuotes = false;
+    private boolean escaped = false;
+    private boolean endOfStream = false;
+
+    /**
+     * @param in         the CSV data
+     * @param chunkSize  the minimum size of each chunk, other than the last chunk, unless a single record is larger
+     * @param quoteChar  the quote character, or <code>null</code> if values cannot be quoted
+     * @param escapeChar the escape character, or <code>null</code> if there is none
+     */
+    CSVChunkSplitter(final InputStream in, final int chunkSize, final Character quoteChar, final Character escapeChar) {
+        this.in = in;
+        this.chunkSize = chunkSize;
+        this.quoteByte = quoteChar == null ? -1 : quoteChar;
+        this.escapeByte = escapeChar == null || escapeChar.equals(quoteChar) ? -1 : escapeChar;
+        this.buffer = new byte[chunkSize + 8192];
+    }
+
+    /**
+     * Determines whether or not the given characters can be recognized by examining individual bytes
+     *
+     * @param quoteChar  the quote character, or <code>null</code>
+     * @param escapeChar the escape character, or <code>null</code>
+     * @return <code>true</code> if CSV data using the given characters can be split, <code>false</code> otherwise
+     */
+    static boolean isSupported(final Character quoteChar, final Character escapeChar) {
+        return isSingleByte(quoteChar) && isSingleByte(escapeChar);
+    }
+
+    private static boolean isSingleByte(final Character character) {
+        return character == null || character < 0x80;
+    }
+
+    /**
+     * @return the next chunk of data, or <code>null</code> if all data has been returned
+     * @throws IOException if unable to read from the underlying stream
+     */
+    byte[] nextChunk() throws IOException {
+        // Data that was read along with the previous chunk may already contain the next one
+        scan();
+        while (!endOfStream && lastRecordEnd < chunkSize) {
+            if (bufferLength == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+
+            final int read = in.read(buffer, bufferLength, buffer.length - bufferLength);
+            if (read < 0) {
+                endOfStream = true;
+            } else {
+                bufferLength += read;
+                scan();
+            }
+        }
+
+        final int chunkLength = endOfStream && lastRecordEnd < chunkSize ? bufferLength : lastRecordEnd;
+        if (chunkLength == 0) {
+            return null;
+        }
+
+        final byte[] chunk = Arrays.copyOf(buffer, chunkLength);
+        final int remaining = bufferLength - chunkLength;
+        System.arraycopy(buffer, chunkLength, buffer, 0, remaining);
+        bufferLength = remaining;
+        scannedLength -= chunkLength;
+        lastRecordEnd = 0;
+
+        return chunk;
+    }
+
+    private void scan() {
+        while (scannedLength < bufferLength && lastRecordEnd < chunkSize) {
+            final byte b = buffer[scannedLength++];
+            if (escaped) {
+                escaped = false;
+            } else if (b == escapeByte) {
+                escaped = true;
+            } else if (b == quoteByte) {
+                inQuotes = !inQuotes;
+            } else if (b == LINE_FEED && !inQuotes) {
+                lastRecordEnd = scannedLength;
+            }
+        }
+    }
+
+    /**
+     * Determines the length of the header of the given chunk, which must be the first chunk of the data. The header consists of the
+     * first record that is not an empty line, along with any empty lines that precede it.
+     *
+     * @param chunk the first chunk of data
+     * @return the number of bytes at the start of the chunk that make up the header
+     */
+    int getHeaderLength(final byte[] chunk) {
+        boolean quoted = false;
+        boolean escapedChar = false;
+        boolean blankLine = true;
+
+        for (int i = 0; i < chunk.length; i++) {
+            final byte b = chunk[i];
+            if (escapedChar) {
+                escapedChar = false;
+            } else if (b == escapeByte) {
+                escapedChar = true;
+            } else if (b == quoteByte) {
+                quoted = !quoted;
+            } else if (b == LINE_FEED && !quoted) {
+                if (!blankLine) {
+                    return i + 1;
+                }
+                continue;
+            }
+
+            if (b != CARRIAGE_RETURN) {
+                blankLine = false;
+            }
+        }
+
+        return chunk.length;
+    }
+}
@@ -18,8 +18,10 @@
 package org.apache.nifi.csv;
 
 import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.nifi.annotation.documentation.CapabilityDescription;
 import org.apache.nifi.annotation.documentation.Tags;
+import org.apache.nifi.annotation.lifecycle.OnDisabled;
 import org.apache.nifi.annotation.lifecycle.OnEnabled;
 import org.apache.nifi.components.AllowableValue;
 import org.apache.nifi.components.PropertyDescriptor;
@@ -27,6 +29,7 @@ import org.apache.nifi.context.PropertyContext;
 import org.apache.nifi.controller.ConfigurationContext;
 import org.apache.nifi.expression.ExpressionLanguageScope;
 import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.processor.DataUnit;
 import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.schema.access.SchemaAccessStrategy;
 import org.apache.nifi.schema.access.SchemaAccessUtils;
@@ -46,10 +49,14 @@ import org.apache.nifi.stream.io.NonCloseableInputStream;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Tags({"csv", "parse", "record", "row", "reader", "delimited", "comma", "separated", "values"})
 @CapabilityDescription("Parses CSV-formatted data, returning each row in the CSV file as a separate record. "
@@ -99,6 +106,28 @@ public class CSVReader extends SchemaRegistryService implements RecordReaderFact
             .required(true)
             .build();
 
+    public static final PropertyDescriptor PARSING_THREADS = new PropertyDescriptor.Builder()
+            .name("Parsing Threads")
+            .description("The number of threads to use for parsing the CSV data of a single FlowFile. When greater than 1, data that is larger than the "
+                    + "Parsing Chunk Size is split into chunks at record boundaries, and the chunks are parsed concurrently. Records are still returned "
+                    + "in the order in which they appear in the data. Parallel parsing is not used if a Comment Marker is configured, if the "
+                    + "Character Set encodes characters using a variable number of bytes (other than UTF-8), or if the Quote or Escape Character is not an ASCII character.")
+            .expressionLanguageSupported(ExpressionLanguageScope.NONE)
+            .defaultValue("1")
+            .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+            .required(true)
+            .build();
+
+    public static final PropertyDescriptor PARSING_CHUNK_SIZE = new PropertyDescriptor.Builder()
+            .name("Parsing Chunk Size")
+            .description("When using more than one Parsing Thread, the approximate amount of data that each thread parses at a time. "
+                    + "Up to twice as many chunks as there are Parsing Threads are held in memory for each FlowFile that is read.")
+            .expressionLanguageSupported(ExpressionLanguageScope.NONE)
+            .defaultValue("4 MB")
+            .addValidator(StandardValidators.createDataSizeBoundsValidator(1, Integer.MAX_VALUE / 4))
+            .required(true)
+            .build();
+
     private volatile ConfigurationContext context;
 
     private volatile String csvParser;
@@ -108,6 +137,9 @@ public class CSVReader extends SchemaRegistryService implements RecordReaderFact
     private volatile boolean firstLineIsHeader;
     private volatile boolean ignoreHeader;
     private volatile String charSet;
+    private volatile int parsingChunkSize;
+    private volatile int maxChunksInFlight;
+    private volatile ExecutorService parsingExecutor;
 
     // it will be initialized only if there are no dynamic csv formatting properties
     private volatile CSVFormat csvFormat;
@@ -132,6 +164,8 @@ public class CSVReader extends SchemaRegistryService implements RecordReaderFact
         properties.add(CSVUtils.CHARSET);
         properties.add(CSVUtils.ALLOW_DUPLICATE_HEADER_NAMES);
         properties.add(TRIM_DOUBLE_QUOTE);
+        properties.add(PARSING_THREADS);
+        properties.add(PARSING_CHUNK_SIZE);
         return properties;
     }
 
@@ -159,6 +193,24 @@ public class CSVReader extends SchemaRegistryService implements RecordReaderFact
         } else {
             this.csvFormat = null;
         }
+
+        final int parsingThreads = context.getProperty(PARSING_THREADS).asInteger();
+        this.parsingChunkSize = context.getProperty(PARSING_CHUNK_SIZE).asDataSize(DataUnit.B).intValue();
+        this.maxChunksInFlight = parsingThreads * 2;
+        if (parsingThreads > 1) {
+            this.parsingExecutor = Executors.newFixedThreadPool(parsingThreads, new BasicThreadFactory.Builder()
+                    .namingPattern("CSVReader Parsing Thread " + getIdentifier() + "-%d")
+                    .daemon(true)
+                    .build());
+        }
+    }
+
+    @OnDisabled
+    public void shutdownParsingExecutor() {
+        if (parsingExecutor != null) {
+            parsingExecutor.shutdownNow();
+            parsingExecutor = null;
+        }
     }
 
     @Override
@@ -177,6 +229,28 @@ public class CSVReader extends SchemaRegistryService implements RecordReaderFact
 
         final boolean trimDoubleQuote = context.getProperty(TRIM_DOUBLE_QUOTE).asBoolean();
 
+        final ExecutorService executor = parsingExecutor;
+        if (executor != null && (inputLength < 0 || inputLength > parsingChunkSize) && isChunkingSupported(format)) {
+            final CSVChunkSplitter chunkSplitter = new CSVChunkSplitter(in, parsingChunkSize, format.getQuoteCharacter(), format.getEscapeCharacter());
+            return new ParallelCSVRecordReader(in, schema, chunkSplitter, firstLineIsHeader,
+                    chunkIn -> createRecordReader(chunkIn, logger, schema, format, trimDoubleQuote), executor, maxChunksInFlight);
+        }
+
+        return createRecordReader(in, logger, schema, format, trimDoubleQuote);
+    }
+
+    private boolean isChunkingSupported(final CSVFormat format) {
+        if (format.getCommentMarker() != null || !CSVChunkSplitter.isSupported(format.getQuoteCharacter(), format.getEscapeCharacter())) {
+            return false;
+        }
+
+        // Record boundaries are found by examining individual bytes, which requires that no byte of a multibyte character can be mistaken for a line feed or quote
+        final Charset charset = Charset.forName(charSet);
+        return StandardCharsets.UTF_8.equals(charset) || charset.newEncoder().maxBytesPerChar() == 1.0F;
+    }
+
+    private RecordReader createRecordReader(final InputStream in, final ComponentLog logger, final RecordSchema schema, final CSVFormat format, final boolean trimDoubleQuote)
+            throws IOException {
         if (APACHE_COMMONS_CSV.getValue().equals(csvParser)) {
             return new CSVRecordReader(in, logger, schema, format, firstLineIsHeader, ignoreHeader, dateFormat, timeFormat, timestampFormat, charSet, trimDoubleQuote);
         } else if (JACKSON_CSV.getValue().equals(csvParser)) {
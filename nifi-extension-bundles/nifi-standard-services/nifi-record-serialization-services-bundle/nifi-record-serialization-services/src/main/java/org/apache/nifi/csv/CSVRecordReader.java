@@ -90,8 +90,9 @@ public class CSVRecordReader extends AbstractCSVRecordReader {
                     final String rawFieldName;
                     final DataType dataType;
                     if (i >= numFieldNames) {
-                        if (!dropUnknownFields) {
-                            values.put("unknown_field_index_" + i, rawValue);
+                        final String unknownFieldName = "unknown_field_index_" + i;
+                        if (!dropUnknownFields && isFieldSelected(unknownFieldName)) {
+                            values.put(unknownFieldName, rawValue);
                         }
 
                         continue;
@@ -101,6 +102,10 @@ public class CSVRecordReader extends AbstractCSVRecordReader {
                         dataType = recordField.getDataType();
                     }
 
+                    if (!isFieldSelected(rawFieldName)) {
+                        continue;
+                    }
+
 
                     final Object value;
                     if (coerceTypes) {
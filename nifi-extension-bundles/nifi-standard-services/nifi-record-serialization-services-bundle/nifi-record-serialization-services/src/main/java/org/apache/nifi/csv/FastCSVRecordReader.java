@@ -111,8 +111,9 @@ public class FastCSVRecordReader extends AbstractCSVRecordReader {
                 final String rawFieldName;
                 final DataType dataType;
                 if (i >= numFieldNames) {
-                    if (!dropUnknownFields) {
-                        values.put("unknown_field_index_" + i, rawValue);
+                    final String unknownFieldName = "unknown_field_index_" + i;
+                    if (!dropUnknownFields && isFieldSelected(unknownFieldName)) {
+                        values.put(unknownFieldName, rawValue);
                     }
                     continue;
                 } else {
@@ -121,6 +122,10 @@ public class FastCSVRecordReader extends AbstractCSVRecordReader {
                     dataType = recordField.getDataType();
                 }
 
+                if (!isFieldSelected(rawFieldName)) {
+                    continue;
+                }
+
                 final Object value;
                 if (coerceTypes) {
                     value = convert(rawValue, dataType, rawFieldName);
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.csv;
+
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.RecordReader;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordSchema;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * A RecordReader that splits CSV data into chunks that end at record boundaries and parses the chunks concurrently, using a separate
+ * RecordReader for each chunk. Records are returned in the same order as they appear in the data, so this reader can be used in place
+ * of the RecordReader that it creates for each chunk.
+ * </p>
+ *
+ * <p>
+ * If the data has a header line, the header is prepended to each chunk, so that each RecordReader is created in exactly the same
+ * way as it would be for the entire data. Only a bounded number of chunks is read ahead, so the amount of memory used does not depend
+ * on the size of the data. The types of the values are coerced, and unknown fields dropped, according to the arguments of the first call
+ * to {@link #nextRecord(boolean, boolean)}.
+ * </p>
+ *
+ * <p>
+ * Parsing of a chunk stops at the first record that cannot be read. Once the resulting Exception has been thrown, the remaining chunks
+ * are discarded and subsequent calls to {@link #nextRecord(boolean, boolean)} return <code>null</code>.
+ * </p>
+ */
+public class ParallelCSVRecordReader implements RecordReader {
+    private final InputStream in;
+    private final RecordSchema schema;
+    private final CSVChunkSplitter chunkSplitter;
+    private final boolean hasHeader;
+    private final ChunkReaderFactory chunkReaderFactory;
+    private final ExecutorService executor;
+    private final int maxChunksInFlight;
+    private final Queue<Future<List<Object>>> chunkResults = new ArrayDeque<>();
+
+    private byte[] header;
+    private boolean allChunksSubmitted = false;
+    private boolean coerceTypes;
+    private boolean dropUnknownFields;
+    private Set<String> selectedFieldNames;
+    private Iterator<Object> currentChunk;
+    private boolean failed = false;
+
+    /**
+     * @param in                 the CSV data
+     * @param schema             the schema of the records
+     * @param chunkSplitter      splits the data into chunks
+     * @param hasHeader          whether or not the first record of the data is a header
+     * @param chunkReaderFactory creates a RecordReader for a single chunk of data
+     * @param executor           the executor used to parse chunks
+     * @param maxChunksInFlight  the maximum number of chunks that may be read before their records are returned
+     */
+    ParallelCSVRecordReader(final InputStream in, final RecordSchema schema, final CSVChunkSplitter chunkSplitter, final boolean hasHeader,
+                            final ChunkReaderFactory chunkReaderFactory, final ExecutorService executor, final int maxChunksInFlight) {
+        this.in = in;
+        this.schema = schema;
+        this.chunkSplitter = chunkSplitter;
+        this.hasHeader = hasHeader;
+        this.chunkReaderFactory = chunkReaderFactory;
+        this.executor = executor;
+        this.maxChunksInFlight = maxChunksInFlight;
+    }
+
+    @Override
+    public Record nextRecord(final boolean coerceTypes, final boolean dropUnknownFields) throws IOException, MalformedRecordException {
+        if (currentChunk == null && chunkResults.isEmpty()) {
+            this.coerceTypes = coerceTypes;
+            this.dropUnknownFields = dropUnknownFields;
+        }
+
+        while (!failed) {
+            if (currentChunk != null && currentChunk.hasNext()) {
+                final Object next = currentChunk.next();
+                if (next instanceof Record record) {
+                    return record;
+                }
+
+                failed = true;
+                cancelChunks();
+                if (next instanceof MalformedRecordException mre) {
+                    throw mre;
+                }
+                throw (IOException) next;
+            }
+
+            submitChunks();
+            final Future<List<Object>> future = chunkResults.poll();
+            if (future == null) {
+                return null;
+            }
+
+            currentChunk = getResult(future).iterator();
+        }
+
+        return null;
+    }
+
+    private void submitChunks() throws IOException {
+        while (!allChunksSubmitted && chunkResults.size() < maxChunksInFlight) {
+            final byte[] chunk = chunkSplitter.nextChunk();
+            if (chunk == null) {
+                allChunksSubmitted = true;
+                return;
+            }
+
+            final InputStream chunkIn;
+            if (header == null) {
+                header = hasHeader ? Arrays.copyOf(chunk, chunkSplitter.getHeaderLength(chunk)) : new byte[0];
+                chunkIn = new ByteArrayInputStream(chunk);
+            } else {
+                chunkIn = new SequenceInputStream(new ByteArrayInputStream(header), new ByteArrayInputStream(chunk));
+            }
+
+            chunkResults.add(executor.submit(() -> parseChunk(chunkIn)));
+        }
+    }
+
+    private List<Object> parseChunk(final InputStream chunkIn) {
+        // Each element is a Record, except for the last element, which may be the Exception that stopped parsing of the chunk
+        final List<Object> values = new ArrayList<>();
+        try (final RecordReader reader = chunkReaderFactory.createRecordReader(chunkIn)) {
+            if (selectedFieldNames != null) {
+                reader.selectFields(selectedFieldNames);
+            }
+
+            while (true) {
+                try {
+                    final Record record = reader.nextRecord(coerceTypes, dropUnknownFields);
+                    if (record == null) {
+                        break;
+                    }
+                    values.add(record);
+                } catch (final MalformedRecordException e) {
+                    values.add(e);
+                    break;
+                }
+            }
+        } catch (final IOException e) {
+            values.add(e);
+        }
+
+        return values;
+    }
+
+    private List<Object> getResult(final Future<List<Object>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for CSV data to be parsed");
+        } catch (final ExecutionException e) {
+            throw new IOException("Failed to parse CSV data", e.getCause());
+        }
+    }
+
+    @Override
+    public boolean selectFields(final Set<String> fieldNames) {
+        if (header != null) {
+            return false;
+        }
+
+        this.selectedFieldNames = fieldNames == null ? null : Set.copyOf(fieldNames);
+        return selectedFieldNames != null;
+    }
+
+    @Override
+    public RecordSchema getSchema() {
+        return schema;
+    }
+
+    @Override
+    public void close() throws IOException {
+        cancelChunks();
+        in.close();
+    }
+
+    private void cancelChunks() {
+        for (final Future<List<Object>> future : chunkResults) {
+            future.cancel(true);
+        }
+        chunkResults.clear();
+        currentChunk = null;
+    }
+
+    /**
+     * Creates a RecordReader for a single chunk of CSV data
+     */
+    @FunctionalInterface
+    interface ChunkReaderFactory {
+        RecordReader createRecordReader(InputStream chunk) throws IOException;
+    }
+}
@@ -75,6 +75,7 @@ public class JsonTreeReader extends SchemaRegistryService implements RecordReade
     protected volatile StartingFieldStrategy startingFieldStrategy;
     protected volatile SchemaApplicationStrategy schemaApplicationStrategy;
     protected volatile TokenParserFactory tokenParserFactory;
+    protected volatile ParsingStrategy parsingStrategy;
 
     public static final PropertyDescriptor STARTING_FIELD_STRATEGY = new PropertyDescriptor.Builder()
             .name("starting-field-strategy")
@@ -108,6 +109,15 @@ public class JsonTreeReader extends SchemaRegistryService implements RecordReade
             .allowableValues(SchemaApplicationStrategy.class)
             .build();
 
+    public static final PropertyDescriptor PARSING_STRATEGY = new PropertyDescriptor.Builder()
+            .name("Parsing Strategy")
+            .displayName("Parsing Strategy")
+            .description("Specifies how each JSON object is converted into a Record.")
+            .required(true)
+            .allowableValues(ParsingStrategy.class)
+            .defaultValue(ParsingStrategy.TREE.getValue())
+            .build();
+
     @Override
     protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
         final List<PropertyDescriptor> properties = new ArrayList<>(super.getSupportedPropertyDescriptors());
@@ -118,6 +128,7 @@ public class JsonTreeReader extends SchemaRegistryService implements RecordReade
         properties.add(STARTING_FIELD_STRATEGY);
         properties.add(STARTING_FIELD_NAME);
         properties.add(SCHEMA_APPLICATION_STRATEGY);
+        properties.add(PARSING_STRATEGY);
         properties.add(AbstractJsonRowRecordReader.MAX_STRING_LENGTH);
         properties.add(AbstractJsonRowRecordReader.ALLOW_COMMENTS);
         properties.add(DateTimeUtils.DATE_FORMAT);
@@ -135,6 +146,17 @@ public class JsonTreeReader extends SchemaRegistryService implements RecordReade
         this.startingFieldName = context.getProperty(STARTING_FIELD_NAME).getValue();
         this.schemaApplicationStrategy = SchemaApplicationStrategy.valueOf(context.getProperty(SCHEMA_APPLICATION_STRATEGY).getValue());
         this.tokenParserFactory = createTokenParserFactory(context);
+        this.parsingStrategy = getParsingStrategy(context);
+    }
+
+    /**
+     * Get Parsing Strategy based on available properties
+     *
+     * @param context Configuration Context with property values
+     * @return Parsing Strategy
+     */
+    protected ParsingStrategy getParsingStrategy(final ConfigurationContext context) {
+        return ParsingStrategy.valueOf(context.getProperty(PARSING_STRATEGY).getValue());
     }
 
     protected TokenParserFactory createTokenParserFactory(final ConfigurationContext context) {
@@ -196,6 +218,11 @@ public class JsonTreeReader extends SchemaRegistryService implements RecordReade
     }
 
     protected JsonTreeRowRecordReader createJsonTreeRowRecordReader(final InputStream in, final ComponentLog logger, final RecordSchema schema) throws IOException, MalformedRecordException {
+        if (parsingStrategy == ParsingStrategy.STREAMING) {
+            return new JsonStreamingRowRecordReader(in, logger, schema, dateFormat, timeFormat, timestampFormat, startingFieldStrategy, startingFieldName,
+                    schemaApplicationStrategy, null, tokenParserFactory);
+        }
+
         return new JsonTreeRowRecordReader(in, logger, schema, dateFormat, timeFormat, timestampFormat, startingFieldStrategy, startingFieldName,
                 schemaApplicationStrategy, null, tokenParserFactory);
     }
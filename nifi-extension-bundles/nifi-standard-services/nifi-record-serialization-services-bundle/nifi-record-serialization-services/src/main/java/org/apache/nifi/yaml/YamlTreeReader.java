@@ -23,6 +23,7 @@ import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.controller.ConfigurationContext;
 import org.apache.nifi.json.JsonTreeReader;
 import org.apache.nifi.json.JsonTreeRowRecordReader;
+import org.apache.nifi.json.ParsingStrategy;
 import org.apache.nifi.json.TokenParserFactory;
 import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.serialization.MalformedRecordException;
@@ -48,7 +49,9 @@ public class YamlTreeReader extends JsonTreeReader {
 
     @Override
     protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
-        return new ArrayList<>(super.getSupportedPropertyDescriptors());
+        final List<PropertyDescriptor> properties = new ArrayList<>(super.getSupportedPropertyDescriptors());
+        properties.remove(PARSING_STRATEGY);
+        return properties;
     }
 
     @Override
@@ -66,4 +69,9 @@ public class YamlTreeReader extends JsonTreeReader {
     protected boolean isAllowCommentsEnabled(final ConfigurationContext context) {
         return ALLOW_COMMENTS_DISABLED;
     }
+
+    @Override
+    protected ParsingStrategy getParsingStrategy(final ConfigurationContext context) {
+        return ParsingStrategy.TREE;
+    }
 }
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.csv;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.RecordReader;
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestParallelCSVRecordReader {
+    private static final int CHUNK_SIZE = 256;
+
+    private final CSVFormat format = CSVFormat.DEFAULT.builder().setHeader().setSkipHeaderRecord(true).setQuote('"').setEscape('\\').build();
+    private final RecordSchema schema = new SimpleRecordSchema(List.of(
+            new RecordField("id", RecordFieldType.INT.getDataType()),
+            new RecordField("name", RecordFieldType.STRING.getDataType()),
+            new RecordField("notes", RecordFieldType.STRING.getDataType())));
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSameRecordsAsSequentialReader() throws IOException, MalformedRecordException {
+        final byte[] data = createData(500);
+
+        final List<Record> expected = readAll(createReader(new ByteArrayInputStream(data)));
+        final List<Record> actual = readAll(createParallelReader(data, 4));
+
+        assertEquals(500, expected.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testSingleChunk() throws IOException, MalformedRecordException {
+        final byte[] data = "id,name,notes\n1,John,\"a, b\"".getBytes(StandardCharsets.UTF_8);
+
+        final List<Record> records = readAll(createParallelReader(data, 2));
+        assertEquals(1, records.size());
+        assertEquals("a, b", records.getFirst().getValue("notes"));
+    }
+
+    @Test
+    public void testSelectFieldsAppliedToEveryChunk() throws IOException, MalformedRecordException {
+        final byte[] data = createData(200);
+
+        try (final RecordReader reader = createParallelReader(data, 2)) {
+            assertTrue(reader.selectFields(Set.of("id")));
+
+            int count = 0;
+            Record record;
+            while ((record = reader.nextRecord()) != null) {
+                assertEquals(count, record.getValue("id"));
+                assertNull(record.getValue("notes"));
+                count++;
+            }
+            assertEquals(200, count);
+        }
+    }
+
+    @Test
+    public void testParsingStopsAtMalformedRecord() throws IOException, MalformedRecordException {
+        final byte[] data = createData(200);
+        final AtomicInteger readAttempts = new AtomicInteger();
+        final RecordReader malformedReader = Mockito.mock(RecordReader.class);
+        Mockito.when(malformedReader.nextRecord(Mockito.anyBoolean(), Mockito.anyBoolean())).thenAnswer(invocation -> {
+            readAttempts.incrementAndGet();
+            throw new MalformedRecordException("Malformed Record");
+        });
+        final ParallelCSVRecordReader.ChunkReaderFactory malformedReaderFactory = chunk -> malformedReader;
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            final InputStream in = new ByteArrayInputStream(data);
+            final CSVChunkSplitter splitter = new CSVChunkSplitter(in, CHUNK_SIZE, '"', '\\');
+            try (final RecordReader reader = new ParallelCSVRecordReader(in, schema, splitter, true, malformedReaderFactory, executor, 2)) {
+                assertThrows(MalformedRecordException.class, reader::nextRecord);
+                assertNull(reader.nextRecord());
+            }
+        });
+
+        // Each chunk that was submitted stops parsing at its first malformed record
+        assertTrue(readAttempts.get() <= 2);
+    }
+
+    @Test
+    public void testChunksEndAtRecordBoundaries() throws IOException {
+        final byte[] data = createData(300);
+        final CSVChunkSplitter splitter = new CSVChunkSplitter(new ByteArrayInputStream(data), CHUNK_SIZE, '"', '\\');
+
+        int chunks = 0;
+        int totalLength = 0;
+        byte[] chunk;
+        while ((chunk = splitter.nextChunk()) != null) {
+            final String text = new String(chunk, StandardCharsets.UTF_8);
+            assertEquals(0, countUnescapedQuotes(text) % 2, "Chunk split inside quoted value: " + text);
+            if (totalLength + chunk.length < data.length) {
+                assertTrue(text.endsWith("\n"));
+            }
+            totalLength += chunk.length;
+            chunks++;
+        }
+
+        assertEquals(data.length, totalLength);
+        assertTrue(chunks > 1);
+    }
+
+    @Test
+    public void testHeaderLength() throws IOException {
+        final byte[] data = "\nid,name,notes\n1,John,x\n".getBytes(StandardCharsets.UTF_8);
+        final CSVChunkSplitter splitter = new CSVChunkSplitter(new ByteArrayInputStream(data), CHUNK_SIZE, '"', null);
+
+        assertEquals("\nid,name,notes\n".length(), splitter.getHeaderLength(splitter.nextChunk()));
+    }
+
+    @Test
+    public void testIsSupported() {
+        assertTrue(CSVChunkSplitter.isSupported('"', null));
+        assertTrue(CSVChunkSplitter.isSupported(null, '\\'));
+        assertFalse(CSVChunkSplitter.isSupported('§', null));
+    }
+
+    private byte[] createData(final int recordCount) {
+        final StringBuilder sb = new StringBuilder("id,name,notes\n");
+        for (int i = 0; i < recordCount; i++) {
+            sb.append(i).append(",name-").append(i).append(',');
+            switch (i % 4) {
+                case 0 -> sb.append("plain");
+                case 1 -> sb.append("\"multi\nline, with comma\"");
+                case 2 -> sb.append("\"escaped \\\" quote\"");
+                default -> sb.append("\"\"");
+            }
+            sb.append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private int countUnescapedQuotes(final String text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private RecordReader createReader(final InputStream in) throws IOException {
+        return new CSVRecordReader(in, Mockito.mock(ComponentLog.class), schema, format, true, false,
+                RecordFieldType.DATE.getDefaultFormat(), RecordFieldType.TIME.getDefaultFormat(), RecordFieldType.TIMESTAMP.getDefaultFormat(), "UTF-8");
+    }
+
+    private RecordReader createParallelReader(final byte[] data, final int maxChunksInFlight) {
+        final InputStream in = new ByteArrayInputStream(data);
+        final CSVChunkSplitter splitter = new CSVChunkSplitter(in, CHUNK_SIZE, '"', '\\');
+        return new ParallelCSVRecordReader(in, schema, splitter, true, this::createReader, executor, maxChunksInFlight);
+    }
+
+    private List<Record> readAll(final RecordReader reader) throws IOException, MalformedRecordException {
+        final List<Record> records = new ArrayList<>();
+        try (reader) {
+            Record record;
+            while ((record = reader.nextRecord()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.json;
+
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.schema.inference.InferSchemaAccessStrategy;
+import org.apache.nifi.schema.inference.TimeValueInference;
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class TestJsonStreamingRowRecordReader {
+    private final String dateFormat = RecordFieldType.DATE.getDefaultFormat();
+    private final String timeFormat = RecordFieldType.TIME.getDefaultFormat();
+    private final String timestampFormat = RecordFieldType.TIMESTAMP.getDefaultFormat();
+
+    @Mock
+    private ComponentLog log;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "bank-account-array.json",
+        "bank-account-multiline.json",
+        "data-types.json",
+        "docs-example.json",
+        "multiple-nested-field.json",
+        "primitive-type-array.json",
+        "single-element-nested-array.json",
+        "choice-of-embedded-similar-records.json",
+        "choice-of-string-or-array-record.json",
+        "prov-events.json"
+    })
+    void testReadsSameRecordsAsTreeReader(final String fileName) throws Exception {
+        final byte[] json = Files.readAllBytes(Paths.get("src/test/resources/json", fileName));
+        final RecordSchema schema = inferSchema(json);
+
+        final List<Record> expected = readRecords(createTreeReader(json, schema));
+        final List<Record> actual = readRecords(createStreamingReader(json, schema));
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testUnknownFieldsSkipped() throws Exception {
+        final RecordSchema accountSchema = new SimpleRecordSchema(List.of(
+                new RecordField("id", RecordFieldType.INT.getDataType()),
+                new RecordField("balance", RecordFieldType.DOUBLE.getDataType())
+        ));
+        final RecordSchema schema = new SimpleRecordSchema(List.of(
+                new RecordField("id", RecordFieldType.INT.getDataType()),
+                new RecordField("name", RecordFieldType.STRING.getDataType()),
+                new RecordField("accounts", RecordFieldType.ARRAY.getArrayDataType(RecordFieldType.RECORD.getRecordDataType(accountSchema)))
+        ));
+
+        final String json = """
+                [{"id": 1, "ignored": {"nested": [1, 2, {"deeper": true}]}, "name": "John Doe",
+                  "accounts": [{"id": 42, "balance": 4750.89, "ignored": [3]}, {"id": 43, "balance": 48212.38}]},
+                 {"id": "2", "name": "Jane Doe", "accounts": null, "ignored": "value"}]
+                """;
+
+        try (final JsonStreamingRowRecordReader reader = createStreamingReader(json.getBytes(StandardCharsets.UTF_8), schema)) {
+            final Record first = reader.nextRecord();
+            assertEquals(Set.of("id", "name", "accounts"), first.getRawFieldNames());
+            assertEquals(1, first.getValue("id"));
+            assertEquals("John Doe", first.getValue("name"));
+
+            final Object[] accounts = first.getAsArray("accounts");
+            assertEquals(2, accounts.length);
+            final Record firstAccount = (Record) accounts[0];
+            assertEquals(Set.of("id", "balance"), firstAccount.getRawFieldNames());
+            assertEquals(42, firstAccount.getValue("id"));
+            assertEquals(4750.89, firstAccount.getValue("balance"));
+            assertEquals(43, ((Record) accounts[1]).getValue("id"));
+
+            final Record second = reader.nextRecord();
+            assertEquals(2, second.getValue("id"));
+            assertEquals("Jane Doe", second.getValue("name"));
+            assertNull(second.getValue("accounts"));
+
+            assertNull(reader.nextRecord());
+        }
+    }
+
+    @Test
+    void testSelectedFields() throws Exception {
+        final byte[] json = Files.readAllBytes(Paths.get("src/test/resources/json/bank-account-array.json"));
+        final RecordSchema schema = inferSchema(json);
+
+        try (final JsonStreamingRowRecordReader reader = createStreamingReader(json, schema)) {
+            assertTrue(reader.selectFields(Set.of("name", "balance")));
+
+            final Record record = reader.nextRecord();
+            assertEquals(Set.of("name", "balance"), record.getRawFieldNames());
+            assertEquals("John Doe", record.getValue("name"));
+            assertEquals(4750.89, record.getValue("balance"));
+        }
+    }
+
+    @Test
+    void testMalformedRecordSkipped() throws Exception {
+        final RecordSchema schema = new SimpleRecordSchema(List.of(
+                new RecordField("id", RecordFieldType.INT.getDataType()),
+                new RecordField("values", RecordFieldType.ARRAY.getArrayDataType(RecordFieldType.INT.getDataType()))
+        ));
+
+        final String json = """
+                {"id": 1, "values": [1, "two", 3], "other": {"a": 1}}
+                {"id": 2, "values": [4]}
+                """;
+
+        try (final JsonStreamingRowRecordReader reader = createStreamingReader(json.getBytes(StandardCharsets.UTF_8), schema)) {
+            assertThrows(MalformedRecordException.class, reader::nextRecord);
+
+            final Record record = reader.nextRecord();
+            assertEquals(2, record.getValue("id"));
+            assertArrayEquals(new Object[] {4}, record.getAsArray("values"));
+            assertNull(reader.nextRecord());
+        }
+    }
+
+    @Test
+    void testNestedFieldStrategy() throws Exception {
+        final byte[] json = Files.readAllBytes(Paths.get("src/test/resources/json/single-element-nested-array.json"));
+        final RecordSchema schema = new SimpleRecordSchema(List.of(
+                new RecordField("id", RecordFieldType.INT.getDataType()),
+                new RecordField("balance", RecordFieldType.DOUBLE.getDataType())
+        ));
+
+        try (final JsonStreamingRowRecordReader reader = new JsonStreamingRowRecordReader(new ByteArrayInputStream(json), log, schema, dateFormat, timeFormat, timestampFormat,
+                StartingFieldStrategy.NESTED_FIELD, "accounts", SchemaApplicationStrategy.SELECTED_PART, null, new JsonParserFactory())) {
+            final List<Record> records = readRecords(reader);
+            assertEquals(2, records.size());
+            assertEquals(Map.of("id", 42, "balance", 4750.89), records.get(0).toMap());
+            assertEquals(Map.of("id", 43, "balance", 48212.38), records.get(1).toMap());
+        }
+    }
+
+    private List<Record> readRecords(final JsonTreeRowRecordReader reader) throws Exception {
+        try (reader) {
+            final List<Record> records = new ArrayList<>();
+            Record record;
+            while ((record = reader.nextRecord()) != null) {
+                records.add(record);
+            }
+            return records;
+        }
+    }
+
+    private RecordSchema inferSchema(final byte[] json) throws IOException {
+        try (final InputStream in = new ByteArrayInputStream(json)) {
+            return new InferSchemaAccessStrategy<>(
+                    (variables, inputStream) -> new JsonRecordSource(inputStream, StartingFieldStrategy.ROOT_NODE, null, new JsonParserFactory()),
+                    new JsonSchemaInference(new TimeValueInference(null, null, null)), log
+            ).getSchema(Collections.emptyMap(), in, null);
+        }
+    }
+
+    private JsonTreeRowRecordReader createTreeReader(final byte[] json, final RecordSchema schema) throws Exception {
+        return new JsonTreeRowRecordReader(new ByteArrayInputStream(json), log, schema, dateFormat, timeFormat, timestampFormat,
+                null, null, null, null, new JsonParserFactory());
+    }
+
+    private JsonStreamingRowRecordReader createStreamingReader(final byte[] json, final RecordSchema schema) throws Exception {
+        return new JsonStreamingRowRecordReader(new ByteArrayInputStream(json), log, schema, dateFormat, timeFormat, timestampFormat,
+                null, null, null, null, new JsonParserFactory());
+    }
+}
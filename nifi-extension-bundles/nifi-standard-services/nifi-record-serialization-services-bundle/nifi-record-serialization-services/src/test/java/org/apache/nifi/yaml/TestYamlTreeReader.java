@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.yaml;
+
+import org.apache.nifi.serialization.RecordReader;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.util.NoOpProcessor;
+import org.apache.nifi.util.TestRunner;
+import org.apache.nifi.util.TestRunners;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TestYamlTreeReader {
+    private static final Path BANK_ACCOUNT_ARRAY = Path.of("src/test/resources/yaml/bank-account-array.yaml");
+
+    private TestRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = TestRunners.newTestRunner(NoOpProcessor.class);
+    }
+
+    @Test
+    void testReadRecords() throws Exception {
+        final YamlTreeReader reader = new YamlTreeReader();
+        runner.addControllerService(YamlTreeReader.class.getSimpleName(), reader);
+        runner.enableControllerService(reader);
+
+        try (final InputStream in = new BufferedInputStream(Files.newInputStream(BANK_ACCOUNT_ARRAY));
+             final RecordReader recordReader = reader.createRecordReader(Collections.emptyMap(), in, Files.size(BANK_ACCOUNT_ARRAY), runner.getLogger())) {
+            final Record firstRecord = recordReader.nextRecord();
+            assertNotNull(firstRecord);
+            assertEquals("John Doe", firstRecord.getAsString("name"));
+
+            final Record secondRecord = recordReader.nextRecord();
+            assertNotNull(secondRecord);
+            assertEquals("Jane Doe", secondRecord.getAsString("name"));
+
+            assertNull(recordReader.nextRecord());
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.cluster.protocol;
+
+import org.apache.nifi.cluster.coordination.node.DisconnectionCode;
+import org.apache.nifi.cluster.coordination.node.NodeConnectionState;
+import org.apache.nifi.cluster.coordination.node.NodeConnectionStatus;
+import org.apache.nifi.cluster.coordination.node.OffloadCode;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact binary encoding of a {@link HeartbeatPayload}. The encoding starts with a header that cannot begin an XML document,
+ * followed by the encoding version, so that encoded payloads can be distinguished from XML payloads. Numbers are written as
+ * variable-length integers, update identifiers and connection request times are written as the difference from the previous
+ * node status, and each distinct string, such as a host name that appears in several addresses, is written only once, as its
+ * length in bytes followed by its UTF-8 bytes.
+ */
+final class BinaryHeartbeatPayloadCodec {
+
+    static final int VERSION = 1;
+
+    private static final byte HEADER = 0x00;
+    private static final byte MAGIC = 'H';
+
+    private static final int NULL_STRING = 0;
+    private static final int NEW_STRING = 1;
+    private static final int STRING_REFERENCE_OFFSET = 2;
+
+    private BinaryHeartbeatPayloadCodec() {
+    }
+
+    /**
+     * @param bytes the bytes of a payload
+     * @return <code>true</code> if the payload bytes use the binary encoding
+     */
+    static boolean isEncoded(final byte[] bytes) {
+        return bytes != null && bytes.length > 1 && bytes[0] == HEADER && bytes[1] == MAGIC;
+    }
+
+    static void encode(final HeartbeatPayload payload, final OutputStream out) throws IOException {
+        final Encoder encoder = new Encoder(new DataOutputStream(out));
+        encoder.out.writeByte(HEADER);
+        encoder.out.writeByte(MAGIC);
+        encoder.out.writeByte(VERSION);
+
+        encoder.writeLong(payload.getActiveThreadCount());
+        encoder.writeLong(payload.getTotalFlowFileCount());
+        encoder.writeLong(payload.getTotalFlowFileBytes());
+        encoder.writeLong(payload.getSystemStartTime());
+        encoder.writeLong(payload.getRevisionUpdateCount());
+
+        final List<NodeConnectionStatus> clusterStatus = payload.getClusterStatus();
+        if (clusterStatus == null) {
+            encoder.writeLong(-1);
+        } else {
+            encoder.writeLong(clusterStatus.size());
+
+            long previousUpdateId = 0;
+            long previousConnectionRequestTime = 0;
+            for (final NodeConnectionStatus status : clusterStatus) {
+                encoder.writeLong(status.getUpdateIdentifier() - previousUpdateId);
+                previousUpdateId = status.getUpdateIdentifier();
+
+                encoder.writeNodeIdentifier(status.getNodeIdentifier());
+                encoder.writeString(status.getState() == null ? null : status.getState().name());
+                encoder.writeString(status.getOffloadCode() == null ? null : status.getOffloadCode().name());
+                encoder.writeString(status.getDisconnectCode() == null ? null : status.getDisconnectCode().name());
+                encoder.writeString(status.getReason());
+
+                final Long connectionRequestTime = status.getConnectionRequestTime();
+                if (connectionRequestTime == null) {
+                    encoder.out.writeBoolean(false);
+                } else {
+                    encoder.out.writeBoolean(true);
+                    encoder.writeLong(connectionRequestTime - previousConnectionRequestTime);
+                    previousConnectionRequestTime = connectionRequestTime;
+                }
+            }
+        }
+
+        encoder.out.flush();
+    }
+
+    static HeartbeatPayload decode(final InputStream in) throws IOException {
+        final Decoder decoder = new Decoder(new DataInputStream(in));
+        if (decoder.in.readByte() != HEADER || decoder.in.readByte() != MAGIC) {
+            throw new IOException("Heartbeat Payload does not use the binary encoding");
+        }
+
+        final int version = decoder.in.readUnsignedByte();
+        if (version > VERSION) {
+            throw new IOException("Heartbeat Payload encoding version " + version + " is not supported; maximum supported version is " + VERSION);
+        }
+
+        final HeartbeatPayload payload = new HeartbeatPayload();
+        payload.setActiveThreadCount((int) decoder.readLong());
+        payload.setTotalFlowFileCount(decoder.readLong());
+        payload.setTotalFlowFileBytes(decoder.readLong());
+        payload.setSystemStartTime(decoder.readLong());
+        payload.setRevisionUpdateCount(decoder.readLong());
+
+        final long statusCount = decoder.readLong();
+        if (statusCount >= 0) {
+            final List<NodeConnectionStatus> clusterStatus = new ArrayList<>();
+
+            long updateId = 0;
+            long connectionRequestTime = 0;
+            for (long i = 0; i < statusCount; i++) {
+                updateId += decoder.readLong();
+
+                final NodeIdentifier nodeId = decoder.readNodeIdentifier();
+                final String state = decoder.readString();
+                final String offloadCode = decoder.readString();
+                final String disconnectCode = decoder.readString();
+                final String reason = decoder.readString();
+
+                Long statusConnectionRequestTime = null;
+                if (decoder.in.readBoolean()) {
+                    connectionRequestTime += decoder.readLong();
+                    statusConnectionRequestTime = connectionRequestTime;
+                }
+
+                clusterStatus.add(new NodeConnectionStatus(updateId, nodeId,
+                        state == null ? null : NodeConnectionState.valueOf(state),
+                        offloadCode == null ? null : OffloadCode.valueOf(offloadCode),
+                        disconnectCode == null ? null : DisconnectionCode.valueOf(disconnectCode),
+                        reason, statusConnectionRequestTime));
+            }
+
+            payload.setClusterStatus(clusterStatus);
+        }
+
+        return payload;
+    }
+
+    private static final class Encoder {
+        private final DataOutputStream out;
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+
+        private Encoder(final DataOutputStream out) {
+            this.out = out;
+        }
+
+        private void writeLong(final long value) throws IOException {
+            // ZigZag encoding keeps small negative values, such as negative differences, small
+            long remaining = (value << 1) ^ (value >> 63);
+            while ((remaining & ~0x7FL) != 0) {
+                out.writeByte((int) ((remaining & 0x7F) | 0x80));
+                remaining >>>= 7;
+            }
+            out.writeByte((int) remaining);
+        }
+
+        private void writeString(final String value) throws IOException {
+            if (value == null) {
+                writeLong(NULL_STRING);
+                return;
+            }
+
+            final Integer index = stringIndexes.get(value);
+            if (index == null) {
+                stringIndexes.put(value, stringIndexes.size());
+                writeLong(NEW_STRING);
+
+                final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeLong(bytes.length);
+                out.write(bytes);
+            } else {
+                writeLong(index + STRING_REFERENCE_OFFSET);
+            }
+        }
+
+        private void writeInteger(final Integer value) throws IOException {
+            if (value == null) {
+                out.writeBoolean(false);
+            } else {
+                out.writeBoolean(true);
+                writeLong(value);
+            }
+        }
+
+        private void writeNodeIdentifier(final NodeIdentifier nodeId) throws IOException {
+            if (nodeId == null) {
+                out.writeBoolean(false);
+                return;
+            }
+
+            out.writeBoolean(true);
+            writeString(nodeId.getId());
+            writeString(nodeId.getApiAddress());
+            writeLong(nodeId.getApiPort());
+            writeString(nodeId.getSocketAddress());
+            writeLong(nodeId.getSocketPort());
+            writeString(nodeId.getLoadBalanceAddress());
+            writeLong(nodeId.getLoadBalancePort());
+            writeString(nodeId.getSiteToSiteAddress());
+            writeInteger(nodeId.getSiteToSitePort());
+            writeInteger(nodeId.getSiteToSiteHttpApiPort());
+            out.writeBoolean(nodeId.isSiteToSiteSecure());
+
+            final Set<String> nodeIdentities = nodeId.getNodeIdentities();
+            writeLong(nodeIdentities.size());
+            for (final String nodeIdentity : nodeIdentities) {
+                writeString(nodeIdentity);
+            }
+        }
+    }
+
+    private static final class Decoder {
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+
+        private Decoder(final DataInputStream in) {
+            this.in = in;
+        }
+
+        private long readLong() throws IOException {
+            long encoded = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final int b = in.read();
+                if (b < 0) {
+                    throw new EOFException();
+                }
+
+                encoded |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (encoded >>> 1) ^ -(encoded & 1);
+                }
+            }
+
+            throw new IOException("Malformed variable-length integer in Heartbeat Payload");
+        }
+
+        private String readString() throws IOException {
+            final long marker = readLong();
+            if (marker == NULL_STRING) {
+                return null;
+            }
+
+            if (marker == NEW_STRING) {
+                final long length = readLong();
+                if (length < 0 || length > Integer.MAX_VALUE) {
+                    throw new IOException("Invalid string length in Heartbeat Payload");
+                }
+
+                final byte[] bytes = new byte[(int) length];
+                in.readFully(bytes);
+                final String value = new String(bytes, StandardCharsets.UTF_8);
+                strings.add(value);
+                return value;
+            }
+
+            final long index = marker - STRING_REFERENCE_OFFSET;
+            if (index < 0 || index >= strings.size()) {
+                throw new IOException("Invalid string reference in Heartbeat Payload");
+            }
+            return strings.get((int) index);
+        }
+
+        private Integer readInteger() throws IOException {
+            return in.readBoolean() ? (int) readLong() : null;
+        }
+
+        private NodeIdentifier readNodeIdentifier() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+
+            final String id = readString();
+            final String apiAddress = readString();
+            final int apiPort = (int) readLong();
+            final String socketAddress = readString();
+            final int socketPort = (int) readLong();
+            final String loadBalanceAddress = readString();
+            final int loadBalancePort = (int) readLong();
+            final String siteToSiteAddress = readString();
+            final Integer siteToSitePort = readInteger();
+            final Integer siteToSiteHttpApiPort = readInteger();
+            final boolean siteToSiteSecure = in.readBoolean();
+
+            final long nodeIdentityCount = readLong();
+            final Set<String> nodeIdentities = new HashSet<>();
+            for (long i = 0; i < nodeIdentityCount; i++) {
+                nodeIdentities.add(readString());
+            }
+
+            return new NodeIdentifier(id, apiAddress, apiPort, socketAddress, socketPort, loadBalanceAddress, loadBalancePort,
+                    siteToSiteAddress, siteToSitePort, siteToSiteHttpApiPort, siteToSiteSecure, nodeIdentities);
+        }
+    }
+}
@@ -30,8 +30,10 @@ import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.stream.StreamSource;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PushbackInputStream;
 import java.util.List;
 
 /**
@@ -41,6 +43,16 @@ import java.util.List;
 @XmlRootElement
 public class HeartbeatPayload {
 
+    /**
+     * Encoding version of payloads marshalled as XML, which all Cluster Coordinators are able to unmarshal
+     */
+    public static final int XML_ENCODING_VERSION = 0;
+
+    /**
+     * Encoding version of payloads marshalled using the compact binary encoding
+     */
+    public static final int BINARY_ENCODING_VERSION = BinaryHeartbeatPayloadCodec.VERSION;
+
     private static final JAXBContext JAXB_CONTEXT;
 
     static {
@@ -112,6 +124,36 @@ public class HeartbeatPayload {
         return payloadBytes.toByteArray();
     }
 
+    /**
+     * Marshals the payload using the given encoding version. Payloads using any encoding version can be unmarshalled using
+     * {@link #unmarshal(byte[])}, but the binary encoding should only be used when the receiver is known to support it.
+     *
+     * @param encodingVersion the encoding version, either {@link #XML_ENCODING_VERSION} or {@link #BINARY_ENCODING_VERSION}
+     * @return the marshalled payload
+     * @throws ProtocolException if unable to marshal the payload
+     */
+    public byte[] marshal(final int encodingVersion) throws ProtocolException {
+        if (encodingVersion < BINARY_ENCODING_VERSION) {
+            return marshal();
+        }
+
+        final ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        try {
+            BinaryHeartbeatPayloadCodec.encode(this, payloadBytes);
+        } catch (final IOException e) {
+            throw new ProtocolException(e);
+        }
+        return payloadBytes.toByteArray();
+    }
+
+    /**
+     * @param bytes the marshalled payload
+     * @return <code>true</code> if the payload was marshalled using the binary encoding
+     */
+    public static boolean isBinaryEncoded(final byte[] bytes) {
+        return BinaryHeartbeatPayloadCodec.isEncoded(bytes);
+    }
+
     public static void marshal(final HeartbeatPayload payload, final OutputStream os) throws ProtocolException {
         try {
             final Marshaller marshaller = JAXB_CONTEXT.createMarshaller();
@@ -123,16 +165,32 @@ public class HeartbeatPayload {
 
     public static HeartbeatPayload unmarshal(final InputStream is) throws ProtocolException {
         try {
+            // Determine the encoding from the first bytes, which differ between the binary encoding and XML
+            final PushbackInputStream pushbackInputStream = new PushbackInputStream(is, 2);
+            final byte[] header = pushbackInputStream.readNBytes(2);
+            pushbackInputStream.unread(header);
+            if (BinaryHeartbeatPayloadCodec.isEncoded(header)) {
+                return BinaryHeartbeatPayloadCodec.decode(pushbackInputStream);
+            }
+
             final Unmarshaller unmarshaller = JAXB_CONTEXT.createUnmarshaller();
             final XMLStreamReaderProvider provider = new StandardXMLStreamReaderProvider();
-            final XMLStreamReader xsr = provider.getStreamReader(new StreamSource(is));
+            final XMLStreamReader xsr = provider.getStreamReader(new StreamSource(pushbackInputStream));
             return (HeartbeatPayload) unmarshaller.unmarshal(xsr);
-        } catch (final JAXBException | ProcessingException e) {
+        } catch (final IOException | JAXBException | ProcessingException e) {
             throw new ProtocolException(e);
         }
     }
 
     public static HeartbeatPayload unmarshal(final byte[] bytes) throws ProtocolException {
+        if (BinaryHeartbeatPayloadCodec.isEncoded(bytes)) {
+            try {
+                return BinaryHeartbeatPayloadCodec.decode(new ByteArrayInputStream(bytes));
+            } catch (final IOException e) {
+                throw new ProtocolException(e);
+            }
+        }
+
         return unmarshal(new ByteArrayInputStream(bytes));
     }
 }
@@ -29,6 +29,7 @@ public class HeartbeatResponseMessage extends ProtocolMessage {
     private List<NodeConnectionStatus> updatedNodeStatuses = new ArrayList<>();
     private String flowElectionMessage = null;
     private CommsTimingDetails commsTimingDetails;
+    private int payloadEncodingVersion;
 
     @Override
     public MessageType getType() {
@@ -58,4 +59,16 @@ public class HeartbeatResponseMessage extends ProtocolMessage {
     public void setCommsTimingDetails(final CommsTimingDetails commsTimingDetails) {
         this.commsTimingDetails = commsTimingDetails;
     }
+
+    /**
+     * @return the highest Heartbeat Payload encoding version that the Cluster Coordinator is able to unmarshal. Cluster Coordinators
+     * that do not indicate a version only support the XML encoding, which is version 0.
+     */
+    public int getPayloadEncodingVersion() {
+        return payloadEncodingVersion;
+    }
+
+    public void setPayloadEncodingVersion(final int payloadEncodingVersion) {
+        this.payloadEncodingVersion = payloadEncodingVersion;
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.cluster.protocol;
+
+import org.apache.nifi.cluster.coordination.node.DisconnectionCode;
+import org.apache.nifi.cluster.coordination.node.NodeConnectionState;
+import org.apache.nifi.cluster.coordination.node.NodeConnectionStatus;
+import org.apache.nifi.cluster.coordination.node.OffloadCode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestHeartbeatPayload {
+
+    private static final int NODE_COUNT = 10;
+
+    @Test
+    public void testBinaryRoundTrip() {
+        final HeartbeatPayload payload = createPayload(NODE_COUNT, true);
+
+        final byte[] marshalled = payload.marshal(HeartbeatPayload.BINARY_ENCODING_VERSION);
+        assertTrue(HeartbeatPayload.isBinaryEncoded(marshalled));
+
+        assertPayloadEquals(payload, HeartbeatPayload.unmarshal(marshalled));
+        assertPayloadEquals(payload, HeartbeatPayload.unmarshal(new ByteArrayInputStream(marshalled)));
+    }
+
+    @Test
+    public void testBinaryRoundTripNoClusterStatus() {
+        final HeartbeatPayload payload = new HeartbeatPayload();
+        payload.setActiveThreadCount(-1);
+
+        final HeartbeatPayload unmarshalled = HeartbeatPayload.unmarshal(payload.marshal(HeartbeatPayload.BINARY_ENCODING_VERSION));
+
+        assertEquals(-1, unmarshalled.getActiveThreadCount());
+        assertNull(unmarshalled.getClusterStatus());
+    }
+
+    @Test
+    public void testBinaryRoundTripLongString() {
+        // Multi-byte characters make the encoded reason several times longer than the 65535 bytes supported by modified UTF-8
+        final String reason = "Disconnected \u00e9\u4e2d\ud83d\ude00 ".repeat(10_000);
+        final NodeIdentifier nodeId = new NodeIdentifier("node-0", "localhost", 8443, "localhost", 11443, "localhost", 6342, "localhost", 10443, 8443, true, null);
+
+        final HeartbeatPayload payload = createPayload(1, true);
+        payload.setClusterStatus(List.of(new NodeConnectionStatus(nodeId, DisconnectionCode.NODE_SHUTDOWN, reason)));
+
+        final HeartbeatPayload unmarshalled = HeartbeatPayload.unmarshal(payload.marshal(HeartbeatPayload.BINARY_ENCODING_VERSION));
+
+        assertPayloadEquals(payload, unmarshalled);
+        assertEquals(reason, unmarshalled.getClusterStatus().getFirst().getReason());
+    }
+
+    @Test
+    public void testXmlEncodingVersion() {
+        final HeartbeatPayload payload = createPayload(NODE_COUNT, false);
+
+        final byte[] marshalled = payload.marshal(HeartbeatPayload.XML_ENCODING_VERSION);
+        assertFalse(HeartbeatPayload.isBinaryEncoded(marshalled));
+
+        assertPayloadEquals(payload, HeartbeatPayload.unmarshal(marshalled));
+        assertPayloadEquals(payload, HeartbeatPayload.unmarshal(new ByteArrayInputStream(marshalled)));
+    }
+
+    @Test
+    public void testBinaryEncodingSmallerThanXml() {
+        final HeartbeatPayload payload = createPayload(NODE_COUNT, false);
+
+        final int xmlLength = payload.marshal().length;
+        final int binaryLength = payload.marshal(HeartbeatPayload.BINARY_ENCODING_VERSION).length;
+
+        assertTrue(binaryLength * 4 < xmlLength, "Binary length " + binaryLength + " not less than a quarter of XML length " + xmlLength);
+    }
+
+    @Test
+    public void testUnsupportedEncodingVersion() {
+        final byte[] marshalled = createPayload(1, true).marshal(HeartbeatPayload.BINARY_ENCODING_VERSION);
+        marshalled[2] = (byte) (HeartbeatPayload.BINARY_ENCODING_VERSION + 1);
+
+        assertThrows(ProtocolException.class, () -> HeartbeatPayload.unmarshal(marshalled));
+    }
+
+    private HeartbeatPayload createPayload(final int nodeCount, final boolean includeNodeIdentities) {
+        final List<NodeConnectionStatus> clusterStatus = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            final String host = "nifi-" + i + ".example.com";
+            final NodeIdentifier nodeId = new NodeIdentifier("node-" + i, host, 8443, host, 11443, host, 6342, host, 10443, 8443, true,
+                    includeNodeIdentities ? Set.of("CN=" + host) : null);
+
+            final NodeConnectionStatus status = switch (i % 3) {
+                case 0 -> new NodeConnectionStatus(nodeId, NodeConnectionState.CONNECTED);
+                case 1 -> new NodeConnectionStatus(nodeId, DisconnectionCode.LACK_OF_HEARTBEAT, "Node has not sent a heartbeat");
+                default -> new NodeConnectionStatus(nodeId, NodeConnectionState.OFFLOADING, OffloadCode.OFFLOADED, "Offload requested");
+            };
+            clusterStatus.add(status);
+        }
+        clusterStatus.add(new NodeConnectionStatus(clusterStatus.getFirst().getNodeIdentifier(), NodeConnectionState.CONNECTING));
+
+        final HeartbeatPayload payload = new HeartbeatPayload();
+        payload.setActiveThreadCount(12);
+        payload.setTotalFlowFileCount(123_456L);
+        payload.setTotalFlowFileBytes(987_654_321L);
+        payload.setSystemStartTime(System.currentTimeMillis());
+        payload.setRevisionUpdateCount(42L);
+        payload.setClusterStatus(clusterStatus);
+        return payload;
+    }
+
+    private void assertPayloadEquals(final HeartbeatPayload expected, final HeartbeatPayload actual) {
+        assertEquals(expected.getActiveThreadCount(), actual.getActiveThreadCount());
+        assertEquals(expected.getTotalFlowFileCount(), actual.getTotalFlowFileCount());
+        assertEquals(expected.getTotalFlowFileBytes(), actual.getTotalFlowFileBytes());
+        assertEquals(expected.getSystemStartTime(), actual.getSystemStartTime());
+        assertEquals(expected.getRevisionUpdateCount(), actual.getRevisionUpdateCount());
+
+        final List<NodeConnectionStatus> expectedStatuses = expected.getClusterStatus();
+        final List<NodeConnectionStatus> actualStatuses = actual.getClusterStatus();
+        assertEquals(expectedStatuses.size(), actualStatuses.size());
+        for (int i = 0; i < expectedStatuses.size(); i++) {
+            final NodeConnectionStatus expectedStatus = expectedStatuses.get(i);
+            final NodeConnectionStatus actualStatus = actualStatuses.get(i);
+            assertEquals(expectedStatus, actualStatus);
+            assertEquals(expectedStatus.getUpdateIdentifier(), actualStatus.getUpdateIdentifier());
+            assertEquals(expectedStatus.getReason(), actualStatus.getReason());
+            assertEquals(expectedStatus.getConnectionRequestTime(), actualStatus.getConnectionRequestTime());
+
+            final NodeIdentifier expectedNodeId = expectedStatus.getNodeIdentifier();
+            final NodeIdentifier actualNodeId = actualStatus.getNodeIdentifier();
+            assertEquals(expectedNodeId.getFullDescription(), actualNodeId.getFullDescription());
+            assertEquals(expectedNodeId.getLoadBalancePort(), actualNodeId.getLoadBalancePort());
+        }
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.nifi.cluster.protocol.message.ClusterWorkloadRequestMessage;
 import org.apache.nifi.cluster.protocol.message.ClusterWorkloadResponseMessage;
 import org.apache.nifi.cluster.protocol.message.ConnectionResponseMessage;
 import org.apache.nifi.cluster.protocol.message.HeartbeatMessage;
+import org.apache.nifi.cluster.protocol.message.HeartbeatResponseMessage;
 import org.apache.nifi.cluster.protocol.message.NodeConnectionStatusRequestMessage;
 import org.apache.nifi.cluster.protocol.message.NodeConnectionStatusResponseMessage;
 import org.apache.nifi.web.Revision;
@@ -142,6 +143,18 @@ public class TestJaxbProtocolUtils {
         assertInstanceOf(HeartbeatMessage.class, unmarshalled);
     }
 
+    @Test
+    public void testRoundTripHeartbeatResponsePayloadEncodingVersion() throws JAXBException {
+        final HeartbeatResponseMessage msg = new HeartbeatResponseMessage();
+        msg.setPayloadEncodingVersion(HeartbeatPayload.BINARY_ENCODING_VERSION);
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JaxbProtocolUtils.JAXB_CONTEXT.createMarshaller().marshal(msg, baos);
+        final Object unmarshalled = JaxbProtocolUtils.JAXB_CONTEXT.createUnmarshaller().unmarshal(new ByteArrayInputStream(baos.toByteArray()));
+        assertInstanceOf(HeartbeatResponseMessage.class, unmarshalled);
+        assertEquals(HeartbeatPayload.BINARY_ENCODING_VERSION, ((HeartbeatResponseMessage) unmarshalled).getPayloadEncodingVersion());
+    }
+
     @Test
     public void testRoundTripClusterWorkloadRequest() throws JAXBException {
         final ClusterWorkloadRequestMessage msg = new ClusterWorkloadRequestMessage();
@@ -175,6 +175,7 @@ public class ClusterProtocolHeartbeatMonitor extends AbstractHeartbeatMonitor im
 
         final HeartbeatResponseMessage responseMessage = new HeartbeatResponseMessage();
         responseMessage.setUpdatedNodeStatuses(updatedStatuses);
+        responseMessage.setPayloadEncodingVersion(HeartbeatPayload.BINARY_ENCODING_VERSION);
 
         if (!getClusterCoordinator().isFlowElectionComplete()) {
             responseMessage.setFlowElectionMessage(getClusterCoordinator().getFlowElectionStatus());
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.cluster.coordination.http.replication;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationIntrospector;
+import org.apache.nifi.cluster.manager.NodeResponse;
+import org.apache.nifi.cluster.protocol.NodeIdentifier;
+import org.apache.nifi.web.api.entity.Entity;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A completed AsyncClusterResponse whose merged response may be shared by several requests. Each caller receives its own
+ * NodeResponse with its own copy of the merged entity, so that callers may modify the entity, for instance when filtering
+ * it for the requesting user, without affecting other callers.
+ */
+class CachedAsyncClusterResponse implements AsyncClusterResponse {
+    private static final ObjectMapper OBJECT_MAPPER = createObjectMapper();
+
+    private final String requestIdentifier;
+    private final String method;
+    private final String uriPath;
+    private final long creationTimeNanos;
+    private final Set<NodeIdentifier> nodesInvolved;
+    private final Map<NodeIdentifier, NodeResponse> nodeResponses;
+    private final NodeResponse mergedResponse;
+    private final Class<? extends Entity> entityClass;
+    private final byte[] serializedEntity;
+
+    /**
+     * @param response the completed response to share
+     * @param mergedResponse the merged response of the completed response, which must include an updated entity
+     * @throws UncheckedIOException if the merged entity cannot be serialized in order to be copied
+     */
+    CachedAsyncClusterResponse(final AsyncClusterResponse response, final NodeResponse mergedResponse) {
+        if (mergedResponse.getUpdatedEntity() == null) {
+            throw new IllegalArgumentException("Merged response must include an updated entity");
+        }
+
+        this.requestIdentifier = response.getRequestIdentifier();
+        this.method = response.getMethod();
+        this.uriPath = response.getURIPath();
+        this.creationTimeNanos = System.nanoTime();
+        this.nodesInvolved = Set.copyOf(response.getNodesInvolved());
+        this.nodeResponses = response.getCompletedNodeResponses().stream()
+                .collect(Collectors.toUnmodifiableMap(NodeResponse::getNodeId, Function.identity()));
+        this.mergedResponse = mergedResponse;
+
+        final Entity entity = mergedResponse.getUpdatedEntity();
+        this.entityClass = entity.getClass();
+        try {
+            this.serializedEntity = OBJECT_MAPPER.writeValueAsBytes(entity);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to serialize merged entity " + entityClass.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public String getRequestIdentifier() {
+        return requestIdentifier;
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getURIPath() {
+        return uriPath;
+    }
+
+    @Override
+    public Set<NodeIdentifier> getNodesInvolved() {
+        return nodesInvolved;
+    }
+
+    @Override
+    public Set<NodeIdentifier> getCompletedNodeIdentifiers() {
+        return nodeResponses.keySet();
+    }
+
+    @Override
+    public Set<NodeResponse> getCompletedNodeResponses() {
+        return Set.copyOf(nodeResponses.values());
+    }
+
+    @Override
+    public boolean isComplete() {
+        return true;
+    }
+
+    @Override
+    public boolean isOlderThan(final long time, final TimeUnit timeUnit) {
+        return System.nanoTime() - creationTimeNanos > timeUnit.toNanos(time);
+    }
+
+    @Override
+    public NodeResponse getMergedResponse() {
+        final Entity entity;
+        try {
+            entity = OBJECT_MAPPER.readValue(serializedEntity, entityClass);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to copy merged entity " + entityClass.getSimpleName(), e);
+        }
+
+        return new NodeResponse(mergedResponse, entity);
+    }
+
+    @Override
+    public NodeResponse awaitMergedResponse() {
+        return getMergedResponse();
+    }
+
+    @Override
+    public NodeResponse awaitMergedResponse(final long timeout, final TimeUnit timeUnit) {
+        return getMergedResponse();
+    }
+
+    @Override
+    public NodeResponse getNodeResponse(final NodeIdentifier nodeId) {
+        return nodeResponses.get(nodeId);
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        // Configured as for replicated responses so that the copy of an entity has the same content as the entity
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setDefaultPropertyInclusion(JsonInclude.Value.construct(JsonInclude.Include.NON_NULL, JsonInclude.Include.ALWAYS));
+        objectMapper.setAnnotationIntrospector(new JakartaXmlBindAnnotationIntrospector(objectMapper.getTypeFactory()));
+        return objectMapper;
+    }
+
+    @Override
+    public String toString() {
+        return "CachedAsyncClusterResponse[id=" + requestIdentifier + ", uri=" + uriPath + ", method=" + method + "]";
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.cluster.coordination.http.replication;
+
+import org.apache.nifi.cluster.coordination.http.endpoints.ConnectionStatusEndpointMerger;
+import org.apache.nifi.cluster.coordination.http.endpoints.ControllerStatusEndpointMerger;
+import org.apache.nifi.cluster.coordination.http.endpoints.GroupStatusEndpointMerger;
+import org.apache.nifi.cluster.coordination.http.endpoints.PortStatusEndpointMerger;
+import org.apache.nifi.cluster.coordination.http.endpoints.ProcessorStatusEndpointMerger;
+import org.apache.nifi.cluster.coordination.http.endpoints.RemoteProcessGroupStatusEndpointMerger;
+import org.apache.nifi.cluster.manager.NodeResponse;
+
+import jakarta.ws.rs.HttpMethod;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Holds recently merged responses to status requests so that repeated requests for the same status do not each need to be
+ * replicated to every node and merged again. Concurrent requests with the same key share a single replication, and the merged
+ * response is then reused until it reaches the configured maximum age. A request that waits longer than the replication
+ * timeout for a shared replication is replicated on its own. Requests with a <code>Cache-Control: no-cache</code>
+ * header are always replicated.
+ */
+class StatusResponseCache {
+    private static final List<Pattern> STATUS_URI_PATTERNS = List.of(
+            ControllerStatusEndpointMerger.CONTROLLER_STATUS_URI_PATTERN,
+            GroupStatusEndpointMerger.GROUP_STATUS_URI_PATTERN,
+            ProcessorStatusEndpointMerger.PROCESSOR_STATUS_URI_PATTERN,
+            ConnectionStatusEndpointMerger.CONNECTION_STATUS_URI_PATTERN,
+            PortStatusEndpointMerger.INPUT_PORT_STATUS_URI_PATTERN,
+            PortStatusEndpointMerger.OUTPUT_PORT_STATUS_URI_PATTERN,
+            RemoteProcessGroupStatusEndpointMerger.REMOTE_PROCESS_GROUP_STATUS_URI_PATTERN
+    );
+
+    private static final String CACHE_CONTROL_HEADER = "Cache-Control";
+    private static final String NO_CACHE = "no-cache";
+
+    private final long maxAgeNanos;
+    private final long replicationTimeoutNanos;
+    private final ConcurrentMap<String, CachedResponse> responses = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxAge the maximum age of a merged response that may be reused. A zero duration disables the cache.
+     * @param replicationTimeout the maximum amount of time to wait for a replication that is shared with another request
+     */
+    StatusResponseCache(final Duration maxAge, final Duration replicationTimeout) {
+        this.maxAgeNanos = maxAge.toNanos();
+        this.replicationTimeoutNanos = replicationTimeout.toNanos();
+    }
+
+    boolean isEnabled() {
+        return maxAgeNanos > 0;
+    }
+
+    /**
+     * @param method the HTTP method of the request
+     * @param uri the URI of the request
+     * @param headers the headers of the request
+     * @return <code>true</code> if the merged response to the request may be shared with other requests that have the same key
+     */
+    boolean isCacheable(final String method, final URI uri, final Map<String, String> headers) {
+        if (!isEnabled() || !HttpMethod.GET.equalsIgnoreCase(method)) {
+            return false;
+        }
+
+        for (final Map.Entry<String, String> header : headers.entrySet()) {
+            if (CACHE_CONTROL_HEADER.equalsIgnoreCase(header.getKey()) && header.getValue() != null && header.getValue().toLowerCase().contains(NO_CACHE)) {
+                return false;
+            }
+        }
+
+        final String path = uri.getPath();
+        for (final Pattern pattern : STATUS_URI_PATTERNS) {
+            if (pattern.matcher(path).matches()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns a recent merged response for the given key, if one is available, or otherwise replicates the request.
+     *
+     * @param key the key that identifies the request, which must include everything that may affect the merged response
+     * @param replication replicates the request, returning only once the request has completed
+     * @return the response for the request
+     */
+    AsyncClusterResponse getResponse(final String key, final Supplier<AsyncClusterResponse> replication) {
+        final long now = System.nanoTime();
+        final CachedResponse created = new CachedResponse(new CompletableFuture<>(), now);
+        final CachedResponse current = responses.compute(key, (k, existing) -> existing == null || isExpired(existing, now) ? created : existing);
+
+        if (current != created) {
+            final CachedAsyncClusterResponse cachedResponse = awaitSharedResponse(current);
+            if (cachedResponse != null) {
+                return cachedResponse;
+            }
+
+            // The shared replication did not result in a response that can be shared in time, so replicate the request on its own
+            return replication.get();
+        }
+
+        CachedAsyncClusterResponse cachedResponse = null;
+        try {
+            final AsyncClusterResponse response = replication.get();
+            final NodeResponse mergedResponse = getMergedResponse(response);
+            if (mergedResponse == null || !mergedResponse.is2xx() || mergedResponse.getUpdatedEntity() == null) {
+                return response;
+            }
+
+            try {
+                cachedResponse = new CachedAsyncClusterResponse(response, mergedResponse);
+            } catch (final UncheckedIOException e) {
+                // The merged entity cannot be copied for each caller, so it is not shared
+                return response;
+            }
+
+            return cachedResponse;
+        } finally {
+            if (cachedResponse == null) {
+                responses.remove(key, created);
+            }
+            created.response().complete(cachedResponse);
+        }
+    }
+
+    /**
+     * Removes any merged responses that have reached the maximum age
+     *
+     * @return the number of merged responses that remain
+     */
+    int purgeExpired() {
+        final long now = System.nanoTime();
+        responses.values().removeIf(cachedResponse -> isExpired(cachedResponse, now));
+        return responses.size();
+    }
+
+    private CachedAsyncClusterResponse awaitSharedResponse(final CachedResponse cachedResponse) {
+        try {
+            return cachedResponse.response().get(replicationTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (final ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private NodeResponse getMergedResponse(final AsyncClusterResponse response) {
+        if (!response.isComplete()) {
+            return null;
+        }
+
+        try {
+            return response.getMergedResponse();
+        } catch (final RuntimeException e) {
+            // The failure is surfaced to the caller when it retrieves the merged response
+            return null;
+        }
+    }
+
+    private boolean isExpired(final CachedResponse cachedResponse, final long now) {
+        final CompletableFuture<CachedAsyncClusterResponse> response = cachedResponse.response();
+        if (!response.isDone()) {
+            return false;
+        }
+
+        return response.getNow(null) == null || now - cachedResponse.createdNanos() >= maxAgeNanos;
+    }
+
+    private record CachedResponse(CompletableFuture<CachedAsyncClusterResponse> response, long createdNanos) {
+    }
+}
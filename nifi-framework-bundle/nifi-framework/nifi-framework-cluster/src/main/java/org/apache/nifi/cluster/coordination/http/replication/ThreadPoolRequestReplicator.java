@@ -22,6 +22,7 @@ import org.apache.nifi.authorization.AccessDeniedException;
 import org.apache.nifi.authorization.user.NiFiUser;
 import org.apache.nifi.authorization.user.NiFiUserUtils;
 import org.apache.nifi.cluster.coordination.ClusterCoordinator;
+import org.apache.nifi.cluster.coordination.ClusterTopologyEventListener;
 import org.apache.nifi.cluster.coordination.http.HttpResponseMapper;
 import org.apache.nifi.cluster.coordination.http.StandardHttpResponseMapper;
 import org.apache.nifi.cluster.coordination.http.endpoints.ConnectionEndpointMerger;
@@ -48,6 +49,7 @@ import org.apache.nifi.cluster.protocol.NodeIdentifier;
 import org.apache.nifi.events.EventReporter;
 import org.apache.nifi.reporting.Severity;
 import org.apache.nifi.util.ComponentIdGenerator;
+import org.apache.nifi.util.FormatUtils;
 import org.apache.nifi.util.NiFiProperties;
 import org.apache.nifi.web.security.ProxiedEntitiesUtils;
 import org.apache.nifi.web.security.http.SecurityCookieName;
@@ -64,6 +66,7 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -77,11 +80,10 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
@@ -102,28 +104,33 @@ public class ThreadPoolRequestReplicator implements RequestReplicator, Closeable
     private static final String NODE_CONTINUE = "202-Accepted";
 
     private final int maxConcurrentRequests; // maximum number of concurrent requests
+    private final int maxRequestsPerNode; // maximum number of HTTP requests in flight to a single node
     private final HttpResponseMapper responseMapper;
     private final EventReporter eventReporter;
     private final RequestCompletionCallback callback;
     private final ClusterCoordinator clusterCoordinator;
 
-    private final ThreadPoolExecutor executorService;
+    private final ExecutorService executorService;
     private final ScheduledExecutorService maintenanceExecutor;
 
     private final ConcurrentMap<String, StandardAsyncClusterResponse> responseMap = new ConcurrentHashMap<>();
     private final ConcurrentMap<NodeIdentifier, AtomicInteger> sequentialLongRequestCounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<NodeIdentifier, Semaphore> nodeRequestPermits = new ConcurrentHashMap<>();
 
     private final ReadWriteLock rwLock = new ReentrantReadWriteLock();
     private final Lock readLock = rwLock.readLock();
     private final Lock writeLock = rwLock.writeLock();
 
     private final HttpReplicationClient httpClient;
+    private final StatusResponseCache statusResponseCache;
+    private final ClusterTopologyEventListener nodeRemovalListener = new NodeRemovalListener();
 
 
     /**
-     * Creates an instance.
+     * Creates an instance. Each per-node HTTP request runs on its own virtual thread, so a request waiting on a slow node does not
+     * hold a platform thread; the number of requests in flight to any single node is bounded by the given max pool size.
      *
-     * @param maxPoolSize the max number of threads in the thread pool
+     * @param maxPoolSize the max number of HTTP requests in flight to a single node
      * @param maxConcurrentRequests maximum number of concurrent requests
      * @param client a client for making requests
      * @param clusterCoordinator the cluster coordinator to use for interacting with node statuses
@@ -141,21 +148,15 @@ public class ThreadPoolRequestReplicator implements RequestReplicator, Closeable
 
         this.clusterCoordinator = clusterCoordinator;
         this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxRequestsPerNode = maxPoolSize;
         this.responseMapper = new StandardHttpResponseMapper(nifiProperties);
         this.eventReporter = eventReporter;
         this.callback = callback;
         this.httpClient = client;
+        this.statusResponseCache = new StatusResponseCache(getStatusResponseMaxAge(nifiProperties), getReplicationTimeout(nifiProperties));
+        clusterCoordinator.registerEventListener(nodeRemovalListener);
 
-        final AtomicInteger threadId = new AtomicInteger(0);
-        final ThreadFactory threadFactory = r -> {
-            final Thread t = Executors.defaultThreadFactory().newThread(r);
-            t.setDaemon(true);
-            t.setName("Replicate Request Thread-" + threadId.incrementAndGet());
-            return t;
-        };
-
-        executorService = new ThreadPoolExecutor(maxPoolSize, maxPoolSize, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
-        executorService.allowCoreThreadTimeOut(true);
+        executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Replicate Request Thread-", 1).factory());
 
         maintenanceExecutor = Executors.newScheduledThreadPool(1, r -> {
             final Thread t = Executors.defaultThreadFactory().newThread(r);
@@ -165,6 +166,20 @@ public class ThreadPoolRequestReplicator implements RequestReplicator, Closeable
         });
 
         maintenanceExecutor.scheduleWithFixedDelay(this::purgeExpiredRequests, 1, 1, TimeUnit.SECONDS);
+        if (statusResponseCache.isEnabled()) {
+            maintenanceExecutor.scheduleWithFixedDelay(statusResponseCache::purgeExpired, 1, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    private static Duration getStatusResponseMaxAge(final NiFiProperties nifiProperties) {
+        final String maxAge = nifiProperties.getProperty(NiFiProperties.CLUSTER_NODE_STATUS_RESPONSE_MAX_AGE, NiFiProperties.DEFAULT_CLUSTER_NODE_STATUS_RESPONSE_MAX_AGE);
+        return FormatUtils.getTimeDuration(maxAge, NiFiProperties.DEFAULT_CLUSTER_NODE_STATUS_RESPONSE_MAX_AGE);
+    }
+
+    private static Duration getReplicationTimeout(final NiFiProperties nifiProperties) {
+        final long connectionTimeoutMillis = FormatUtils.getTimeDuration(nifiProperties.getClusterNodeConnectionTimeout(), TimeUnit.MILLISECONDS);
+        final long readTimeoutMillis = FormatUtils.getTimeDuration(nifiProperties.getClusterNodeReadTimeout(), TimeUnit.MILLISECONDS);
+        return Duration.ofMillis(connectionTimeoutMillis + readTimeoutMillis);
     }
 
     @Override
@@ -174,6 +189,7 @@ public class ThreadPoolRequestReplicator implements RequestReplicator, Closeable
 
     @Override
     public void shutdown() {
+        clusterCoordinator.unregisterEventListener(nodeRemovalListener);
         executorService.shutdown();
         maintenanceExecutor.shutdown();
     }
@@ -217,9 +233,25 @@ public class ThreadPoolRequestReplicator implements RequestReplicator, Closeable
 
         final Set<NodeIdentifier> nodeIdSet = new HashSet<>(nodeIds);
 
+        // Status requests from the same user to the same nodes may share a recently merged response rather than each being replicated
+        if (user != null && statusResponseCache.isCacheable(method, uri, headers)) {
+            final String statusResponseKey = getStatusResponseKey(nodeIdSet, user, method, uri);
+            return statusResponseCache.getResponse(statusResponseKey, () -> replicate(nodeIdSet, user, method, uri, entity, headers, true, true));
+        }
+
         return replicate(nodeIdSet, user, method, uri, entity, headers, true, true);
     }
 
+    private String getStatusResponseKey(final Set<NodeIdentifier> nodeIds, final NiFiUser user, final String method, final URI uri) {
+        final String nodes = nodeIds.stream()
+                .map(NodeIdentifier::getId)
+                .sorted()
+                .collect(Collectors.joining(","));
+        final String proxiedEntitiesChain = ProxiedEntitiesUtils.buildProxiedEntitiesChainString(user);
+        final String proxiedEntityGroups = ProxiedEntitiesUtils.buildProxiedEntityGroupsString(user.getIdentityProviderGroups());
+        return String.join("|", proxiedEntitiesChain, proxiedEntityGroups, nodes, method.toUpperCase(), uri.toString());
+    }
+
     private List<NodeIdentifier> getNonConnectedNodes(final Map<NodeConnectionState, List<NodeIdentifier>> stateMap) {
         // We want to include all nodes except for those that are CONNECTED or REMOVED.
         // We do that by first adding all nodes to the List and then removing those that are CONNECTED or REMOVED.
@@ -400,7 +432,8 @@ public class ThreadPoolRequestReplicator implements RequestReplicator, Closeable
                                 StandardAsyncClusterResponse::getURIPath,
                                 Collectors.counting()));
 
-                logger.error("Cannot replicate request {} {} because there are {} outstanding HTTP Requests already. Request Counts Per URI = {}", method, uri.getPath(), numRequests, countsByUri);
+                logger.error("Cannot replicate request {} {} because there are {} outstanding HTTP Requests already. Request Counts Per URI = {}, In-Flight Request Counts Per Node = {}",
+                        method, uri.getPath(), numRequests, countsByUri, getInFlightRequestCounts());
                 throw new IllegalStateException("There are too many outstanding HTTP requests with a total " + numRequests + " outstanding requests");
             }
 
@@ -809,6 +842,28 @@ public class ThreadPoolRequestReplicator implements RequestReplicator, Closeable
     }
 
 
+    /**
+     * Returns the number of HTTP requests currently in flight to each node, including requests that are waiting for one of
+     * the node's permits to become available.
+     *
+     * @return a map of node identifier to the number of in-flight and waiting requests for that node
+     */
+    public Map<NodeIdentifier, Integer> getInFlightRequestCounts() {
+        final Map<NodeIdentifier, Integer> counts = new HashMap<>();
+        nodeRequestPermits.forEach((nodeId, permits) -> {
+            final int count = maxRequestsPerNode - permits.availablePermits() + permits.getQueueLength();
+            if (count > 0) {
+                counts.put(nodeId, count);
+            }
+        });
+        return counts;
+    }
+
+    private Semaphore getRequestPermits(final NodeIdentifier nodeId) {
+        return nodeRequestPermits.computeIfAbsent(nodeId, id -> new Semaphore(maxRequestsPerNode, true));
+    }
+
+
     private URI createURI(final URI exampleUri, final NodeIdentifier nodeId) {
         return createURI(exampleUri.getScheme(), nodeId.getApiAddress(), nodeId.getApiPort(), exampleUri.getPath(), exampleUri.getQuery());
     }
@@ -847,12 +902,23 @@ public class ThreadPoolRequestReplicator implements RequestReplicator, Closeable
 
         @Override
         public void run() {
-            final long waitForScheduleNanos = System.nanoTime() - creationNanos;
-            clusterResponse.addTiming("Wait for HTTP Request Replication to be triggered", nodeId.toString(), waitForScheduleNanos);
-
+            final Semaphore permits = getRequestPermits(nodeId);
             NodeResponse nodeResponse;
 
             try {
+                permits.acquire();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                nodeResponse = new NodeResponse(nodeId, method, uri, e);
+                logger.warn("Interrupted while waiting to replicate request {} {} to {}", method, uri.getPath(), nodeId);
+                complete(nodeResponse);
+                return;
+            }
+
+            try {
+                final long waitForScheduleNanos = System.nanoTime() - creationNanos;
+                clusterResponse.addTiming("Wait for HTTP Request Replication to be triggered", nodeId.toString(), waitForScheduleNanos);
+
                 // create and send the request
                 final String requestId = request.getHeaders().get(RequestReplicationHeader.REQUEST_TRANSACTION_ID.getHeader());
                 logger.debug("Replicating request {} {} to {}", method, uri.getPath(), nodeId);
@@ -861,8 +927,14 @@ public class ThreadPoolRequestReplicator implements RequestReplicator, Closeable
             } catch (final Throwable t) {
                 nodeResponse = new NodeResponse(nodeId, method, uri, t);
                 logger.warn("Failed to replicate request {} {} to {}", method, uri.getPath(), nodeId, t);
+            } finally {
+                permits.release();
             }
 
+            complete(nodeResponse);
+        }
+
+        private void complete(final NodeResponse nodeResponse) {
             if (callback != null) {
                 logger.debug("Request {} {} completed for {}", method, uri.getPath(), nodeId);
                 callback.onCompletion(nodeResponse);
@@ -930,4 +1002,28 @@ public class ThreadPoolRequestReplicator implements RequestReplicator, Closeable
 
         return headerNameFound;
     }
+
+    /**
+     * Discards the request permits and response time tracking of nodes that are removed from the cluster, so that they are
+     * retained only for the nodes that are currently part of the cluster
+     */
+    private class NodeRemovalListener implements ClusterTopologyEventListener {
+        @Override
+        public void onNodeAdded(final NodeIdentifier nodeId) {
+        }
+
+        @Override
+        public void onNodeRemoved(final NodeIdentifier nodeId) {
+            nodeRequestPermits.remove(nodeId);
+            sequentialLongRequestCounts.remove(nodeId);
+        }
+
+        @Override
+        public void onLocalNodeIdentifierSet(final NodeIdentifier localNodeId) {
+        }
+
+        @Override
+        public void onNodeStateChange(final NodeIdentifier nodeId, final NodeConnectionState newState) {
+        }
+    }
 }
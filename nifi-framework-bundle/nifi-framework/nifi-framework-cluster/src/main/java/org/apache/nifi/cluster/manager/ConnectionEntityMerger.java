@@ -33,7 +33,7 @@ public class ConnectionEntityMerger implements ComponentEntityMerger<ConnectionE
         ComponentEntityMerger.super.merge(clientEntity, entityMap);
         for (Map.Entry<NodeIdentifier, ConnectionEntity> entry : entityMap.entrySet()) {
             final ConnectionEntity entityStatus = entry.getValue();
-            if (entityStatus != clientEntity) {
+            if (entityStatus != clientEntity && clientEntity.getStatus() != null) {
                 mergeStatus(clientEntity.getStatus(), clientEntity.getPermissions().getCanRead(), entry.getValue().getStatus(), entry.getValue().getPermissions().getCanRead(), entry.getKey());
             }
         }
@@ -32,7 +32,7 @@ public class PortEntityMerger implements ComponentEntityMerger<PortEntity>, Comp
         ComponentEntityMerger.super.merge(clientEntity, entityMap);
         for (Map.Entry<NodeIdentifier, PortEntity> entry : entityMap.entrySet()) {
             final PortEntity entityStatus = entry.getValue();
-            if (entityStatus != clientEntity) {
+            if (entityStatus != clientEntity && clientEntity.getStatus() != null) {
                 mergeStatus(clientEntity.getStatus(), clientEntity.getPermissions().getCanRead(), entry.getValue().getStatus(), entry.getValue().getPermissions().getCanRead(), entry.getKey());
             }
         }
@@ -37,7 +37,9 @@ public class ProcessGroupEntityMerger implements ComponentEntityMerger<ProcessGr
         for (Map.Entry<NodeIdentifier, ProcessGroupEntity> entry : entityMap.entrySet()) {
             final ProcessGroupEntity entity = entry.getValue();
             if (entity != clientEntity) {
-                mergeStatus(clientEntity.getStatus(), clientEntity.getPermissions().getCanRead(), entry.getValue().getStatus(), entry.getValue().getPermissions().getCanRead(), entry.getKey());
+                if (clientEntity.getStatus() != null) {
+                    mergeStatus(clientEntity.getStatus(), clientEntity.getPermissions().getCanRead(), entry.getValue().getStatus(), entry.getValue().getPermissions().getCanRead(), entry.getKey());
+                }
                 mergeVersionControlInformation(clientEntity, entity);
             }
 
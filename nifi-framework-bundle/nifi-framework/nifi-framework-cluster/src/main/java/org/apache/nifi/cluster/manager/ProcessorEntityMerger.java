@@ -34,7 +34,7 @@ public class ProcessorEntityMerger implements ComponentEntityMerger<ProcessorEnt
         ComponentEntityMerger.super.merge(clientEntity, entityMap);
         for (Map.Entry<NodeIdentifier, ProcessorEntity> entry : entityMap.entrySet()) {
             final ProcessorEntity entityStatus = entry.getValue();
-            if (entityStatus != clientEntity) {
+            if (entityStatus != clientEntity && clientEntity.getStatus() != null) {
                 mergeStatus(clientEntity.getStatus(), clientEntity.getPermissions().getCanRead(), entry.getValue().getStatus(), entry.getValue().getPermissions().getCanRead(), entry.getKey());
             }
         }
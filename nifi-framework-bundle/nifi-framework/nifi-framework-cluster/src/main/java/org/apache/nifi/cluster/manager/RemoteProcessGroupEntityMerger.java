@@ -36,7 +36,7 @@ public class RemoteProcessGroupEntityMerger implements ComponentEntityMerger<Rem
         ComponentEntityMerger.super.merge(clientEntity, entityMap);
         for (Map.Entry<NodeIdentifier, RemoteProcessGroupEntity> entry : entityMap.entrySet()) {
             final RemoteProcessGroupEntity entityStatus = entry.getValue();
-            if (entityStatus != clientEntity) {
+            if (entityStatus != clientEntity && clientEntity.getStatus() != null) {
                 mergeStatus(clientEntity.getStatus(), clientEntity.getPermissions().getCanRead(), entry.getValue().getStatus(), entry.getValue().getPermissions().getCanRead(), entry.getKey());
             }
         }
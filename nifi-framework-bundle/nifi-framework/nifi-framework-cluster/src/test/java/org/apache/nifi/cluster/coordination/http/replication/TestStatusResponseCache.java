@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.cluster.coordination.http.replication;
+
+import org.apache.nifi.cluster.manager.NodeResponse;
+import org.apache.nifi.cluster.protocol.NodeIdentifier;
+import org.apache.nifi.web.api.dto.status.ProcessGroupStatusDTO;
+import org.apache.nifi.web.api.entity.ProcessGroupStatusEntity;
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.Response;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestStatusResponseCache {
+
+    private static final URI GROUP_STATUS_URI = URI.create("http://localhost:8080/nifi-api/flow/process-groups/root/status");
+
+    private static final URI PROCESSOR_URI = URI.create("http://localhost:8080/nifi-api/processors/00000000-0000-0000-0000-000000000000");
+
+    private static final String KEY = "user|root";
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    private static final Duration REPLICATION_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final String GROUP_ID = "root";
+
+    private final NodeIdentifier nodeId = new NodeIdentifier("1", "localhost", 8000, "localhost", 8001, "localhost", 8002, 8003, false);
+
+    @Test
+    public void testIsCacheable() {
+        final StatusResponseCache cache = new StatusResponseCache(MAX_AGE, REPLICATION_TIMEOUT);
+
+        assertTrue(cache.isCacheable(HttpMethod.GET, GROUP_STATUS_URI, Map.of()));
+        assertFalse(cache.isCacheable(HttpMethod.POST, GROUP_STATUS_URI, Map.of()));
+        assertFalse(cache.isCacheable(HttpMethod.GET, PROCESSOR_URI, Map.of()));
+        assertFalse(cache.isCacheable(HttpMethod.GET, GROUP_STATUS_URI, Map.of("cache-control", "no-cache")));
+    }
+
+    @Test
+    public void testIsCacheableDisabled() {
+        final StatusResponseCache cache = new StatusResponseCache(Duration.ZERO, REPLICATION_TIMEOUT);
+
+        assertFalse(cache.isEnabled());
+        assertFalse(cache.isCacheable(HttpMethod.GET, GROUP_STATUS_URI, Map.of()));
+    }
+
+    @Test
+    public void testGetResponseReused() {
+        final StatusResponseCache cache = new StatusResponseCache(MAX_AGE, REPLICATION_TIMEOUT);
+        final ProcessGroupStatusEntity entity = createEntity();
+        final AtomicInteger replications = new AtomicInteger();
+        final Supplier<AsyncClusterResponse> replication = () -> {
+            replications.incrementAndGet();
+            return createClusterResponse(Response.Status.OK, entity);
+        };
+
+        final NodeResponse firstResponse = cache.getResponse(KEY, replication).getMergedResponse();
+        final NodeResponse secondResponse = cache.getResponse(KEY, replication).getMergedResponse();
+
+        assertEquals(1, replications.get());
+        assertNotSame(firstResponse, secondResponse);
+        assertEquals(1, cache.purgeExpired());
+
+        final ProcessGroupStatusEntity firstEntity = (ProcessGroupStatusEntity) firstResponse.getUpdatedEntity();
+        final ProcessGroupStatusEntity secondEntity = (ProcessGroupStatusEntity) secondResponse.getUpdatedEntity();
+        assertNotSame(firstEntity, secondEntity);
+        assertEquals(GROUP_ID, firstEntity.getProcessGroupStatus().getId());
+        assertEquals(GROUP_ID, secondEntity.getProcessGroupStatus().getId());
+
+        // Filtering the entity for one caller must not affect the entity returned to another caller
+        firstEntity.setCanRead(false);
+        firstEntity.setProcessGroupStatus(null);
+        final ProcessGroupStatusEntity thirdEntity = (ProcessGroupStatusEntity) cache.getResponse(KEY, replication).getMergedResponse().getUpdatedEntity();
+        assertTrue(thirdEntity.getCanRead());
+        assertEquals(GROUP_ID, thirdEntity.getProcessGroupStatus().getId());
+        assertEquals(1, replications.get());
+    }
+
+    @Test
+    public void testGetResponseReplicatedWhenSharedReplicationTimesOut() throws Exception {
+        final StatusResponseCache cache = new StatusResponseCache(MAX_AGE, Duration.ofMillis(50));
+        final CountDownLatch sharedReplicationStarted = new CountDownLatch(1);
+        final CountDownLatch sharedReplicationReleased = new CountDownLatch(1);
+        final Supplier<AsyncClusterResponse> sharedReplication = () -> {
+            sharedReplicationStarted.countDown();
+            try {
+                sharedReplicationReleased.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return createClusterResponse(Response.Status.OK, createEntity());
+        };
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<AsyncClusterResponse> sharedResponse = executorService.submit(() -> cache.getResponse(KEY, sharedReplication));
+            assertTrue(sharedReplicationStarted.await(5, TimeUnit.SECONDS));
+
+            final AtomicInteger replications = new AtomicInteger();
+            final AsyncClusterResponse response = cache.getResponse(KEY, () -> {
+                replications.incrementAndGet();
+                return createClusterResponse(Response.Status.OK, createEntity());
+            });
+
+            assertEquals(1, replications.get());
+            assertFalse(response instanceof CachedAsyncClusterResponse);
+
+            sharedReplicationReleased.countDown();
+            assertTrue(sharedResponse.get(5, TimeUnit.SECONDS) instanceof CachedAsyncClusterResponse);
+        } finally {
+            sharedReplicationReleased.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGetResponseNotReusedWhenUnsuccessful() {
+        final StatusResponseCache cache = new StatusResponseCache(MAX_AGE, REPLICATION_TIMEOUT);
+        final AtomicInteger replications = new AtomicInteger();
+        final Supplier<AsyncClusterResponse> replication = () -> {
+            replications.incrementAndGet();
+            return createClusterResponse(Response.Status.CONFLICT, new ProcessGroupStatusEntity());
+        };
+
+        cache.getResponse(KEY, replication);
+        cache.getResponse(KEY, replication);
+
+        assertEquals(2, replications.get());
+        assertEquals(0, cache.purgeExpired());
+    }
+
+    @Test
+    public void testGetResponseNotReusedWhenExpired() throws InterruptedException {
+        final StatusResponseCache cache = new StatusResponseCache(Duration.ofMillis(1), REPLICATION_TIMEOUT);
+        final AtomicInteger replications = new AtomicInteger();
+        final Supplier<AsyncClusterResponse> replication = () -> {
+            replications.incrementAndGet();
+            return createClusterResponse(Response.Status.OK, new ProcessGroupStatusEntity());
+        };
+
+        cache.getResponse(KEY, replication);
+        Thread.sleep(5);
+        cache.getResponse(KEY, replication);
+
+        assertEquals(2, replications.get());
+        Thread.sleep(5);
+        assertEquals(0, cache.purgeExpired());
+    }
+
+    private ProcessGroupStatusEntity createEntity() {
+        final ProcessGroupStatusDTO processGroupStatus = new ProcessGroupStatusDTO();
+        processGroupStatus.setId(GROUP_ID);
+
+        final ProcessGroupStatusEntity entity = new ProcessGroupStatusEntity();
+        entity.setCanRead(true);
+        entity.setProcessGroupStatus(processGroupStatus);
+        return entity;
+    }
+
+    private AsyncClusterResponse createClusterResponse(final Response.Status status, final ProcessGroupStatusEntity entity) {
+        final Response response = mock(Response.class);
+        when(response.getStatus()).thenReturn(status.getStatusCode());
+
+        final NodeResponse nodeResponse = new NodeResponse(nodeId, HttpMethod.GET, GROUP_STATUS_URI, response, 0, "request");
+        final NodeResponse mergedResponse = new NodeResponse(nodeResponse, entity);
+
+        final AsyncClusterResponse clusterResponse = mock(AsyncClusterResponse.class);
+        when(clusterResponse.isComplete()).thenReturn(true);
+        when(clusterResponse.getMergedResponse()).thenReturn(mergedResponse);
+        when(clusterResponse.getNodesInvolved()).thenReturn(Set.of(nodeId));
+        when(clusterResponse.getCompletedNodeResponses()).thenReturn(Set.of(nodeResponse));
+        return clusterResponse;
+    }
+}
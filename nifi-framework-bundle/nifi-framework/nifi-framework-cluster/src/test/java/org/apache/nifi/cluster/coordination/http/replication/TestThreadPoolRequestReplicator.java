@@ -22,6 +22,7 @@ import org.apache.nifi.authorization.user.NiFiUserUtils;
 import org.apache.nifi.authorization.user.StandardNiFiUser;
 import org.apache.nifi.authorization.user.StandardNiFiUser.Builder;
 import org.apache.nifi.cluster.coordination.ClusterCoordinator;
+import org.apache.nifi.cluster.coordination.ClusterTopologyEventListener;
 import org.apache.nifi.cluster.coordination.http.replication.util.MockReplicationClient;
 import org.apache.nifi.cluster.coordination.node.NodeConnectionState;
 import org.apache.nifi.cluster.coordination.node.NodeConnectionStatus;
@@ -38,6 +39,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 import org.springframework.security.core.Authentication;
@@ -67,6 +69,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TestThreadPoolRequestReplicator {
@@ -312,6 +315,120 @@ public class TestThreadPoolRequestReplicator {
         replicator.shutdown();
     }
 
+    @Test
+    @Timeout(value = 15)
+    public void testInFlightRequestsLimitedPerNode() throws Exception {
+        final NodeIdentifier nodeId = new NodeIdentifier("1", "localhost", 8100, "localhost", 8101, "localhost", 8102, 8103, false);
+        final Set<NodeIdentifier> nodeIds = Collections.singleton(nodeId);
+
+        final ClusterCoordinator coordinator = createClusterCoordinator();
+        final NiFiProperties props = NiFiProperties.createBasicNiFiProperties(null);
+        final MockReplicationClient client = new MockReplicationClient();
+        final RequestCompletionCallback requestCompletionCallback = (uri, method, responses) -> {
+        };
+
+        final int maxRequestsPerNode = 2;
+        final int requestCount = 6;
+        final CountDownLatch releaseLatch = new CountDownLatch(1);
+        final AtomicInteger activeRequests = new AtomicInteger(0);
+        final AtomicInteger maxActiveRequests = new AtomicInteger(0);
+
+        final ThreadPoolRequestReplicator replicator = new ThreadPoolRequestReplicator(maxRequestsPerNode, 100, client, coordinator, requestCompletionCallback,
+                EventReporter.NO_OP, props) {
+            @Override
+            protected NodeResponse replicateRequest(final PreparedRequest request, final NodeIdentifier nodeId,
+                final URI uri, final String requestId, final StandardAsyncClusterResponse response) {
+                maxActiveRequests.accumulateAndGet(activeRequests.incrementAndGet(), Math::max);
+                assertDoesNotThrow(() -> releaseLatch.await());
+                activeRequests.decrementAndGet();
+
+                final Response clientResponse = mock(Response.class);
+                when(clientResponse.getStatus()).thenReturn(Status.OK.getStatusCode());
+                return new NodeResponse(nodeId, request.getMethod(), uri, clientResponse, -1L, requestId);
+            }
+        };
+
+        try {
+            final Authentication authentication = new NiFiAuthenticationToken(new NiFiUserDetails(StandardNiFiUser.ANONYMOUS));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+
+            final Set<AsyncClusterResponse> responses = new HashSet<>();
+            for (int i = 0; i < requestCount; i++) {
+                // Requests are not indicated as replicated so that replicate returns without waiting for the request to complete
+                responses.add(replicator.replicate(nodeIds, HttpMethod.GET, new URI("http://localhost:80/processors/" + i), new ProcessorEntity(), new HashMap<>(), false, true));
+            }
+
+            while (replicator.getInFlightRequestCounts().getOrDefault(nodeId, 0) < requestCount) {
+                Thread.sleep(10L);
+            }
+            while (activeRequests.get() < maxRequestsPerNode) {
+                Thread.sleep(10L);
+            }
+
+            releaseLatch.countDown();
+            for (final AsyncClusterResponse response : responses) {
+                assertNotNull(response.awaitMergedResponse(5, TimeUnit.SECONDS));
+            }
+
+            assertEquals(maxRequestsPerNode, maxActiveRequests.get());
+            assertTrue(replicator.getInFlightRequestCounts().isEmpty());
+        } finally {
+            releaseLatch.countDown();
+            replicator.shutdown();
+        }
+    }
+
+    @Test
+    @Timeout(value = 15)
+    public void testRequestPermitsRemovedWithNode() throws Exception {
+        final NodeIdentifier nodeId = new NodeIdentifier("1", "localhost", 8100, "localhost", 8101, "localhost", 8102, 8103, false);
+
+        final ClusterCoordinator coordinator = createClusterCoordinator();
+        final NiFiProperties props = NiFiProperties.createBasicNiFiProperties(null);
+        final MockReplicationClient client = new MockReplicationClient();
+        final RequestCompletionCallback requestCompletionCallback = (uri, method, responses) -> {
+        };
+
+        final CountDownLatch releaseLatch = new CountDownLatch(1);
+        final ThreadPoolRequestReplicator replicator = new ThreadPoolRequestReplicator(2, 100, client, coordinator, requestCompletionCallback,
+                EventReporter.NO_OP, props) {
+            @Override
+            protected NodeResponse replicateRequest(final PreparedRequest request, final NodeIdentifier nodeId,
+                final URI uri, final String requestId, final StandardAsyncClusterResponse response) {
+                assertDoesNotThrow(() -> releaseLatch.await());
+
+                final Response clientResponse = mock(Response.class);
+                when(clientResponse.getStatus()).thenReturn(Status.OK.getStatusCode());
+                return new NodeResponse(nodeId, request.getMethod(), uri, clientResponse, -1L, requestId);
+            }
+        };
+
+        try {
+            final ArgumentCaptor<ClusterTopologyEventListener> listenerCaptor = ArgumentCaptor.forClass(ClusterTopologyEventListener.class);
+            verify(coordinator).registerEventListener(listenerCaptor.capture());
+
+            final Authentication authentication = new NiFiAuthenticationToken(new NiFiUserDetails(StandardNiFiUser.ANONYMOUS));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+
+            final AsyncClusterResponse response = replicator.replicate(Collections.singleton(nodeId), HttpMethod.GET, new URI("http://localhost:80/processors/1"),
+                    new ProcessorEntity(), new HashMap<>(), false, true);
+            while (replicator.getInFlightRequestCounts().getOrDefault(nodeId, 0) < 1) {
+                Thread.sleep(10L);
+            }
+
+            listenerCaptor.getValue().onNodeRemoved(nodeId);
+            assertTrue(replicator.getInFlightRequestCounts().isEmpty());
+
+            releaseLatch.countDown();
+            assertNotNull(response.awaitMergedResponse(5, TimeUnit.SECONDS));
+        } finally {
+            releaseLatch.countDown();
+            replicator.shutdown();
+        }
+
+        verify(coordinator).unregisterEventListener(Mockito.any(ClusterTopologyEventListener.class));
+    }
+
     private ClusterCoordinator createClusterCoordinator() {
         final ClusterCoordinator coordinator = mock(ClusterCoordinator.class);
         when(coordinator.getConnectionStatus(Mockito.any(NodeIdentifier.class))).thenAnswer((Answer<NodeConnectionStatus>) invocation ->
@@ -18,6 +18,9 @@
 package org.apache.nifi.components.validation;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BooleanSupplier;
 
 import org.apache.nifi.controller.ComponentNode;
@@ -30,6 +33,10 @@ public class StandardValidationTrigger implements ValidationTrigger {
     private final ExecutorService threadPool;
     private final BooleanSupplier flowInitialized;
 
+    private final AtomicInteger queuedValidations = new AtomicInteger(0);
+    private final AtomicLong validationCount = new AtomicLong(0L);
+    private final AtomicLong validationNanos = new AtomicLong(0L);
+
     public StandardValidationTrigger(final ExecutorService threadPool, final BooleanSupplier flowInitialized) {
         this.threadPool = threadPool;
         this.flowInitialized = flowInitialized;
@@ -42,18 +49,50 @@ public class StandardValidationTrigger implements ValidationTrigger {
             return;
         }
 
-        threadPool.submit(() -> trigger(component));
+        queuedValidations.incrementAndGet();
+        try {
+            threadPool.submit(() -> {
+                queuedValidations.decrementAndGet();
+                trigger(component);
+            });
+        } catch (final RejectedExecutionException e) {
+            queuedValidations.decrementAndGet();
+            throw e;
+        }
     }
 
     @Override
     public void trigger(final ComponentNode component) {
         try {
             if (component.isValidationNecessary()) {
+                final long start = System.nanoTime();
                 component.performValidation();
+                validationNanos.addAndGet(System.nanoTime() - start);
+                validationCount.incrementAndGet();
             }
         } catch (final Throwable t) {
             component.getLogger().error("Failed to perform validation", t);
         }
     }
 
+    /**
+     * @return the number of asynchronous validations that have been submitted but not yet started
+     */
+    public int getQueuedValidationCount() {
+        return queuedValidations.get();
+    }
+
+    /**
+     * @return the number of validations that have been performed
+     */
+    public long getValidationCount() {
+        return validationCount.get();
+    }
+
+    /**
+     * @return the cumulative amount of time spent performing validation, in nanoseconds
+     */
+    public long getValidationNanos() {
+        return validationNanos.get();
+    }
 }
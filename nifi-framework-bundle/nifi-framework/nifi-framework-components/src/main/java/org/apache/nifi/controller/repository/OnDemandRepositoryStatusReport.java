@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.repository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A RepositoryStatusReport that obtains the entry for each component from the FlowFileEventRepository only when that entry is
+ * first requested, rather than generating entries for every component up front. This allows the status of a small part of the
+ * flow to be determined without generating a report for every component in the flow. All entries are generated as of the time
+ * that the report was created.
+ */
+public class OnDemandRepositoryStatusReport implements RepositoryStatusReport {
+    private final FlowFileEventRepository flowFileEventRepository;
+    private final long reportTimestamp;
+    private final Map<String, FlowFileEvent> entries = new HashMap<>();
+    private Map<String, FlowFileEvent> allEntries;
+
+    /**
+     * @param flowFileEventRepository the repository from which to obtain entries
+     * @param reportTimestamp the timestamp, in milliseconds since epoch, as of which entries are to be generated
+     */
+    public OnDemandRepositoryStatusReport(final FlowFileEventRepository flowFileEventRepository, final long reportTimestamp) {
+        this.flowFileEventRepository = flowFileEventRepository;
+        this.reportTimestamp = reportTimestamp;
+    }
+
+    /**
+     * Returns a map where the key is the component ID and the value is the status entry for the component. Calling this method
+     * requires that an entry be generated for every component, so {@link #getReportEntry(String)} should be preferred.
+     *
+     * @return a map of report entries
+     */
+    @Override
+    public synchronized Map<String, FlowFileEvent> getReportEntries() {
+        if (allEntries == null) {
+            final Map<String, FlowFileEvent> generatedEntries = new HashMap<>(flowFileEventRepository.reportTransferEvents(reportTimestamp).getReportEntries());
+            generatedEntries.putAll(entries);
+            allEntries = Collections.unmodifiableMap(generatedEntries);
+        }
+
+        return allEntries;
+    }
+
+    @Override
+    public synchronized FlowFileEvent getReportEntry(final String componentId) {
+        if (allEntries != null) {
+            return allEntries.get(componentId);
+        }
+
+        if (entries.containsKey(componentId)) {
+            return entries.get(componentId);
+        }
+
+        final FlowFileEvent entry = flowFileEventRepository.reportTransferEvents(componentId, reportTimestamp);
+        if (entry != null) {
+            entries.put(componentId, entry);
+        }
+        return entry;
+    }
+
+    @Override
+    public synchronized void addReportEntry(final FlowFileEvent entry, final String componentId) {
+        if (entry == null) {
+            return;
+        }
+
+        entries.put(componentId, entry);
+        if (allEntries != null) {
+            final Map<String, FlowFileEvent> updatedEntries = new HashMap<>(allEntries);
+            updatedEntries.put(componentId, entry);
+            allEntries = Collections.unmodifiableMap(updatedEntries);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OnDemandRepositoryStatusReport[timestamp=" + reportTimestamp + "]";
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.nifi.flow.synchronization;
 
+import org.apache.nifi.annotation.lifecycle.OnRemoved;
 import org.apache.nifi.asset.Asset;
 import org.apache.nifi.asset.AssetManager;
 import org.apache.nifi.bundle.BundleCoordinate;
@@ -87,8 +88,11 @@ import org.apache.nifi.groups.RemoteProcessGroupPortDescriptor;
 import org.apache.nifi.groups.StandardVersionedFlowStatus;
 import org.apache.nifi.groups.VersionedComponentAdditions;
 import org.apache.nifi.logging.LogLevel;
+import org.apache.nifi.logging.LogRepository;
+import org.apache.nifi.logging.LogRepositoryFactory;
 import org.apache.nifi.migration.ControllerServiceFactory;
 import org.apache.nifi.migration.StandardControllerServiceFactory;
+import org.apache.nifi.nar.NarCloseable;
 import org.apache.nifi.parameter.Parameter;
 import org.apache.nifi.parameter.ParameterContext;
 import org.apache.nifi.parameter.ParameterContextManager;
@@ -121,6 +125,7 @@ import org.apache.nifi.remote.protocol.SiteToSiteTransportProtocol;
 import org.apache.nifi.scheduling.ExecutionNode;
 import org.apache.nifi.scheduling.SchedulingStrategy;
 import org.apache.nifi.util.FlowDifferenceFilters;
+import org.apache.nifi.util.ReflectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -138,7 +143,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -160,6 +168,8 @@ public class StandardVersionedComponentSynchronizer implements VersionedComponen
 
     private FlowSynchronizationOptions syncOptions;
     private final ConnectableAdditionTracker connectableAdditionTracker = new ConnectableAdditionTracker();
+    private final Map<String, ProcessorNode> preparedProcessors = new ConcurrentHashMap<>();
+    private final Map<PreparedComponentKey, String> preparedComponentIds = new HashMap<>();
 
     public StandardVersionedComponentSynchronizer(final VersionedFlowSynchronizationContext context) {
         this.context = context;
@@ -311,6 +321,7 @@ public class StandardVersionedComponentSynchronizer implements VersionedComponen
 
     @Override
     public void synchronize(final ProcessGroup group, final VersionedExternalFlow versionedExternalFlow, final FlowSynchronizationOptions options) {
+        final long comparisonStart = System.nanoTime();
         final NiFiRegistryFlowMapper mapper = new NiFiRegistryFlowMapper(context.getExtensionManager(), context.getFlowMappingOptions());
         final VersionedProcessGroup versionedGroup = mapper.mapProcessGroup(group, context.getControllerServiceProvider(), context.getFlowManager(), true);
 
@@ -381,8 +392,13 @@ public class StandardVersionedComponentSynchronizer implements VersionedComponen
             }
         }
 
+        final long instantiationStart = System.nanoTime();
+        prepareProcessors(group, versionedExternalFlow.getFlowContents());
+
         // Pause component scheduling until after all properties have been migrated. This will ensure that we are able to migrate them
         // before enabling any Controller Services or starting any properties.
+        final long synchronizationStart = System.nanoTime();
+        long migrationStart = synchronizationStart;
         context.getComponentScheduler().pause();
         try {
             context.getFlowManager().withParameterContextResolution(() -> {
@@ -397,6 +413,7 @@ public class StandardVersionedComponentSynchronizer implements VersionedComponen
                 }
             });
 
+            migrationStart = System.nanoTime();
             for (final CreatedOrModifiedExtension createdOrModifiedExtension : createdAndModifiedExtensions) {
                 final ComponentNode extension = createdOrModifiedExtension.extension();
                 final Map<String, String> originalPropertyValues = createdOrModifiedExtension.propertyValues();
@@ -415,9 +432,173 @@ public class StandardVersionedComponentSynchronizer implements VersionedComponen
         } finally {
             // Resume component scheduler, now that properties have been migrated, so that any components that are intended to be scheduled are.
             context.getComponentScheduler().resume();
+            discardPreparedProcessors();
         }
 
         group.onComponentModified();
+
+        final long end = System.nanoTime();
+        LOG.debug("Synchronized {} in {} millis: flow comparison {} millis, processor instantiation {} millis, component synchronization {} millis, configuration migration {} millis",
+            group, TimeUnit.NANOSECONDS.toMillis(end - comparisonStart), TimeUnit.NANOSECONDS.toMillis(instantiationStart - comparisonStart),
+            TimeUnit.NANOSECONDS.toMillis(synchronizationStart - instantiationStart), TimeUnit.NANOSECONDS.toMillis(migrationStart - synchronizationStart),
+            TimeUnit.NANOSECONDS.toMillis(end - migrationStart));
+    }
+
+    /**
+     * Instantiates the Processors that the proposed flow will add, using the configured number of threads. Creating a Processor loads its classes
+     * and invokes its initialization and lifecycle methods, which dominates the time taken to synchronize a large flow, but it does not touch the
+     * Process Groups. The Processors are only added to their groups, configured, and connected later, on the synchronizing thread and in the
+     * usual order, so the ordering of connections and of Controller Service enablement is unchanged.
+     */
+    private void prepareProcessors(final ProcessGroup group, final VersionedProcessGroup proposed) {
+        final int threads = context.getComponentInstantiationThreads();
+        if (threads < 2) {
+            return;
+        }
+
+        final Map<String, VersionedProcessor> processorsToCreate = new LinkedHashMap<>();
+        findProcessorsToCreate(group, group.getIdentifier(), proposed, processorsToCreate);
+        if (processorsToCreate.size() < 2) {
+            return;
+        }
+
+        final int threadCount = Math.min(threads, processorsToCreate.size());
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount, Thread.ofPlatform().name("Instantiate Processors-", 1).daemon().factory());
+        InterruptedException interruptedException = null;
+        try {
+            final List<Future<?>> futures = new ArrayList<>(processorsToCreate.size());
+            for (final Map.Entry<String, VersionedProcessor> entry : processorsToCreate.entrySet()) {
+                futures.add(executor.submit(() -> prepareProcessor(entry.getKey(), entry.getValue())));
+            }
+
+            for (final Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (final ExecutionException e) {
+                    LOG.warn("Failed to instantiate Processor for {}; it will be instantiated during synchronization", group, e.getCause());
+                }
+            }
+        } catch (final InterruptedException e) {
+            interruptedException = e;
+        } finally {
+            // Wait for every task to finish so that none of them can add a Processor once synchronization has moved on
+            executor.shutdownNow();
+            executor.close();
+        }
+
+        if (interruptedException != null) {
+            discardPreparedProcessors();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while instantiating Processors for " + group, interruptedException);
+        }
+
+        LOG.debug("Instantiated {} of {} Processors for {} using {} threads", preparedProcessors.size(), processorsToCreate.size(), group, threadCount);
+    }
+
+    private void findProcessorsToCreate(final ProcessGroup group, final String groupId, final VersionedProcessGroup proposed, final Map<String, VersionedProcessor> processorsToCreate) {
+        final ComponentIdGenerator componentIdGenerator = context.getComponentIdGenerator();
+        final Map<String, ProcessorNode> processorsByVersionedId = group == null ? Collections.emptyMap() : componentsById(group, ProcessGroup::getProcessors);
+        for (final VersionedProcessor proposedProcessor : proposed.getProcessors()) {
+            if (processorsByVersionedId.containsKey(proposedProcessor.getIdentifier())) {
+                continue;
+            }
+
+            final String identifier = prepareComponentId(componentIdGenerator, proposedProcessor, groupId);
+            if (context.getFlowManager().getProcessorNode(identifier) == null) {
+                processorsToCreate.put(identifier, proposedProcessor);
+            }
+        }
+
+        final Map<String, ProcessGroup> childGroupsByVersionedId = group == null ? Collections.emptyMap()
+            : componentsById(group, ProcessGroup::getProcessGroups, ProcessGroup::getIdentifier, ProcessGroup::getVersionedComponentId);
+        for (final VersionedProcessGroup proposedChildGroup : proposed.getProcessGroups()) {
+            final ProcessGroup childGroup = childGroupsByVersionedId.get(proposedChildGroup.getIdentifier());
+            if (childGroup == null) {
+                final String childGroupId = prepareComponentId(componentIdGenerator, proposedChildGroup, groupId);
+                findProcessorsToCreate(null, childGroupId, proposedChildGroup, processorsToCreate);
+            } else if (proposedChildGroup.getVersionedFlowCoordinates() == null || syncOptions.isUpdateDescendantVersionedFlows()) {
+                findProcessorsToCreate(childGroup, childGroup.getIdentifier(), proposedChildGroup, processorsToCreate);
+            }
+        }
+    }
+
+    /**
+     * Generates the identifier that the given component will be added with, and retains it so that adding the component later yields the
+     * same identifier. This matters when the generator is not deterministic, such as when no seed is provided.
+     */
+    private String prepareComponentId(final ComponentIdGenerator componentIdGenerator, final VersionedComponent proposed, final String destinationGroupId) {
+        final PreparedComponentKey key = new PreparedComponentKey(proposed.getIdentifier(), destinationGroupId);
+        return preparedComponentIds.computeIfAbsent(key, ignored -> componentIdGenerator.generateUuid(proposed.getIdentifier(), proposed.getInstanceIdentifier(), destinationGroupId));
+    }
+
+    private String generateComponentId(final ComponentIdGenerator componentIdGenerator, final VersionedComponent proposed, final String destinationGroupId) {
+        final String preparedId = preparedComponentIds.remove(new PreparedComponentKey(proposed.getIdentifier(), destinationGroupId));
+        if (preparedId != null) {
+            return preparedId;
+        }
+
+        return componentIdGenerator.generateUuid(proposed.getIdentifier(), proposed.getInstanceIdentifier(), destinationGroupId);
+    }
+
+    private void prepareProcessor(final String identifier, final VersionedProcessor proposed) {
+        try {
+            final ProcessorNode procNode = context.getFlowManager().createProcessor(proposed.getType(), identifier, toCoordinate(proposed.getBundle()), true);
+            if (Thread.currentThread().isInterrupted()) {
+                // Synchronization was aborted while this Processor was being created, so it will never be picked up
+                discardPreparedProcessor(procNode);
+                return;
+            }
+
+            preparedProcessors.put(identifier, procNode);
+        } catch (final Exception e) {
+            // The Processor will be created again during synchronization, which will surface the failure in the usual way
+            LOG.debug("Failed to instantiate Processor {} of type {} ahead of synchronization", identifier, proposed.getType(), e);
+        }
+    }
+
+    private ProcessorNode createProcessor(final String identifier, final VersionedProcessor proposed) {
+        final BundleCoordinate coordinate = toCoordinate(proposed.getBundle());
+        final ProcessorNode prepared = preparedProcessors.remove(identifier);
+        if (prepared != null) {
+            if (Objects.equals(prepared.getCanonicalClassName(), proposed.getType()) && Objects.equals(prepared.getBundleCoordinate(), coordinate)) {
+                return prepared;
+            }
+
+            discardPreparedProcessor(prepared);
+        }
+
+        return context.getFlowManager().createProcessor(proposed.getType(), identifier, coordinate, true);
+    }
+
+    private void discardPreparedProcessors() {
+        preparedComponentIds.clear();
+        if (preparedProcessors.isEmpty()) {
+            return;
+        }
+
+        LOG.debug("Discarding {} Processors that were instantiated but not added to the flow", preparedProcessors.size());
+        for (final ProcessorNode procNode : preparedProcessors.values()) {
+            discardPreparedProcessor(procNode);
+        }
+        preparedProcessors.clear();
+    }
+
+    private void discardPreparedProcessor(final ProcessorNode procNode) {
+        procNode.pauseValidationTrigger();
+
+        try (final NarCloseable ignored = NarCloseable.withComponentNarLoader(context.getExtensionManager(), procNode.getProcessor().getClass(), procNode.getIdentifier())) {
+            final ProcessContext processContext = context.getProcessContextFactory().apply(procNode);
+            ReflectionUtils.quietlyInvokeMethodsWithAnnotation(OnRemoved.class, procNode.getProcessor(), processContext);
+        } catch (final Exception e) {
+            LOG.warn("Failed to invoke 'OnRemoved' methods of {}", procNode, e);
+        }
+
+        final LogRepository logRepository = LogRepositoryFactory.getRepository(procNode.getIdentifier());
+        if (logRepository != null) {
+            logRepository.removeAllObservers();
+        }
+        LogRepositoryFactory.removeRepository(procNode.getIdentifier());
+        context.getExtensionManager().removeInstanceClassLoader(procNode.getIdentifier());
     }
 
     private void synchronize(final ProcessGroup group, final VersionedProcessGroup proposed, final Map<String, VersionedParameterContext> versionedParameterContexts,
@@ -1376,7 +1557,7 @@ public class StandardVersionedComponentSynchronizer implements VersionedComponen
     private ProcessGroup addProcessGroup(final ProcessGroup destination, final VersionedProcessGroup proposed, final ComponentIdGenerator componentIdGenerator,
                                          final Map<String, VersionedParameterContext> versionedParameterContexts,
                                          final Map<String, ParameterProviderReference> parameterProviderReferences, ProcessGroup topLevelGroup) throws ProcessorInstantiationException {
-        final String id = componentIdGenerator.generateUuid(proposed.getIdentifier(), proposed.getInstanceIdentifier(), destination.getIdentifier());
+        final String id = generateComponentId(componentIdGenerator, proposed, destination.getIdentifier());
         final ProcessGroup group = context.getFlowManager().createProcessGroup(id);
         group.setVersionedComponentId(proposed.getIdentifier());
         group.setParent(destination);
@@ -2648,11 +2829,10 @@ public class StandardVersionedComponentSynchronizer implements VersionedComponen
 
     private ProcessorNode addProcessor(final ProcessGroup destination, final VersionedProcessor proposed, final ComponentIdGenerator componentIdGenerator,
                                        final ProcessGroup topLevelGroup) throws ProcessorInstantiationException {
-        final String identifier = componentIdGenerator.generateUuid(proposed.getIdentifier(), proposed.getInstanceIdentifier(), destination.getIdentifier());
+        final String identifier = generateComponentId(componentIdGenerator, proposed, destination.getIdentifier());
         LOG.debug("Adding Processor with ID {} of type {}", identifier, proposed.getType());
 
-        final BundleCoordinate coordinate = toCoordinate(proposed.getBundle());
-        final ProcessorNode procNode = context.getFlowManager().createProcessor(proposed.getType(), identifier, coordinate, true);
+        final ProcessorNode procNode = createProcessor(identifier, proposed);
         procNode.setVersionedComponentId(proposed.getIdentifier());
 
         destination.addProcessor(procNode);
@@ -4004,4 +4184,6 @@ public class StandardVersionedComponentSynchronizer implements VersionedComponen
     }
 
     private record ParameterValueAndReferences(String value, List<String> assetIds) { }
+
+    private record PreparedComponentKey(String versionedComponentId, String destinationGroupId) { }
 }
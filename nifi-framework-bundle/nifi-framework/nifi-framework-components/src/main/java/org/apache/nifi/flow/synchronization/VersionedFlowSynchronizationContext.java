@@ -45,7 +45,7 @@ public class VersionedFlowSynchronizationContext {
     private final Function<ProcessorNode, ProcessContext> processContextFactory;
     private final Function<ComponentNode, ConfigurationContext> configurationContextFactory;
     private final AssetManager assetManager;
-
+    private final int componentInstantiationThreads;
 
     private VersionedFlowSynchronizationContext(final Builder builder) {
         this.componentIdGenerator = builder.componentIdGenerator;
@@ -58,6 +58,7 @@ public class VersionedFlowSynchronizationContext {
         this.processContextFactory = builder.processContextFactory;
         this.configurationContextFactory = builder.configurationContextFactory;
         this.assetManager = builder.assetManager;
+        this.componentInstantiationThreads = builder.componentInstantiationThreads;
     }
 
     public ComponentIdGenerator getComponentIdGenerator() {
@@ -100,6 +101,10 @@ public class VersionedFlowSynchronizationContext {
         return assetManager;
     }
 
+    public int getComponentInstantiationThreads() {
+        return componentInstantiationThreads;
+    }
+
     public static class Builder {
         private ComponentIdGenerator componentIdGenerator;
         private FlowManager flowManager;
@@ -111,7 +116,7 @@ public class VersionedFlowSynchronizationContext {
         private Function<ProcessorNode, ProcessContext> processContextFactory;
         private Function<ComponentNode, ConfigurationContext> configurationContextFactory;
         private AssetManager assetManager;
-
+        private int componentInstantiationThreads = 1;
 
         public Builder componentIdGenerator(final ComponentIdGenerator componentIdGenerator) {
             this.componentIdGenerator = componentIdGenerator;
@@ -163,6 +168,11 @@ public class VersionedFlowSynchronizationContext {
             return this;
         }
 
+        public Builder componentInstantiationThreads(final int componentInstantiationThreads) {
+            this.componentInstantiationThreads = componentInstantiationThreads;
+            return this;
+        }
+
         public VersionedFlowSynchronizationContext build() {
             requireNonNull(componentIdGenerator, "Component ID Generator must be set");
             requireNonNull(flowManager, "Flow Manager must be set");
@@ -203,6 +203,7 @@ public final class StandardProcessGroup implements ProcessGroup {
     private final DataValve dataValve;
     private final Long nifiPropertiesBackpressureCount;
     private final String nifiPropertiesBackpressureSize;
+    private final int componentInstantiationThreads;
 
     private final ReentrantReadWriteLock rwLock = new ReentrantReadWriteLock();
     private final Lock readLock = rwLock.readLock();
@@ -251,6 +252,7 @@ public final class StandardProcessGroup implements ProcessGroup {
         if (nifiProperties == null) {
             nifiPropertiesBackpressureCount = DEFAULT_BACKPRESSURE_OBJECT;
             nifiPropertiesBackpressureSize = DEFAULT_BACKPRESSURE_DATA_SIZE;
+            componentInstantiationThreads = 1;
         } else {
             // Validate the property values.
             long count;
@@ -272,6 +274,16 @@ public final class StandardProcessGroup implements ProcessGroup {
                 size = DEFAULT_BACKPRESSURE_DATA_SIZE;
             }
             nifiPropertiesBackpressureSize = size;
+
+            int instantiationThreads;
+            try {
+                final String explicitValue = nifiProperties.getProperty(NiFiProperties.FLOW_SYNCHRONIZATION_THREADS, NiFiProperties.DEFAULT_FLOW_SYNCHRONIZATION_THREADS);
+                instantiationThreads = Integer.parseInt(explicitValue.trim());
+            } catch (final Exception e) {
+                LOG.warn("nifi.properties has an invalid value for the '{}' property. Using default value instead.", NiFiProperties.FLOW_SYNCHRONIZATION_THREADS);
+                instantiationThreads = Integer.parseInt(NiFiProperties.DEFAULT_FLOW_SYNCHRONIZATION_THREADS);
+            }
+            componentInstantiationThreads = instantiationThreads;
         }
 
         statelessGroupNode = statelessGroupNodeFactory.createStatelessGroupNode(this);
@@ -4045,6 +4057,7 @@ public final class StandardProcessGroup implements ProcessGroup {
             .processContextFactory(this::createProcessContext)
             .configurationContextFactory(this::createConfigurationContext)
             .assetManager(assetManager)
+            .componentInstantiationThreads(componentInstantiationThreads)
             .build();
     }
 
@@ -34,6 +34,7 @@ import org.apache.nifi.controller.queue.LoadBalanceStrategy;
 import org.apache.nifi.controller.queue.QueueSize;
 import org.apache.nifi.controller.repository.FlowFileEvent;
 import org.apache.nifi.controller.repository.FlowFileEventRepository;
+import org.apache.nifi.controller.repository.OnDemandRepositoryStatusReport;
 import org.apache.nifi.controller.repository.RepositoryStatusReport;
 import org.apache.nifi.controller.repository.metrics.EmptyFlowFileEvent;
 import org.apache.nifi.controller.status.ConnectionStatus;
@@ -62,11 +63,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
@@ -81,12 +85,31 @@ public abstract class AbstractEventAccess implements EventAccess {
     private final FlowManager flowManager;
     private final FlowFileEventRepository flowFileEventRepository;
 
+    // Aggregate status of groups whose component statuses were not requested, keyed by group identifier and the parameters that the status depends on
+    private final long aggregateStatusMaxAgeNanos;
+    private final ConcurrentMap<AggregateGroupStatusKey, AggregateGroupStatus> aggregateGroupStatuses = new ConcurrentHashMap<>();
+    private volatile long aggregateStatusPurgeNanos = System.nanoTime();
+
     public AbstractEventAccess(final ProcessScheduler processScheduler, final StatusAnalyticsEngine analyticsEngine, final FlowManager flowManager,
                                final FlowFileEventRepository flowFileEventRepository) {
+        this(processScheduler, analyticsEngine, flowManager, flowFileEventRepository, Duration.ZERO);
+    }
+
+    /**
+     * @param processScheduler process scheduler
+     * @param analyticsEngine status analytics engine, or <code>null</code>
+     * @param flowManager flow manager
+     * @param flowFileEventRepository flowfile event repository
+     * @param aggregateStatusMaxAge the maximum age of the aggregate status of a group that may be reused when the statuses of the
+     * group's components are not requested. A zero duration indicates that the aggregate status is always calculated.
+     */
+    public AbstractEventAccess(final ProcessScheduler processScheduler, final StatusAnalyticsEngine analyticsEngine, final FlowManager flowManager,
+                               final FlowFileEventRepository flowFileEventRepository, final Duration aggregateStatusMaxAge) {
         this.processScheduler = processScheduler;
         this.statusAnalyticsEngine = analyticsEngine;
         this.flowManager = flowManager;
         this.flowFileEventRepository = flowFileEventRepository;
+        this.aggregateStatusMaxAgeNanos = aggregateStatusMaxAge.toNanos();
     }
 
     /**
@@ -120,7 +143,8 @@ public abstract class AbstractEventAccess implements EventAccess {
     }
 
     protected RepositoryStatusReport generateRepositoryStatusReport() {
-        return flowFileEventRepository.reportTransferEvents(System.currentTimeMillis());
+        // Entries are generated only for the components whose status is determined, which may be far fewer than all components
+        return new OnDemandRepositoryStatusReport(flowFileEventRepository, System.currentTimeMillis());
     }
 
 
@@ -220,7 +244,7 @@ public abstract class AbstractEventAccess implements EventAccess {
                 // avoid performing any sort of authorizations. Because we only care about the numbers that come back, we can just indicate
                 // that the user is not authorized. This allows us to avoid the expense of both performing the authorization and calculating
                 // things that we would otherwise need to calculate if the user were in fact authorized.
-                childGroupStatus = getGroupStatus(childGroup, statusReport, AUTHORIZATION_DENIED, recursiveStatusDepth, currentDepth + 1, includeConnectionDetails);
+                childGroupStatus = getAggregateGroupStatus(childGroup, statusReport, recursiveStatusDepth, currentDepth + 1, includeConnectionDetails);
             }
 
             activeGroupThreads += childGroupStatus.getActiveThreadCount();
@@ -410,7 +434,7 @@ public abstract class AbstractEventAccess implements EventAccess {
                 portStatus.setTransmitting(((PublicPort) port).isTransmitting());
             }
 
-            final FlowFileEvent entry = statusReport.getReportEntries().get(port.getIdentifier());
+            final FlowFileEvent entry = statusReport.getReportEntry(port.getIdentifier());
             if (entry == null) {
                 portStatus.setInputBytes(0L);
                 portStatus.setInputCount(0);
@@ -473,7 +497,7 @@ public abstract class AbstractEventAccess implements EventAccess {
                 portStatus.setTransmitting(((PublicPort) port).isTransmitting());
             }
 
-            final FlowFileEvent entry = statusReport.getReportEntries().get(port.getIdentifier());
+            final FlowFileEvent entry = statusReport.getReportEntry(port.getIdentifier());
             if (entry == null) {
                 portStatus.setInputBytes(0L);
                 portStatus.setInputCount(0);
@@ -554,6 +578,37 @@ public abstract class AbstractEventAccess implements EventAccess {
         return status;
     }
 
+    /**
+     * Returns the status of the specified group for use only in calculating the aggregate status of its parent. Because none of the statuses
+     * of the group's components are included, the result does not depend on the user, so a result that was calculated recently enough
+     * may be returned instead of calculating the status again. This means that repeated status requests for any part of the flow only need
+     * to walk the groups below the requested depth once per the configured maximum age.
+     */
+    private ProcessGroupStatus getAggregateGroupStatus(final ProcessGroup group, final RepositoryStatusReport statusReport, final int recursiveStatusDepth,
+                                                       final int currentDepth, final boolean includeConnectionDetails) {
+        if (aggregateStatusMaxAgeNanos <= 0) {
+            return getGroupStatus(group, statusReport, AUTHORIZATION_DENIED, recursiveStatusDepth, currentDepth, includeConnectionDetails);
+        }
+
+        final long now = System.nanoTime();
+        final AggregateGroupStatusKey key = new AggregateGroupStatusKey(group.getIdentifier(), recursiveStatusDepth, currentDepth, includeConnectionDetails);
+        final AggregateGroupStatus aggregateGroupStatus = aggregateGroupStatuses.get(key);
+        if (aggregateGroupStatus != null && now - aggregateGroupStatus.calculatedNanos() < aggregateStatusMaxAgeNanos) {
+            return aggregateGroupStatus.status();
+        }
+
+        final ProcessGroupStatus status = getGroupStatus(group, statusReport, AUTHORIZATION_DENIED, recursiveStatusDepth, currentDepth, includeConnectionDetails);
+        aggregateGroupStatuses.put(key, new AggregateGroupStatus(status, now));
+
+        // Periodically discard expired statuses so that statuses of groups that have been removed do not accumulate
+        if (now - aggregateStatusPurgeNanos > aggregateStatusMaxAgeNanos) {
+            aggregateStatusPurgeNanos = now;
+            aggregateGroupStatuses.values().removeIf(expired -> now - expired.calculatedNanos() >= aggregateStatusMaxAgeNanos);
+        }
+
+        return status;
+    }
+
     private RemoteProcessGroupStatus createRemoteGroupStatus(final RemoteProcessGroup remoteGroup, final RepositoryStatusReport statusReport, final Predicate<Authorizable> isAuthorized) {
         final boolean isRemoteProcessGroupAuthorized = isAuthorized.test(remoteGroup);
 
@@ -640,7 +695,7 @@ public abstract class AbstractEventAccess implements EventAccess {
     }
 
     private ProcessorStatus getProcessorStatus(final RepositoryStatusReport report, final ProcessorNode procNode, final Predicate<Authorizable> isAuthorized) {
-        final FlowFileEvent entry = report.getReportEntries().get(procNode.getIdentifier());
+        final FlowFileEvent entry = report.getReportEntry(procNode.getIdentifier());
         return getProcessorStatus(entry, procNode, isAuthorized);
     }
 
@@ -771,4 +826,10 @@ public abstract class AbstractEventAccess implements EventAccess {
     public long getTotalBytesReceived() {
         return flowFileEventRepository.reportAggregateEvent().getBytesReceived();
     }
+
+    private record AggregateGroupStatusKey(String groupId, int recursiveStatusDepth, int currentDepth, boolean includeConnectionDetails) {
+    }
+
+    private record AggregateGroupStatus(ProcessGroupStatus status, long calculatedNanos) {
+    }
 }
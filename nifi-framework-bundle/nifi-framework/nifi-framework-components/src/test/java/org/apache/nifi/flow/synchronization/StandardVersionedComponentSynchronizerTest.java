@@ -75,6 +75,7 @@ import org.apache.nifi.parameter.ParameterReferenceManager;
 import org.apache.nifi.parameter.StandardParameterContext;
 import org.apache.nifi.parameter.StandardParameterContextManager;
 import org.apache.nifi.processor.ProcessContext;
+import org.apache.nifi.processor.Processor;
 import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.registry.flow.mapping.FlowMappingOptions;
 import org.apache.nifi.reporting.InitializationException;
@@ -94,6 +95,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -392,6 +394,124 @@ public class StandardVersionedComponentSynchronizerTest {
         assertEquals(ENCODED_TEXT, propertyValue);
     }
 
+    @Test
+    public void testSynchronizeProcessorsInstantiatedInParallel() {
+        final StandardVersionedComponentSynchronizer parallelSynchronizer = createParallelSynchronizer(Mockito.mock(ExtensionManager.class));
+
+        final ProcessGroup processGroup = createMockProcessGroup();
+        final VersionedProcessGroup rootGroup = new VersionedProcessGroup();
+        rootGroup.setIdentifier("rootGroup");
+
+        final VersionedProcessor firstVersionedProcessor = createMinimalVersionedProcessor();
+        firstVersionedProcessor.setType("first");
+        final VersionedProcessor secondVersionedProcessor = createMinimalVersionedProcessor();
+        secondVersionedProcessor.setIdentifier("67890");
+        secondVersionedProcessor.setType("second");
+        rootGroup.setProcessors(Set.of(firstVersionedProcessor, secondVersionedProcessor));
+
+        final Map<String, ProcessorNode> processorsByType = new HashMap<>();
+        for (final VersionedProcessor versionedProcessor : rootGroup.getProcessors()) {
+            final ProcessorNode processorNode = createMockProcessor();
+            when(processorNode.getCanonicalClassName()).thenReturn(versionedProcessor.getType());
+            processorsByType.put(versionedProcessor.getType(), processorNode);
+        }
+
+        final Set<String> instantiationThreads = Collections.synchronizedSet(new HashSet<>());
+        when(flowManager.createProcessor(anyString(), anyString(), any(), eq(true))).thenAnswer(invocation -> {
+            instantiationThreads.add(Thread.currentThread().getName());
+            return processorsByType.get(invocation.getArgument(0, String.class));
+        });
+
+        final VersionedExternalFlow externalFlow = new VersionedExternalFlow();
+        externalFlow.setFlowContents(rootGroup);
+        parallelSynchronizer.synchronize(processGroup, externalFlow, synchronizationOptions);
+
+        verify(flowManager, times(2)).createProcessor(anyString(), anyString(), any(), eq(true));
+        for (final ProcessorNode processorNode : processorsByType.values()) {
+            verify(processGroup).addProcessor(processorNode);
+        }
+        assertTrue(instantiationThreads.stream().allMatch(threadName -> threadName.startsWith("Instantiate Processors-")));
+    }
+
+    @Test
+    public void testSynchronizeWaitsForProcessorsInstantiatedInParallelAfterFailure() {
+        final ExtensionManager extensionManager = Mockito.mock(ExtensionManager.class);
+        final StandardVersionedComponentSynchronizer parallelSynchronizer = createParallelSynchronizer(extensionManager);
+
+        final ProcessGroup processGroup = createMockProcessGroup();
+        final VersionedProcessGroup rootGroup = new VersionedProcessGroup();
+        rootGroup.setIdentifier("rootGroup");
+
+        // The failing Processor is listed first so that its failure is observed while the slow Processor is still being instantiated
+        final VersionedProcessor failingVersionedProcessor = createMinimalVersionedProcessor();
+        failingVersionedProcessor.setType("failing");
+        final VersionedProcessor slowVersionedProcessor = createMinimalVersionedProcessor();
+        slowVersionedProcessor.setIdentifier("67890");
+        slowVersionedProcessor.setType("slow");
+        rootGroup.setProcessors(new LinkedHashSet<>(List.of(failingVersionedProcessor, slowVersionedProcessor)));
+
+        final Map<String, ProcessorNode> processorsByType = new HashMap<>();
+        for (final VersionedProcessor versionedProcessor : rootGroup.getProcessors()) {
+            final ProcessorNode processorNode = createMockProcessor();
+            when(processorNode.getCanonicalClassName()).thenReturn(versionedProcessor.getType());
+            when(processorNode.getProcessor()).thenReturn(Mockito.mock(Processor.class));
+            processorsByType.put(versionedProcessor.getType(), processorNode);
+        }
+
+        final CountDownLatch failureLatch = new CountDownLatch(1);
+        when(flowManager.createProcessor(anyString(), anyString(), any(), eq(true))).thenAnswer(invocation -> {
+            final String type = invocation.getArgument(0, String.class);
+            final boolean instantiatedInParallel = Thread.currentThread().getName().startsWith("Instantiate Processors-");
+            if (instantiatedInParallel && type.equals("failing")) {
+                failureLatch.countDown();
+                throw new LinkageError("Intentional Failure");
+            }
+            if (instantiatedInParallel) {
+                // Keep instantiating, regardless of interruption, after the other Processor has failed
+                boolean interrupted = false;
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+                while (System.nanoTime() < deadline) {
+                    try {
+                        failureLatch.await();
+                        Thread.sleep(10);
+                    } catch (final InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return processorsByType.get(type);
+        });
+
+        final VersionedExternalFlow externalFlow = new VersionedExternalFlow();
+        externalFlow.setFlowContents(rootGroup);
+        parallelSynchronizer.synchronize(processGroup, externalFlow, synchronizationOptions);
+
+        verify(flowManager, times(1)).createProcessor(eq("slow"), anyString(), any(), eq(true));
+        verify(processGroup).addProcessor(processorsByType.get("slow"));
+        verify(extensionManager, never()).removeInstanceClassLoader(anyString());
+        verify(processGroup).addProcessor(processorsByType.get("failing"));
+    }
+
+    private StandardVersionedComponentSynchronizer createParallelSynchronizer(final ExtensionManager extensionManager) {
+        // Generate random identifiers, as is done when no seed is provided, so that prepared Processors must be matched by the identifier generated up front
+        final VersionedFlowSynchronizationContext context = new VersionedFlowSynchronizationContext.Builder()
+            .componentIdGenerator((proposed, instance, group) -> UUID.randomUUID().toString())
+            .componentScheduler(componentScheduler)
+            .extensionManager(extensionManager)
+            .flowManager(flowManager)
+            .controllerServiceProvider(controllerServiceProvider)
+            .flowMappingOptions(FlowMappingOptions.DEFAULT_OPTIONS)
+            .processContextFactory(proc -> Mockito.mock(ProcessContext.class))
+            .configurationContextFactory(node -> null)
+            .reloadComponent(Mockito.mock(ReloadComponent.class))
+            .componentInstantiationThreads(2)
+            .build();
+        return new StandardVersionedComponentSynchronizer(context);
+    }
+
     @Test
     public void testAddVersionedComponents() {
         final VersionedControllerService versionedService = createMinimalVersionedControllerService();
@@ -19,50 +19,150 @@ package org.apache.nifi.components.validation;
 
 import org.apache.nifi.controller.ComponentNode;
 import org.apache.nifi.controller.flow.FlowManager;
+import org.apache.nifi.controller.service.ControllerServiceNode;
+import org.apache.nifi.controller.service.ControllerServiceState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Periodically triggers validation of the components in the flow. When constructed with a full validation interval, all components
+ * are validated only once per interval. In between, only components whose validation state has been reset (for example, because a
+ * property, parameter, or bundle changed) are validated, along with any components that reference a Controller Service whose state or
+ * validation status changed since the previous run.
+ */
 public class TriggerValidationTask implements Runnable {
     private static final Logger logger = LoggerFactory.getLogger(TriggerValidationTask.class);
 
     private final FlowManager flowManager;
     private final ValidationTrigger validationTrigger;
+    private final long fullValidationIntervalNanos;
+
+    private final Map<String, ServiceValidationState> serviceStates = new HashMap<>();
+    private long lastFullValidation;
+    private boolean fullValidationPerformed = false;
 
     public TriggerValidationTask(final FlowManager flowManager, final ValidationTrigger validationTrigger) {
+        this(flowManager, validationTrigger, Duration.ZERO);
+    }
+
+    public TriggerValidationTask(final FlowManager flowManager, final ValidationTrigger validationTrigger, final Duration fullValidationInterval) {
         this.flowManager = flowManager;
         this.validationTrigger = validationTrigger;
+        this.fullValidationIntervalNanos = fullValidationInterval.toNanos();
     }
 
     @Override
     public void run() {
         try {
-            logger.debug("Triggering validation of all components");
-
-            for (final ComponentNode node : flowManager.getAllControllerServices()) {
-                validationTrigger.trigger(node);
+            final long now = System.nanoTime();
+            if (!fullValidationPerformed || now - lastFullValidation >= fullValidationIntervalNanos) {
+                validateAll();
+                lastFullValidation = now;
+                fullValidationPerformed = true;
+            } else {
+                validateChanged();
             }
+        } catch (final Throwable t) {
+            logger.error("Encountered unexpected error when attempting to validate components", t);
+        }
+    }
 
-            for (final ComponentNode node : flowManager.getAllReportingTasks()) {
-                validationTrigger.trigger(node);
-            }
+    private void validateAll() {
+        logger.debug("Triggering validation of all components");
 
-            for (final ComponentNode node : flowManager.getAllFlowAnalysisRules()) {
-                validationTrigger.trigger(node);
+        for (final ComponentNode node : flowManager.getAllControllerServices()) {
+            validationTrigger.trigger(node);
+        }
+
+        for (final ComponentNode node : flowManager.getAllReportingTasks()) {
+            validationTrigger.trigger(node);
+        }
+
+        for (final ComponentNode node : flowManager.getAllFlowAnalysisRules()) {
+            validationTrigger.trigger(node);
+        }
+
+        for (final ComponentNode node : flowManager.getAllParameterProviders()) {
+            validationTrigger.trigger(node);
+        }
+
+        for (final ComponentNode node : flowManager.getRootGroup().findAllProcessors()) {
+            validationTrigger.trigger(node);
+        }
+
+        for (final ComponentNode node : flowManager.getAllFlowRegistryClients()) {
+            validationTrigger.trigger(node);
+        }
+
+        findChangedServices();
+    }
+
+    private void validateChanged() {
+        logger.debug("Triggering validation of components whose validation state has been reset");
+
+        final Set<ControllerServiceNode> services = flowManager.getAllControllerServices();
+        triggerIfValidating(services);
+        triggerIfValidating(flowManager.getAllReportingTasks());
+        triggerIfValidating(flowManager.getAllFlowAnalysisRules());
+        triggerIfValidating(flowManager.getAllParameterProviders());
+        triggerIfValidating(flowManager.getRootGroup().findAllProcessors());
+        triggerIfValidating(flowManager.getAllFlowRegistryClients());
+
+        // Validating a referencing component may in turn change the validation status of a Controller Service, so continue
+        // until no further changes are detected. Each pass can only propagate one level deeper, which bounds the number of passes.
+        List<ControllerServiceNode> changedServices = findChangedServices();
+        for (int pass = 0; !changedServices.isEmpty() && pass <= services.size(); pass++) {
+            final Set<ComponentNode> referencingComponents = new HashSet<>();
+            for (final ControllerServiceNode service : changedServices) {
+                referencingComponents.addAll(service.getReferences().getReferencingComponents());
             }
 
-            for (final ComponentNode node : flowManager.getAllParameterProviders()) {
+            logger.debug("{} Controller Services changed state or validation status; triggering validation of {} referencing components",
+                changedServices.size(), referencingComponents.size());
+
+            for (final ComponentNode node : referencingComponents) {
                 validationTrigger.trigger(node);
             }
 
-            for (final ComponentNode node : flowManager.getRootGroup().findAllProcessors()) {
+            changedServices = findChangedServices();
+        }
+    }
+
+    private void triggerIfValidating(final Iterable<? extends ComponentNode> nodes) {
+        for (final ComponentNode node : nodes) {
+            if (node.getValidationStatus() == ValidationStatus.VALIDATING) {
                 validationTrigger.trigger(node);
             }
+        }
+    }
 
-            for (final ComponentNode node : flowManager.getAllFlowRegistryClients()) {
-                validationTrigger.trigger(node);
+    private List<ControllerServiceNode> findChangedServices() {
+        final List<ControllerServiceNode> changed = new ArrayList<>();
+        final Set<String> serviceIds = new HashSet<>();
+
+        for (final ControllerServiceNode service : flowManager.getAllControllerServices()) {
+            final String serviceId = service.getIdentifier();
+            serviceIds.add(serviceId);
+
+            final ServiceValidationState currentState = new ServiceValidationState(service.getState(), service.getValidationStatus());
+            final ServiceValidationState previousState = serviceStates.put(serviceId, currentState);
+            if (previousState != null && !previousState.equals(currentState)) {
+                changed.add(service);
             }
-        } catch (final Throwable t) {
-            logger.error("Encountered unexpected error when attempting to validate components", t);
         }
+
+        serviceStates.keySet().retainAll(serviceIds);
+        return changed;
+    }
+
+    private record ServiceValidationState(ControllerServiceState state, ValidationStatus validationStatus) {
     }
 }
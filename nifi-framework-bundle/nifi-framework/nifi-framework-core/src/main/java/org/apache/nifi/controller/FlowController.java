@@ -739,8 +739,12 @@ public class FlowController implements ReportingTaskProvider, FlowAnalysisRulePr
 
         }
 
+        // Determine how long the aggregate status of a group may be reused
+        final String aggregateStatusMaxAge = nifiProperties.getProperty(NiFiProperties.COMPONENT_STATUS_AGGREGATE_MAX_AGE, NiFiProperties.DEFAULT_COMPONENT_STATUS_AGGREGATE_MAX_AGE);
+
         eventAccess = new StandardEventAccess(flowManager, flowFileEventRepository, processScheduler, authorizer, provenanceRepository,
-                auditService, analyticsEngine, flowFileRepository, contentRepository);
+                auditService, analyticsEngine, flowFileRepository, contentRepository,
+                FormatUtils.getTimeDuration(aggregateStatusMaxAge, NiFiProperties.DEFAULT_COMPONENT_STATUS_AGGREGATE_MAX_AGE));
 
         timerDrivenEngineRef.get().scheduleWithFixedDelay(() -> {
             try {
@@ -1200,8 +1204,10 @@ public class FlowController implements ReportingTaskProvider, FlowAnalysisRulePr
             LOG.info("Performed initial validation of all components in {} milliseconds", millis);
 
             scheduleBackgroundFlowAnalysis(rootProcessGroupSupplier);
-            // Trigger component validation to occur every 5 seconds.
-            validationThreadPool.scheduleWithFixedDelay(new TriggerValidationTask(flowManager, validationTrigger), 5, 5, TimeUnit.SECONDS);
+            // Trigger component validation to occur every 5 seconds. Components that have not changed are only revalidated once per full validation interval.
+            final String fullValidationInterval = nifiProperties.getProperty(NiFiProperties.COMPONENT_VALIDATION_FULL_INTERVAL, NiFiProperties.DEFAULT_COMPONENT_VALIDATION_FULL_INTERVAL);
+            final Duration fullValidationIntervalDuration = FormatUtils.getTimeDuration(fullValidationInterval, NiFiProperties.DEFAULT_COMPONENT_VALIDATION_FULL_INTERVAL);
+            validationThreadPool.scheduleWithFixedDelay(new TriggerValidationTask(flowManager, validationTrigger, fullValidationIntervalDuration), 5, 5, TimeUnit.SECONDS);
 
             if (startDelayedComponents) {
                 LOG.info("Starting {} Stateless Process Groups", startGroupsAfterInitialization.size());
@@ -3312,7 +3318,8 @@ public class FlowController implements ReportingTaskProvider, FlowAnalysisRulePr
                 return null;
             }
 
-            final Heartbeat heartbeat = new Heartbeat(nodeId, connectionStatus, hbPayload.marshal());
+            final int payloadEncodingVersion = heartbeater == null ? HeartbeatPayload.XML_ENCODING_VERSION : heartbeater.getPayloadEncodingVersion();
+            final Heartbeat heartbeat = new Heartbeat(nodeId, connectionStatus, hbPayload.marshal(payloadEncodingVersion));
             final HeartbeatMessage message = new HeartbeatMessage();
             message.setHeartbeat(heartbeat);
 
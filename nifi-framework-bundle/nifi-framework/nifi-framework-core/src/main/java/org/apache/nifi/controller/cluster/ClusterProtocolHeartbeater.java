@@ -19,6 +19,7 @@ package org.apache.nifi.controller.cluster;
 import org.apache.nifi.cluster.coordination.ClusterCoordinator;
 import org.apache.nifi.cluster.coordination.node.ClusterRoles;
 import org.apache.nifi.cluster.coordination.node.NodeConnectionStatus;
+import org.apache.nifi.cluster.protocol.Heartbeat;
 import org.apache.nifi.cluster.protocol.HeartbeatPayload;
 import org.apache.nifi.cluster.protocol.NodeIdentifier;
 import org.apache.nifi.cluster.protocol.NodeProtocolSender;
@@ -52,6 +53,10 @@ public class ClusterProtocolHeartbeater implements Heartbeater {
     private final LeaderElectionManager electionManager;
     private final ClusterCoordinator clusterCoordinator;
 
+    // Address of the Cluster Coordinator that last responded to a heartbeat, along with the payload encoding version that it supports
+    private String payloadEncodingAddress;
+    private int payloadEncodingVersion = HeartbeatPayload.XML_ENCODING_VERSION;
+
     public ClusterProtocolHeartbeater(final NodeProtocolSender protocolSender, final ClusterCoordinator clusterCoordinator, final LeaderElectionManager electionManager) {
         this.protocolSender = protocolSender;
         this.clusterCoordinator = clusterCoordinator;
@@ -65,6 +70,11 @@ public class ClusterProtocolHeartbeater implements Heartbeater {
     }
 
 
+    @Override
+    public synchronized int getPayloadEncodingVersion() {
+        return payloadEncodingVersion;
+    }
+
     @Override
     public synchronized void send(final HeartbeatMessage heartbeatMessage) throws IOException {
         final long sendStart = System.nanoTime();
@@ -72,10 +82,22 @@ public class ClusterProtocolHeartbeater implements Heartbeater {
         final String heartbeatAddress = getHeartbeatAddress();
         final long findCoordinatorNanos = System.nanoTime() - findCoordinatorStart;
 
-        final HeartbeatResponseMessage responseMessage = protocolSender.heartbeat(heartbeatMessage, heartbeatAddress);
-
         final byte[] payloadBytes = heartbeatMessage.getHeartbeat().getPayload();
         final HeartbeatPayload payload = HeartbeatPayload.unmarshal(payloadBytes);
+
+        // A different Cluster Coordinator may not support the binary encoding, so fall back to XML until it indicates that it does
+        final HeartbeatMessage messageToSend;
+        if (HeartbeatPayload.isBinaryEncoded(payloadBytes) && !heartbeatAddress.equals(payloadEncodingAddress)) {
+            final Heartbeat heartbeat = heartbeatMessage.getHeartbeat();
+            messageToSend = new HeartbeatMessage();
+            messageToSend.setHeartbeat(new Heartbeat(heartbeat.getNodeIdentifier(), heartbeat.getConnectionStatus(), payload.marshal()));
+        } else {
+            messageToSend = heartbeatMessage;
+        }
+
+        final HeartbeatResponseMessage responseMessage = protocolSender.heartbeat(messageToSend, heartbeatAddress);
+        payloadEncodingAddress = heartbeatAddress;
+        payloadEncodingVersion = Math.min(responseMessage.getPayloadEncodingVersion(), HeartbeatPayload.BINARY_ENCODING_VERSION);
         final List<NodeConnectionStatus> nodeStatusList = payload.getClusterStatus();
         final Map<NodeIdentifier, Long> updateIdMap = nodeStatusList.stream().collect(
                 Collectors.toMap(status -> status.getNodeIdentifier(), status -> status.getUpdateIdentifier()));
@@ -20,6 +20,7 @@ package org.apache.nifi.controller.cluster;
 import java.io.Closeable;
 import java.io.IOException;
 
+import org.apache.nifi.cluster.protocol.HeartbeatPayload;
 import org.apache.nifi.cluster.protocol.message.HeartbeatMessage;
 
 /**
@@ -42,4 +43,11 @@ public interface Heartbeater extends Closeable {
      * @return the address that heartbeats are being sent to
      */
     String getHeartbeatAddress() throws IOException;
+
+    /**
+     * @return the encoding version to use when marshalling the payload of the next heartbeat
+     */
+    default int getPayloadEncodingVersion() {
+        return HeartbeatPayload.XML_ENCODING_VERSION;
+    }
 }
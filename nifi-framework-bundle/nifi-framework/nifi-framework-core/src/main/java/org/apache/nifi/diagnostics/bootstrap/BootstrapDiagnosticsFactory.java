@@ -39,6 +39,8 @@ import org.apache.nifi.diagnostics.bootstrap.tasks.OperatingSystemDiagnosticTask
 import org.apache.nifi.diagnostics.bootstrap.tasks.ProcessorTimingDiagnosticTask;
 import org.apache.nifi.diagnostics.bootstrap.tasks.PythonBridgeDiagnosticTask;
 import org.apache.nifi.diagnostics.bootstrap.tasks.RepositoryDiagnosticTask;
+import org.apache.nifi.diagnostics.bootstrap.tasks.StartupTimingsDiagnosticTask;
+import org.apache.nifi.diagnostics.bootstrap.tasks.ValidationDiagnosticTask;
 import org.apache.nifi.util.NiFiProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,6 +78,7 @@ public class BootstrapDiagnosticsFactory implements DiagnosticsFactory {
         tasks.add(new PythonBridgeDiagnosticTask(flowController.getPythonBridge()));
         tasks.add(new OperatingSystemDiagnosticTask());
         tasks.add(new NarsDiagnosticTask(flowController.getExtensionManager()));
+        tasks.add(new StartupTimingsDiagnosticTask());
         tasks.add(new FlowConfigurationDiagnosticTask(flowController));
         tasks.add(new ProcessorTimingDiagnosticTask(flowController.getFlowFileEventRepository(), flowController.getFlowManager()));
         tasks.add(new LongRunningProcessorTask(flowController));
@@ -84,6 +87,7 @@ public class BootstrapDiagnosticsFactory implements DiagnosticsFactory {
         tasks.add(new MemoryPoolPeakUsageTask());
         tasks.add(new RepositoryDiagnosticTask(flowController));
         tasks.add(new ComponentCountTask(flowController));
+        tasks.add(new ValidationDiagnosticTask(flowController));
         tasks.add(new NiFiPropertiesDiagnosticTask(nifiProperties));
         tasks.add(new ContentRepositoryScanTask(flowController));
         tasks.add(new DataValveDiagnosticsTask(flowController.getFlowManager()));
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.diagnostics.bootstrap.tasks;
+
+import org.apache.nifi.components.validation.StandardValidationTrigger;
+import org.apache.nifi.components.validation.ValidationStatus;
+import org.apache.nifi.components.validation.ValidationTrigger;
+import org.apache.nifi.controller.ComponentNode;
+import org.apache.nifi.controller.FlowController;
+import org.apache.nifi.controller.flow.FlowManager;
+import org.apache.nifi.diagnostics.DiagnosticTask;
+import org.apache.nifi.diagnostics.DiagnosticsDumpElement;
+import org.apache.nifi.diagnostics.StandardDiagnosticsDumpElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class ValidationDiagnosticTask implements DiagnosticTask {
+    private final FlowController flowController;
+
+    public ValidationDiagnosticTask(final FlowController flowController) {
+        this.flowController = flowController;
+    }
+
+    @Override
+    public DiagnosticsDumpElement captureDump(final boolean verbose) {
+        final List<String> details = new ArrayList<>();
+
+        final ValidationTrigger validationTrigger = flowController.getValidationTrigger();
+        if (validationTrigger instanceof StandardValidationTrigger standardValidationTrigger) {
+            final long validationCount = standardValidationTrigger.getValidationCount();
+            final long validationMillis = TimeUnit.NANOSECONDS.toMillis(standardValidationTrigger.getValidationNanos());
+            final long averageMicros = validationCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(standardValidationTrigger.getValidationNanos() / validationCount);
+
+            details.add("Validations Performed: " + validationCount);
+            details.add("Total Validation Time: " + validationMillis + " millis");
+            details.add("Average Validation Time: " + averageMicros + " micros");
+            details.add("Queued Asynchronous Validations: " + standardValidationTrigger.getQueuedValidationCount());
+        }
+
+        final FlowManager flowManager = flowController.getFlowManager();
+        final Map<ValidationStatus, Integer> statusCounts = new EnumMap<>(ValidationStatus.class);
+        countValidationStatus(flowManager.getAllControllerServices(), statusCounts);
+        countValidationStatus(flowManager.getAllReportingTasks(), statusCounts);
+        countValidationStatus(flowManager.getAllFlowAnalysisRules(), statusCounts);
+        countValidationStatus(flowManager.getAllParameterProviders(), statusCounts);
+        countValidationStatus(flowManager.getRootGroup().findAllProcessors(), statusCounts);
+        countValidationStatus(flowManager.getAllFlowRegistryClients(), statusCounts);
+
+        details.add("Components by Validation Status: " + statusCounts.toString().toLowerCase());
+
+        return new StandardDiagnosticsDumpElement("Component Validation", details);
+    }
+
+    private void countValidationStatus(final Collection<? extends ComponentNode> components, final Map<ValidationStatus, Integer> statusCounts) {
+        for (final ComponentNode component : components) {
+            statusCounts.merge(component.getValidationStatus(), 1, Integer::sum);
+        }
+    }
+}
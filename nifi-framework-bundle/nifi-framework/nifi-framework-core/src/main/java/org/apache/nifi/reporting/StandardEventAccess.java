@@ -40,6 +40,7 @@ import org.apache.nifi.history.History;
 import org.apache.nifi.provenance.ProvenanceRepository;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -58,8 +59,8 @@ public class StandardEventAccess extends AbstractEventAccess implements UserAwar
 
     public StandardEventAccess(final FlowManager flowManager, final FlowFileEventRepository flowFileEventRepository, final ProcessScheduler processScheduler,
                                final Authorizer authorizer, final ProvenanceRepository provenanceRepository, final AuditService auditService, final StatusAnalyticsEngine statusAnalyticsEngine,
-                               final FlowFileRepository flowFileRepository, final ContentRepository contentRepository) {
-        super(processScheduler, statusAnalyticsEngine, flowManager, flowFileEventRepository);
+                               final FlowFileRepository flowFileRepository, final ContentRepository contentRepository, final Duration aggregateStatusMaxAge) {
+        super(processScheduler, statusAnalyticsEngine, flowManager, flowFileEventRepository, aggregateStatusMaxAge);
         this.flowFileEventRepository = flowFileEventRepository;
         this.flowManager = flowManager;
         this.authorizer = authorizer;
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.components.validation;
+
+import org.apache.nifi.controller.ComponentNode;
+import org.apache.nifi.controller.ProcessorNode;
+import org.apache.nifi.controller.flow.FlowManager;
+import org.apache.nifi.controller.service.ControllerServiceNode;
+import org.apache.nifi.controller.service.ControllerServiceReference;
+import org.apache.nifi.controller.service.ControllerServiceState;
+import org.apache.nifi.groups.ProcessGroup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TriggerValidationTaskTest {
+    private final List<ComponentNode> triggered = new ArrayList<>();
+    private final ValidationTrigger validationTrigger = new ValidationTrigger() {
+        @Override
+        public void triggerAsync(final ComponentNode component) {
+            trigger(component);
+        }
+
+        @Override
+        public void trigger(final ComponentNode component) {
+            triggered.add(component);
+        }
+    };
+
+    private FlowManager flowManager;
+    private ProcessorNode validProcessor;
+    private ProcessorNode changedProcessor;
+    private ProcessorNode referencingProcessor;
+    private ControllerServiceNode service;
+
+    @BeforeEach
+    public void setup() {
+        validProcessor = mockProcessor(ValidationStatus.VALID);
+        changedProcessor = mockProcessor(ValidationStatus.VALID);
+        referencingProcessor = mockProcessor(ValidationStatus.VALID);
+
+        final ControllerServiceReference reference = mock(ControllerServiceReference.class);
+        when(reference.getReferencingComponents()).thenReturn(Set.of(referencingProcessor));
+
+        service = mock(ControllerServiceNode.class);
+        when(service.getIdentifier()).thenReturn("service");
+        when(service.getState()).thenReturn(ControllerServiceState.ENABLED);
+        when(service.getValidationStatus()).thenReturn(ValidationStatus.VALID);
+        when(service.getReferences()).thenReturn(reference);
+
+        final ProcessGroup rootGroup = mock(ProcessGroup.class);
+        when(rootGroup.findAllProcessors()).thenReturn(List.of(validProcessor, changedProcessor, referencingProcessor));
+
+        flowManager = mock(FlowManager.class);
+        when(flowManager.getRootGroup()).thenReturn(rootGroup);
+        when(flowManager.getAllControllerServices()).thenReturn(Set.of(service));
+    }
+
+    @Test
+    public void testFullValidationWithoutInterval() {
+        final TriggerValidationTask task = new TriggerValidationTask(flowManager, validationTrigger);
+        task.run();
+        task.run();
+
+        assertEquals(8, triggered.size());
+    }
+
+    @Test
+    public void testOnlyChangedComponentsValidatedWithinInterval() {
+        final TriggerValidationTask task = new TriggerValidationTask(flowManager, validationTrigger, Duration.ofHours(1));
+        task.run();
+        assertEquals(4, triggered.size());
+
+        triggered.clear();
+        task.run();
+        assertTrue(triggered.isEmpty());
+
+        when(changedProcessor.getValidationStatus()).thenReturn(ValidationStatus.VALIDATING);
+        task.run();
+        assertEquals(List.of(changedProcessor), triggered);
+    }
+
+    @Test
+    public void testReferencingComponentsValidatedWhenServiceChanges() {
+        final TriggerValidationTask task = new TriggerValidationTask(flowManager, validationTrigger, Duration.ofHours(1));
+        task.run();
+
+        triggered.clear();
+        when(service.getState()).thenReturn(ControllerServiceState.DISABLED);
+        task.run();
+        assertEquals(List.of(referencingProcessor), triggered);
+
+        triggered.clear();
+        task.run();
+        assertTrue(triggered.isEmpty());
+    }
+
+    private ProcessorNode mockProcessor(final ValidationStatus validationStatus) {
+        final ProcessorNode processor = mock(ProcessorNode.class);
+        when(processor.getValidationStatus()).thenReturn(validationStatus);
+        return processor;
+    }
+}
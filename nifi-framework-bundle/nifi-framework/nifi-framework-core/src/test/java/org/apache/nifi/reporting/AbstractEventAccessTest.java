@@ -36,16 +36,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,6 +69,10 @@ class AbstractEventAccessTest {
 
     private static final int SINGLE_DEPTH = 1;
 
+    private static final String CHILD_GROUP_ID = UUID.randomUUID().toString();
+
+    private static final Duration AGGREGATE_STATUS_MAX_AGE = Duration.ofMinutes(1);
+
     @Mock
     private ProcessScheduler processScheduler;
 
@@ -80,6 +88,9 @@ class AbstractEventAccessTest {
     @Mock
     private ProcessGroup processGroup;
 
+    @Mock
+    private ProcessGroup childGroup;
+
     @Mock
     private ProcessorNode processorNode;
 
@@ -192,6 +203,67 @@ class AbstractEventAccessTest {
         assertEquals(2, authorizables.size());
     }
 
+    @Test
+    void testGetGroupStatusAggregateStatusReused() {
+        final AbstractEventAccess aggregateEventAccess = new ConcreteEventAccess(processScheduler, statusAnalyticsEngine, flowManager, flowFileEventRepository,
+                AGGREGATE_STATUS_MAX_AGE);
+
+        final RepositoryStatusReport repositoryStatusReport = new StandardRepositoryStatusReport();
+        final Predicate<Authorizable> checkAuthorization = authorizable -> true;
+
+        when(processGroup.getName()).thenReturn(PROCESS_GROUP_NAME);
+        when(processGroup.getIdentifier()).thenReturn(PROCESS_GROUP_ID);
+        when(processGroup.getProcessGroups()).thenReturn(Set.of(childGroup));
+        when(childGroup.getIdentifier()).thenReturn(CHILD_GROUP_ID);
+
+        final ProcessGroupStatus firstStatus = aggregateEventAccess.getGroupStatus(processGroup, repositoryStatusReport, checkAuthorization, ZERO_DEPTH, SINGLE_DEPTH, INCLUDE_CONNECTION_DETAILS);
+        final ProcessGroupStatus secondStatus = aggregateEventAccess.getGroupStatus(processGroup, repositoryStatusReport, checkAuthorization, ZERO_DEPTH, SINGLE_DEPTH, INCLUDE_CONNECTION_DETAILS);
+
+        assertNotNull(firstStatus);
+        assertNotNull(secondStatus);
+        assertTrue(firstStatus.getProcessGroupStatus().isEmpty());
+
+        verify(childGroup, times(1)).getProcessors();
+    }
+
+    @Test
+    void testGetGroupStatusAggregateStatusNotReusedWithDifferentConnectionDetails() {
+        final AbstractEventAccess aggregateEventAccess = new ConcreteEventAccess(processScheduler, statusAnalyticsEngine, flowManager, flowFileEventRepository,
+                AGGREGATE_STATUS_MAX_AGE);
+
+        final RepositoryStatusReport repositoryStatusReport = new StandardRepositoryStatusReport();
+        final Predicate<Authorizable> checkAuthorization = authorizable -> true;
+
+        when(processGroup.getName()).thenReturn(PROCESS_GROUP_NAME);
+        when(processGroup.getIdentifier()).thenReturn(PROCESS_GROUP_ID);
+        when(processGroup.getProcessGroups()).thenReturn(Set.of(childGroup));
+        when(childGroup.getIdentifier()).thenReturn(CHILD_GROUP_ID);
+
+        aggregateEventAccess.getGroupStatus(processGroup, repositoryStatusReport, checkAuthorization, ZERO_DEPTH, SINGLE_DEPTH, INCLUDE_CONNECTION_DETAILS);
+        aggregateEventAccess.getGroupStatus(processGroup, repositoryStatusReport, checkAuthorization, ZERO_DEPTH, SINGLE_DEPTH, !INCLUDE_CONNECTION_DETAILS);
+
+        verify(childGroup, times(2)).getProcessors();
+    }
+
+    @Test
+    void testGetGroupStatusAggregateStatusNotReused() {
+        final RepositoryStatusReport repositoryStatusReport = new StandardRepositoryStatusReport();
+        final Predicate<Authorizable> checkAuthorization = authorizable -> true;
+
+        when(processGroup.getName()).thenReturn(PROCESS_GROUP_NAME);
+        when(processGroup.getIdentifier()).thenReturn(PROCESS_GROUP_ID);
+        when(processGroup.getProcessGroups()).thenReturn(Set.of(childGroup));
+        when(childGroup.getIdentifier()).thenReturn(CHILD_GROUP_ID);
+
+        final ProcessGroupStatus firstStatus = eventAccess.getGroupStatus(processGroup, repositoryStatusReport, checkAuthorization, ZERO_DEPTH, SINGLE_DEPTH, INCLUDE_CONNECTION_DETAILS);
+        final ProcessGroupStatus secondStatus = eventAccess.getGroupStatus(processGroup, repositoryStatusReport, checkAuthorization, ZERO_DEPTH, SINGLE_DEPTH, INCLUDE_CONNECTION_DETAILS);
+
+        assertNotNull(firstStatus);
+        assertNotNull(secondStatus);
+
+        verify(childGroup, times(2)).getProcessors();
+    }
+
     private static class ConcreteEventAccess extends AbstractEventAccess {
 
         public ConcreteEventAccess(
@@ -203,6 +275,16 @@ class AbstractEventAccessTest {
             super(processScheduler, analyticsEngine, flowManager, flowFileEventRepository);
         }
 
+        public ConcreteEventAccess(
+                final ProcessScheduler processScheduler,
+                final StatusAnalyticsEngine analyticsEngine,
+                final FlowManager flowManager,
+                final FlowFileEventRepository flowFileEventRepository,
+                final Duration aggregateStatusMaxAge
+        ) {
+            super(processScheduler, analyticsEngine, flowManager, flowFileEventRepository, aggregateStatusMaxAge);
+        }
+
         @Override
         public ProvenanceEventRepository getProvenanceRepository() {
             return null;
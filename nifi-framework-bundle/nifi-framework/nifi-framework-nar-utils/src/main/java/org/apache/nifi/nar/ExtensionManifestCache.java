@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.nar;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Persists the names of the extension implementations that were found in an unpacked NAR, so that the JARs of the NAR do not
+ * need to be scanned again the next time that the NAR is loaded. The cache is stored in the working directory of the NAR, along
+ * with the digest of the NAR that it was created from, and it is ignored if that digest no longer matches the NAR's current digest.
+ */
+class ExtensionManifestCache {
+    static final String CACHE_FILENAME = "nar-extensions.properties";
+
+    private static final String DIGEST_KEY = "nar.digest";
+    private static final String CLASS_NAME_SEPARATOR = ",";
+
+    private static final Logger logger = LoggerFactory.getLogger(ExtensionManifestCache.class);
+
+    private final File workingDirectory;
+
+    ExtensionManifestCache(final File workingDirectory) {
+        this.workingDirectory = workingDirectory;
+    }
+
+    /**
+     * Reads the cached implementation class names for each of the given extension types
+     *
+     * @param extensionTypes the types of extensions whose implementations are needed
+     * @return the implementation class names of each extension type, or <code>null</code> if the cache does not exist,
+     * does not contain all of the given types, or was created from a different version of the NAR
+     */
+    Map<Class<?>, Set<String>> read(final Set<Class<?>> extensionTypes) {
+        final String digest = readDigest();
+        if (digest == null) {
+            return null;
+        }
+
+        final Path cacheFile = workingDirectory.toPath().resolve(CACHE_FILENAME);
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+
+        final Properties properties = new Properties();
+        try (final InputStream in = Files.newInputStream(cacheFile)) {
+            properties.load(in);
+        } catch (final IOException e) {
+            logger.warn("Failed to read extension cache {}", cacheFile, e);
+            return null;
+        }
+
+        if (!digest.equals(properties.getProperty(DIGEST_KEY))) {
+            logger.debug("Ignoring extension cache {} because it was created from a different version of the NAR", cacheFile);
+            return null;
+        }
+
+        final Map<Class<?>, Set<String>> implementationClassNames = new LinkedHashMap<>();
+        for (final Class<?> extensionType : extensionTypes) {
+            final String classNames = properties.getProperty(extensionType.getName());
+            if (classNames == null) {
+                logger.debug("Ignoring extension cache {} because it does not contain extensions of type {}", cacheFile, extensionType.getName());
+                return null;
+            }
+
+            if (!classNames.isEmpty()) {
+                implementationClassNames.put(extensionType, new LinkedHashSet<>(Arrays.asList(classNames.split(CLASS_NAME_SEPARATOR))));
+            }
+        }
+
+        return implementationClassNames;
+    }
+
+    /**
+     * Writes the implementation class names that were found for the given extension types. Any types that were previously cached
+     * for the same version of the NAR, but that are not among the given types, are retained.
+     *
+     * @param extensionTypes the types of extensions that were searched for
+     * @param implementationClassNames the implementation class names that were found for each extension type
+     */
+    void write(final Set<Class<?>> extensionTypes, final Map<Class<?>, Set<String>> implementationClassNames) {
+        final String digest = readDigest();
+        if (digest == null) {
+            return;
+        }
+
+        final Path cacheFile = workingDirectory.toPath().resolve(CACHE_FILENAME);
+        final Properties properties = new Properties();
+        if (Files.isRegularFile(cacheFile)) {
+            try (final InputStream in = Files.newInputStream(cacheFile)) {
+                properties.load(in);
+            } catch (final IOException e) {
+                logger.debug("Failed to read existing extension cache {}; it will be replaced", cacheFile, e);
+            }
+
+            if (!digest.equals(properties.getProperty(DIGEST_KEY))) {
+                properties.clear();
+            }
+        }
+
+        properties.setProperty(DIGEST_KEY, digest);
+        for (final Class<?> extensionType : extensionTypes) {
+            final Set<String> classNames = implementationClassNames.getOrDefault(extensionType, Set.of());
+            properties.setProperty(extensionType.getName(), String.join(CLASS_NAME_SEPARATOR, classNames));
+        }
+
+        // Write to a temporary file first so that a partially written cache is never read
+        final Path tempFile = workingDirectory.toPath().resolve(CACHE_FILENAME + ".tmp");
+        try {
+            try (final OutputStream out = Files.newOutputStream(tempFile)) {
+                properties.store(out, null);
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            logger.warn("Failed to write extension cache {}", cacheFile, e);
+        }
+    }
+
+    private String readDigest() {
+        final Path digestFile = workingDirectory.toPath().resolve(NarUnpacker.HASH_FILENAME);
+        if (!Files.isRegularFile(digestFile)) {
+            return null;
+        }
+
+        try {
+            return HexFormat.of().formatHex(Files.readAllBytes(digestFile));
+        } catch (final IOException e) {
+            logger.debug("Failed to read NAR digest {}", digestFile, e);
+            return null;
+        }
+    }
+}
@@ -63,6 +63,7 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -70,6 +71,7 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +80,11 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.stream.Collectors;
 
 /**
@@ -143,12 +150,17 @@ public class StandardExtensionDiscoveringManager implements ExtensionDiscovering
 
     @Override
     public synchronized void discoverExtensions(final Bundle systemBundle, final Set<Bundle> narBundles) {
+        final long startTime = System.nanoTime();
+
         // load the system bundle first so that any extensions found in JARs directly in lib will be registered as
         // being from the system bundle and not from all the other NARs
         loadExtensions(systemBundle, definitionMap.keySet());
         bundleCoordinateBundleLookup.put(systemBundle.getBundleDetails().getCoordinate(), systemBundle);
 
         discoverExtensions(narBundles);
+
+        final Duration duration = StartupTimings.recordSince(StartupTimings.EXTENSION_DISCOVERY, startTime);
+        logger.info("Discovered extensions in {} NAR bundles in {} millis", narBundles.size(), duration.toMillis());
     }
 
     @Override
@@ -158,19 +170,27 @@ public class StandardExtensionDiscoveringManager implements ExtensionDiscovering
 
     @Override
     public synchronized void discoverExtensions(final Set<Bundle> narBundles, final Set<Class<?>> extensionTypes, final boolean logDetails) {
+        // Finding the service files and the implementations that they list requires scanning the JARs of each bundle,
+        // so this is done concurrently for all bundles. The extensions are then registered one bundle at a time, in the
+        // same order as the bundles are given, so that the result does not depend on the order in which the scans complete.
+        final List<Bundle> bundles = new ArrayList<>(narBundles);
+        final List<BundleExtensions> bundleExtensions = findExtensions(bundles, extensionTypes);
+
         // get the current context class loader
         ClassLoader currentContextClassLoader = Thread.currentThread().getContextClassLoader();
 
         // consider each nar class loader
-        for (final Bundle bundle : narBundles) {
+        for (final BundleExtensions extensions : bundleExtensions) {
+            final Bundle bundle = extensions.bundle();
+
             // Must set the context class loader to the nar classloader itself
             // so that static initialization techniques that depend on the context class loader will work properly
             final ClassLoader ncl = bundle.getClassLoader();
             Thread.currentThread().setContextClassLoader(ncl);
 
             final long loadStart = System.currentTimeMillis();
-            loadExtensions(bundle, extensionTypes);
-            final long loadMillis = System.currentTimeMillis() - loadStart;
+            registerExtensions(extensions);
+            final long loadMillis = System.currentTimeMillis() - loadStart + extensions.scanMillis();
             if (logDetails) {
                 logger.info("Loaded extensions for {} in {} millis", bundle.getBundleDetails(), loadMillis);
             }
@@ -185,6 +205,40 @@ public class StandardExtensionDiscoveringManager implements ExtensionDiscovering
         }
     }
 
+    private List<BundleExtensions> findExtensions(final List<Bundle> bundles, final Set<Class<?>> extensionTypes) {
+        if (bundles.size() < 2) {
+            return bundles.stream()
+                    .map(bundle -> findExtensions(bundle, extensionTypes))
+                    .toList();
+        }
+
+        final int threadCount = Math.min(bundles.size(), Runtime.getRuntime().availableProcessors());
+        final ThreadFactory threadFactory = Thread.ofPlatform().name("Discover Extensions-", 1).daemon().factory();
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount, threadFactory);
+        try {
+            final List<Future<BundleExtensions>> futures = new ArrayList<>();
+            for (final Bundle bundle : bundles) {
+                futures.add(executor.submit(() -> findExtensions(bundle, extensionTypes)));
+            }
+
+            final List<BundleExtensions> bundleExtensions = new ArrayList<>(futures.size());
+            for (final Future<BundleExtensions> future : futures) {
+                bundleExtensions.add(future.get());
+            }
+            return bundleExtensions;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while discovering extensions", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new RuntimeException("Failed to discover extensions", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Override
     public synchronized void setPythonBridge(final PythonBridge pythonBridge) {
         this.pythonBridge = pythonBridge;
@@ -328,28 +382,83 @@ public class StandardExtensionDiscoveringManager implements ExtensionDiscovering
      * @param extensionTypes the types of extensions to load
      */
     private void loadExtensions(final Bundle bundle, final Set<Class<?>> extensionTypes) {
-        for (final Class extensionType : extensionTypes) {
-            final String serviceType = extensionType.getName();
+        registerExtensions(findExtensions(bundle, extensionTypes));
+    }
 
-            try {
-                final Set<URL> serviceResourceUrls = getServiceFileURLs(bundle, extensionType);
-                logger.debug("Bundle {} has the following Services File URLs for {}: {}", bundle, serviceType, serviceResourceUrls);
-
-                for (final URL serviceResourceUrl : serviceResourceUrls) {
-                    final Set<String> implementationClassNames = getServiceFileImplementationClassNames(serviceResourceUrl);
-                    logger.debug("Bundle {} defines {} implementations of interface {}", bundle, implementationClassNames.size(), serviceType);
-
-                    for (final String implementationClassName : implementationClassNames) {
-                        try {
-                            loadExtension(implementationClassName, extensionType, bundle);
-                            logger.debug("Successfully loaded {} {} from {}", extensionType.getSimpleName(), implementationClassName, bundle);
-                        } catch (final Exception e) {
-                            logger.error("Failed to register {} of type {} in bundle {}", extensionType.getSimpleName(), implementationClassName, bundle, e);
-                        }
+    /**
+     * Finds the names of the classes that implement each of the given extension types in the specified bundle, without
+     * registering them. If the bundle is an unpacked NAR whose extensions were found previously and the NAR has not changed
+     * since, the names are read from the NAR's {@link ExtensionManifestCache} instead of scanning the NAR's JARs.
+     * This does not access any state of this manager, so it may be called concurrently for different bundles.
+     *
+     * @param bundle the bundle to scan
+     * @param extensionTypes the types of extensions to find
+     * @return the implementation class names found in the bundle
+     */
+    private BundleExtensions findExtensions(final Bundle bundle, final Set<Class<?>> extensionTypes) {
+        final long scanStart = System.currentTimeMillis();
+
+        final File workingDirectory = bundle.getBundleDetails().getWorkingDirectory();
+        final ExtensionManifestCache manifestCache = workingDirectory == null ? null : new ExtensionManifestCache(workingDirectory);
+        if (manifestCache != null) {
+            final Map<Class<?>, Set<String>> cachedClassNames = manifestCache.read(extensionTypes);
+            if (cachedClassNames != null) {
+                logger.debug("Found extensions for {} in extension cache", bundle);
+                return new BundleExtensions(bundle, cachedClassNames, System.currentTimeMillis() - scanStart);
+            }
+        }
+
+        final Map<Class<?>, Set<String>> implementationClassNamesByType = new LinkedHashMap<>();
+
+        final Thread currentThread = Thread.currentThread();
+        final ClassLoader currentContextClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(bundle.getClassLoader());
+        try {
+            for (final Class extensionType : extensionTypes) {
+                final String serviceType = extensionType.getName();
+
+                try {
+                    final Set<URL> serviceResourceUrls = getServiceFileURLs(bundle, extensionType);
+                    logger.debug("Bundle {} has the following Services File URLs for {}: {}", bundle, serviceType, serviceResourceUrls);
+
+                    for (final URL serviceResourceUrl : serviceResourceUrls) {
+                        final Set<String> implementationClassNames = getServiceFileImplementationClassNames(serviceResourceUrl);
+                        logger.debug("Bundle {} defines {} implementations of interface {}", bundle, implementationClassNames.size(), serviceType);
+
+                        implementationClassNamesByType.computeIfAbsent(extensionType, type -> new LinkedHashSet<>()).addAll(implementationClassNames);
                     }
+                } catch (final IOException e) {
+                    throw new RuntimeException("Failed to get resources of type " + serviceType + " from bundle " + bundle);
+                }
+            }
+        } finally {
+            currentThread.setContextClassLoader(currentContextClassLoader);
+        }
+
+        if (manifestCache != null) {
+            manifestCache.write(extensionTypes, implementationClassNamesByType);
+        }
+
+        return new BundleExtensions(bundle, implementationClassNamesByType, System.currentTimeMillis() - scanStart);
+    }
+
+    /**
+     * Registers the extensions that were found in a bundle.
+     *
+     * @param bundleExtensions the extensions found in the bundle
+     */
+    private void registerExtensions(final BundleExtensions bundleExtensions) {
+        final Bundle bundle = bundleExtensions.bundle();
+        for (final Map.Entry<Class<?>, Set<String>> entry : bundleExtensions.implementationClassNames().entrySet()) {
+            final Class<?> extensionType = entry.getKey();
+
+            for (final String implementationClassName : entry.getValue()) {
+                try {
+                    loadExtension(implementationClassName, extensionType, bundle);
+                    logger.debug("Successfully loaded {} {} from {}", extensionType.getSimpleName(), implementationClassName, bundle);
+                } catch (final Exception e) {
+                    logger.error("Failed to register {} of type {} in bundle {}", extensionType.getSimpleName(), implementationClassName, bundle, e);
                 }
-            } catch (final IOException e) {
-                throw new RuntimeException("Failed to get resources of type " + serviceType + " from bundle " + bundle);
             }
         }
 
@@ -965,6 +1074,12 @@ public class StandardExtensionDiscoveringManager implements ExtensionDiscovering
     }
 
 
+    /**
+     * The implementation class names of each extension type that were found in a bundle, along with how long it took to find them
+     */
+    private record BundleExtensions(Bundle bundle, Map<Class<?>, Set<String>> implementationClassNames, long scanMillis) {
+    }
+
     private static class BaseClassLoaderKey {
         private final Bundle bundle;
         private final String classloaderIsolationKey;
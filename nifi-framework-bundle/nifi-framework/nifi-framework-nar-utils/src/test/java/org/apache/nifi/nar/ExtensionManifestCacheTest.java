@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.nar;
+
+import org.apache.nifi.controller.ControllerService;
+import org.apache.nifi.processor.Processor;
+import org.apache.nifi.reporting.ReportingTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ExtensionManifestCacheTest {
+    private static final Set<Class<?>> EXTENSION_TYPES = Set.of(Processor.class, ControllerService.class);
+
+    @TempDir
+    private Path workingDirectory;
+
+    private ExtensionManifestCache cache;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        Files.writeString(workingDirectory.resolve(NarUnpacker.HASH_FILENAME), "digest-1", StandardCharsets.UTF_8);
+        cache = new ExtensionManifestCache(workingDirectory.toFile());
+    }
+
+    @Test
+    public void testReadWithoutCache() {
+        assertNull(cache.read(EXTENSION_TYPES));
+    }
+
+    @Test
+    public void testReadAfterWrite() {
+        cache.write(EXTENSION_TYPES, Map.of(Processor.class, Set.of("org.apache.nifi.processors.One", "org.apache.nifi.processors.Two")));
+
+        final Map<Class<?>, Set<String>> classNames = cache.read(EXTENSION_TYPES);
+        assertNotNull(classNames);
+        assertEquals(Set.of("org.apache.nifi.processors.One", "org.apache.nifi.processors.Two"), classNames.get(Processor.class));
+        assertFalse(classNames.containsKey(ControllerService.class));
+    }
+
+    @Test
+    public void testReadWithMissingExtensionType() {
+        cache.write(EXTENSION_TYPES, Map.of());
+
+        assertNull(cache.read(Set.of(Processor.class, ReportingTask.class)));
+
+        cache.write(Set.of(ReportingTask.class), Map.of(ReportingTask.class, Set.of("org.apache.nifi.reporting.One")));
+        final Map<Class<?>, Set<String>> classNames = cache.read(Set.of(Processor.class, ReportingTask.class));
+        assertNotNull(classNames);
+        assertEquals(Set.of("org.apache.nifi.reporting.One"), classNames.get(ReportingTask.class));
+    }
+
+    @Test
+    public void testReadAfterDigestChanged() throws IOException {
+        cache.write(EXTENSION_TYPES, Map.of(Processor.class, Set.of("org.apache.nifi.processors.One")));
+        Files.writeString(workingDirectory.resolve(NarUnpacker.HASH_FILENAME), "digest-2", StandardCharsets.UTF_8);
+
+        assertNull(cache.read(EXTENSION_TYPES));
+    }
+
+    @Test
+    public void testWriteWithoutDigest() throws IOException {
+        Files.delete(workingDirectory.resolve(NarUnpacker.HASH_FILENAME));
+        cache.write(EXTENSION_TYPES, Map.of(Processor.class, Set.of("org.apache.nifi.processors.One")));
+
+        assertFalse(Files.exists(workingDirectory.resolve(ExtensionManifestCache.CACHE_FILENAME)));
+    }
+}
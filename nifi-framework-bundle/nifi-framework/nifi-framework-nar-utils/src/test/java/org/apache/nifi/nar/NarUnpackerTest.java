@@ -113,6 +113,9 @@ public class NarUnpackerTest {
         for (File extensionFile : extensionFiles) {
             assertTrue(expectedNars.contains(extensionFile.getName()));
         }
+
+        assertTrue(StartupTimings.getPhaseDurations().containsKey(StartupTimings.NAR_UNPACKING));
+        assertTrue(StartupTimings.getPhaseDurations().containsKey(StartupTimings.EXTENSION_MAPPING));
     }
 
     @Test
@@ -46,6 +46,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
@@ -60,8 +66,12 @@ public final class NarUnpacker {
 
     private static final String BUNDLED_DEPENDENCIES_PREFIX = "META-INF/bundled-dependencies";
 
+    /**
+     * The name of the file, within the working directory of an unpacked NAR, that holds the digest of the NAR
+     */
+    public static final String HASH_FILENAME = "nar-digest";
+
     private static final Logger logger = LoggerFactory.getLogger(NarUnpacker.class);
-    private static final String HASH_FILENAME = "nar-digest";
     private static final FileFilter NAR_FILTER = pathname -> {
         final String nameToTest = pathname.getName().toLowerCase();
         return nameToTest.endsWith(".nar") && pathname.isFile();
@@ -119,13 +129,17 @@ public final class NarUnpacker {
             if (!narFiles.isEmpty()) {
                 final long startTime = System.nanoTime();
                 logger.info("Expanding {} NAR files started", narFiles.size());
+
+                // Determine where each NAR belongs before unpacking, so that the NARs can then be unpacked concurrently
+                File frameworkNarFile = null;
+                File jettyNarFile = null;
+                final List<File> narFilesToUnpack = new ArrayList<>();
+                final List<File> narWorkingDirectories = new ArrayList<>();
                 for (File narFile : narFiles) {
                     if (!narFile.canRead()) {
                         throw new IllegalStateException("Unable to read NAR file: " + narFile.getAbsolutePath());
                     }
 
-                    logger.debug("Expanding NAR file: {}", narFile.getAbsolutePath());
-
                     // get the manifest for this nar
                     try (final JarFile nar = new JarFile(narFile)) {
                         BundleCoordinate bundleCoordinate = createBundleCoordinate(nar.getManifest());
@@ -137,25 +151,48 @@ public final class NarUnpacker {
 
                         // determine if this is the framework
                         if (frameworkNarId != null && frameworkNarId.equals(bundleCoordinate.getId())) {
-                            if (unpackedFramework != null) {
+                            if (frameworkNarFile != null) {
                                 throw new IllegalStateException("Multiple framework NARs discovered. Only one framework is permitted.");
                             }
 
-                            // unpack the framework nar
-                            unpackedFramework = unpackNar(narFile, frameworkWorkingDir, verifyHash, unpackMode);
+                            frameworkNarFile = narFile;
+                            narWorkingDirectories.add(frameworkWorkingDir);
                         } else if (NarClassLoaders.JETTY_NAR_ID.equals(bundleCoordinate.getId())) {
-                            if (unpackedJetty != null) {
+                            if (jettyNarFile != null) {
                                 throw new IllegalStateException("Multiple Jetty NARs discovered. Only one Jetty NAR is permitted.");
                             }
 
-                            // unpack and record the Jetty nar
-                            unpackedJetty = unpackNar(narFile, extensionsWorkingDir, verifyHash, unpackMode);
-                            unpackedExtensions.add(unpackedJetty);
+                            jettyNarFile = narFile;
+                            narWorkingDirectories.add(extensionsWorkingDir);
                         } else {
-                            // unpack and record the extension nar
-                            final File unpackedExtension = unpackNar(narFile, extensionsWorkingDir, verifyHash, unpackMode);
-                            unpackedExtensions.add(unpackedExtension);
+                            narWorkingDirectories.add(extensionsWorkingDir);
+                        }
+
+                        narFilesToUnpack.add(narFile);
+                    }
+                }
+
+                final List<Callable<File>> unpackTasks = new ArrayList<>();
+                for (int i = 0; i < narFilesToUnpack.size(); i++) {
+                    final File narFile = narFilesToUnpack.get(i);
+                    final File workingDirectory = narWorkingDirectories.get(i);
+                    unpackTasks.add(() -> {
+                        logger.debug("Expanding NAR file: {}", narFile.getAbsolutePath());
+                        return unpackNar(narFile, workingDirectory, verifyHash, unpackMode);
+                    });
+                }
+
+                final List<File> unpackedNarDirectories = invokeAll(unpackTasks, "Unpack NAR-");
+                for (int i = 0; i < narFilesToUnpack.size(); i++) {
+                    final File narFile = narFilesToUnpack.get(i);
+                    final File unpackedNar = unpackedNarDirectories.get(i);
+                    if (narFile.equals(frameworkNarFile)) {
+                        unpackedFramework = unpackedNar;
+                    } else {
+                        if (narFile.equals(jettyNarFile)) {
+                            unpackedJetty = unpackedNar;
                         }
+                        unpackedExtensions.add(unpackedNar);
                     }
                 }
 
@@ -200,16 +237,18 @@ public final class NarUnpacker {
                     }
                 }
 
-                final long duration = System.nanoTime() - startTime;
+                final long duration = StartupTimings.recordSince(StartupTimings.NAR_UNPACKING, startTime).toNanos();
                 final double durationSeconds = TimeUnit.NANOSECONDS.toMillis(duration) / 1000.0;
                 logger.info("Expanded {} NAR files in {} seconds ({} ns)", narFiles.size(), durationSeconds, duration);
             }
 
+            final long mappingStartTime = System.nanoTime();
             final Map<File, BundleCoordinate> unpackedNars = new HashMap<>(createUnpackedNarBundleCoordinateMap(extensionsWorkingDir));
 
             final ExtensionMapping extensionMapping = new ExtensionMapping();
             mapExtensions(unpackedNars, extensionMapping);
             populateExtensionMapping(extensionMapping, systemBundle.getBundleDetails().getCoordinate(), systemBundle.getBundleDetails().getWorkingDirectory());
+            StartupTimings.recordSince(StartupTimings.EXTENSION_MAPPING, mappingStartTime);
 
             return extensionMapping;
         } catch (IOException e) {
@@ -253,10 +292,66 @@ public final class NarUnpacker {
     }
 
     private static void mapExtensions(final Map<File, BundleCoordinate> unpackedNars, final ExtensionMapping mapping) throws IOException {
-        for (final Map.Entry<File, BundleCoordinate> entry : unpackedNars.entrySet()) {
-            final File unpackedNar = entry.getKey();
-            final BundleCoordinate bundleCoordinate = entry.getValue();
-            mapExtension(unpackedNar, bundleCoordinate, mapping);
+        // Each NAR is mapped separately and concurrently, and the results are then merged in a consistent order
+        final List<File> sortedUnpackedNars = new ArrayList<>(unpackedNars.keySet());
+        Collections.sort(sortedUnpackedNars);
+
+        final List<Callable<ExtensionMapping>> mappingTasks = new ArrayList<>();
+        for (final File unpackedNar : sortedUnpackedNars) {
+            final BundleCoordinate bundleCoordinate = unpackedNars.get(unpackedNar);
+            mappingTasks.add(() -> {
+                final ExtensionMapping narMapping = new ExtensionMapping();
+                mapExtension(unpackedNar, bundleCoordinate, narMapping);
+                return narMapping;
+            });
+        }
+
+        for (final ExtensionMapping narMapping : invokeAll(mappingTasks, "Map NAR Extensions-")) {
+            mapping.merge(narMapping);
+        }
+    }
+
+    /**
+     * Runs the given tasks concurrently, using at most one thread per available processor, and waits for all of them to complete.
+     *
+     * @param tasks the tasks to run
+     * @param threadNamePrefix the prefix of the names of the threads that run the tasks
+     * @return the results of the tasks, in the same order as the tasks
+     * @throws IOException if any task throws an IOException
+     */
+    private static <T> List<T> invokeAll(final List<Callable<T>> tasks, final String threadNamePrefix) throws IOException {
+        if (tasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final int threadCount = Math.min(tasks.size(), Runtime.getRuntime().availableProcessors());
+        final ThreadFactory threadFactory = Thread.ofPlatform().name(threadNamePrefix, 1).daemon().factory();
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount, threadFactory);
+        try {
+            final List<Future<T>> futures = new ArrayList<>();
+            for (final Callable<T> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+
+            final List<T> results = new ArrayList<>(futures.size());
+            for (final Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while processing NAR files", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException(cause);
+        } finally {
+            executor.shutdownNow();
         }
     }
 
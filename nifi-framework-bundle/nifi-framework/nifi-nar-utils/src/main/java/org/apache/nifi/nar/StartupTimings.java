@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.nar;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records how long each phase of application startup took, so that the durations can be reported in diagnostics. Phases are
+ * reported in the order in which they were first recorded. Recording a phase that has already been recorded replaces its duration.
+ */
+public final class StartupTimings {
+    public static final String NAR_UNPACKING = "NAR Unpacking";
+    public static final String EXTENSION_MAPPING = "Extension Mapping";
+    public static final String NAR_CLASS_LOADER_INITIALIZATION = "NAR Class Loader Initialization";
+    public static final String EXTENSION_DISCOVERY = "Extension Discovery";
+    public static final String APPLICATION_STARTUP = "Application Startup";
+
+    private static final Map<String, Duration> PHASE_DURATIONS = new LinkedHashMap<>();
+
+    /**
+     * Records the duration of a startup phase
+     *
+     * @param phase the name of the phase
+     * @param duration how long the phase took
+     */
+    public static void record(final String phase, final Duration duration) {
+        synchronized (PHASE_DURATIONS) {
+            PHASE_DURATIONS.put(phase, duration);
+        }
+    }
+
+    /**
+     * Records the duration of a startup phase that started at the given time and has just completed
+     *
+     * @param phase the name of the phase
+     * @param startNanos the value of {@link System#nanoTime()} when the phase started
+     * @return the duration of the phase
+     */
+    public static Duration recordSince(final String phase, final long startNanos) {
+        final Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+        record(phase, duration);
+        return duration;
+    }
+
+    /**
+     * @return an unmodifiable copy of the recorded phase durations, in the order in which the phases were first recorded
+     */
+    public static Map<String, Duration> getPhaseDurations() {
+        synchronized (PHASE_DURATIONS) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(PHASE_DURATIONS));
+        }
+    }
+
+    private StartupTimings() {
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.nifi.nar.NarClassLoaders;
 import org.apache.nifi.nar.NarClassLoadersHolder;
 import org.apache.nifi.nar.NarUnpackMode;
 import org.apache.nifi.nar.NarUnpacker;
+import org.apache.nifi.nar.StartupTimings;
 import org.apache.nifi.nar.SystemBundle;
 import org.apache.nifi.runtime.command.DiagnosticsCommand;
 import org.apache.nifi.runtime.command.ShutdownCommand;
@@ -95,11 +96,13 @@ public class Application implements Runnable {
         final File frameworkWorkingDirectory = properties.getFrameworkWorkingDirectory();
         final File extensionsWorkingDirectory = properties.getExtensionsWorkingDirectory();
 
+        final long startTime = System.nanoTime();
         try {
             narClassLoaders.init(systemClassLoader, frameworkWorkingDirectory, extensionsWorkingDirectory, true);
         } catch (final Exception e) {
             logger.error("NAR Class Loaders initialization failed", e);
         }
+        StartupTimings.recordSince(StartupTimings.NAR_CLASS_LOADER_INITIALIZATION, startTime);
 
         return narClassLoaders;
     }
@@ -138,6 +141,7 @@ public class Application implements Runnable {
 
         final Instant completed = Instant.now();
         final Duration duration = Duration.between(started, completed);
+        StartupTimings.record(StartupTimings.APPLICATION_STARTUP, duration);
         final double durationSeconds = duration.toMillis() / 1000.0;
         logger.info("Started Application in {} seconds ({} ns)", durationSeconds, duration.toNanos());
     }
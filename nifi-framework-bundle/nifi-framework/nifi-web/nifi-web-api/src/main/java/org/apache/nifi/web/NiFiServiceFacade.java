@@ -156,6 +156,7 @@ import org.apache.nifi.web.api.entity.VersionControlInformationEntity;
 import org.apache.nifi.web.api.entity.VersionedFlowEntity;
 import org.apache.nifi.web.api.entity.VersionedFlowSnapshotMetadataEntity;
 import org.apache.nifi.web.api.entity.VersionedReportingTaskImportResponseEntity;
+import org.apache.nifi.web.api.request.FlowContentField;
 import org.apache.nifi.web.api.request.FlowMetricsRegistry;
 
 import java.io.IOException;
@@ -1098,9 +1099,10 @@ public interface NiFiServiceFacade {
      *
      * @param groupId group
      * @param uiOnly whether or not the entity should be populated only with UI-related fields
+     * @param fields the fields to populate for each component in the flow
      * @return the flow
      */
-    ProcessGroupFlowEntity getProcessGroupFlow(String groupId, boolean uiOnly);
+    ProcessGroupFlowEntity getProcessGroupFlow(String groupId, boolean uiOnly, Set<FlowContentField> fields);
 
     /**
      * Returns the breadcrumbs for the specified group.
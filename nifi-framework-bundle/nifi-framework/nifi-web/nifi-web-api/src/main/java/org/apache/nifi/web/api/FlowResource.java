@@ -157,6 +157,7 @@ import org.apache.nifi.web.api.metrics.PrometheusMetricsWriter;
 import org.apache.nifi.web.api.metrics.TextFormatPrometheusMetricsWriter;
 import org.apache.nifi.web.api.request.BulletinBoardPatternParameter;
 import org.apache.nifi.web.api.request.DateTimeParameter;
+import org.apache.nifi.web.api.request.FlowContentFieldsParameter;
 import org.apache.nifi.web.api.request.FlowMetricsProducer;
 import org.apache.nifi.web.api.request.FlowMetricsRegistry;
 import org.apache.nifi.web.api.request.IntegerParameter;
@@ -475,7 +476,9 @@ public class FlowResource extends ApplicationResource {
             },
             description = "If the uiOnly query parameter is provided with a value of true, the returned entity may only contain fields that are necessary for rendering the NiFi User Interface. As " +
                     "such, " +
-                    "the selected fields may change at any time, even during incremental releases, without warning. As a result, this parameter should not be provided by any client other than the UI."
+                    "the selected fields may change at any time, even during incremental releases, without warning. As a result, this parameter should not be provided by any client other than the UI. " +
+                    "The fields query parameter may be used to select which parts of each component entity are populated, for example fields=status,bulletins. Identifiers, revisions, " +
+                    "permissions and positions are always returned."
     )
     @ApiResponses(
             value = {
@@ -491,7 +494,11 @@ public class FlowResource extends ApplicationResource {
                     description = "The process group id."
             )
             @PathParam("id") final String groupId,
-            @QueryParam("uiOnly") @DefaultValue("false") final boolean uiOnly) {
+            @QueryParam("uiOnly") @DefaultValue("false") final boolean uiOnly,
+            @Parameter(
+                    description = "Comma-separated list of the parts of each component to populate: component, status, bulletins. All parts are populated when not specified."
+            )
+            @QueryParam("fields") final FlowContentFieldsParameter fields) {
 
         authorizeFlow();
 
@@ -500,7 +507,7 @@ public class FlowResource extends ApplicationResource {
         }
 
         // get this process group flow
-        final ProcessGroupFlowEntity entity = serviceFacade.getProcessGroupFlow(groupId, uiOnly);
+        final ProcessGroupFlowEntity entity = serviceFacade.getProcessGroupFlow(groupId, uiOnly, FlowContentFieldsParameter.getFields(fields));
         populateRemainingFlowContent(entity.getProcessGroupFlow());
         return generateOkResponse(entity).build();
     }
@@ -244,6 +244,7 @@ import org.apache.nifi.web.api.entity.ParameterEntity;
 import org.apache.nifi.web.api.entity.ParameterGroupConfigurationEntity;
 import org.apache.nifi.web.api.entity.ParameterProviderConfigurationEntity;
 import org.apache.nifi.web.api.entity.ParameterProviderReferencingComponentEntity;
+import org.apache.nifi.web.api.entity.Permissible;
 import org.apache.nifi.web.api.entity.PortEntity;
 import org.apache.nifi.web.api.entity.PortStatusSnapshotEntity;
 import org.apache.nifi.web.api.entity.ProcessGroupEntity;
@@ -253,6 +254,7 @@ import org.apache.nifi.web.api.entity.ProcessorStatusSnapshotEntity;
 import org.apache.nifi.web.api.entity.RemoteProcessGroupEntity;
 import org.apache.nifi.web.api.entity.RemoteProcessGroupStatusSnapshotEntity;
 import org.apache.nifi.web.api.entity.TenantEntity;
+import org.apache.nifi.web.api.request.FlowContentField;
 import org.apache.nifi.web.controller.ControllerFacade;
 import org.apache.nifi.web.revision.RevisionManager;
 
@@ -269,6 +271,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -2454,13 +2457,14 @@ public final class DtoFactory {
    }
 
    public ProcessGroupFlowDTO createProcessGroupFlowDto(final ProcessGroup group, final ProcessGroupStatus groupStatus, final RevisionManager revisionManager,
-                                                        final Function<ProcessGroup, List<BulletinEntity>> getProcessGroupBulletins, final boolean uiOnly) {
+                                                        final Function<ProcessGroup, List<BulletinEntity>> getProcessGroupBulletins, final boolean uiOnly,
+                                                        final Set<FlowContentField> fields) {
 
        final ProcessGroupFlowDTO dto = new ProcessGroupFlowDTO();
        dto.setId(group.getIdentifier());
        dto.setLastRefreshed(new Date());
        dto.setBreadcrumb(createBreadcrumbEntity(group));
-       dto.setFlow(createFlowDto(group, groupStatus, revisionManager, getProcessGroupBulletins, uiOnly));
+       dto.setFlow(createFlowDto(group, groupStatus, revisionManager, getProcessGroupBulletins, uiOnly, fields));
 
        final ProcessGroup parent = group.getParent();
        if (parent != null) {
@@ -2609,92 +2613,133 @@ public final class DtoFactory {
    }
 
 
+   /**
+    * Creates a FlowDTO for the contents of the specified group. Only the selected fields are computed for each component; in particular, the full
+    * processor DTO (property descriptors, validation errors) is only built when the component field is selected, and the contents of child groups
+    * are only built when every field is selected.
+    *
+    * @param group group
+    * @param groupStatus status of the group, or null if the status field is not selected
+    * @param revisionManager revision manager
+    * @param getProcessGroupBulletins function for obtaining the bulletins of a child group
+    * @param uiOnly whether the component DTOs should only contain fields needed by the UI
+    * @param fields the fields to populate for each component
+    * @return dto
+    */
    public FlowDTO createFlowDto(final ProcessGroup group, final ProcessGroupStatus groupStatus, final RevisionManager revisionManager,
-                                final Function<ProcessGroup, List<BulletinEntity>> getProcessGroupBulletins, final boolean uiOnly) {
+                                final Function<ProcessGroup, List<BulletinEntity>> getProcessGroupBulletins, final boolean uiOnly, final Set<FlowContentField> fields) {
        final FlowDTO dto = new FlowDTO();
 
-       final Map<String, ProcessorStatus> processorStatuses = groupStatus.getProcessorStatus().stream().collect(Collectors.toMap(ProcessorStatus::getId, status -> status));
+       final boolean includeComponent = fields.contains(FlowContentField.COMPONENT);
+       final boolean includeStatus = fields.contains(FlowContentField.STATUS) && groupStatus != null;
+       final boolean includeBulletins = fields.contains(FlowContentField.BULLETINS);
+       final boolean includeAllFields = fields.containsAll(EnumSet.allOf(FlowContentField.class));
+
+       final Map<String, ProcessorStatus> processorStatuses = includeStatus
+               ? groupStatus.getProcessorStatus().stream().collect(Collectors.toMap(ProcessorStatus::getId, status -> status)) : Collections.emptyMap();
        for (final ProcessorNode procNode : group.getProcessors()) {
            final RevisionDTO revision = createRevisionDTO(revisionManager.getRevision(procNode.getIdentifier()));
            final PermissionsDTO permissions = createPermissionsDto(procNode);
            final PermissionsDTO operatePermissions = createPermissionsDto(new OperationAuthorizable(procNode));
            final ProcessorStatus processorStatus = processorStatuses.get(procNode.getIdentifier());
            final ProcessorStatusDTO statusDto = processorStatus == null ? null : createProcessorStatusDto(processorStatus);
-           final List<BulletinDTO> bulletins = createBulletinDtos(bulletinRepository.findBulletinsForSource(procNode.getIdentifier()));
-           final List<BulletinEntity> bulletinEntities = bulletins.stream().map(bulletin -> entityFactory.createBulletinEntity(bulletin, permissions.getCanRead())).collect(Collectors.toList());
-           dto.getProcessors().add(entityFactory.createProcessorEntity(createProcessorDto(procNode, uiOnly), revision, permissions, operatePermissions, statusDto, bulletinEntities));
+           final List<BulletinEntity> bulletinEntities = includeBulletins ? createBulletinEntities(procNode.getIdentifier(), permissions) : null;
+           if (includeComponent) {
+               dto.getProcessors().add(entityFactory.createProcessorEntity(createProcessorDto(procNode, uiOnly), revision, permissions, operatePermissions, statusDto, bulletinEntities));
+           } else {
+               dto.getProcessors().add(entityFactory.createProcessorEntity(procNode.getIdentifier(), createPositionDto(procNode.getPosition()), procNode.getInputRequirement().name(),
+                       revision, permissions, operatePermissions, statusDto, bulletinEntities));
+           }
        }
 
-       final Map<String, ConnectionStatus> connectionStatuses = groupStatus.getConnectionStatus().stream().collect(Collectors.toMap(ConnectionStatus::getId, status -> status));
+       final Map<String, ConnectionStatus> connectionStatuses = includeStatus
+               ? groupStatus.getConnectionStatus().stream().collect(Collectors.toMap(ConnectionStatus::getId, status -> status)) : Collections.emptyMap();
        for (final Connection connNode : group.getConnections()) {
            final RevisionDTO revision = createRevisionDTO(revisionManager.getRevision(connNode.getIdentifier()));
            final PermissionsDTO permissions = createPermissionsDto(connNode);
            final ConnectionStatus connectionStatus = connectionStatuses.get(connNode.getIdentifier());
            final ConnectionStatusDTO statusDto = connectionStatus == null ? null : createConnectionStatusDto(connectionStatus);
-           dto.getConnections().add(entityFactory.createConnectionEntity(createConnectionDto(connNode), revision, permissions, statusDto));
+           dto.getConnections().add(withComponent(entityFactory.createConnectionEntity(createConnectionDto(connNode), revision, permissions, statusDto), includeComponent));
        }
 
        for (final Label label : group.getLabels()) {
            final RevisionDTO revision = createRevisionDTO(revisionManager.getRevision(label.getIdentifier()));
            final PermissionsDTO permissions = createPermissionsDto(label);
-           dto.getLabels().add(entityFactory.createLabelEntity(createLabelDto(label), revision, permissions));
+           dto.getLabels().add(withComponent(entityFactory.createLabelEntity(createLabelDto(label), revision, permissions), includeComponent));
        }
 
        for (final Funnel funnel : group.getFunnels()) {
            final RevisionDTO revision = createRevisionDTO(revisionManager.getRevision(funnel.getIdentifier()));
            final PermissionsDTO permissions = createPermissionsDto(funnel);
-           dto.getFunnels().add(entityFactory.createFunnelEntity(createFunnelDto(funnel), revision, permissions));
+           dto.getFunnels().add(withComponent(entityFactory.createFunnelEntity(createFunnelDto(funnel), revision, permissions), includeComponent));
        }
 
-       final Map<String, ProcessGroupStatus> groupStatuses = groupStatus.getProcessGroupStatus().stream().collect(Collectors.toMap(ProcessGroupStatus::getId, status -> status));
+       final Map<String, ProcessGroupStatus> groupStatuses = includeStatus
+               ? groupStatus.getProcessGroupStatus().stream().collect(Collectors.toMap(ProcessGroupStatus::getId, status -> status)) : Collections.emptyMap();
        for (final ProcessGroup childGroup : group.getProcessGroups()) {
            final RevisionDTO revision = createRevisionDTO(revisionManager.getRevision(childGroup.getIdentifier()));
            final PermissionsDTO permissions = createPermissionsDto(childGroup);
            final ProcessGroupStatus childGroupStatus = groupStatuses.get(childGroup.getIdentifier());
            final ProcessGroupStatusDTO statusDto = childGroupStatus == null ? null : createConciseProcessGroupStatusDto(childGroupStatus);
-           final List<BulletinEntity> bulletins = getProcessGroupBulletins.apply(childGroup);
-           dto.getProcessGroups().add(entityFactory.createProcessGroupEntity(createProcessGroupDto(childGroup), revision, permissions, statusDto, bulletins));
+           final List<BulletinEntity> bulletins = includeBulletins ? getProcessGroupBulletins.apply(childGroup) : null;
+           final ProcessGroupDTO childGroupDto = includeAllFields ? createProcessGroupDto(childGroup) : createConciseProcessGroupDto(childGroup);
+           dto.getProcessGroups().add(withComponent(entityFactory.createProcessGroupEntity(childGroupDto, revision, permissions, statusDto, bulletins), includeComponent));
        }
 
-       final Map<String, RemoteProcessGroupStatus> rpgStatuses = groupStatus.getRemoteProcessGroupStatus().stream().collect(Collectors.toMap(RemoteProcessGroupStatus::getId, status -> status));
+       final Map<String, RemoteProcessGroupStatus> rpgStatuses = includeStatus
+               ? groupStatus.getRemoteProcessGroupStatus().stream().collect(Collectors.toMap(RemoteProcessGroupStatus::getId, status -> status)) : Collections.emptyMap();
        for (final RemoteProcessGroup rpg : group.getRemoteProcessGroups()) {
            final RevisionDTO revision = createRevisionDTO(revisionManager.getRevision(rpg.getIdentifier()));
            final PermissionsDTO permissions = createPermissionsDto(rpg);
            final PermissionsDTO operatePermissions = createPermissionsDto(new OperationAuthorizable(rpg));
            final RemoteProcessGroupStatus rpgStatus = rpgStatuses.get(rpg.getIdentifier());
            final RemoteProcessGroupStatusDTO statusDto = rpgStatus == null ? null : createRemoteProcessGroupStatusDto(rpg, rpgStatus);
-           final List<BulletinDTO> bulletins = createBulletinDtos(bulletinRepository.findBulletinsForSource(rpg.getIdentifier()));
-           final List<BulletinEntity> bulletinEntities = bulletins.stream().map(bulletin -> entityFactory.createBulletinEntity(bulletin, permissions.getCanRead())).collect(Collectors.toList());
-           dto.getRemoteProcessGroups().add(entityFactory.createRemoteProcessGroupEntity(createRemoteProcessGroupDto(rpg), revision, permissions, operatePermissions, statusDto, bulletinEntities));
+           final List<BulletinEntity> bulletinEntities = includeBulletins ? createBulletinEntities(rpg.getIdentifier(), permissions) : null;
+           dto.getRemoteProcessGroups().add(withComponent(entityFactory.createRemoteProcessGroupEntity(createRemoteProcessGroupDto(rpg), revision, permissions, operatePermissions,
+                   statusDto, bulletinEntities), includeComponent));
        }
 
-       final Map<String, PortStatus> inputPortStatuses = groupStatus.getInputPortStatus().stream().collect(Collectors.toMap(PortStatus::getId, status -> status));
+       final Map<String, PortStatus> inputPortStatuses = includeStatus
+               ? groupStatus.getInputPortStatus().stream().collect(Collectors.toMap(PortStatus::getId, status -> status)) : Collections.emptyMap();
        for (final Port inputPort : group.getInputPorts()) {
            final RevisionDTO revision = createRevisionDTO(revisionManager.getRevision(inputPort.getIdentifier()));
            final PermissionsDTO permissions = createPermissionsDto(inputPort);
            final PermissionsDTO operatePermissions = createPermissionsDto(new OperationAuthorizable(inputPort));
            final PortStatus portStatus = inputPortStatuses.get(inputPort.getIdentifier());
            final PortStatusDTO statusDto = portStatus == null ? null : createPortStatusDto(portStatus);
-           final List<BulletinDTO> bulletins = createBulletinDtos(bulletinRepository.findBulletinsForSource(inputPort.getIdentifier()));
-           final List<BulletinEntity> bulletinEntities = bulletins.stream().map(bulletin -> entityFactory.createBulletinEntity(bulletin, permissions.getCanRead())).collect(Collectors.toList());
-           dto.getInputPorts().add(entityFactory.createPortEntity(createPortDto(inputPort), revision, permissions, operatePermissions, statusDto, bulletinEntities));
+           final List<BulletinEntity> bulletinEntities = includeBulletins ? createBulletinEntities(inputPort.getIdentifier(), permissions) : null;
+           dto.getInputPorts().add(withComponent(entityFactory.createPortEntity(createPortDto(inputPort), revision, permissions, operatePermissions, statusDto, bulletinEntities),
+                   includeComponent));
        }
 
-       final Map<String, PortStatus> outputPortStatuses = groupStatus.getOutputPortStatus().stream().collect(Collectors.toMap(PortStatus::getId, status -> status));
+       final Map<String, PortStatus> outputPortStatuses = includeStatus
+               ? groupStatus.getOutputPortStatus().stream().collect(Collectors.toMap(PortStatus::getId, status -> status)) : Collections.emptyMap();
        for (final Port outputPort : group.getOutputPorts()) {
            final RevisionDTO revision = createRevisionDTO(revisionManager.getRevision(outputPort.getIdentifier()));
            final PermissionsDTO permissions = createPermissionsDto(outputPort);
            final PermissionsDTO operatePermissions = createPermissionsDto(new OperationAuthorizable(outputPort));
            final PortStatus portStatus = outputPortStatuses.get(outputPort.getIdentifier());
            final PortStatusDTO statusDto = portStatus == null ? null : createPortStatusDto(portStatus);
-           final List<BulletinDTO> bulletins = createBulletinDtos(bulletinRepository.findBulletinsForSource(outputPort.getIdentifier()));
-           final List<BulletinEntity> bulletinEntities = bulletins.stream().map(bulletin -> entityFactory.createBulletinEntity(bulletin, permissions.getCanRead())).collect(Collectors.toList());
-           dto.getOutputPorts().add(entityFactory.createPortEntity(createPortDto(outputPort), revision, permissions, operatePermissions, statusDto, bulletinEntities));
+           final List<BulletinEntity> bulletinEntities = includeBulletins ? createBulletinEntities(outputPort.getIdentifier(), permissions) : null;
+           dto.getOutputPorts().add(withComponent(entityFactory.createPortEntity(createPortDto(outputPort), revision, permissions, operatePermissions, statusDto, bulletinEntities),
+                   includeComponent));
        }
 
        return dto;
    }
 
+   private List<BulletinEntity> createBulletinEntities(final String sourceId, final PermissionsDTO permissions) {
+       final List<BulletinDTO> bulletins = createBulletinDtos(bulletinRepository.findBulletinsForSource(sourceId));
+       return bulletins.stream().map(bulletin -> entityFactory.createBulletinEntity(bulletin, permissions.getCanRead())).collect(Collectors.toList());
+   }
+
+   private <T extends Permissible<?>> T withComponent(final T entity, final boolean includeComponent) {
+       if (!includeComponent) {
+           entity.setComponent(null);
+       }
+       return entity;
+   }
+
    /**
     * Creates a ProcessGroupDTO from the specified ProcessGroup.
     *
@@ -247,6 +247,23 @@ public final class EntityFactory {
         return entity;
     }
 
+    public ProcessorEntity createProcessorEntity(final String id, final PositionDTO position, final String inputRequirement, final RevisionDTO revision,
+        final PermissionsDTO permissions, final PermissionsDTO operatePermissions, final ProcessorStatusDTO status, final List<BulletinEntity> bulletins) {
+
+        final ProcessorEntity entity = new ProcessorEntity();
+        entity.setRevision(revision);
+        entity.setPermissions(permissions);
+        entity.setOperatePermissions(operatePermissions);
+        entity.setStatus(status);
+        entity.setId(id);
+        entity.setInputRequirement(inputRequirement);
+        entity.setPosition(position);
+        if (permissions != null && permissions.getCanRead()) {
+            entity.setBulletins(bulletins);
+        }
+        return entity;
+    }
+
     public PortEntity createPortEntity(final PortDTO dto, final RevisionDTO revision, final PermissionsDTO permissions, final PermissionsDTO operatePermissions,
                                        final PortStatusDTO status, final List<BulletinEntity> bulletins) {
         final PortEntity entity = new PortEntity();
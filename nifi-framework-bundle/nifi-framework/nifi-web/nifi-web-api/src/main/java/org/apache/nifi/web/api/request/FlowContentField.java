@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.web.api.request;
+
+/**
+ * Parts of each component entity in a Process Group Flow that a client may select using the fields query parameter.
+ * Identifiers, revisions, permissions and positions are carried on every entity and are always returned.
+ */
+public enum FlowContentField {
+    COMPONENT("component"),
+    STATUS("status"),
+    BULLETINS("bulletins");
+
+    private final String field;
+
+    FlowContentField(final String field) {
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.web.api.request;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Class for parsing a comma-separated list of flow content fields and providing a user friendly error message.
+ */
+public class FlowContentFieldsParameter {
+
+    private static final String INVALID_FIELD_MESSAGE = "Unable to parse '%s' as a flow content field. Supported fields are %s.";
+
+    private final Set<FlowContentField> fields = EnumSet.noneOf(FlowContentField.class);
+
+    public FlowContentFieldsParameter(final String rawFields) {
+        if (rawFields == null || rawFields.isBlank()) {
+            fields.addAll(EnumSet.allOf(FlowContentField.class));
+            return;
+        }
+
+        for (final String rawField : rawFields.split(",")) {
+            final String trimmed = rawField.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            final FlowContentField field = Arrays.stream(FlowContentField.values())
+                    .filter(value -> value.getField().equalsIgnoreCase(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(String.format(INVALID_FIELD_MESSAGE, trimmed, getSupportedFields())));
+            fields.add(field);
+        }
+    }
+
+    /**
+     * @return the selected fields, or every field when the parameter is absent
+     */
+    public static Set<FlowContentField> getFields(final FlowContentFieldsParameter parameter) {
+        return parameter == null ? Collections.unmodifiableSet(EnumSet.allOf(FlowContentField.class)) : parameter.getFields();
+    }
+
+    public Set<FlowContentField> getFields() {
+        return Collections.unmodifiableSet(fields);
+    }
+
+    private static String getSupportedFields() {
+        return Arrays.stream(FlowContentField.values()).map(FlowContentField::getField).collect(Collectors.joining(", "));
+    }
+}
@@ -16,11 +16,15 @@
  */
 package org.apache.nifi.web.api.dto;
 
+import org.apache.nifi.annotation.behavior.InputRequirement;
 import org.apache.nifi.components.AllowableValue;
 import org.apache.nifi.components.PropertyDescriptor;
+import org.apache.nifi.connectable.Position;
 import org.apache.nifi.controller.ControllerService;
+import org.apache.nifi.controller.ProcessorNode;
 import org.apache.nifi.controller.service.ControllerServiceNode;
 import org.apache.nifi.controller.service.ControllerServiceProvider;
+import org.apache.nifi.groups.ProcessGroup;
 import org.apache.nifi.nar.ExtensionManager;
 import org.apache.nifi.nar.NarManifest;
 import org.apache.nifi.nar.NarNode;
@@ -28,7 +32,13 @@ import org.apache.nifi.nar.NarSource;
 import org.apache.nifi.nar.NarState;
 import org.apache.nifi.nar.StandardExtensionDiscoveringManager;
 import org.apache.nifi.nar.SystemBundle;
+import org.apache.nifi.reporting.BulletinRepository;
+import org.apache.nifi.web.Revision;
+import org.apache.nifi.web.api.dto.flow.FlowDTO;
 import org.apache.nifi.web.api.entity.AllowableValueEntity;
+import org.apache.nifi.web.api.entity.ProcessorEntity;
+import org.apache.nifi.web.api.request.FlowContentField;
+import org.apache.nifi.web.revision.RevisionManager;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,11 +54,15 @@ import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class DtoFactoryTest {
@@ -211,6 +225,52 @@ public class DtoFactoryTest {
         verifyDependencyCoordinateDTO(narManifest, dependencyCoordinateDTO);
     }
 
+    @Test
+    void testCreateFlowDtoWithoutComponentField() {
+        final ProcessGroup group = mock(ProcessGroup.class);
+        when(group.getIdentifier()).thenReturn("group-1");
+
+        final ProcessorNode processor = mock(ProcessorNode.class);
+        when(processor.getIdentifier()).thenReturn("processor-1");
+        when(processor.getPosition()).thenReturn(new Position(10, 20));
+        when(processor.getInputRequirement()).thenReturn(InputRequirement.Requirement.INPUT_REQUIRED);
+        when(processor.isAuthorized(any(), any(), any())).thenReturn(Boolean.TRUE);
+        when(group.getProcessors()).thenReturn(Collections.singleton(processor));
+
+        final RevisionManager revisionManager = mock(RevisionManager.class);
+        when(revisionManager.getRevision(any())).thenAnswer(invocation -> new Revision(0L, null, invocation.getArgument(0)));
+
+        final ExtensionManager extensionManager = mock(ExtensionManager.class);
+        final BulletinRepository bulletinRepository = mock(BulletinRepository.class);
+
+        final DtoFactory dtoFactory = new DtoFactory();
+        dtoFactory.setEntityFactory(new EntityFactory());
+        dtoFactory.setExtensionManager(extensionManager);
+        dtoFactory.setBulletinRepository(bulletinRepository);
+
+        // positions are carried on every entity, so they are returned even when no field is selected
+        final FlowDTO flow = dtoFactory.createFlowDto(group, null, revisionManager, childGroup -> Collections.emptyList(), true,
+                Collections.<FlowContentField>emptySet());
+
+        assertEquals(1, flow.getProcessors().size());
+        final ProcessorEntity processorEntity = flow.getProcessors().iterator().next();
+        assertEquals("processor-1", processorEntity.getId());
+        assertEquals(InputRequirement.Requirement.INPUT_REQUIRED.name(), processorEntity.getInputRequirement());
+        assertNotNull(processorEntity.getPosition());
+        assertEquals(10.0, processorEntity.getPosition().getX());
+        assertEquals(20.0, processorEntity.getPosition().getY());
+        assertTrue(processorEntity.getPermissions().getCanRead());
+        assertNull(processorEntity.getComponent());
+        assertNull(processorEntity.getStatus());
+        assertNull(processorEntity.getBulletins());
+
+        // the expensive parts of the processor are never computed
+        verify(processor, never()).getValidationErrors();
+        verify(processor, never()).getRawPropertyValues();
+        verify(processor, never()).getProcessGroup();
+        verifyNoInteractions(extensionManager, bulletinRepository);
+    }
+
     private void verifyCoordinateDTO(final NarManifest narManifest, final NarCoordinateDTO coordinateDTO) {
         assertEquals(narManifest.getGroup(), coordinateDTO.getGroup());
         assertEquals(narManifest.getId(), coordinateDTO.getArtifact());
@@ -0,0 +1,382 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.registry.flow.diff;
+
+import org.apache.nifi.flow.BatchSize;
+import org.apache.nifi.flow.Bundle;
+import org.apache.nifi.flow.ConnectableComponent;
+import org.apache.nifi.flow.Position;
+import org.apache.nifi.flow.VersionedComponent;
+import org.apache.nifi.flow.VersionedConfigurableExtension;
+import org.apache.nifi.flow.VersionedConnection;
+import org.apache.nifi.flow.VersionedControllerService;
+import org.apache.nifi.flow.VersionedFlowCoordinates;
+import org.apache.nifi.flow.VersionedFunnel;
+import org.apache.nifi.flow.VersionedLabel;
+import org.apache.nifi.flow.VersionedPort;
+import org.apache.nifi.flow.VersionedProcessGroup;
+import org.apache.nifi.flow.VersionedProcessor;
+import org.apache.nifi.flow.VersionedPropertyDescriptor;
+import org.apache.nifi.flow.VersionedRemoteGroupPort;
+import org.apache.nifi.flow.VersionedRemoteProcessGroup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Computes Merkle-style content hashes for a {@link VersionedProcessGroup} tree. The hash of a Process Group covers the group's own
+ * configuration and the hashes of all of its components, including child Process Groups, so two groups with equal hashes have equal
+ * contents and need not be compared field by field.
+ *
+ * <p>
+ * The hash is conservative with respect to {@link StandardFlowComparator}: every value that the comparator considers is included, and
+ * values are hashed exactly as stored, so two groups that the comparator would consider equal may still produce different hashes (for
+ * instance, a {@code null} collection versus an empty one). Sensitive property values are decrypted before hashing, following the same
+ * rules as the comparator, so that values encrypted with different initialization vectors produce the same hash.
+ * </p>
+ *
+ * <p>
+ * Hashes are cached by Process Group identity, so an instance should only be used for a flow that is not modified while it is in use.
+ * This class is not thread-safe.
+ * </p>
+ */
+public class FlowContentHasher {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String ENCRYPTED_VALUE_PREFIX = "enc{";
+    private static final String ENCRYPTED_VALUE_SUFFIX = "}";
+
+    private static final byte NULL_TAG = 0;
+    private static final byte STRING_TAG = 1;
+    private static final byte NUMBER_TAG = 2;
+    private static final byte BOOLEAN_TAG = 3;
+    private static final byte ENUM_TAG = 4;
+    private static final byte LIST_TAG = 5;
+    private static final byte SET_TAG = 6;
+    private static final byte MAP_TAG = 7;
+    private static final byte OBJECT_TAG = 8;
+
+    private final Function<String, String> propertyDecryptor;
+    private final Function<VersionedComponent, String> idLookup;
+    private final Map<VersionedProcessGroup, byte[]> groupHashes = new IdentityHashMap<>();
+
+    public FlowContentHasher(final Function<String, String> propertyDecryptor, final Function<VersionedComponent, String> idLookup) {
+        this.propertyDecryptor = propertyDecryptor;
+        this.idLookup = idLookup;
+    }
+
+    /**
+     * Returns the content hash of the given Process Group, computing and caching the hashes of the group and all of its descendants
+     * if they have not already been computed.
+     *
+     * @param group the Process Group to hash
+     * @return the content hash of the group
+     * @throws IllegalArgumentException if the group contains a value that cannot be hashed
+     */
+    public byte[] getHash(final VersionedProcessGroup group) {
+        final byte[] cached = groupHashes.get(group);
+        if (cached != null) {
+            return cached;
+        }
+
+        final byte[] hash = hashGroup(group);
+        groupHashes.put(group, hash);
+        return hash;
+    }
+
+    private byte[] hashGroup(final VersionedProcessGroup group) {
+        final DigestWriter writer = new DigestWriter();
+        writeComponent(writer, group);
+        writer.write(group.getVersionedFlowCoordinates());
+        writer.write(group.getParameterContextName());
+        writer.write(group.getFlowFileConcurrency());
+        writer.write(group.getFlowFileOutboundPolicy());
+        writer.write(group.getDefaultFlowFileExpiration());
+        writer.write(group.getDefaultBackPressureObjectThreshold());
+        writer.write(group.getDefaultBackPressureDataSizeThreshold());
+        writer.write(group.getLogFileSuffix());
+        writer.write(group.getScheduledState());
+        writer.write(group.getExecutionEngine());
+        writer.write(group.getMaxConcurrentTasks());
+        writer.write(group.getStatelessFlowTimeout());
+
+        writer.writeHashes(group.getConnections(), this::hashConnection);
+        writer.writeHashes(group.getProcessors(), this::hashProcessor);
+        writer.writeHashes(group.getControllerServices(), this::hashControllerService);
+        writer.writeHashes(group.getFunnels(), this::hashFunnel);
+        writer.writeHashes(group.getInputPorts(), this::hashPort);
+        writer.writeHashes(group.getLabels(), this::hashLabel);
+        writer.writeHashes(group.getOutputPorts(), this::hashPort);
+        writer.writeHashes(group.getProcessGroups(), this::getHash);
+        writer.writeHashes(group.getRemoteProcessGroups(), this::hashRemoteProcessGroup);
+        return writer.digest();
+    }
+
+    private byte[] hashProcessor(final VersionedProcessor processor) {
+        final DigestWriter writer = new DigestWriter();
+        writeExtension(writer, processor);
+        writer.write(processor.getAnnotationData());
+        writer.write(processor.getAutoTerminatedRelationships());
+        writer.write(processor.getBulletinLevel());
+        writer.write(processor.getConcurrentlySchedulableTaskCount());
+        writer.write(processor.getExecutionNode());
+        writer.write(processor.getPenaltyDuration());
+        writer.write(processor.getRunDurationMillis());
+        writer.write(processor.getSchedulingPeriod());
+        writer.write(processor.getSchedulingStrategy());
+        writer.write(processor.getScheduledState());
+        writer.write(processor.getStyle());
+        writer.write(processor.getYieldDuration());
+        writer.write(processor.getRetryCount());
+        writer.write(processor.getRetriedRelationships());
+        writer.write(processor.getBackoffMechanism());
+        writer.write(processor.getMaxBackoffPeriod());
+        return writer.digest();
+    }
+
+    private byte[] hashControllerService(final VersionedControllerService service) {
+        final DigestWriter writer = new DigestWriter();
+        writeExtension(writer, service);
+        writer.write(service.getAnnotationData());
+        writer.write(service.getScheduledState());
+        writer.write(service.getBulletinLevel());
+        return writer.digest();
+    }
+
+    private byte[] hashConnection(final VersionedConnection connection) {
+        final DigestWriter writer = new DigestWriter();
+        writeComponent(writer, connection);
+        writer.write(connection.getBackPressureDataSizeThreshold());
+        writer.write(connection.getBackPressureObjectThreshold());
+        writer.write(connection.getBends());
+        writer.write(connection.getSource());
+        writer.write(connection.getDestination());
+        writer.write(connection.getFlowFileExpiration());
+        writer.write(connection.getPrioritizers());
+        writer.write(connection.getSelectedRelationships());
+        writer.write(connection.getzIndex());
+        writer.write(connection.getLoadBalanceStrategy());
+        writer.write(connection.getPartitioningAttribute());
+        writer.write(connection.getLoadBalanceCompression());
+        return writer.digest();
+    }
+
+    private byte[] hashFunnel(final VersionedFunnel funnel) {
+        final DigestWriter writer = new DigestWriter();
+        writeComponent(writer, funnel);
+        return writer.digest();
+    }
+
+    private byte[] hashLabel(final VersionedLabel label) {
+        final DigestWriter writer = new DigestWriter();
+        writeComponent(writer, label);
+        writer.write(label.getLabel());
+        writer.write(label.getHeight());
+        writer.write(label.getWidth());
+        writer.write(label.getStyle());
+        writer.write(label.getzIndex());
+        return writer.digest();
+    }
+
+    private byte[] hashPort(final VersionedPort port) {
+        final DigestWriter writer = new DigestWriter();
+        writeComponent(writer, port);
+        writer.write(port.getAllowRemoteAccess());
+        writer.write(port.getConcurrentlySchedulableTaskCount());
+        writer.write(port.getScheduledState());
+        writer.write(port.getPortFunction());
+        return writer.digest();
+    }
+
+    private byte[] hashRemoteProcessGroup(final VersionedRemoteProcessGroup remoteProcessGroup) {
+        final DigestWriter writer = new DigestWriter();
+        writeComponent(writer, remoteProcessGroup);
+        writer.write(remoteProcessGroup.getCommunicationsTimeout());
+        writer.write(remoteProcessGroup.getLocalNetworkInterface());
+        writer.write(remoteProcessGroup.getProxyHost());
+        writer.write(remoteProcessGroup.getProxyPort());
+        writer.write(remoteProcessGroup.getProxyUser());
+        writer.write(remoteProcessGroup.getTransportProtocol());
+        writer.write(remoteProcessGroup.getYieldDuration());
+        writer.write(remoteProcessGroup.getTargetUris());
+        writer.writeHashes(remoteProcessGroup.getInputPorts(), this::hashRemoteGroupPort);
+        writer.writeHashes(remoteProcessGroup.getOutputPorts(), this::hashRemoteGroupPort);
+        return writer.digest();
+    }
+
+    private byte[] hashRemoteGroupPort(final VersionedRemoteGroupPort port) {
+        final DigestWriter writer = new DigestWriter();
+        writeComponent(writer, port);
+        writer.write(port.getBatchSize());
+        writer.write(port.isUseCompression());
+        writer.write(port.getConcurrentlySchedulableTaskCount());
+        writer.write(port.getScheduledState());
+        return writer.digest();
+    }
+
+    private void writeComponent(final DigestWriter writer, final VersionedComponent component) {
+        writer.write(component.getComponentType());
+        writer.write(idLookup.apply(component));
+        writer.write(component.getName());
+        writer.write(component.getComments());
+        writer.write(component.getPosition());
+    }
+
+    private void writeExtension(final DigestWriter writer, final VersionedConfigurableExtension extension) {
+        writeComponent(writer, extension);
+        writer.write(extension.getBundle());
+
+        final Map<String, VersionedPropertyDescriptor> descriptors = extension.getPropertyDescriptors() == null ? Collections.emptyMap() : extension.getPropertyDescriptors();
+        final Map<String, String> properties = extension.getProperties();
+        if (properties == null) {
+            writer.write(null);
+        } else {
+            writer.writeHashes(properties.entrySet(), entry -> {
+                final DigestWriter entryWriter = new DigestWriter();
+                entryWriter.write(entry.getKey());
+                entryWriter.write(decrypt(entry.getValue(), descriptors.get(entry.getKey())));
+                return entryWriter.digest();
+            });
+        }
+
+        writer.writeHashes(descriptors.entrySet(), entry -> {
+            final VersionedPropertyDescriptor descriptor = entry.getValue();
+            final DigestWriter entryWriter = new DigestWriter();
+            entryWriter.write(entry.getKey());
+            entryWriter.write(descriptor.getName());
+            entryWriter.write(descriptor.getDisplayName());
+            entryWriter.write(descriptor.isSensitive());
+            entryWriter.write(descriptor.getIdentifiesControllerService());
+            return entryWriter.digest();
+        });
+    }
+
+    private String decrypt(final String value, final VersionedPropertyDescriptor descriptor) {
+        if (value == null) {
+            return null;
+        }
+
+        final boolean sensitive = (descriptor == null || descriptor.isSensitive()) && value.startsWith(ENCRYPTED_VALUE_PREFIX) && value.endsWith(ENCRYPTED_VALUE_SUFFIX);
+        if (!sensitive) {
+            return value;
+        }
+
+        return propertyDecryptor.apply(value.substring(ENCRYPTED_VALUE_PREFIX.length(), value.length() - ENCRYPTED_VALUE_SUFFIX.length()));
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " digest not supported", e);
+        }
+    }
+
+    /**
+     * Writes tagged, length-prefixed values to a digest so that distinct sequences of values cannot produce the same input bytes.
+     */
+    private static class DigestWriter {
+        private final MessageDigest digest = createDigest();
+
+        void write(final Object value) {
+            switch (value) {
+                case null -> digest.update(NULL_TAG);
+                case String string -> writeString(STRING_TAG, string);
+                case Number number -> writeString(NUMBER_TAG, number.getClass().getName() + ':' + number);
+                case Boolean bool -> writeString(BOOLEAN_TAG, bool.toString());
+                case Enum<?> enumValue -> writeString(ENUM_TAG, enumValue.getDeclaringClass().getName() + ':' + enumValue.name());
+                case List<?> list -> {
+                    digest.update(LIST_TAG);
+                    writeInt(list.size());
+                    list.forEach(this::write);
+                }
+                case Collection<?> collection -> writeHashes(SET_TAG, collection, DigestWriter::hashValue);
+                case Map<?, ?> map -> writeHashes(MAP_TAG, map.entrySet(), entry -> {
+                    final DigestWriter entryWriter = new DigestWriter();
+                    entryWriter.write(entry.getKey());
+                    entryWriter.write(entry.getValue());
+                    return entryWriter.digest();
+                });
+                case Bundle bundle -> writeFields(value, bundle.getGroup(), bundle.getArtifact(), bundle.getVersion());
+                case Position position -> writeFields(value, position.getX(), position.getY());
+                case ConnectableComponent connectable -> writeFields(value, connectable.getId());
+                case BatchSize batchSize -> writeFields(value, batchSize.getCount(), batchSize.getSize(), batchSize.getDuration());
+                case VersionedFlowCoordinates coordinates -> writeFields(value, coordinates.getRegistryId(), coordinates.getStorageLocation(), coordinates.getBranch(),
+                    coordinates.getBucketId(), coordinates.getFlowId(), coordinates.getVersion(), coordinates.getLatest());
+                default -> throw new IllegalArgumentException("Cannot compute content hash for value of type " + value.getClass().getName());
+            }
+        }
+
+        <T> void writeHashes(final Collection<T> values, final Function<T, byte[]> hashFunction) {
+            if (values == null) {
+                digest.update(NULL_TAG);
+            } else {
+                writeHashes(SET_TAG, values, hashFunction);
+            }
+        }
+
+        byte[] digest() {
+            return digest.digest();
+        }
+
+        // Element hashes are sorted so that the result does not depend on the iteration order of the collection
+        private <T> void writeHashes(final byte tag, final Collection<T> values, final Function<T, byte[]> hashFunction) {
+            final List<byte[]> hashes = new ArrayList<>(values.size());
+            for (final T value : values) {
+                hashes.add(hashFunction.apply(value));
+            }
+            hashes.sort(Arrays::compare);
+
+            digest.update(tag);
+            writeInt(hashes.size());
+            hashes.forEach(digest::update);
+        }
+
+        private void writeFields(final Object value, final Object... fields) {
+            writeString(OBJECT_TAG, value.getClass().getName());
+            for (final Object field : fields) {
+                write(field);
+            }
+        }
+
+        private void writeString(final byte tag, final String value) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            digest.update(tag);
+            writeInt(bytes.length);
+            digest.update(bytes);
+        }
+
+        private void writeInt(final int value) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(value).array());
+        }
+
+        private static byte[] hashValue(final Object value) {
+            final DigestWriter writer = new DigestWriter();
+            writer.write(value);
+            return writer.digest();
+        }
+    }
+}
@@ -41,6 +41,7 @@ import org.apache.nifi.flow.VersionedReportingTask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.security.MessageDigest;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -75,6 +76,9 @@ public class StandardFlowComparator implements FlowComparator {
     private final Function<String, String> propertyDecryptor;
     private final Function<VersionedComponent, String> idLookup;
     private final FlowComparatorVersionedStrategy flowComparatorVersionedStrategy;
+    private final FlowContentHasher contentHasherA;
+    private final FlowContentHasher contentHasherB;
+    private boolean contentHashingEnabled = true;
 
     public StandardFlowComparator(final ComparableDataFlow flowA, final ComparableDataFlow flowB, final Set<String> externallyAccessibleServiceIds,
                                   final DifferenceDescriptor differenceDescriptor, final Function<String, String> propertyDecryptor,
@@ -86,6 +90,8 @@ public class StandardFlowComparator implements FlowComparator {
         this.propertyDecryptor = propertyDecryptor;
         this.idLookup = idLookup;
         this.flowComparatorVersionedStrategy = flowComparatorVersionedStrategy;
+        this.contentHasherA = new FlowContentHasher(propertyDecryptor, idLookup);
+        this.contentHasherB = new FlowContentHasher(propertyDecryptor, idLookup);
     }
 
     @Override
@@ -525,6 +531,11 @@ public class StandardFlowComparator implements FlowComparator {
 
 
     private void compare(final VersionedProcessGroup groupA, final VersionedProcessGroup groupB, final Set<FlowDifference> differences, final boolean compareNamePos) {
+        // Groups whose content hashes match have no differences, so there is no need to walk their components
+        if (isContentEqual(groupA, groupB)) {
+            return;
+        }
+
         if (compareComponents(groupA, groupB, differences, compareNamePos, compareNamePos, true)) {
             return;
         }
@@ -590,6 +601,20 @@ public class StandardFlowComparator implements FlowComparator {
     }
 
 
+    private boolean isContentEqual(final VersionedProcessGroup groupA, final VersionedProcessGroup groupB) {
+        if (groupA == null || groupB == null || !contentHashingEnabled) {
+            return false;
+        }
+
+        try {
+            return MessageDigest.isEqual(contentHasherA.getHash(groupA), contentHasherB.getHash(groupB));
+        } catch (final RuntimeException e) {
+            logger.debug("Unable to compute content hash for Process Group {}; comparing all components instead", groupA.getIdentifier(), e);
+            contentHashingEnabled = false;
+            return false;
+        }
+    }
+
     private void compareFlowCoordinates(final VersionedProcessGroup groupA, final VersionedProcessGroup groupB, final Set<FlowDifference> differences) {
         final VersionedFlowCoordinates coordinatesA = groupA.getVersionedFlowCoordinates();
         final VersionedFlowCoordinates coordinatesB = groupB.getVersionedFlowCoordinates();
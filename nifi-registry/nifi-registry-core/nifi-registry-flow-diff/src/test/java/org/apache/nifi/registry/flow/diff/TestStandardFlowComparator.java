@@ -22,6 +22,8 @@ import org.apache.nifi.flow.VersionedComponent;
 import org.apache.nifi.flow.VersionedParameter;
 import org.apache.nifi.flow.VersionedParameterContext;
 import org.apache.nifi.flow.VersionedProcessGroup;
+import org.apache.nifi.flow.VersionedProcessor;
+import org.apache.nifi.flow.VersionedPropertyDescriptor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -37,6 +39,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestStandardFlowComparator {
     private Map<String, String> decryptedToEncrypted;
@@ -149,6 +152,74 @@ public class TestStandardFlowComparator {
         assertEquals(contextB.getIdentifier(), difference.getComponentB().getIdentifier());
     }
 
+    @Test
+    public void testIdenticalNestedGroupsWithReencryptedValuesHaveNoDifferences() {
+        final VersionedProcessGroup rootA = createNestedGroups("Hello");
+        final VersionedProcessGroup rootB = createNestedGroups("Hello");
+        findProcessor(rootB).getProperties().put("Password", "enc{Greetings}");
+        encryptedToDecrypted.put("Greetings", "XYZ");
+
+        final FlowComparison comparison = compareGroups(rootA, rootB);
+        assertTrue(comparison.getDifferences().isEmpty());
+    }
+
+    @Test
+    public void testDifferenceInNestedGroupDetected() {
+        final VersionedProcessGroup rootA = createNestedGroups("Hello");
+        final VersionedProcessGroup rootB = createNestedGroups("Hello");
+        findProcessor(rootB).getProperties().put("Password", "enc{hola}");
+
+        final FlowComparison comparison = compareGroups(rootA, rootB);
+        assertEquals(1, comparison.getDifferences().size());
+
+        final FlowDifference difference = comparison.getDifferences().iterator().next();
+        assertEquals(DifferenceType.PROPERTY_CHANGED, difference.getDifferenceType());
+        assertEquals("processor", difference.getComponentA().getIdentifier());
+    }
+
+    private FlowComparison compareGroups(final VersionedProcessGroup groupA, final VersionedProcessGroup groupB) {
+        final ComparableDataFlow flowA = new StandardComparableDataFlow("Flow A", groupA);
+        final ComparableDataFlow flowB = new StandardComparableDataFlow("Flow B", groupB);
+        final StandardFlowComparator flowComparator = new StandardFlowComparator(flowA, flowB, Collections.emptySet(),
+            new StaticDifferenceDescriptor(), encryptedToDecrypted::get, VersionedComponent::getIdentifier, FlowComparatorVersionedStrategy.DEEP);
+        return flowComparator.compare();
+    }
+
+    private VersionedProcessGroup createNestedGroups(final String encryptedPassword) {
+        final VersionedPropertyDescriptor descriptor = new VersionedPropertyDescriptor();
+        descriptor.setName("Password");
+        descriptor.setSensitive(true);
+
+        final VersionedProcessor processor = new VersionedProcessor();
+        processor.setIdentifier("processor");
+        processor.setName("Processor");
+        processor.setType("org.apache.nifi.Processor");
+        processor.setProperties(new HashMap<>(Map.of("Password", "enc{" + encryptedPassword + "}", "Batch Size", "10")));
+        processor.setPropertyDescriptors(Map.of("Password", descriptor));
+
+        final VersionedProcessGroup child = new VersionedProcessGroup();
+        child.setIdentifier("child");
+        child.setName("Child");
+        child.setProcessors(new HashSet<>(Set.of(processor)));
+
+        final VersionedProcessGroup sibling = new VersionedProcessGroup();
+        sibling.setIdentifier("sibling");
+        sibling.setName("Sibling");
+
+        final VersionedProcessGroup root = new VersionedProcessGroup();
+        root.setIdentifier("root");
+        root.setName("Root");
+        root.setProcessGroups(new HashSet<>(Set.of(child, sibling)));
+        return root;
+    }
+
+    private VersionedProcessor findProcessor(final VersionedProcessGroup root) {
+        return root.getProcessGroups().stream()
+            .flatMap(group -> group.getProcessors().stream())
+            .findFirst()
+            .orElseThrow();
+    }
+
     private VersionedParameter createParameter(final String name, final String value, final boolean sensitive) {
         return createParameter(name, value, sensitive, null);
     }